@@ -178,6 +178,12 @@ public final class Messages extends NLS {
 
 	public static String ToggleSubAppRepresentation_Expand;
 
+	public static String UpdateTypeInstancesHandler_Title;
+
+	public static String UpdateTypeInstancesHandler_SkipUnsavedMessage;
+
+	public static String UpdateTypeInstancesHandler_SaveTypesMessage;
+
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
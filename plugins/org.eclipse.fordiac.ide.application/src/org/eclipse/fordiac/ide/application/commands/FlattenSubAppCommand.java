@@ -19,7 +19,9 @@ package org.eclipse.fordiac.ide.application.commands;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.fordiac.ide.application.Messages;
 import org.eclipse.fordiac.ide.gef.utilities.ElementSelector;
 import org.eclipse.fordiac.ide.model.NameRepository;
@@ -31,6 +33,8 @@ import org.eclipse.fordiac.ide.model.commands.create.DataConnectionCreateCommand
 import org.eclipse.fordiac.ide.model.commands.create.EventConnectionCreateCommand;
 import org.eclipse.fordiac.ide.model.commands.delete.DeleteConnectionCommand;
 import org.eclipse.fordiac.ide.model.commands.delete.DeleteFBNetworkElementCommand;
+import org.eclipse.fordiac.ide.model.helpers.BulkEdit;
+import org.eclipse.fordiac.ide.model.helpers.ConnectionIndex;
 import org.eclipse.fordiac.ide.model.helpers.FBNetworkHelper;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterConnection;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterDeclaration;
@@ -78,28 +82,21 @@ public class FlattenSubAppCommand extends Command {
 		createMapCommands();
 
 		deleteCommands.add(new DeleteFBNetworkElementCommand(subapp));
-		deleteCommands.execute();
+		// the parent's editor refreshes once for the removed subapp and all moved elements and connections
+		try (BulkEdit bulkEdit = BulkEdit.start(parent)) {
+			deleteCommands.execute();
 
-		subapp.getSubAppNetwork().getNetworkElements().removeAll(elements);
-		parent.getNetworkElements().addAll(elements);
+			moveToParent();
 
-		subapp.getSubAppNetwork().getEventConnections().removeAll(transferEventConnections);
-		parent.getEventConnections().addAll(transferEventConnections);
+			createCommands.execute();
+			mappCommands.execute();
 
-		subapp.getSubAppNetwork().getDataConnections().removeAll(transferDataConnections);
-		parent.getDataConnections().addAll(transferDataConnections);
-
-		subapp.getSubAppNetwork().getAdapterConnections().removeAll(transferAdapterConnections);
-		parent.getAdapterConnections().addAll(transferAdapterConnections);
-
-		createCommands.execute();
-		mappCommands.execute();
-
-		// check unique names
-		for (final FBNetworkElement fbNetworkElement : elements) {
-			ensureUniqueName(fbNetworkElement);
+			// check unique names
+			for (final FBNetworkElement fbNetworkElement : elements) {
+				ensureUniqueName(fbNetworkElement);
+			}
+			setUniqueName.execute();
 		}
-		setUniqueName.execute();
 
 		ElementSelector.selectViewObjects(elements);
 	}
@@ -114,51 +111,68 @@ public class FlattenSubAppCommand extends Command {
 
 	@Override
 	public void redo() {
-		deleteCommands.redo();
-		subapp.getSubAppNetwork().getNetworkElements().removeAll(elements);
-		parent.getNetworkElements().addAll(elements);
-		FBNetworkHelper.moveFBNetworkByOffset(elements, -getOriginalPositionX(), -getOriginalPositionY());
-
-		subapp.getSubAppNetwork().getEventConnections().removeAll(transferEventConnections);
-		parent.getEventConnections().addAll(transferEventConnections);
-
-		subapp.getSubAppNetwork().getDataConnections().removeAll(transferDataConnections);
-		parent.getDataConnections().addAll(transferDataConnections);
-
-		subapp.getSubAppNetwork().getAdapterConnections().removeAll(transferAdapterConnections);
-		parent.getAdapterConnections().addAll(transferAdapterConnections);
-
-		createCommands.redo();
-		setUniqueName.redo();
-		mappCommands.redo();
+		try (BulkEdit bulkEdit = BulkEdit.start(parent)) {
+			deleteCommands.redo();
+			moveToParent();
+			FBNetworkHelper.moveFBNetworkByOffset(elements, -getOriginalPositionX(), -getOriginalPositionY());
+
+			createCommands.redo();
+			setUniqueName.redo();
+			mappCommands.redo();
+		}
 	}
 
 	@Override
 	public void undo() {
-		mappCommands.undo();
-		createCommands.undo();
-		parent.getNetworkElements().removeAll(elements);
-		subapp.getSubAppNetwork().getNetworkElements().addAll(elements);
-		FBNetworkHelper.removeXYOffsetForFBNetwork(elements); // ??
-
-		parent.getEventConnections().removeAll(transferEventConnections);
-		subapp.getSubAppNetwork().getEventConnections().addAll(transferEventConnections);
-
-		parent.getDataConnections().removeAll(transferDataConnections);
-		subapp.getSubAppNetwork().getDataConnections().addAll(transferDataConnections);
+		try (BulkEdit bulkEdit = BulkEdit.start(parent)) {
+			mappCommands.undo();
+			createCommands.undo();
+			final FBNetwork subAppNetwork = subapp.getSubAppNetwork();
+			moveAll(parent.getNetworkElements(), subAppNetwork.getNetworkElements(), elements);
+			FBNetworkHelper.removeXYOffsetForFBNetwork(elements); // ??
+
+			moveAll(parent.getEventConnections(), subAppNetwork.getEventConnections(), transferEventConnections);
+			moveAll(parent.getDataConnections(), subAppNetwork.getDataConnections(), transferDataConnections);
+			moveAll(parent.getAdapterConnections(), subAppNetwork.getAdapterConnections(),
+					transferAdapterConnections);
+
+			setUniqueName.undo();
+			deleteCommands.undo();
+		}
+	}
 
-		parent.getAdapterConnections().removeAll(transferAdapterConnections);
-		subapp.getSubAppNetwork().getAdapterConnections().addAll(transferAdapterConnections);
+	private void moveToParent() {
+		final FBNetwork subAppNetwork = subapp.getSubAppNetwork();
+		moveAll(subAppNetwork.getNetworkElements(), parent.getNetworkElements(), elements);
+		moveAll(subAppNetwork.getEventConnections(), parent.getEventConnections(), transferEventConnections);
+		moveAll(subAppNetwork.getDataConnections(), parent.getDataConnections(), transferDataConnections);
+		moveAll(subAppNetwork.getAdapterConnections(), parent.getAdapterConnections(), transferAdapterConnections);
+	}
 
-		setUniqueName.undo();
-		deleteCommands.undo();
+	/** Move the objects from the source list to the end of the destination list.
+	 *
+	 * When moving into the parent the objects are the complete content of the subapp's lists, as the connections to
+	 * the subapp's interface are deleted before. Then the source list is cleared, because the removeAll of EMF's lists
+	 * compares every object of the list with every removed object, which is quadratic in the size of the subapp. */
+	private static <T> void moveAll(final EList<T> source, final EList<T> destination, final List<T> objects) {
+		if (source.size() == objects.size()) {
+			source.clear();
+		} else {
+			source.removeAll(objects);
+		}
+		destination.addAll(objects);
 	}
 
 	private void checkConnections() {
-		checkConnectionList(subapp.getSubAppNetwork().getEventConnections(), transferEventConnections);
-		checkConnectionList(subapp.getSubAppNetwork().getDataConnections(), transferDataConnections);
-		checkConnectionList(subapp.getSubAppNetwork().getAdapterConnections(), transferAdapterConnections);
-
+		final FBNetwork subAppNetwork = subapp.getSubAppNetwork();
+		final ConnectionIndex index = ConnectionIndex.of(subAppNetwork);
+		final Predicate<Connection> isInterfaceConnection = (null != index) ? index.getConnections(subapp)::contains
+				: connection -> (connection.getSourceElement() == subapp)
+				|| (connection.getDestinationElement() == subapp);
+		checkConnectionList(subAppNetwork.getEventConnections(), transferEventConnections, isInterfaceConnection);
+		checkConnectionList(subAppNetwork.getDataConnections(), transferDataConnections, isInterfaceConnection);
+		checkConnectionList(subAppNetwork.getAdapterConnections(), transferAdapterConnections,
+				isInterfaceConnection);
 	}
 
 	private int getOriginalPositionX() {
@@ -178,9 +192,9 @@ public class FlattenSubAppCommand extends Command {
 	}
 
 	private <T extends Connection> void checkConnectionList(final List<T> connectionList,
-			final List<T> transferConnectionList) {
+			final List<T> transferConnectionList, final Predicate<Connection> isInterfaceConnection) {
 		for (final T connection : connectionList) {
-			if ((connection.getSourceElement() != subapp) && (connection.getDestinationElement() != subapp)) {
+			if (!isInterfaceConnection.test(connection)) {
 				// it is an internal connection transfer it
 				transferConnectionList.add(connection);
 			} else {
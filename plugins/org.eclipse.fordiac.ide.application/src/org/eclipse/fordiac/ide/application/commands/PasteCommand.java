@@ -32,6 +32,7 @@ import org.eclipse.fordiac.ide.model.commands.create.AbstractConnectionCreateCom
 import org.eclipse.fordiac.ide.model.commands.create.AdapterConnectionCreateCommand;
 import org.eclipse.fordiac.ide.model.commands.create.DataConnectionCreateCommand;
 import org.eclipse.fordiac.ide.model.commands.create.EventConnectionCreateCommand;
+import org.eclipse.fordiac.ide.model.helpers.BulkEdit;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterDeclaration;
 import org.eclipse.fordiac.ide.model.libraryElement.Event;
 import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
@@ -105,8 +106,11 @@ public class PasteCommand extends Command {
 		if (dstFBNetwork != null) {
 			ErrorMessenger.pauseMessages();
 			gatherCopyData();
-			copyFBs();
-			copyConnections();
+			// the editor refreshes once for all pasted elements and connections
+			try (BulkEdit bulkEdit = BulkEdit.start(dstFBNetwork)) {
+				copyFBs();
+				copyConnections();
+			}
 			ElementSelector.selectViewObjects(copiedElements.values());
 			if (!ErrorMessenger.unpauseMessages().isEmpty()) {
 				ErrorMessenger.popUpErrorMessage(
@@ -118,8 +122,10 @@ public class PasteCommand extends Command {
 
 	@Override
 	public void undo() {
-		connCreateCmds.undo();
-		dstFBNetwork.getNetworkElements().removeAll(copiedElements.values());
+		try (BulkEdit bulkEdit = BulkEdit.start(dstFBNetwork)) {
+			connCreateCmds.undo();
+			dstFBNetwork.getNetworkElements().removeAll(copiedElements.values());
+		}
 		if (cutPasteCmd != null) {
 			cutPasteCmd.undo();
 		}
@@ -129,8 +135,10 @@ public class PasteCommand extends Command {
 
 	@Override
 	public void redo() {
-		dstFBNetwork.getNetworkElements().addAll(copiedElements.values());
-		connCreateCmds.redo();
+		try (BulkEdit bulkEdit = BulkEdit.start(dstFBNetwork)) {
+			dstFBNetwork.getNetworkElements().addAll(copiedElements.values());
+			connCreateCmds.redo();
+		}
 		if (cutPasteCmd != null) {
 			cutPasteCmd.redo();
 		}
@@ -20,12 +20,8 @@ import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.fordiac.ide.model.commands.change.ChangeStructCommand;
-import org.eclipse.fordiac.ide.model.commands.change.UpdateFBTypeCommand;
-import org.eclipse.fordiac.ide.model.data.StructuredType;
+import org.eclipse.fordiac.ide.model.commands.change.TypeInstanceUpdater;
 import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
-import org.eclipse.fordiac.ide.model.libraryElement.StructManipulator;
-import org.eclipse.fordiac.ide.model.typelibrary.DataTypeLibrary;
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.commands.Command;
 import org.eclipse.gef.commands.CommandStack;
@@ -57,13 +53,7 @@ public class UpdateFBTypeHandler extends AbstractHandler {
 	}
 
 	public static Command getUpdateCommand(final FBNetworkElement element) {
-		if (element instanceof StructManipulator) {
-			final StructManipulator mux = (StructManipulator) element;
-			final DataTypeLibrary lib = mux.getType().getTypeLibrary().getDataTypeLibrary();
-			final StructuredType updated = (StructuredType) lib.getType(mux.getStructType().getName());
-			return new ChangeStructCommand(mux, updated);
-		}
-		return new UpdateFBTypeCommand(element, null);
+		return TypeInstanceUpdater.createUpdateCommand(element);
 	}
 
 	@Override
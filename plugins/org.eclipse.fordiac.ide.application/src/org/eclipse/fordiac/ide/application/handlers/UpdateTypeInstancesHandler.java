@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.application.handlers;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.fordiac.ide.application.ApplicationPlugin;
+import org.eclipse.fordiac.ide.application.Messages;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.SystemPaletteEntry;
+import org.eclipse.fordiac.ide.model.commands.change.TypeInstanceUpdater;
+import org.eclipse.fordiac.ide.model.commands.change.TypeInstanceUpdater.RootUpdate;
+import org.eclipse.fordiac.ide.model.dataexport.AbstractTypeExporter;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.eclipse.fordiac.ide.systemmanagement.SystemManager;
+import org.eclipse.fordiac.ide.ui.editors.EditorUtils;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.custom.BusyIndicator;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+/** Updates the instances of the selected type files in all systems and types of the workspace, independent of the open
+ * editors.
+ *
+ * Systems and types with unsaved changes are skipped after asking the user. The update of a system is executed on the
+ * system's command stack and the system is saved, the update can still be undone in its editors. Types have no command
+ * stack, the updated types are saved if the user agrees, otherwise their update is reverted. */
+public class UpdateTypeInstancesHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(final ExecutionEvent event) throws ExecutionException {
+		final List<PaletteEntry> entries = getSelectedEntries(HandlerUtil.getCurrentStructuredSelection(event));
+		if (entries.isEmpty()) {
+			return Status.OK_STATUS;
+		}
+		final Shell shell = HandlerUtil.getActiveShell(event);
+		final List<AutomationSystem> systems = new ArrayList<>();
+		BusyIndicator.showWhile(null, () -> systems.addAll(loadAllSystems()));
+
+		final Set<IFile> unsavedFiles = getUnsavedFiles(systems);
+		if (!unsavedFiles.isEmpty() && !MessageDialog.openConfirm(shell, Messages.UpdateTypeInstancesHandler_Title,
+				MessageFormat.format(Messages.UpdateTypeInstancesHandler_SkipUnsavedMessage, getNames(unsavedFiles)))) {
+			return Status.OK_STATUS;
+		}
+
+		final List<RootUpdate> updates = new ArrayList<>();
+		BusyIndicator.showWhile(null, () -> {
+			updates.addAll(updateInstances(entries, unsavedFiles));
+			saveSystems(updates);
+		});
+		saveTypes(shell, updates.stream()
+				.filter(update -> !(update.getRoot() instanceof AutomationSystem)
+						&& (null != update.getRoot().getPaletteEntry()))
+				.collect(Collectors.toList()));
+		return Status.OK_STATUS;
+	}
+
+	private static List<PaletteEntry> getSelectedEntries(final IStructuredSelection selection) {
+		return ((List<?>) selection.toList()).stream().filter(IFile.class::isInstance)
+				.map(file -> TypeLibrary.getPaletteEntryForFile((IFile) file)).filter(Objects::nonNull)
+				.filter(entry -> !(entry instanceof SystemPaletteEntry)).collect(Collectors.toList());
+	}
+
+	/** @return the updates of the systems and types */
+	private static List<RootUpdate> updateInstances(final List<PaletteEntry> entries, final Set<IFile> unsavedFiles) {
+		final List<RootUpdate> updates = TypeInstanceUpdater.update(entries,
+				root -> !unsavedFiles.contains(getFile(root)));
+		updates.forEach(update -> ApplicationPlugin.getDefault().logInfo(update.toString()));
+		return updates;
+	}
+
+	/** the updated systems had no unsaved changes before, so saving them only stores the update */
+	private static void saveSystems(final List<RootUpdate> updates) {
+		for (final RootUpdate update : updates) {
+			if (update.getRoot() instanceof AutomationSystem) {
+				final AutomationSystem system = (AutomationSystem) update.getRoot();
+				SystemManager.saveSystem(system);
+				system.getCommandStack().markSaveLocation();
+			}
+		}
+	}
+
+	private static void saveTypes(final Shell shell, final List<RootUpdate> typeUpdates) {
+		if (typeUpdates.isEmpty()) {
+			return;
+		}
+		final List<PaletteEntry> changedTypes = typeUpdates.stream().map(update -> update.getRoot().getPaletteEntry())
+				.collect(Collectors.toList());
+		final String names = getNames(changedTypes.stream().map(PaletteEntry::getFile).collect(Collectors.toList()));
+		if (MessageDialog.openQuestion(shell, Messages.UpdateTypeInstancesHandler_Title,
+				MessageFormat.format(Messages.UpdateTypeInstancesHandler_SaveTypesMessage, names))) {
+			AbstractTypeExporter.saveTypes(changedTypes);
+		} else {
+			for (int i = typeUpdates.size() - 1; i >= 0; i--) {
+				typeUpdates.get(i).getCommand().undo();
+			}
+		}
+	}
+
+	/** @return the files of the systems and types which have unsaved changes in an editor */
+	private static Set<IFile> getUnsavedFiles(final List<AutomationSystem> systems) {
+		final Set<IFile> files = new HashSet<>();
+		systems.stream().filter(system -> system.getCommandStack().isDirty())
+		.forEach(system -> files.add(system.getSystemFile()));
+		EditorUtils.forEachOpenEditorFiltered(IEditorPart::isDirty, editor -> {
+			final IFile file = editor.getEditorInput().getAdapter(IFile.class);
+			if (null != file) {
+				files.add(file);
+			}
+		});
+		return files;
+	}
+
+	private static IFile getFile(final LibraryElement root) {
+		if (root instanceof AutomationSystem) {
+			return ((AutomationSystem) root).getSystemFile();
+		}
+		return (null != root.getPaletteEntry()) ? root.getPaletteEntry().getFile() : null;
+	}
+
+	private static String getNames(final Collection<IFile> files) {
+		return files.stream().map(file -> file.getFullPath().toString()).sorted()
+				.collect(Collectors.joining("\n")); //$NON-NLS-1$
+	}
+
+	/** the instances are found in the loaded systems, systems not opened so far have to be loaded
+	 *
+	 * @return all systems of the workspace */
+	private static List<AutomationSystem> loadAllSystems() {
+		final List<AutomationSystem> systems = new ArrayList<>();
+		for (final IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+			try {
+				if (project.isOpen() && project.hasNature(SystemManager.FORDIAC_PROJECT_NATURE_ID)) {
+					for (final IResource resource : project.members()) {
+						if (SystemManager.isSystemFile(resource)) {
+							final AutomationSystem system = SystemManager.INSTANCE.getSystem((IFile) resource);
+							if (null != system) {
+								systems.add(system);
+							}
+						}
+					}
+				}
+			} catch (final CoreException e) {
+				ApplicationPlugin.getDefault().logError("Could not load the systems of " + project.getName(), //$NON-NLS-1$
+						e);
+			}
+		}
+		return systems;
+	}
+
+}
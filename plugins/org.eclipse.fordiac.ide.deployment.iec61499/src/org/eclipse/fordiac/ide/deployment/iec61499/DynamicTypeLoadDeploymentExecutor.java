@@ -36,6 +36,8 @@ import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import org.apache.log4j.Logger;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.XMLResource;
@@ -399,7 +401,12 @@ public class DynamicTypeLoadDeploymentExecutor extends DeploymentExecutor {
 					final File file = new File(path.toString());
 					file.getParentFile().mkdirs();
 					Files.write(path, result.getBytes(), StandardOpenOption.CREATE);
-					TypeLibrary.refreshTypeLib(system.getSystemFile());
+					// only the written type file is refreshed and added to the type library
+					final IFile typeFile = ResourcesPlugin.getWorkspace().getRoot()
+							.getFileForLocation(org.eclipse.core.runtime.Path.fromOSString(path.toString()));
+					if (null != typeFile) {
+						TypeLibrary.refreshTypeLib(typeFile);
+					}
 				}
 			}
 		} catch (final Exception e) {
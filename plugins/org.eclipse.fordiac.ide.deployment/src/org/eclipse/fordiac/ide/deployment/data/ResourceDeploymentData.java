@@ -17,6 +17,7 @@ import java.util.Deque;
 import java.util.List;
 
 import org.eclipse.fordiac.ide.deployment.util.DeploymentHelper;
+import org.eclipse.fordiac.ide.model.helpers.FBNetworkHelper;
 import org.eclipse.fordiac.ide.model.libraryElement.Connection;
 import org.eclipse.fordiac.ide.model.libraryElement.FB;
 import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
@@ -129,15 +130,11 @@ public class ResourceDeploymentData {
 	}
 
 	private static FBNetwork getFBNetworkForSubApp(final SubApp subApp) {
-		FBNetwork retVal = subApp.getSubAppNetwork();
-		if (null == retVal) {
-			if (subApp.isTyped()) {
-				// we have a typed subapp
-				retVal = subApp.getType().getFBNetwork();
-			} else if (null != subApp.getOpposite()) {
-				// we should have a mapped subapp. Then the network is in the opposite subapp
-				retVal = ((SubApp) subApp.getOpposite()).getSubAppNetwork();
-			}
+		// typed subapps share the network of their type unless they have loaded their own copy
+		FBNetwork retVal = FBNetworkHelper.getNetworkForReading(subApp);
+		if ((null == retVal) && (null != subApp.getOpposite())) {
+			// we should have a mapped subapp. Then the network is in the opposite subapp
+			retVal = FBNetworkHelper.getNetworkForReading(subApp.getOpposite());
 		}
 		return retVal;
 	}
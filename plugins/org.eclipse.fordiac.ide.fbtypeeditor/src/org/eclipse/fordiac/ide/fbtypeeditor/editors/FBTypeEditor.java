@@ -46,6 +46,7 @@ import org.eclipse.fordiac.ide.model.Palette.AdapterTypePaletteEntry;
 import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
 import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
 import org.eclipse.fordiac.ide.model.dataexport.AbstractBlockTypeExporter;
+import org.eclipse.fordiac.ide.model.helpers.LazyContent;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterFBType;
 import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
 import org.eclipse.fordiac.ide.model.libraryElement.CompositeFBType;
@@ -191,6 +192,8 @@ ITabbedPropertySheetPageContributor, IGotoMarker, IEditorFileChangeListener, INa
 
 			fbType = getFBType(paletteEntry);
 			if (null != fbType) {
+				// the body of a type loaded interface only has to be there before the interface is edited
+				LazyContent.loadContent(fbType);
 				// TODO create a copy of the type here so that closing the editor without
 				// saveing is better implemented
 				// Attention adapters need for saveing then beeing treated special
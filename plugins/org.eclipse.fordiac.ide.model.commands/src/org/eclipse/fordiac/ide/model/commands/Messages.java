@@ -49,6 +49,7 @@ public final class Messages extends NLS {
 	public static String UpdateFBTypeCommand_Pin_not_found;
 	public static String UpdateFBTypeCommand_type_mismatch;
 	public static String UpdateFBTypeCommand_wrong_type;
+	public static String TypeInstanceUpdater_Label;
 
 	static {
 		// initialize resource bundle
@@ -81,23 +81,32 @@ public abstract class AbstractUpdateFBNElementCommand extends Command {
 		errorPins = new ArrayList<>();
 	}
 
+	/** Create the updated element without changing the model. This allows to create the updated elements of many
+	 * instances in parallel, the commands are then executed one after the other. Instances of types whose file is
+	 * missing are left to execute, as the error handling changes the type library. */
+	public void prepare() {
+		useApplicationElement();
+		if ((null == newElement) && (null != entry) && (null != entry.getFile()) && entry.getFile().exists()) {
+			createNewFB();
+		}
+	}
+
 	@Override
 	public void execute() {
 		Resource resource = null;
 		List<ConnData> resourceConns = null;
 
+		useApplicationElement();
 		if (oldElement.isMapped()) {
-			if (network.equals(oldElement.getResource().getFBNetwork())) {
-				oldElement = oldElement.getOpposite();
-				network = oldElement.getFbNetwork();
-			}
 			resource = oldElement.getResource();
 			resourceConns = getResourceCons();
 			unmapCmd = new UnmapCommand(oldElement);
 			unmapCmd.execute();
 		}
 
-		createNewFB();
+		if (null == newElement) {
+			createNewFB();
+		}
 
 		network.getNetworkElements().add(newElement);
 
@@ -176,6 +185,14 @@ public abstract class AbstractUpdateFBNElementCommand extends Command {
 		}
 	}
 
+	/** mapped elements are updated from the application side */
+	private void useApplicationElement() {
+		if (oldElement.isMapped() && network.equals(oldElement.getResource().getFBNetwork())) {
+			oldElement = oldElement.getOpposite();
+			network = oldElement.getFbNetwork();
+		}
+	}
+
 	protected void recreateResourceConns(final List<ConnData> resourceConns) {
 		final FBNetworkElement orgMappedElement = unmapCmd.getMappedFBNetworkElement();
 		final FBNetworkElement copiedMappedElement = newElement.getOpposite();
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.commands.change;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.commands.Messages;
+import org.eclipse.fordiac.ide.model.data.StructuredType;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.libraryElement.StructManipulator;
+import org.eclipse.fordiac.ide.model.typelibrary.DataTypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeUsageIndex;
+import org.eclipse.gef.commands.CommandStack;
+import org.eclipse.gef.commands.CompoundCommand;
+
+/** Updates all instances of changed types at once, in the loaded systems as well as in the networks of composite FB
+ * types and subapp types.
+ *
+ * The instances are found with the {@link TypeUsageIndex}. Instances within typed subapps and CFB instances are
+ * skipped, they are created from the network of their type. The instances are updated per root, i.e., per system or
+ * type: first the updated elements of the root's instances are created in parallel (see
+ * {@link AbstractUpdateFBNElementCommand#prepare()}), then the update commands are executed as one compound command,
+ * for systems on the system's command stack so that the whole update can be undone. */
+public final class TypeInstanceUpdater {
+
+	static final int DEFAULT_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+	/** The update of the instances in one system or type. */
+	public static final class RootUpdate {
+		private final LibraryElement root;
+		private final CompoundCommand command;
+		private long prepareTime;
+		private long executeTime;
+
+		private RootUpdate(final LibraryElement root, final CompoundCommand command) {
+			this.root = root;
+			this.command = command;
+		}
+
+		/** @return the system or type containing the updated instances */
+		public LibraryElement getRoot() {
+			return root;
+		}
+
+		/** @return the executed command updating the instances of the root */
+		public CompoundCommand getCommand() {
+			return command;
+		}
+
+		public int getInstanceCount() {
+			return command.size();
+		}
+
+		/** @return the time for creating the updated elements in nanoseconds */
+		public long getPrepareTime() {
+			return prepareTime;
+		}
+
+		/** @return the time for executing the update commands in nanoseconds */
+		public long getExecuteTime() {
+			return executeTime;
+		}
+
+		@Override
+		public String toString() {
+			return MessageFormat.format(
+					"Updated {0} instances in {1}: {2} ms preparing, {3} ms executing", //$NON-NLS-1$
+					Integer.valueOf(getInstanceCount()), root.getName(),
+					Long.valueOf(TimeUnit.NANOSECONDS.toMillis(prepareTime)),
+					Long.valueOf(TimeUnit.NANOSECONDS.toMillis(executeTime)));
+		}
+	}
+
+	/** Update the instances of the given types in all loaded systems and in all types of the types' palettes.
+	 *
+	 * Composite FB and subapp types referencing the types are loaded to find their instances. The caller has to save
+	 * the changed systems and types.
+	 *
+	 * @param entries the palette entries of the changed types
+	 * @return the updates per system or type in the order they were executed */
+	public static List<RootUpdate> update(final Collection<? extends PaletteEntry> entries) {
+		return update(entries, root -> true);
+	}
+
+	/** Update the instances of the given types in the loaded systems and types accepted by the filter.
+	 *
+	 * @param entries      the palette entries of the changed types
+	 * @param updatedRoots decides which systems and types are updated, e.g., to skip the ones with unsaved changes
+	 * @return the updates per system or type in the order they were executed */
+	public static List<RootUpdate> update(final Collection<? extends PaletteEntry> entries,
+			final Predicate<LibraryElement> updatedRoots) {
+		return update(entries, updatedRoots, DEFAULT_PARALLELISM);
+	}
+
+	static List<RootUpdate> update(final Collection<? extends PaletteEntry> entries, final int parallelism) {
+		return update(entries, root -> true, parallelism);
+	}
+
+	private static List<RootUpdate> update(final Collection<? extends PaletteEntry> entries,
+			final Predicate<LibraryElement> updatedRoots, final int parallelism) {
+		entries.forEach(TypeUsageIndex.INSTANCE::indexNetworkTypes);
+
+		final List<RootUpdate> updates = new ArrayList<>();
+		final ForkJoinPool pool = (1 < parallelism) ? new ForkJoinPool(parallelism) : null;
+		try {
+			collectCommands(entries).forEach((root, command) -> {
+				if (updatedRoots.test(root)) {
+					updates.add(update(root, command, pool));
+				}
+			});
+		} finally {
+			if (null != pool) {
+				pool.shutdown();
+			}
+		}
+		return updates;
+	}
+
+	/** @return the command updating the element to the current version of its type */
+	public static AbstractUpdateFBNElementCommand createUpdateCommand(final FBNetworkElement element) {
+		if (element instanceof StructManipulator) {
+			final StructManipulator mux = (StructManipulator) element;
+			final DataTypeLibrary lib = mux.getType().getTypeLibrary().getDataTypeLibrary();
+			final StructuredType updated = (StructuredType) lib.getType(mux.getStructType().getName());
+			return new ChangeStructCommand(mux, updated);
+		}
+		return new UpdateFBTypeCommand(element, null);
+	}
+
+	private static Map<LibraryElement, CompoundCommand> collectCommands(
+			final Collection<? extends PaletteEntry> entries) {
+		final Map<LibraryElement, CompoundCommand> commands = new LinkedHashMap<>();
+		for (final PaletteEntry entry : entries) {
+			for (final FBNetworkElement element : TypeUsageIndex.INSTANCE.getUsages(entry, FBNetworkElement.class)) {
+				final EObject root = EcoreUtil.getRootContainer(element);
+				if ((root instanceof LibraryElement) && isUpdated(element)) {
+					final AbstractUpdateFBNElementCommand command = createUpdateCommand(element);
+					if (command.canExecute()) {
+						commands.computeIfAbsent((LibraryElement) root,
+								r -> new CompoundCommand(Messages.TypeInstanceUpdater_Label)).add(command);
+					}
+				}
+			}
+		}
+		return commands;
+	}
+
+	/** instances in typed subapps and CFB instances follow their type, mapped instances are updated from the
+	 * application side */
+	private static boolean isUpdated(final FBNetworkElement element) {
+		if (element.isContainedInTypedInstance()) {
+			return false;
+		}
+		return !element.isMapped() || (element.getFbNetwork() != element.getResource().getFBNetwork());
+	}
+
+	private static RootUpdate update(final LibraryElement root, final CompoundCommand command,
+			final ForkJoinPool pool) {
+		final RootUpdate update = new RootUpdate(root, command);
+		@SuppressWarnings("unchecked")
+		final List<AbstractUpdateFBNElementCommand> commands = command.getCommands();
+
+		long start = System.nanoTime();
+		if (null != pool) {
+			pool.submit(() -> commands.parallelStream().forEach(AbstractUpdateFBNElementCommand::prepare)).join();
+		} else {
+			commands.forEach(AbstractUpdateFBNElementCommand::prepare);
+		}
+		update.prepareTime = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		final CommandStack commandStack = (root instanceof AutomationSystem)
+				? ((AutomationSystem) root).getCommandStack()
+				: null;
+		if (null != commandStack) {
+			commandStack.execute(command);
+		} else {
+			command.execute();
+		}
+		update.executeTime = System.nanoTime() - start;
+		return update;
+	}
+
+	private TypeInstanceUpdater() {
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -23,6 +23,7 @@ import org.eclipse.emf.common.util.EList;
 import org.eclipse.fordiac.ide.model.commands.Messages;
 import org.eclipse.fordiac.ide.model.commands.change.UnmapCommand;
 import org.eclipse.fordiac.ide.model.dataimport.ErrorMarkerBuilder;
+import org.eclipse.fordiac.ide.model.helpers.ConnectionIndex;
 import org.eclipse.fordiac.ide.model.helpers.FordiacMarkerHelper;
 import org.eclipse.fordiac.ide.model.libraryElement.Connection;
 import org.eclipse.fordiac.ide.model.libraryElement.ErrorMarkerRef;
@@ -110,6 +111,13 @@ public class DeleteFBNetworkElementCommand extends Command {
 	}
 
 	private void collectDeleteCommands(final FBNetworkElement element) {
+		final ConnectionIndex index = ConnectionIndex.of(fbParent);
+		if (null != index) {
+			// copy the connections as the deletion changes the index
+			new ArrayList<>(index.getConnections(element))
+			.forEach(con -> cmds.add(new DeleteConnectionCommand(con, element)));
+			return;
+		}
 		for (final IInterfaceElement intElement : element.getInterface().getAllInterfaceElements()) {
 			final EList<Connection> connections = intElement.isIsInput() ? intElement.getInputConnections()
 					: intElement.getOutputConnections();
@@ -21,6 +21,7 @@ import org.eclipse.fordiac.ide.model.libraryElement.CompositeFBType;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
 import org.eclipse.fordiac.ide.model.libraryElement.SimpleFBType;
 import org.eclipse.fordiac.ide.model.libraryElement.SubAppType;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeHeader;
 import org.eclipse.fordiac.ide.ui.imageprovider.FordiacImage;
 import org.eclipse.jface.viewers.DelegatingStyledCellLabelProvider.IStyledLabelProvider;
 import org.eclipse.jface.viewers.LabelProvider;
@@ -35,8 +36,11 @@ public class ResultListLabelProvider extends LabelProvider implements IStyledLab
 		if (element instanceof PaletteEntry) {
 			final PaletteEntry entry = (PaletteEntry) element;
 			styledString = new StyledString(entry.getLabel());
-			styledString.append(" - " + entry.getType().getComment(), //$NON-NLS-1$
-					StyledString.QUALIFIER_STYLER);
+			final TypeHeader header = entry.getTypeLibrary().getTypeHeader(entry);
+			if (null != header) {
+				styledString.append(" - " + header.getComment(), //$NON-NLS-1$
+						StyledString.QUALIFIER_STYLER);
+			}
 		} else {
 			styledString = new StyledString(element.toString());
 		}
@@ -20,8 +20,12 @@
 package org.eclipse.fordiac.ide.model.ui.editors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -33,9 +37,11 @@ import org.eclipse.fordiac.ide.model.ui.Messages;
 import org.eclipse.fordiac.ide.model.ui.widgets.OpenStructMenu;
 import org.eclipse.fordiac.ide.ui.FordiacMessages;
 import org.eclipse.fordiac.ide.ui.imageprovider.FordiacImage;
+import org.eclipse.jface.fieldassist.ContentProposal;
 import org.eclipse.jface.fieldassist.ContentProposalAdapter;
+import org.eclipse.jface.fieldassist.IContentProposal;
 import org.eclipse.jface.fieldassist.IContentProposalListener2;
-import org.eclipse.jface.fieldassist.SimpleContentProposalProvider;
+import org.eclipse.jface.fieldassist.IContentProposalProvider;
 import org.eclipse.jface.fieldassist.TextContentAdapter;
 import org.eclipse.jface.viewers.IBaseLabelProvider;
 import org.eclipse.jface.viewers.ITreeContentProvider;
@@ -71,14 +77,11 @@ public class DataTypeDropdown extends TextCellEditor {
 	private ContentProposalAdapter adapter;
 	private Text textControl;
 	private DataTypeLibrary library;
-	private SimpleContentProposalProvider provider;
 	private List<DataType> types;
+	/* the position of each type name in types, so that the proposals keep the order of getDataTypesSorted() */
+	private Map<String, Integer> typeOrder = Collections.emptyMap();
 	private String[] elementaryTypes;
 	private final TableViewer viewer;
-	/* A flag that indicates if the content proposals have been set to elementary types (this is the case if the text
-	 * field is empty) or all types. This means that the ModifyListener of the textControl does not have to set the
-	 * types for the proposal provider with every modify event but only when its necessary. */
-	private boolean isElementary;
 
 	private boolean isTraverseNextProcessActive;
 	private boolean isTraversePreviousProcessActive;
@@ -107,15 +110,26 @@ public class DataTypeDropdown extends TextCellEditor {
 		}
 	}
 
+	@Override
+	public void activate() {
+		super.activate();
+		loadContent(); // refresh content once per edit instead of with every keystroke
+	}
+
 	public void setDataTypeLibrary(DataTypeLibrary library) {
 		this.library = library;
 		loadContent();
 	}
 
-	/* is called with every opening of the content proposal popup, may lead to performance issues */
+	/* is called with every opening of the content proposal popup, the proposals themselves are looked up in the
+	 * name index of the library */
 	private void loadContent() {
 		types = getDataTypesSorted(); // get sorted types for convenient order in dialog
-		provider.setProposals(getTypesAsStringArray());
+		final Map<String, Integer> order = new HashMap<>();
+		for (final DataType type : types) {
+			order.putIfAbsent(type.getName(), Integer.valueOf(order.size()));
+		}
+		typeOrder = order;
 	}
 
 	// can be overridden to filter the list differently
@@ -144,16 +158,6 @@ public class DataTypeDropdown extends TextCellEditor {
 
 	private void configureTextControl() {
 		textControl.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true));
-		textControl.addModifyListener(e -> {
-			loadContent(); // refresh content before opening textfield
-			if (textControl.getText().isEmpty()) {
-				provider.setProposals(getElementaryTypes());
-				isElementary = true;
-			} else if (isElementary) {
-				provider.setProposals(getTypesAsStringArray());
-				isElementary = false;
-			}
-		});
 		textControl.addListener(SWT.Traverse, e -> {
 			e.doit = false; // prevent the action from doing anything automatically
 			if ((e.detail == SWT.TRAVERSE_TAB_NEXT) && ((e.stateMask & SWT.CTRL) != 0)) {
@@ -227,10 +231,6 @@ public class DataTypeDropdown extends TextCellEditor {
 		return elementaryTypes;
 	}
 
-	private String[] getTypesAsStringArray() {
-		return types.stream().map(DataType::getName).toArray(String[]::new);
-	}
-
 	private void createDialogButton() {
 		final Button menuButton = new Button((Composite) getControl(), SWT.FLAT);
 		menuButton.setText("..."); //$NON-NLS-1$
@@ -450,9 +450,25 @@ public class DataTypeDropdown extends TextCellEditor {
 			'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z', '0', '1', '2', '3', '4',
 			'5', '6', '7', '8', '9', '_', '.', SWT.BS };
 
+	/* proposes the elementary types for an empty text field and all types starting with the text otherwise */
+	private IContentProposalProvider createProposalProvider() {
+		return (contents, position) -> {
+			final String[] proposals;
+			if (contents.isEmpty()) {
+				proposals = getElementaryTypes();
+			} else if (null != library) {
+				final Map<String, Integer> order = typeOrder;
+				proposals = library.findTypeNames(contents).stream().filter(order::containsKey)
+						.sorted(Comparator.comparing(order::get)).toArray(String[]::new);
+			} else {
+				proposals = new String[0];
+			}
+			return Arrays.stream(proposals).map(ContentProposal::new).toArray(IContentProposal[]::new);
+		};
+	}
+
 	private void enableContentProposal() {
-		provider = new SimpleContentProposalProvider(getTypesAsStringArray());
-		provider.setFiltering(true);
+		final IContentProposalProvider provider = createProposalProvider();
 
 		adapter = new ContentProposalAdapter(text, new TextContentAdapter(), provider, null, ACTIVATION_CHARS);
 		adapter.addContentProposalListener(new IContentProposalListener2() {
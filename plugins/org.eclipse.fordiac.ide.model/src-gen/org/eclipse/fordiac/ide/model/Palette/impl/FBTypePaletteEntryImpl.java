@@ -74,12 +74,13 @@ public class FBTypePaletteEntryImpl extends PaletteEntryImpl implements FBTypePa
 		}
 	}
 
-	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	/** <!-- begin-user-doc --> Types are loaded interface only, their body is loaded on first access. <!--
+	 * end-user-doc -->
 	 *
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public CommonElementImporter getImporter() {
-		return new org.eclipse.fordiac.ide.model.dataimport.FBTImporter(getFile());
+		return new org.eclipse.fordiac.ide.model.dataimport.FBTImporter(getFile(), true);
 	}
 
 } // FBTypePaletteEntryImpl
@@ -14,7 +14,6 @@
 package org.eclipse.fordiac.ide.model.Palette.impl;
 
 import org.eclipse.core.resources.IFile;
-import org.eclipse.core.resources.IResource;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.ecore.EClass;
@@ -28,6 +27,8 @@ import org.eclipse.fordiac.ide.model.dataimport.CommonElementImporter;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeTemplateCache;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeUsageIndex;
 
 /** <!-- begin-user-doc --> An implementation of the model object '<em><b>Entry</b></em>'. <!-- end-user-doc -->
  * <p>
@@ -96,9 +97,9 @@ public abstract class PaletteEntryImpl extends EObjectImpl implements PaletteEnt
 	 * -->
 	 *
 	 * @see #getType()
-	 * @generated
+	 * @generated NOT
 	 * @ordered */
-	protected LibraryElement type;
+	protected volatile LibraryElement type;
 
 	/** The cached value of the '{@link #getPalette() <em>Palette</em>}' reference. <!-- begin-user-doc --> <!--
 	 * end-user-doc -->
@@ -108,6 +109,19 @@ public abstract class PaletteEntryImpl extends EObjectImpl implements PaletteEnt
 	 * @ordered */
 	protected Palette palette;
 
+	/** Set if the type file has changed since the type was loaded. Maintained by the
+	 * {@link org.eclipse.fordiac.ide.model.typelibrary.PaletteEntryInvalidationService}, so that getType does not need
+	 * to query the workspace on each call. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private volatile boolean typeStale = false;
+
+	/** The notifications of a type loaded by {@link #preloadType()} which have not been delivered yet. Guarded by the
+	 * entry's lock. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private volatile NotificationChain pendingNotifications;
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 *
 	 * @generated */
@@ -200,22 +214,99 @@ public abstract class PaletteEntryImpl extends EObjectImpl implements PaletteEnt
 							oldType, type));
 				}
 			}
-		} else if (((null == type) && (null != getFile()))
-				|| (getFile() != null && getFile().getModificationStamp() != IResource.NULL_STAMP
-						&& getFile().getModificationStamp() != lastModificationTimestamp)) {
-			lastModificationTimestamp = getFile().getModificationStamp();
-			setType(loadType());
+		} else if ((null != getFile()) && ((null == type) || typeStale || (null != pendingNotifications))) {
+			// types may be loaded from several threads (e.g., the type resolution of the system importer), each type is
+			// only loaded once
+			final NotificationChain pending;
+			final NotificationChain loaded;
+			synchronized (this) {
+				pending = pendingNotifications;
+				pendingNotifications = null;
+				loaded = loadTypeIfNeeded();
+			}
+			// the listeners are notified by the thread asking for the type after the lock is released, also if the
+			// type has been loaded by another thread with preloadType
+			if (null != pending) {
+				pending.dispatch();
+			}
+			if (null != loaded) {
+				loaded.dispatch();
+			}
 		}
 
 		return type;
 	}
 
+	/** Load the type if it is not loaded or outdated without notifying the listeners. The notifications are delivered
+	 * by the next call to {@link #getType()} on the thread calling it. Used to load types in the background. <!--
+	 * begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	public void preloadType() {
+		if ((null != getFile()) && ((null == type) || typeStale)) {
+			synchronized (this) {
+				// a type with undelivered notifications is reloaded by getType
+				if (null == pendingNotifications) {
+					pendingNotifications = loadTypeIfNeeded();
+				}
+			}
+		}
+	}
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 *
-	 * @generated */
+	 * @generated NOT */
+	private NotificationChain loadTypeIfNeeded() {
+		if ((null == type) || typeStale) {
+			typeStale = false;
+			lastModificationTimestamp = getFile().getModificationStamp();
+			return exchangeType(loadType());
+		}
+		return null;
+	}
+
+	/** Set the loaded type without dispatching the notifications. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private NotificationChain exchangeType(final LibraryElement newType) {
+		NotificationChain msgs = null;
+		if (newType != type) {
+			if (type != null) {
+				msgs = ((InternalEObject) type).eInverseRemove(this,
+						LibraryElementPackage.LIBRARY_ELEMENT__PALETTE_ENTRY, LibraryElement.class, msgs);
+			}
+			if (newType != null) {
+				msgs = ((InternalEObject) newType).eInverseAdd(this,
+						LibraryElementPackage.LIBRARY_ELEMENT__PALETTE_ENTRY, LibraryElement.class, msgs);
+			}
+			msgs = basicSetType(newType, msgs);
+		}
+		return msgs;
+	}
+
+	/** Mark the type of this entry as outdated. It will be reloaded on the next call to {@link #getType()}. <!--
+	 * begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	public void invalidateType() {
+		typeStale = true;
+		TypeTemplateCache.INSTANCE.invalidate(getFile());
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	public boolean isTypeStale() {
+		return typeStale;
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
 	public NotificationChain basicSetType(final LibraryElement newType, NotificationChain msgs) {
 		final LibraryElement oldType = type;
 		type = newType;
+		TypeUsageIndex.INSTANCE.entryTypeChanged(this, oldType, newType);
 		if (eNotificationRequired()) {
 			final ENotificationImpl notification = new ENotificationImpl(this, Notification.SET,
 					PalettePackage.PALETTE_ENTRY__TYPE, oldType, newType);
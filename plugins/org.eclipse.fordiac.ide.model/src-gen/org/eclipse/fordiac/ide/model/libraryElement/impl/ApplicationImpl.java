@@ -15,10 +15,13 @@ package org.eclipse.fordiac.ide.model.libraryElement.impl;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.fordiac.ide.model.helpers.LazyContent;
 import org.eclipse.fordiac.ide.model.libraryElement.Application;
+import org.eclipse.fordiac.ide.model.libraryElement.Attribute;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
 import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
@@ -32,7 +35,7 @@ import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
  * </ul>
  *
  * @generated */
-public class ApplicationImpl extends ConfigurableObjectImpl implements Application {
+public class ApplicationImpl extends ConfigurableObjectImpl implements Application, LazyContent.Loadable {
 	/** The cached value of the '{@link #getFBNetwork() <em>FB Network</em>}' containment reference. <!-- begin-user-doc
 	 * --> <!-- end-user-doc -->
 	 * 
@@ -41,6 +44,12 @@ public class ApplicationImpl extends ConfigurableObjectImpl implements Applicati
 	 * @ordered */
 	protected FBNetwork fBNetwork;
 
+	/** Loads the network and attributes of the application if it has been loaded lazily, null if they are loaded.
+	 * <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private volatile Runnable contentLoader;
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
@@ -48,6 +57,59 @@ public class ApplicationImpl extends ConfigurableObjectImpl implements Applicati
 		super();
 	}
 
+	/** Set the loader for the network and attributes of a lazily loaded application. The loader is run on the first
+	 * access to them. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	public void setContentLoader(final Runnable contentLoader) {
+		this.contentLoader = contentLoader;
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public boolean isContentLoaded() {
+		return null == contentLoader;
+	}
+
+	/** Load the network and attributes of this application if it has been loaded lazily. No lock is taken here, the
+	 * content loader synchronizes on its importer and fills the content with {@link #fillContent(Runnable)}. Locking
+	 * the application as well would deadlock with the importer loading the applications of mapped elements.
+	 * <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public void loadContent() {
+		final Runnable loader = contentLoader;
+		if (null != loader) {
+			loader.run();
+		}
+	}
+
+	/** Fill the network and attributes of this application with the given parser unless they are loaded already.
+	 * Notifications are suppressed while parsing as from the outside the content has always been there. Afterwards
+	 * the content is loaded and the adapters are informed with a {@link LazyContent#CONTENT_LOADED} notification. To
+	 * be called by the content loader while it holds the lock of its importer. <!-- begin-user-doc --> <!--
+	 * end-user-doc -->
+	 *
+	 * @param parser parses the content into this application
+	 * @generated NOT */
+	public void fillContent(final Runnable parser) {
+		if (isContentLoaded()) {
+			return;
+		}
+		final boolean deliver = eDeliver();
+		eSetDeliver(false);
+		try {
+			parser.run();
+		} finally {
+			contentLoader = null;
+			eSetDeliver(deliver);
+		}
+		LazyContent.notifyContentLoaded(this);
+	}
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
@@ -58,9 +120,10 @@ public class ApplicationImpl extends ConfigurableObjectImpl implements Applicati
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public FBNetwork getFBNetwork() {
+		loadContent();
 		if (fBNetwork != null && fBNetwork.eIsProxy()) {
 			InternalEObject oldFBNetwork = (InternalEObject) fBNetwork;
 			fBNetwork = (FBNetwork) eResolveProxy(oldFBNetwork);
@@ -127,6 +190,15 @@ public class ApplicationImpl extends ConfigurableObjectImpl implements Applicati
 					newFBNetwork, newFBNetwork));
 	}
 
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public EList<Attribute> getAttributes() {
+		loadContent();
+		return super.getAttributes();
+	}
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
@@ -195,12 +267,16 @@ public class ApplicationImpl extends ConfigurableObjectImpl implements Applicati
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public boolean eIsSet(int featureID) {
 		switch (featureID) {
 		case LibraryElementPackage.APPLICATION__FB_NETWORK:
+			loadContent();
 			return fBNetwork != null;
+		case LibraryElementPackage.APPLICATION__ATTRIBUTES:
+			loadContent();
+			return super.eIsSet(featureID);
 		default:
 			return super.eIsSet(featureID);
 		}
@@ -26,6 +26,7 @@ import org.eclipse.emf.ecore.util.EObjectContainmentEList;
 import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.fordiac.ide.model.Palette.Palette;
 import org.eclipse.fordiac.ide.model.Palette.PaletteFactory;
+import org.eclipse.fordiac.ide.model.helpers.LazyContent;
 import org.eclipse.fordiac.ide.model.libraryElement.Application;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
 import org.eclipse.fordiac.ide.model.libraryElement.Device;
@@ -52,7 +53,7 @@ import org.eclipse.gef.commands.CommandStack;
  * </ul>
  *
  * @generated */
-public class AutomationSystemImpl extends LibraryElementImpl implements AutomationSystem {
+public class AutomationSystemImpl extends LibraryElementImpl implements AutomationSystem, LazyContent.Loadable {
 	/** The cached value of the '{@link #getApplication() <em>Application</em>}' containment reference list. <!--
 	 * begin-user-doc --> <!-- end-user-doc -->
 	 * 
@@ -117,6 +118,12 @@ public class AutomationSystemImpl extends LibraryElementImpl implements Automati
 	 * @ordered */
 	protected CommandStack commandStack = COMMAND_STACK_EDEFAULT;
 
+	/** Loads the lazily loaded applications which have mappings, null if there are none. <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private volatile Runnable mappingLoader;
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
@@ -124,6 +131,49 @@ public class AutomationSystemImpl extends LibraryElementImpl implements Automati
 		super();
 	}
 
+	/** Set the loader for the applications whose mappings have not been resolved yet as they are loaded lazily. The
+	 * loader is run whenever the mappings or the devices of the system are accessed. <!-- begin-user-doc --> <!--
+	 * end-user-doc -->
+	 *
+	 * @generated NOT */
+	public void setMappingLoader(final Runnable mappingLoader) {
+		final boolean loaded = (null != this.mappingLoader) && (null == mappingLoader);
+		this.mappingLoader = mappingLoader;
+		if (loaded) {
+			// the mappings and the devices can be followed now without loading any further applications
+			LazyContent.notifyContentLoaded(this);
+			if (systemConfiguration instanceof InternalEObject) {
+				LazyContent.notifyContentLoaded((InternalEObject) systemConfiguration);
+			}
+		}
+	}
+
+	/** Ensure that all mappings of the system are resolved. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	public void loadMappings() {
+		final Runnable loader = mappingLoader;
+		if (null != loader) {
+			loader.run();
+		}
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public boolean isContentLoaded() {
+		return null == mappingLoader;
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public void loadContent() {
+		loadMappings();
+	}
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
@@ -146,9 +196,10 @@ public class AutomationSystemImpl extends LibraryElementImpl implements Automati
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public EList<Mapping> getMapping() {
+		loadMappings();
 		if (mapping == null) {
 			mapping = new EObjectContainmentEList<Mapping>(Mapping.class, this,
 					LibraryElementPackage.AUTOMATION_SYSTEM__MAPPING);
@@ -439,13 +490,14 @@ public class AutomationSystemImpl extends LibraryElementImpl implements Automati
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public boolean eIsSet(int featureID) {
 		switch (featureID) {
 		case LibraryElementPackage.AUTOMATION_SYSTEM__APPLICATION:
 			return application != null && !application.isEmpty();
 		case LibraryElementPackage.AUTOMATION_SYSTEM__MAPPING:
+			loadMappings();
 			return mapping != null && !mapping.isEmpty();
 		case LibraryElementPackage.AUTOMATION_SYSTEM__PALETTE:
 			return palette != null;
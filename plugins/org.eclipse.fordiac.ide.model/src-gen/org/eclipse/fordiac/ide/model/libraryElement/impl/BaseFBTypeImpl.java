@@ -74,9 +74,10 @@ public class BaseFBTypeImpl extends FBTypeImpl implements BaseFBType {
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public EList<VarDeclaration> getInternalVars() {
+		loadBody();
 		if (internalVars == null) {
 			internalVars = new EObjectContainmentEList<VarDeclaration>(VarDeclaration.class, this,
 					LibraryElementPackage.BASE_FB_TYPE__INTERNAL_VARS);
@@ -86,9 +87,10 @@ public class BaseFBTypeImpl extends FBTypeImpl implements BaseFBType {
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public EList<FB> getInternalFbs() {
+		loadBody();
 		if (internalFbs == null) {
 			internalFbs = new EObjectContainmentEList<FB>(FB.class, this,
 					LibraryElementPackage.BASE_FB_TYPE__INTERNAL_FBS);
@@ -172,8 +174,10 @@ public class BaseFBTypeImpl extends FBTypeImpl implements BaseFBType {
 	public boolean eIsSet(int featureID) {
 		switch (featureID) {
 		case LibraryElementPackage.BASE_FB_TYPE__INTERNAL_VARS:
+			loadBody();
 			return internalVars != null && !internalVars.isEmpty();
 		case LibraryElementPackage.BASE_FB_TYPE__INTERNAL_FBS:
+			loadBody();
 			return internalFbs != null && !internalFbs.isEmpty();
 		default:
 			return super.eIsSet(featureID);
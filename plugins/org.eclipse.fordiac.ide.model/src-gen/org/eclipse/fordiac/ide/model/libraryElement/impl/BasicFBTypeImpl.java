@@ -72,9 +72,10 @@ public class BasicFBTypeImpl extends BaseFBTypeImpl implements BasicFBType {
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public ECC getECC() {
+		loadBody();
 		return eCC;
 	}
 
@@ -118,9 +119,10 @@ public class BasicFBTypeImpl extends BaseFBTypeImpl implements BasicFBType {
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public EList<Algorithm> getAlgorithm() {
+		loadBody();
 		if (algorithm == null) {
 			algorithm = new EObjectContainmentEList<Algorithm>(Algorithm.class, this,
 					LibraryElementPackage.BASIC_FB_TYPE__ALGORITHM);
@@ -227,8 +229,10 @@ public class BasicFBTypeImpl extends BaseFBTypeImpl implements BasicFBType {
 	public boolean eIsSet(int featureID) {
 		switch (featureID) {
 		case LibraryElementPackage.BASIC_FB_TYPE__ECC:
+			loadBody();
 			return eCC != null;
 		case LibraryElementPackage.BASIC_FB_TYPE__ALGORITHM:
+			loadBody();
 			return algorithm != null && !algorithm.isEmpty();
 		default:
 			return super.eIsSet(featureID);
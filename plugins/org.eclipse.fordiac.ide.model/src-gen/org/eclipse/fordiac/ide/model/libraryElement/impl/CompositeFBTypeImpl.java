@@ -59,9 +59,10 @@ public class CompositeFBTypeImpl extends FBTypeImpl implements CompositeFBType {
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public FBNetwork getFBNetwork() {
+		loadBody();
 		return fBNetwork;
 	}
 
@@ -166,6 +167,7 @@ public class CompositeFBTypeImpl extends FBTypeImpl implements CompositeFBType {
 	public boolean eIsSet(int featureID) {
 		switch (featureID) {
 		case LibraryElementPackage.COMPOSITE_FB_TYPE__FB_NETWORK:
+			loadBody();
 			return fBNetwork != null;
 		default:
 			return super.eIsSet(featureID);
@@ -15,6 +15,7 @@ package org.eclipse.fordiac.ide.model.libraryElement.impl;
 
 import java.util.Collection;
 
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
@@ -22,6 +23,7 @@ import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.EObjectImpl;
 import org.eclipse.emf.ecore.util.EObjectContainmentEList;
 import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.fordiac.ide.model.helpers.BulkEdit;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterConnection;
 import org.eclipse.fordiac.ide.model.libraryElement.Application;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
@@ -98,6 +100,18 @@ public class FBNetworkImpl extends EObjectImpl implements FBNetwork {
 		return LibraryElementPackage.Literals.FB_NETWORK;
 	}
 
+	/** Within a bulk edit the added and removed elements and connections are delivered aggregated, see
+	 * {@link BulkEdit}. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public void eNotify(final Notification notification) {
+		final BulkEdit bulkEdit = BulkEdit.getActive(this);
+		if ((null == bulkEdit) || !bulkEdit.defer(notification)) {
+			super.eNotify(notification);
+		}
+	}
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
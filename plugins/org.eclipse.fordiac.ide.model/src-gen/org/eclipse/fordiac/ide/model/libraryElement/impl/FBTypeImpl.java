@@ -13,15 +13,31 @@
  ********************************************************************************/
 package org.eclipse.fordiac.ide.model.libraryElement.impl;
 
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.model.helpers.LazyContent;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
 import org.eclipse.fordiac.ide.model.libraryElement.Service;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeBodyCache;
 
 /** <!-- begin-user-doc --> An implementation of the model object '<em><b>FB Type</b></em>'. <!-- end-user-doc -->
  * <p>
@@ -34,7 +50,7 @@ import org.eclipse.fordiac.ide.model.libraryElement.Service;
  * </ul>
  *
  * @generated */
-public class FBTypeImpl extends CompilableTypeImpl implements FBType {
+public class FBTypeImpl extends CompilableTypeImpl implements FBType, LazyContent.Loadable {
 	/** The cached value of the '{@link #getInterfaceList() <em>Interface List</em>}' containment reference. <!--
 	 * begin-user-doc --> <!-- end-user-doc -->
 	 * 
@@ -51,6 +67,72 @@ public class FBTypeImpl extends CompilableTypeImpl implements FBType {
 	 * @ordered */
 	protected Service service;
 
+	/** The loader for the body (e.g., ECC, algorithms, network, service sequences) of this type if it has been
+	 * loaded interface only, null if the body is loaded. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private volatile Runnable bodyLoader;
+
+	/** The loader given with {@link #setBodyLoader(Runnable)}, kept to load the body again after it has been unloaded
+	 * and collected. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private Runnable bodyReloader;
+
+	/** The body taken from this type by {@link #unloadBody()}, null if the body is loaded or has never been loaded.
+	 * <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private SoftReference<DetachedBody> detachedBody;
+
+	/** True while the body is taken from or put back into this type, these accesses are no cache hits. <!--
+	 * begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private boolean unloading;
+
+	/** The {@link System#nanoTime()} of the last access to the body. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private volatile long lastBodyAccess;
+
+	/** The containment features forming the body of FB types. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private static final Set<EStructuralFeature> BODY_FEATURES = Set.of(LibraryElementPackage.Literals.FB_TYPE__SERVICE,
+			LibraryElementPackage.Literals.BASE_FB_TYPE__INTERNAL_VARS,
+			LibraryElementPackage.Literals.BASE_FB_TYPE__INTERNAL_FBS,
+			LibraryElementPackage.Literals.BASIC_FB_TYPE__ECC,
+			LibraryElementPackage.Literals.BASIC_FB_TYPE__ALGORITHM,
+			LibraryElementPackage.Literals.SIMPLE_FB_TYPE__ALGORITHM,
+			LibraryElementPackage.Literals.COMPOSITE_FB_TYPE__FB_NETWORK);
+
+	/** rough size of a model object used for estimating the size of the body */
+	private static final int OBJECT_SIZE_ESTIMATE = 96;
+
+	/** The contents of an unloaded body by feature. Each content holds the body with a {@link BodyAnchor}, so the body
+	 * can only be collected if none of its objects is referenced any more. <!-- begin-user-doc --> <!-- end-user-doc
+	 * -->
+	 *
+	 * @generated NOT */
+	private static final class DetachedBody {
+		private final Map<EStructuralFeature, Object> values = new LinkedHashMap<>();
+		private final List<EObject> contents = new ArrayList<>();
+		private final BodyAnchor anchor = new BodyAnchor(this);
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private static final class BodyAnchor extends AdapterImpl {
+		@SuppressWarnings("unused") // only keeps the body reachable
+		private final DetachedBody body;
+
+		private BodyAnchor(final DetachedBody body) {
+			this.body = body;
+		}
+	}
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
@@ -58,6 +140,201 @@ public class FBTypeImpl extends CompilableTypeImpl implements FBType {
 		super();
 	}
 
+	/** Set the loader which will be invoked the first time the body of this type is accessed. <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	public void setBodyLoader(final Runnable bodyLoader) {
+		this.bodyLoader = bodyLoader;
+		this.bodyReloader = bodyLoader;
+		this.detachedBody = null;
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	public boolean isBodyLoaded() {
+		return null == bodyLoader;
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public boolean isContentLoaded() {
+		return isBodyLoaded();
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public void loadContent() {
+		loadBody();
+	}
+
+	/** Load the body of this type if it has been loaded interface only or has been unloaded. An unloaded body which
+	 * has not been collected yet is put back, otherwise the body is loaded from the type file. Notifications are
+	 * suppressed while loading as from the outside the body has always been there. Afterwards the adapters are
+	 * informed with a {@link LazyContent#CONTENT_LOADED} notification. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	protected void loadBody() {
+		if (null == bodyLoader) {
+			if ((null != bodyReloader) && !unloading) {
+				lastBodyAccess = System.nanoTime();
+				TypeBodyCache.INSTANCE.bodyHit();
+			}
+			return;
+		}
+		boolean loaded = false;
+		boolean restored = false;
+		synchronized (this) {
+			final Runnable loader = bodyLoader;
+			if (null != loader) {
+				bodyLoader = null;
+				final boolean deliver = eDeliver();
+				eSetDeliver(false);
+				try {
+					restored = restoreBody();
+					if (!restored) {
+						loader.run();
+					}
+				} finally {
+					eSetDeliver(deliver);
+				}
+				loaded = true;
+			}
+		}
+		if (loaded) {
+			lastBodyAccess = System.nanoTime();
+			TypeBodyCache.INSTANCE.bodyLoaded(this, restored);
+			LazyContent.notifyContentLoaded(this);
+		}
+	}
+
+	/** Unload the body of this type so that it is loaded again with its next access. Only bodies which have been
+	 * loaded lazily and which are not observed by any adapter can be unloaded.
+	 *
+	 * The body is taken from the type and kept behind a soft reference. If it is accessed again before the garbage
+	 * collector has reclaimed it, the same objects are put back, so references to them held elsewhere stay valid. As
+	 * long as any object of the body is referenced, the body can not be reclaimed. <!-- begin-user-doc --> <!--
+	 * end-user-doc -->
+	 *
+	 * @return true if the body has been unloaded
+	 * @generated NOT */
+	public synchronized boolean unloadBody() {
+		if ((null == bodyReloader) || (null != bodyLoader) || isBodyObserved()) {
+			return false;
+		}
+		final DetachedBody body = new DetachedBody();
+		final boolean deliver = eDeliver();
+		eSetDeliver(false);
+		unloading = true;
+		try {
+			for (final EStructuralFeature feature : getBodyFeatures()) {
+				if (eIsSet(feature)) {
+					final Object value = eGet(feature, false);
+					body.values.put(feature, feature.isMany() ? new ArrayList<>((List<?>) value) : value);
+					eUnset(feature);
+				}
+			}
+			// the importers expect a service to be present
+			setService(LibraryElementFactory.eINSTANCE.createService());
+		} finally {
+			unloading = false;
+			eSetDeliver(deliver);
+		}
+		body.values.values().forEach(value -> addContents(body.contents, value));
+		body.contents.forEach(content -> content.eAdapters().add(body.anchor));
+		detachedBody = new SoftReference<>(body);
+		bodyLoader = bodyReloader;
+		return true;
+	}
+
+	/** @return true if the unloaded body has been put back */
+	private boolean restoreBody() {
+		final DetachedBody body = (null != detachedBody) ? detachedBody.get() : null;
+		detachedBody = null;
+		if (null == body) {
+			return false;
+		}
+		body.contents.forEach(content -> content.eAdapters().remove(body.anchor));
+		unloading = true;
+		try {
+			body.values.forEach(this::eSet);
+		} finally {
+			unloading = false;
+		}
+		return true;
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	public long getLastBodyAccess() {
+		return lastBodyAccess;
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @return a rough estimate of the number of bytes occupied by the body of this type
+	 * @generated NOT */
+	public synchronized long estimateBodySize() {
+		long size = 0;
+		for (final EObject content : getBodyContents()) {
+			final TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(content, false);
+			size += OBJECT_SIZE_ESTIMATE;
+			while (iterator.hasNext()) {
+				iterator.next();
+				size += OBJECT_SIZE_ESTIMATE;
+			}
+		}
+		return size;
+	}
+
+	private boolean isBodyObserved() {
+		for (final EObject content : getBodyContents()) {
+			if (!content.eAdapters().isEmpty()) {
+				return true;
+			}
+			final TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(content, false);
+			while (iterator.hasNext()) {
+				if (!iterator.next().eAdapters().isEmpty()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private List<EStructuralFeature> getBodyFeatures() {
+		return eClass().getEAllStructuralFeatures().stream().filter(BODY_FEATURES::contains)
+				.collect(Collectors.toList());
+	}
+
+	/** the contents of the body, reading them does not count as an access */
+	private List<EObject> getBodyContents() {
+		final List<EObject> contents = new ArrayList<>();
+		final boolean wasUnloading = unloading;
+		unloading = true;
+		try {
+			getBodyFeatures().forEach(feature -> addContents(contents, eGet(feature, false)));
+		} finally {
+			unloading = wasUnloading;
+		}
+		return contents;
+	}
+
+	private static void addContents(final List<EObject> contents, final Object value) {
+		if (value instanceof List<?>) {
+			((List<?>) value).stream().filter(EObject.class::isInstance).map(EObject.class::cast)
+			.forEach(contents::add);
+		} else if (value instanceof EObject) {
+			contents.add((EObject) value);
+		}
+	}
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
@@ -114,9 +391,10 @@ public class FBTypeImpl extends CompilableTypeImpl implements FBType {
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public Service getService() {
+		loadBody();
 		return service;
 	}
 
@@ -233,6 +511,7 @@ public class FBTypeImpl extends CompilableTypeImpl implements FBType {
 		case LibraryElementPackage.FB_TYPE__INTERFACE_LIST:
 			return interfaceList != null;
 		case LibraryElementPackage.FB_TYPE__SERVICE:
+			loadBody();
 			return service != null;
 		default:
 			return super.eIsSet(featureID);
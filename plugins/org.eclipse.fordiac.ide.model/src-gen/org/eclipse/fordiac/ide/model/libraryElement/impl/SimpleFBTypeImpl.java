@@ -60,9 +60,10 @@ public class SimpleFBTypeImpl extends BaseFBTypeImpl implements SimpleFBType {
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public Algorithm getAlgorithm() {
+		loadBody();
 		return algorithm;
 	}
 
@@ -167,6 +168,7 @@ public class SimpleFBTypeImpl extends BaseFBTypeImpl implements SimpleFBType {
 	public boolean eIsSet(int featureID) {
 		switch (featureID) {
 		case LibraryElementPackage.SIMPLE_FB_TYPE__ALGORITHM:
+			loadBody();
 			return algorithm != null;
 		default:
 			return super.eIsSet(featureID);
@@ -22,6 +22,7 @@ import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.EObjectImpl;
 import org.eclipse.emf.ecore.util.EObjectContainmentEList;
 import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.fordiac.ide.model.helpers.LazyContent;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
 import org.eclipse.fordiac.ide.model.libraryElement.Device;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
@@ -43,7 +44,7 @@ import org.eclipse.fordiac.ide.model.libraryElement.SystemConfiguration;
  * </ul>
  *
  * @generated */
-public class SystemConfigurationImpl extends EObjectImpl implements SystemConfiguration {
+public class SystemConfigurationImpl extends EObjectImpl implements SystemConfiguration, LazyContent.Loadable {
 	/** The cached value of the '{@link #getDevices() <em>Devices</em>}' containment reference list. <!-- begin-user-doc
 	 * --> <!-- end-user-doc -->
 	 * 
@@ -73,6 +74,32 @@ public class SystemConfigurationImpl extends EObjectImpl implements SystemConfig
 		super();
 	}
 
+	/** The mapping state of the resources' FBs depends on the applications, so lazily loaded applications with
+	 * mappings are loaded before the devices are accessed. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	private void loadMappings() {
+		if (eInternalContainer() instanceof AutomationSystemImpl) {
+			((AutomationSystemImpl) eInternalContainer()).loadMappings();
+		}
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public boolean isContentLoaded() {
+		return LazyContent.isContentLoaded(eInternalContainer());
+	}
+
+	/** <!-- begin-user-doc --> <!-- end-user-doc -->
+	 *
+	 * @generated NOT */
+	@Override
+	public void loadContent() {
+		loadMappings();
+	}
+
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated */
@@ -83,9 +110,10 @@ public class SystemConfigurationImpl extends EObjectImpl implements SystemConfig
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public EList<Device> getDevices() {
+		loadMappings();
 		if (devices == null) {
 			devices = new EObjectContainmentEList<Device>(Device.class, this,
 					LibraryElementPackage.SYSTEM_CONFIGURATION__DEVICES);
@@ -223,11 +251,12 @@ public class SystemConfigurationImpl extends EObjectImpl implements SystemConfig
 
 	/** <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
-	 * @generated */
+	 * @generated NOT */
 	@Override
 	public boolean eIsSet(int featureID) {
 		switch (featureID) {
 		case LibraryElementPackage.SYSTEM_CONFIGURATION__DEVICES:
+			loadMappings();
 			return devices != null && !devices.isEmpty();
 		case LibraryElementPackage.SYSTEM_CONFIGURATION__SEGMENTS:
 			return segments != null && !segments.isEmpty();
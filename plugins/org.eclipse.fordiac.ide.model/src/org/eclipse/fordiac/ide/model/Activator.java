@@ -13,6 +13,8 @@
  ********************************************************************************/
 package org.eclipse.fordiac.ide.model;
 
+import org.eclipse.fordiac.ide.model.typelibrary.PaletteEntryInvalidationService;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
 import org.eclipse.fordiac.ide.ui.Abstract4DIACUIPlugin;
 import org.osgi.framework.BundleContext;
 
@@ -36,6 +38,7 @@ public class Activator extends Abstract4DIACUIPlugin {
 	public void start(final BundleContext context) throws Exception {
 		super.start(context);
 		setPlugin(this);
+		PaletteEntryInvalidationService.install();
 	}
 
 	/*
@@ -45,6 +48,8 @@ public class Activator extends Abstract4DIACUIPlugin {
 	 */
 	@Override
 	public void stop(final BundleContext context) throws Exception {
+		PaletteEntryInvalidationService.uninstall();
+		TypeLibrary.saveTypeHeaderIndexes();
 		setPlugin(null);
 		super.stop(context);
 	}
@@ -20,6 +20,7 @@ package org.eclipse.fordiac.ide.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.BasicEList;
@@ -28,6 +29,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.fordiac.ide.model.Palette.AdapterTypePaletteEntry;
 import org.eclipse.fordiac.ide.model.data.BaseType1;
+import org.eclipse.fordiac.ide.model.helpers.NameIndex;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterConnection;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterDeclaration;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterFB;
@@ -53,9 +55,11 @@ import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
 import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
+import org.eclipse.fordiac.ide.model.libraryElement.INamedElement;
 import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
 import org.eclipse.fordiac.ide.model.libraryElement.Mapping;
 import org.eclipse.fordiac.ide.model.libraryElement.Resource;
 import org.eclipse.fordiac.ide.model.libraryElement.Segment;
@@ -68,6 +72,17 @@ import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
 
 public final class Annotations {
 
+	// filters for the name index lookups, they select the children the linear searches visit
+	private static final Predicate<INamedElement> IS_EVENT = Event.class::isInstance;
+	private static final Predicate<INamedElement> IS_VARIABLE = element -> {
+		final Object feature = element.eContainingFeature();
+		return (LibraryElementPackage.Literals.INTERFACE_LIST__INPUT_VARS == feature)
+				|| (LibraryElementPackage.Literals.INTERFACE_LIST__OUTPUT_VARS == feature);
+	};
+	private static final Predicate<INamedElement> IS_ADAPTER = AdapterDeclaration.class::isInstance;
+	private static final Predicate<INamedElement> IS_FB = FB.class::isInstance;
+	private static final Predicate<INamedElement> IS_SUBAPP = SubApp.class::isInstance;
+
 	// *** AdapterType ***//
 	public static InterfaceList getInterfaceList(final AdapterType at) {
 		return at.getAdapterFBType().getInterfaceList();
@@ -156,6 +171,10 @@ public final class Annotations {
 	}
 
 	public static Resource getResourceNamed(final Device d, final String name) {
+		final NameIndex index = NameIndex.of(d);
+		if (null != index) {
+			return (Resource) index.find(name);
+		}
 		for (final Resource res : d.getResource()) {
 			if (res.getName().equals(name)) {
 				return res;
@@ -258,6 +277,10 @@ public final class Annotations {
 	}
 
 	public static Event getEvent(final InterfaceList il, final String name) {
+		final NameIndex index = NameIndex.of(il);
+		if (null != index) {
+			return (Event) index.find(name, IS_EVENT);
+		}
 		for (final Event event : il.getEventInputs()) {
 			if (event.getName().equals(name)) {
 				return event;
@@ -272,6 +295,10 @@ public final class Annotations {
 	}
 
 	public static VarDeclaration getVariable(final InterfaceList il, final String name) {
+		final NameIndex index = NameIndex.of(il);
+		if (null != index) {
+			return (VarDeclaration) index.find(name, IS_VARIABLE);
+		}
 		for (final VarDeclaration inVar : il.getInputVars()) {
 			if (inVar.getName().equals(name)) {
 				return inVar;
@@ -286,6 +313,10 @@ public final class Annotations {
 	}
 
 	public static IInterfaceElement getInterfaceElement(final InterfaceList il, final String name) {
+		final NameIndex index = NameIndex.of(il);
+		if (null != index) {
+			return (IInterfaceElement) index.find(name);
+		}
 		IInterfaceElement element = il.getEvent(name);
 		if (element == null) {
 			element = il.getVariable(name);
@@ -309,6 +340,10 @@ public final class Annotations {
 	}
 
 	public static AdapterDeclaration getAdapter(final InterfaceList il, final String name) {
+		final NameIndex index = NameIndex.of(il);
+		if (null != index) {
+			return (AdapterDeclaration) index.find(name, IS_ADAPTER);
+		}
 		for (final AdapterDeclaration adapt : il.getPlugs()) {
 			if (adapt.getName().equals(name)) {
 				return adapt;
@@ -393,6 +428,10 @@ public final class Annotations {
 	}
 
 	public static FB getFBNamed(final FBNetwork fbn, final String name) {
+		final NameIndex index = NameIndex.of(fbn);
+		if (null != index) {
+			return (FB) index.find(name, IS_FB);
+		}
 		for (final FBNetworkElement element : fbn.getNetworkElements()) {
 			if ((element instanceof FB) && (element.getName().equals(name))) {
 				return (FB) element;
@@ -402,6 +441,10 @@ public final class Annotations {
 	}
 
 	public static SubApp getSubAppNamed(final FBNetwork fbn, final String name) {
+		final NameIndex index = NameIndex.of(fbn);
+		if (null != index) {
+			return (SubApp) index.find(name, IS_SUBAPP);
+		}
 		for (final FBNetworkElement element : fbn.getNetworkElements()) {
 			if ((element instanceof SubApp) && element.getName().equals(name)) {
 				return (SubApp) element;
@@ -411,6 +454,10 @@ public final class Annotations {
 	}
 
 	public static FBNetworkElement getElementNamed(final FBNetwork fbn, final String name) {
+		final NameIndex index = NameIndex.of(fbn);
+		if (null != index) {
+			return (FBNetworkElement) index.find(name);
+		}
 		for (final FBNetworkElement element : fbn.getNetworkElements()) {
 			if (element.getName().equals(name)) {
 				return element;
@@ -545,6 +592,10 @@ public final class Annotations {
 	}
 
 	public static Device getDeviceNamed(final SystemConfiguration sc, final String name) {
+		final NameIndex index = NameIndex.of(sc);
+		if (null != index) {
+			return (Device) index.find(name);
+		}
 		for (final Device device : sc.getDevices()) {
 			if (device.getName().equals(name)) {
 				return device;
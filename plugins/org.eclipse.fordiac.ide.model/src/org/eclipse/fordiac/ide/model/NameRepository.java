@@ -28,6 +28,7 @@ import org.eclipse.emf.common.util.EList;
 import org.eclipse.fordiac.ide.model.Palette.Palette;
 import org.eclipse.fordiac.ide.model.data.DataType;
 import org.eclipse.fordiac.ide.model.data.StructuredType;
+import org.eclipse.fordiac.ide.model.helpers.NameIndex;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterType;
 import org.eclipse.fordiac.ide.model.libraryElement.Algorithm;
 import org.eclipse.fordiac.ide.model.libraryElement.Application;
@@ -36,6 +37,7 @@ import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
 import org.eclipse.fordiac.ide.model.libraryElement.Device;
 import org.eclipse.fordiac.ide.model.libraryElement.ECC;
 import org.eclipse.fordiac.ide.model.libraryElement.ECState;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
 import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
@@ -118,6 +120,10 @@ public final class NameRepository {
 			// for interface elements we need to check if it not a reserved keyword
 			retVal = checkReservedKeyWords(nameProposal);
 		}
+		final NameIndex index = getNameIndex(element);
+		if (null != index) {
+			return index.createUniqueName(retVal, element, NameRepository::createUniqueName);
+		}
 		return getUniqueName(getRefNames(element), retVal);
 	}
 
@@ -144,7 +150,8 @@ public final class NameRepository {
 			return false;
 		}
 
-		if (getRefNames(element).contains(nameProposal)) {
+		final NameIndex index = getNameIndex(element);
+		if ((null != index) ? index.isUsed(nameProposal, element) : getRefNames(element).contains(nameProposal)) {
 			ErrorMessenger
 			.popUpErrorMessage(MessageFormat.format(Messages.NameRepository_NameAlreadyExists, nameProposal));
 			return false;
@@ -153,6 +160,36 @@ public final class NameRepository {
 		return true;
 	}
 
+	/** Get the name index of the container whose children need unique names, available for the large containers:
+	 * FB networks, system configurations, devices and interface lists. The pins and the internal variables of types
+	 * with internal variables share the index of their type.
+	 *
+	 * @return the index or null if the names have to be collected with {@link #getRefNames(INamedElement)} */
+	private static NameIndex getNameIndex(final INamedElement element) {
+		final Object container = element.eContainer();
+		if ((element instanceof FBNetworkElement) && (container instanceof FBNetwork)) {
+			return NameIndex.of((FBNetwork) container);
+		}
+		if ((element instanceof Device) && (container instanceof SystemConfiguration)) {
+			return NameIndex.of((SystemConfiguration) container);
+		}
+		if ((element instanceof Resource) && (container instanceof Device)) {
+			return NameIndex.of((Device) container);
+		}
+		if ((element instanceof IInterfaceElement) && (container instanceof InterfaceList)) {
+			final Object type = ((InterfaceList) container).eContainer();
+			if (type instanceof BaseFBType) {
+				return NameIndex.of((BaseFBType) type);
+			}
+			return NameIndex.of((InterfaceList) container);
+		}
+		if ((element instanceof IInterfaceElement) && (container instanceof BaseFBType)) {
+			// internal variables
+			return NameIndex.of((BaseFBType) container);
+		}
+		return null;
+	}
+
 	private static Set<String> getRefNames(final INamedElement refElement) {
 		EList<? extends INamedElement> elementsList = null;
 
@@ -31,6 +31,7 @@ import org.eclipse.fordiac.ide.model.Palette.SubApplicationTypePaletteEntry;
 import org.eclipse.fordiac.ide.model.Palette.impl.PaletteEntryImpl;
 import org.eclipse.fordiac.ide.model.dataimport.CommonElementImporter;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeTemplateCache;
 
 public final class PaletteAnnotations {
 
@@ -82,9 +83,11 @@ public final class PaletteAnnotations {
 	}
 
 	public static LibraryElement loadType(final PaletteEntryImpl paletteEntryImpl) {
-		final CommonElementImporter importer = paletteEntryImpl.getImporter();
-		importer.loadElement();
-		final LibraryElement retval = importer.getElement();
+		final LibraryElement retval = TypeTemplateCache.INSTANCE.loadType(paletteEntryImpl, () -> {
+			final CommonElementImporter importer = paletteEntryImpl.getImporter();
+			importer.loadElement();
+			return importer;
+		});
 
 		if (null == retval) {
 			Activator.getDefault().logError("Error loading type: " + paletteEntryImpl.getFile().getName()); //$NON-NLS-1$
@@ -20,6 +20,15 @@
 
 package org.eclipse.fordiac.ide.model.dataexport;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
 import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.core.resources.WorkspaceJob;
@@ -27,6 +36,9 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.fordiac.ide.model.Activator;
 import org.eclipse.fordiac.ide.model.LibraryElementTags;
 import org.eclipse.fordiac.ide.model.Palette.AdapterTypePaletteEntry;
@@ -40,6 +52,8 @@ import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
 import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
 
 public abstract class AbstractTypeExporter extends CommonElementExporter {
+	static final int DEFAULT_SAVE_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+
 	private final LibraryElement type;
 
 	protected AbstractTypeExporter(final LibraryElement type) {
@@ -89,6 +103,76 @@ public abstract class AbstractTypeExporter extends CommonElementExporter {
 		}
 	}
 
+	/** Save many types at once, e.g., after a refactoring changed a large number of types.
+	 *
+	 * The types are serialized in parallel by a pool of workers, the method returns when all types are serialized. The
+	 * files are then written by a single workspace job, so that the workspace sends one resource change notification
+	 * for all of them instead of running one job per type.
+	 *
+	 * @param entries the palette entries of the types to save
+	 * @return the scheduled job writing the files, e.g., to join it, or null if there was nothing to save */
+	public static WorkspaceJob saveTypes(final Collection<? extends PaletteEntry> entries) {
+		return saveTypes(entries, DEFAULT_SAVE_PARALLELISM);
+	}
+
+	static WorkspaceJob saveTypes(final Collection<? extends PaletteEntry> entries, final int parallelism) {
+		final List<PaletteEntry> toSave = entries.stream().filter(entry -> null != entry.getFile())
+				.collect(Collectors.toList());
+		if (toSave.isEmpty()) {
+			return null;
+		}
+		final Map<PaletteEntry, AbstractTypeExporter> exporters = serializeTypes(toSave, Math.max(1, parallelism));
+
+		final WorkspaceJob job = new WorkspaceJob("Save type files") { //$NON-NLS-1$
+			@Override
+			public IStatus runInWorkspace(final IProgressMonitor monitor) throws CoreException {
+				final SubMonitor progress = SubMonitor.convert(monitor, exporters.size());
+				exporters.forEach((entry, exporter) -> {
+					exporter.writeToFile(entry.getFile());
+					// "reset" the modification timestamp in the PaletteEntry to avoid reload - as for this timestamp it
+					// is not necessary as the data is in memory
+					entry.setLastModificationTimestamp(entry.getFile().getModificationStamp());
+					progress.worked(1);
+				});
+				return Status.OK_STATUS;
+			}
+		};
+		job.setRule(MultiRule.combine(toSave.stream().map(entry -> entry.getFile().getParent()).distinct()
+				.toArray(ISchedulingRule[]::new)));
+		job.schedule();
+		return job;
+	}
+
+	private static Map<PaletteEntry, AbstractTypeExporter> serializeTypes(final List<PaletteEntry> entries,
+			final int parallelism) {
+		final Map<PaletteEntry, AbstractTypeExporter> exporters = new ConcurrentHashMap<>();
+		final Consumer<PaletteEntry> serializer = entry -> {
+			final AbstractTypeExporter exporter = getTypeExporter(entry);
+			if (null != exporter) {
+				try {
+					exporter.createXMLEntries();
+					exporters.put(entry, exporter);
+				} catch (final XMLStreamException | RuntimeException e) {
+					Activator.getDefault().logError("Could not save type " + entry.getLabel(), e); //$NON-NLS-1$
+				}
+			}
+		};
+		if (1 == parallelism) {
+			entries.forEach(serializer);
+		} else {
+			final ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				pool.submit(() -> entries.parallelStream().forEach(serializer)).join();
+			} finally {
+				pool.shutdown();
+			}
+		}
+		// write the files in the order they were given
+		final Map<PaletteEntry, AbstractTypeExporter> ordered = new LinkedHashMap<>();
+		entries.stream().filter(exporters::containsKey).forEach(entry -> ordered.put(entry, exporters.get(entry)));
+		return ordered;
+	}
+
 	private static AbstractTypeExporter getTypeExporter(final PaletteEntry entry) {
 		if (entry instanceof FBTypePaletteEntry) {
 			return new FbtExporter((FBTypePaletteEntry) entry);
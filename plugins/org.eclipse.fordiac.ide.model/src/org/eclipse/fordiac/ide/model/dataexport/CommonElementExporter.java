@@ -123,10 +123,6 @@ abstract class CommonElementExporter {
 		// reallocation
 		private ByteBuffer currentDataBuffer;
 
-		public ByteBufferOutputStream() {
-			addNewDataBuffer();
-		}
-
 		public List<ByteBuffer> transferDataBuffers() {
 			final List<ByteBuffer> tmp = dataBuffers;
 			dataBuffers = null;
@@ -140,7 +136,7 @@ abstract class CommonElementExporter {
 
 		@Override
 		public void write(final int arg0) throws IOException {
-			if (!currentDataBuffer.hasRemaining()) {
+			if ((null == currentDataBuffer) || !currentDataBuffer.hasRemaining()) {
 				addNewDataBuffer();
 			}
 			currentDataBuffer.put((byte) arg0);
@@ -148,7 +144,7 @@ abstract class CommonElementExporter {
 
 		@Override
 		public void write(final byte[] b, final int off, final int len) throws IOException {
-			if (currentDataBuffer.remaining() < len) {
+			if ((null == currentDataBuffer) || (currentDataBuffer.remaining() < len)) {
 				addNewDataBuffer();
 			}
 			currentDataBuffer.put(b, off, len);
@@ -159,13 +155,33 @@ abstract class CommonElementExporter {
 	public static final String LINE_END = "\n"; //$NON-NLS-1$
 	public static final String TAB = "\t"; //$NON-NLS-1$
 
+	/** looking up the factory is expensive and factories are not guaranteed to be thread-safe, so each thread (e.g.,
+	 * the workers of {@link AbstractTypeExporter#saveTypes}) uses its own */
+	private static final ThreadLocal<XMLOutputFactory> OUTPUT_FACTORY = ThreadLocal
+			.withInitial(XMLOutputFactory::newInstance);
+
 	private final XMLStreamWriter writer;
 	private ByteBufferOutputStream outputStream;
+	private final OutputStream stream;
 
 	private int tabCount = 0;
 
 	protected CommonElementExporter() {
-		writer = createEventWriter();
+		outputStream = new ByteBufferOutputStream();
+		stream = outputStream;
+		writer = createEventWriter(outputStream);
+	}
+
+	/**
+	 * Constructor for exporters writing directly to the given stream instead of
+	 * collecting the document in memory, the document has to be finished with
+	 * {@link #endDocument()}
+	 *
+	 * @param stream the stream the document is written to
+	 */
+	protected CommonElementExporter(final OutputStream stream) {
+		this.stream = stream;
+		writer = createEventWriter(stream);
 	}
 
 	/**
@@ -176,6 +192,7 @@ abstract class CommonElementExporter {
 	 */
 	protected CommonElementExporter(final CommonElementExporter parent) {
 		writer = parent.writer;
+		stream = parent.stream;
 		tabCount = parent.tabCount;
 	}
 
@@ -212,12 +229,10 @@ abstract class CommonElementExporter {
 		writer.writeEndElement();
 	}
 
-	private XMLStreamWriter createEventWriter() {
-		final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
-
-		outputStream = new ByteBufferOutputStream();
+	private static XMLStreamWriter createEventWriter(final OutputStream stream) {
+		final XMLOutputFactory outputFactory = OUTPUT_FACTORY.get();
 		try {
-			final XMLStreamWriter newWriter = outputFactory.createXMLStreamWriter(outputStream,
+			final XMLStreamWriter newWriter = outputFactory.createXMLStreamWriter(stream,
 					StandardCharsets.UTF_8.name());
 			newWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0"); //$NON-NLS-1$
 			return newWriter;
@@ -252,12 +267,17 @@ abstract class CommonElementExporter {
 		addNameAndCommentAttribute(namedElement);
 	}
 
-	protected void writeToFile(final IFile iFile) {
+	/**
+	 * Write the exported document to the given file.
+	 *
+	 * @param iFile the file to write, it is created if it does not exist
+	 * @return true if the file has been written, false if it could not be written
+	 */
+	protected boolean writeToFile(final IFile iFile) {
 		final long startTime = System.currentTimeMillis();
+		boolean written = false;
 		try {
-			writer.writeCharacters(LINE_END);
-			writer.writeEndDocument();
-			writer.close();
+			endDocument();
 			try (ByteBufferInputStream inputStream = new ByteBufferInputStream(outputStream.transferDataBuffers())) {
 				if (iFile.exists()) {
 					iFile.setContents(inputStream, IResource.KEEP_HISTORY | IResource.FORCE, null);
@@ -265,6 +285,7 @@ abstract class CommonElementExporter {
 					checkAndCreateFolderHierarchy(iFile);
 					iFile.create(inputStream, IResource.KEEP_HISTORY | IResource.FORCE, null);
 				}
+				written = true;
 			} finally {
 				outputStream.close();
 			}
@@ -273,7 +294,19 @@ abstract class CommonElementExporter {
 		}
 		final long endTime = System.currentTimeMillis();
 		Activator.getDefault().logInfo("Saving time for System: " + (endTime - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		return written;
+	}
 
+	/**
+	 * Finish the document and flush it to the underlying stream, the stream itself
+	 * is not closed
+	 *
+	 * @throws XMLStreamException
+	 */
+	protected void endDocument() throws XMLStreamException {
+		writer.writeCharacters(LINE_END);
+		writer.writeEndDocument();
+		writer.close();
 	}
 
 	/**
@@ -283,7 +316,7 @@ abstract class CommonElementExporter {
 	 * @param file for which the path should be checked
 	 * @throws CoreException
 	 */
-	private static void checkAndCreateFolderHierarchy(final IFile file) throws CoreException {
+	protected static void checkAndCreateFolderHierarchy(final IFile file) throws CoreException {
 		final IPath path = file.getProjectRelativePath().removeLastSegments(1);
 
 		if (!path.isEmpty()) {
@@ -394,12 +427,17 @@ abstract class CommonElementExporter {
 	 * @throws XMLStreamException
 	 */
 	protected void writeAttributeRaw(final String attributeName, final String attributeValue) throws XMLStreamException {
-		try (Writer osWriter = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+		// the raw attribute has to come after everything the writer has written so far
+		writer.flush();
+		// the stream must stay open for the rest of the document, so only flush the wrapping writer
+		final Writer osWriter = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+		try {
 			osWriter.write(" "); //$NON-NLS-1$
 			osWriter.write(attributeName);
 			osWriter.write("=\""); //$NON-NLS-1$
 			osWriter.write(attributeValue);
 			osWriter.write("\" "); //$NON-NLS-1$
+			osWriter.flush();
 		} catch (final IOException e) {
 			throw new XMLStreamException("Could not write raw attribute", e);
 		}
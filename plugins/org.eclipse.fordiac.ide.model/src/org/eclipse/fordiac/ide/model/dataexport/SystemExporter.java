@@ -17,12 +17,26 @@
  ********************************************************************************/
 package org.eclipse.fordiac.ide.model.dataexport;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
 import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.fordiac.ide.model.Activator;
@@ -39,7 +53,29 @@ import org.eclipse.fordiac.ide.model.libraryElement.Resource;
 import org.eclipse.fordiac.ide.model.libraryElement.Segment;
 import org.eclipse.fordiac.ide.model.libraryElement.SystemConfiguration;
 
+/**
+ * Exporter for system files.
+ *
+ * By default the system is streamed into a temporary file whose content is then
+ * set as the content of the target file, so that the document is never held in
+ * memory as a whole and a failing export does not leave a truncated system file
+ * behind. The target file is written through the workspace, which keeps its
+ * local history and notifies the resource listeners. If the written content
+ * equals the content of the existing file the target file is not touched at all. The in-memory export can be
+ * selected with the system property {@value #STREAMING_PROPERTY} or
+ * {@link #setStreamingEnabled(boolean)}.
+ */
 public class SystemExporter extends CommonElementExporter {
+
+	public static final String STREAMING_PROPERTY = "org.eclipse.fordiac.ide.model.streamingSystemExport"; //$NON-NLS-1$
+
+	private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+	private static final String TMP_FILE_ENDING = ".tmp"; //$NON-NLS-1$
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static volatile boolean streamingEnabled = Boolean
+			.parseBoolean(System.getProperty(STREAMING_PROPERTY, "true")); //$NON-NLS-1$
+
 	private final AutomationSystem system;
 
 	public SystemExporter(final AutomationSystem system) {
@@ -47,32 +83,141 @@ public class SystemExporter extends CommonElementExporter {
 		this.system = system;
 	}
 
-	public void saveSystem(final IFile targetFile) {
+	private SystemExporter(final AutomationSystem system, final OutputStream stream) {
+		super(stream);
+		this.system = system;
+	}
+
+	public static boolean isStreamingEnabled() {
+		return streamingEnabled;
+	}
+
+	public static void setStreamingEnabled(final boolean enabled) {
+		streamingEnabled = enabled;
+	}
+
+	/** The outcome of saving a system. */
+	public enum SaveResult {
+		/** the file has been written */
+		SAVED,
+		/** the file already had the content of the system and has not been touched */
+		UNCHANGED,
+		/** the system could not be saved */
+		FAILED;
+
+		/** @return true if the file holds the content of the system after the save */
+		public boolean isUpToDate() {
+			return FAILED != this;
+		}
+	}
+
+	/**
+	 * Save the system to the given file
+	 *
+	 * @param targetFile the file the system is saved to
+	 * @return whether the file has been written, left untouched as it was up to
+	 *         date, or could not be written
+	 */
+	public SaveResult saveSystem(final IFile targetFile) {
 		final long startTime = System.currentTimeMillis();
-		if (null != getWriter()) {
+		SaveResult result = SaveResult.FAILED;
+		final IPath location = targetFile.getLocation();
+		if (streamingEnabled && (null != location)) {
+			result = streamSystem(targetFile, location.toFile().toPath());
+		} else if (null != getWriter()) {
 			try {
-				createNamedElementEntry(system, LibraryElementTags.SYSTEM);
-				addIdentification(system);
-				addVersionInfo(system);
-				addApplications();
-
-				final SystemConfiguration systemConfiguration = system.getSystemConfiguration();
-				if (null != systemConfiguration) {
-					addDevices(systemConfiguration.getDevices());
-					addMapping();
-					addSegment(systemConfiguration.getSegments());
-					addLink(systemConfiguration.getLinks());
+				addSystem();
+				if (writeToFile(targetFile)) {
+					result = SaveResult.SAVED;
 				}
-
-				addEndElement();
 			} catch (final XMLStreamException e) {
 				Activator.getDefault().logError(e.getMessage(), e);
 			}
-			writeToFile(targetFile);
 		}
 		final long endTime = System.currentTimeMillis();
 		Activator.getDefault()
 				.logInfo("Overall saving time for System (" + system.getName() + "): " + (endTime - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return result;
+	}
+
+	private void addSystem() throws XMLStreamException {
+		createNamedElementEntry(system, LibraryElementTags.SYSTEM);
+		addIdentification(system);
+		addVersionInfo(system);
+		addApplications();
+
+		final SystemConfiguration systemConfiguration = system.getSystemConfiguration();
+		if (null != systemConfiguration) {
+			addDevices(systemConfiguration.getDevices());
+			addMapping();
+			addSegment(systemConfiguration.getSegments());
+			addLink(systemConfiguration.getLinks());
+		}
+
+		addEndElement();
+	}
+
+	/**
+	 * Write the system into a temporary file and set it as content of the target
+	 * file if the content differs. If the export fails the target file is left
+	 * untouched.
+	 *
+	 * @return the result of the save
+	 */
+	private SaveResult streamSystem(final IFile targetFile, final Path target) {
+		Path tmp = null;
+		try {
+			checkAndCreateFolderHierarchy(targetFile);
+			tmp = Files.createTempFile(target.getFileName().toString(), TMP_FILE_ENDING);
+			final MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+			try (OutputStream stream = new DigestOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmp), BUFFER_SIZE), digest)) {
+				final SystemExporter exporter = new SystemExporter(system, stream);
+				exporter.addSystem();
+				exporter.endDocument();
+			}
+			if (targetFile.exists() && isUnchanged(tmp, digest.digest(), target)) {
+				return SaveResult.UNCHANGED;
+			}
+			try (InputStream stream = new BufferedInputStream(Files.newInputStream(tmp), BUFFER_SIZE)) {
+				if (targetFile.exists()) {
+					targetFile.setContents(stream, IResource.KEEP_HISTORY | IResource.FORCE, null);
+				} else {
+					targetFile.create(stream, IResource.KEEP_HISTORY | IResource.FORCE, null);
+				}
+			}
+			return SaveResult.SAVED;
+		} catch (final CoreException | IOException | NoSuchAlgorithmException | XMLStreamException e) {
+			Activator.getDefault().logError("Could not save system " + system.getName(), e); //$NON-NLS-1$
+			return SaveResult.FAILED;
+		} finally {
+			deleteTmpFile(tmp);
+		}
+	}
+
+	private static boolean isUnchanged(final Path tmp, final byte[] hash, final Path target)
+			throws IOException, NoSuchAlgorithmException {
+		if (!Files.exists(target) || (Files.size(tmp) != Files.size(target))) {
+			return false;
+		}
+		try (InputStream stream = new DigestInputStream(Files.newInputStream(target),
+				MessageDigest.getInstance(HASH_ALGORITHM))) {
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			while (-1 != stream.read(buffer)) {
+				// only read the file for the digest
+			}
+			return MessageDigest.isEqual(hash, ((DigestInputStream) stream).getMessageDigest().digest());
+		}
+	}
+
+	private static void deleteTmpFile(final Path tmp) {
+		if (null != tmp) {
+			try {
+				Files.deleteIfExists(tmp);
+			} catch (final IOException e) {
+				Activator.getDefault().logWarning("Could not delete temporary file " + tmp, e); //$NON-NLS-1$
+			}
+		}
 	}
 
 	private void addApplications() throws XMLStreamException {
@@ -25,20 +25,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
-import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.Assert;
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.fordiac.ide.model.Activator;
@@ -139,7 +132,10 @@ public abstract class CommonElementImporter {
 	private final IFile file;
 	private final TypeLibrary typeLibrary;
 	private LibraryElement element;
+	private boolean loadingStopped = false;
 	protected final List<ErrorMarkerBuilder> errorMarkerAttributes;
+	/** loads the FB types used in the file in parallel, shared with the importers for the file's children */
+	private TypeResolutionPipeline typeResolution;
 
 	protected IFile getFile() {
 		return file;
@@ -160,6 +156,19 @@ public abstract class CommonElementImporter {
 		return null;
 	}
 
+	protected void setTypeResolution(final TypeResolutionPipeline typeResolution) {
+		this.typeResolution = typeResolution;
+	}
+
+	/** Wait for the FB type with the given name if it is being loaded in parallel to the import.
+	 *
+	 * @param typeName the name of the FB type */
+	protected void awaitType(final String typeName) {
+		if (null != typeResolution) {
+			typeResolution.awaitType(typeName);
+		}
+	}
+
 	protected DataTypeLibrary getDataTypeLibrary() {
 		return getTypeLibrary().getDataTypeLibrary();
 	}
@@ -185,6 +194,7 @@ public abstract class CommonElementImporter {
 		file = importer.file;
 		typeLibrary = importer.typeLibrary;
 		errorMarkerAttributes = importer.errorMarkerAttributes;
+		typeResolution = importer.typeResolution;
 	}
 
 	public void loadElement() {
@@ -202,6 +212,72 @@ public abstract class CommonElementImporter {
 		}
 	}
 
+	/** Stop loading after the currently processed child of the root element. The remaining children can be loaded
+	 * later with {@link #resumeLoading(String)}. */
+	protected void stopLoading() {
+		loadingStopped = true;
+	}
+
+	/** Resume the loading of an element which has been stopped with {@link #stopLoading()}. The file is read again
+	 * and loading continues with the first child of the root element named childElementName.
+	 *
+	 * @param childElementName the name of the root element child where to continue loading */
+	protected void resumeLoading(final String childElementName) {
+		loadingStopped = false;
+		errorMarkerAttributes.clear();
+		try (ImporterStreams streams = createInputStreams(getInputStream())) {
+			proceedToStartElementNamed(getStartElementName());
+			proceedToStartElementNamed(childElementName);
+			final IChildHandler childHandler = getBaseChildrenHandler();
+			if (!childHandler.checkChild(childElementName)) {
+				throw new XMLStreamException("Unexpected xml child (" + childElementName + ") found in " //$NON-NLS-1$ //$NON-NLS-2$
+						+ getStartElementName());
+			}
+			processChildren(getStartElementName(), childHandler);
+		} catch (final Exception e) {
+			Activator.getDefault().logWarning("Type Loading issue", e);//$NON-NLS-1$
+			createErrorMarker(e.getMessage());
+		} finally {
+			buildErrorMarker(file);
+		}
+	}
+
+	/** Load a single child of the root element which has been skipped before, e.g., for lazily loaded subtrees. The
+	 * file is read again, the children of the root element in front of the requested one are skipped without
+	 * building any model elements.
+	 *
+	 * @param childElementName the name of the root element child to load
+	 * @param index            the position of the child among the root element's children with this name
+	 * @param childHandler     the handler processing the child, it is called with the reader positioned at the
+	 *                         child's start element */
+	protected void loadChild(final String childElementName, final int index, final IChildHandler childHandler) {
+		loadingStopped = false;
+		errorMarkerAttributes.clear();
+		try (ImporterStreams streams = createInputStreams(getInputStream())) {
+			proceedToStartElementNamed(getStartElementName());
+			final int[] position = { 0 };
+			processChildren(getStartElementName(), name -> {
+				if (name.equals(childElementName) && (position[0]++ == index)) {
+					childHandler.checkChild(name);
+					stopLoading();
+				} else {
+					proceedToEndElementNamed(name);
+				}
+				return true;
+			});
+		} catch (final Exception e) {
+			Activator.getDefault().logWarning("Type Loading issue", e);//$NON-NLS-1$
+			createErrorMarker(e.getMessage());
+		} finally {
+			buildErrorMarker(file);
+		}
+	}
+
+	/** @return true if errors have been found while loading the element */
+	public boolean hasErrors() {
+		return !errorMarkerAttributes.isEmpty();
+	}
+
 	protected InputStream getInputStream() throws Exception {
 		return file.getContents();
 	}
@@ -215,15 +291,7 @@ public abstract class CommonElementImporter {
 	}
 
 	private void buildErrorMarker(final IFile file) {
-		final WorkspaceJob job = new WorkspaceJob("Add error marker to file: " + file.getName()) { //$NON-NLS-1$
-			@Override
-			public IStatus runInWorkspace(final IProgressMonitor monitor) {
-				errorMarkerAttributes.stream().forEach(a -> FordiacMarkerHelper.createMarkerInFile(a, file));
-				return Status.OK_STATUS;
-			}
-		};
-		job.setRule(file.getProject());
-		job.schedule();
+		ImportMarkerBatcher.INSTANCE.createMarkers(file, errorMarkerAttributes);
 	}
 
 	protected abstract LibraryElement createRootModelElement();
@@ -234,27 +302,12 @@ public abstract class CommonElementImporter {
 
 	protected void deleteMarkers() {
 		if (file.exists()) {
-			final WorkspaceJob job = new WorkspaceJob("Remove error markers from file: " + file.getName()) {
-				@Override
-				public IStatus runInWorkspace(final IProgressMonitor monitor) {
-					try {
-						file.deleteMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
-					} catch (final CoreException e) {
-						Activator.getDefault().logError("Could not delete error marker", e); //$NON-NLS-1$
-					}
-					return Status.OK_STATUS;
-				}
-			};
-			job.setRule(file.getProject());
-			job.schedule();
+			ImportMarkerBatcher.INSTANCE.deleteMarkers(file);
 		}
 	}
 
 	private ImporterStreams createInputStreams(final InputStream fileInputStream) throws XMLStreamException {
-		final XMLInputFactory factory = XMLInputFactory.newInstance();
-		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
-		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
-		reader = factory.createXMLStreamReader(fileInputStream);
+		reader = ImporterXMLReaderFactory.createReader(fileInputStream);
 		return new ImporterStreams(fileInputStream, reader);
 	}
 
@@ -306,6 +359,9 @@ public abstract class CommonElementImporter {
 					throw new XMLStreamException(
 							"Unexpected xml child (" + getReader().getLocalName() + ") found in " + elementName); //$NON-NLS-1$ //$NON-NLS-2$
 				}
+				if (loadingStopped) {
+					break;
+				}
 			} else if (XMLStreamConstants.END_ELEMENT == event) {
 				if (!getReader().getLocalName().equals(elementName)) {
 					throw new XMLStreamException(
@@ -492,7 +548,7 @@ public abstract class CommonElementImporter {
 	}
 
 	protected String getAttributeValue(final String attributeName) {
-		return getReader().getAttributeValue("", attributeName); //$NON-NLS-1$
+		return ImportStringPool.dedup(getReader().getAttributeValue("", attributeName)); //$NON-NLS-1$
 	}
 
 	protected CompilerInfo parseCompilerInfo() throws TypeImportException, XMLStreamException {
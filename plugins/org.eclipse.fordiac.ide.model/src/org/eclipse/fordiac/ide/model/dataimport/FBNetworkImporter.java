@@ -148,6 +148,7 @@ class FBNetworkImporter extends CommonElementImporter {
 
 	private FBNetworkElement createFBInstance(final String typeFbElement) {
 		FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		awaitType(typeFbElement);
 		final FBTypePaletteEntry entry = getTypeEntry(typeFbElement);
 
 		if (null != entry) {
@@ -30,6 +30,9 @@ import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.fordiac.ide.model.Activator;
 import org.eclipse.fordiac.ide.model.LibraryElementTags;
 import org.eclipse.fordiac.ide.model.Messages;
 import org.eclipse.fordiac.ide.model.Palette.AdapterTypePaletteEntry;
@@ -70,6 +73,7 @@ import org.eclipse.fordiac.ide.model.libraryElement.SubAppType;
 import org.eclipse.fordiac.ide.model.libraryElement.TextAlgorithm;
 import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
 import org.eclipse.fordiac.ide.model.libraryElement.With;
+import org.eclipse.fordiac.ide.model.libraryElement.impl.FBTypeImpl;
 import org.eclipse.fordiac.ide.model.typelibrary.EventTypeLibrary;
 
 /**
@@ -100,17 +104,51 @@ public class FBTImporter extends TypeImporter {
 
 	private final Map<Event, List<String>> withList = new HashMap<>();
 
+	/** If true only the type's interface is loaded, the body is loaded on first access. */
+	private final boolean interfaceOnly;
+
+	/** True if loading of the body has been deferred. */
+	private boolean bodyDeferred = false;
+
+	/** The type loaded interface only whose body is loaded by this importer, null for all other imports. */
+	private final FBType bodyOwner;
+
 	@Override
 	public FBType getElement() {
 		return (FBType) super.getElement();
 	}
 
 	public FBTImporter(final IFile typeFile) {
+		this(typeFile, false);
+	}
+
+	/** Create an importer for the given type file.
+	 *
+	 * @param typeFile      the type file to load
+	 * @param interfaceOnly if true loading stops after the interface list. ECC, algorithms, internal variables,
+	 *                      network and service sequences are loaded the first time they are accessed. */
+	public FBTImporter(final IFile typeFile, final boolean interfaceOnly) {
 		super(typeFile);
+		this.interfaceOnly = interfaceOnly;
+		bodyOwner = null;
+	}
+
+	/** Create an importer loading the body of a type which has been loaded interface only. A new importer is used
+	 * for every body load so that the type does not keep the state of its interface-only import alive.
+	 *
+	 * @param typeFile  the type file to load
+	 * @param bodyOwner the type whose body is loaded */
+	private FBTImporter(final IFile typeFile, final FBType bodyOwner) {
+		super(typeFile);
+		interfaceOnly = false;
+		this.bodyOwner = bodyOwner;
+		setElement(bodyOwner);
 	}
 
 	protected FBTImporter(final CommonElementImporter importer) {
 		super(importer);
+		interfaceOnly = false;
+		bodyOwner = null;
 	}
 
 	@Override
@@ -139,23 +177,37 @@ public class FBTImporter extends TypeImporter {
 				getElement().setCompilerInfo(parseCompilerInfo());
 				break;
 			case LibraryElementTags.INTERFACE_LIST_ELEMENT:
-				getElement().setInterfaceList(parseInterfaceList(LibraryElementTags.INTERFACE_LIST_ELEMENT));
+				final InterfaceList interfaceList = parseInterfaceList(LibraryElementTags.INTERFACE_LIST_ELEMENT);
+				if (null == bodyOwner) {
+					getElement().setInterfaceList(interfaceList);
+				} else {
+					// the body has to reference the interface elements of the already loaded type
+					indexInterfaceList(bodyOwner.getInterfaceList());
+				}
 				break;
 			case LibraryElementTags.BASIC_F_B_ELEMENT:
 				setElement(convertToBasicType(getElement()));
-				parseBasicFB((BasicFBType) getElement());
+				if (!deferBody()) {
+					parseBasicFB((BasicFBType) getElement());
+				}
 				break;
 			case LibraryElementTags.SIMPLE_F_B_ELEMENT:
 				setElement(convertToSimpleType(getElement()));
-				parseSimpleFB((SimpleFBType) getElement());
+				if (!deferBody()) {
+					parseSimpleFB((SimpleFBType) getElement());
+				}
 				break;
 			case LibraryElementTags.FBNETWORK_ELEMENT:
 				// parse the composite FBs as last
 				setElement(convertToCompositeType(getElement()));
-				parseFBNetwork((CompositeFBType) getElement());
+				if (!deferBody()) {
+					parseFBNetwork((CompositeFBType) getElement());
+				}
 				break;
 			case LibraryElementTags.SERVICE_ELEMENT:
-				parseService(getElement());
+				if (!deferBody()) {
+					parseService(getElement());
+				}
 				break;
 			default:
 				return false;
@@ -170,12 +222,72 @@ public class FBTImporter extends TypeImporter {
 
 		final FBType newType = getElement();
 
-		if ((newType instanceof BasicFBType) || (newType instanceof CompositeFBType)
+		if (!((newType instanceof BasicFBType) || (newType instanceof CompositeFBType)
 				|| (newType instanceof ServiceInterfaceFBType) || (newType instanceof SimpleFBType)
-				|| (newType instanceof SubAppType)) {
+				|| (newType instanceof SubAppType))) {
+			setElement(convertToServiceInterfaceType(newType));
+		}
+
+		if (bodyDeferred) {
+			setBodyLoader(getElement(), getFile());
+		}
+	}
+
+	/** Load the body of the given type from the type file the first time it is accessed. The body references the
+	 * interface elements of the type by name, therefore it is only read from the file if the file has not changed
+	 * since the interface was loaded. Otherwise the whole type is loaded again, see {@link #reloadType(FBType, IFile)}.
+	 *
+	 * @param type     a type whose interface has been loaded from the type file and which has no body yet
+	 * @param typeFile the type file */
+	public static void setBodyLoader(final FBType type, final IFile typeFile) {
+		if (type instanceof FBTypeImpl) {
+			final long stamp = typeFile.getModificationStamp();
+			((FBTypeImpl) type).setBodyLoader(() -> {
+				if (typeFile.getModificationStamp() == stamp) {
+					new FBTImporter(typeFile, type).resumeLoading(LibraryElementTags.INTERFACE_LIST_ELEMENT);
+				} else {
+					reloadType(type, typeFile);
+				}
+			});
+		}
+	}
+
+	/** Load the given type again from its changed type file and move interface, body and all other contents of the
+	 * newly loaded type to it. The interface loaded before is replaced, as the body of the changed file might not fit
+	 * it any more.
+	 *
+	 * @param type     the type whose body is loaded
+	 * @param typeFile the changed type file */
+	private static void reloadType(final FBType type, final IFile typeFile) {
+		final FBTImporter importer = new FBTImporter(typeFile);
+		importer.loadElement();
+		final FBType reloaded = importer.getElement();
+		if ((null == reloaded) || (reloaded.eClass() != type.eClass())) {
+			Activator.getDefault().logError("Could not load the body of " + type.getName() //$NON-NLS-1$
+					+ " as the kind of type has changed in " + typeFile.getFullPath()); //$NON-NLS-1$
 			return;
 		}
-		setElement(convertToServiceInterfaceType(newType));
+		for (final EStructuralFeature feature : type.eClass().getEAllStructuralFeatures()) {
+			if (feature.isChangeable() && !feature.isDerived() && !feature.isTransient()
+					&& (!(feature instanceof EReference) || ((EReference) feature).isContainment())) {
+				final Object value = reloaded.eGet(feature);
+				// the contents of the reloaded type are moved, they have to be copied out of their list first
+				type.eSet(feature, feature.isMany() ? new ArrayList<>((List<?>) value) : value);
+			}
+		}
+	}
+
+	/** Check if the loading of the body should be deferred. If so, loading is stopped and the body is loaded the first
+	 * time it is accessed.
+	 *
+	 * @return true if the body will be loaded later */
+	private boolean deferBody() {
+		if (interfaceOnly && !bodyDeferred) {
+			bodyDeferred = true;
+			stopLoading();
+			return true;
+		}
+		return false;
 	}
 
 	/**
@@ -344,6 +456,9 @@ public class FBTImporter extends TypeImporter {
 	 * @return - A FBType that is converted
 	 */
 	private static FBType convertToServiceInterfaceType(final FBType type) {
+		if (type instanceof ServiceInterfaceFBType) {
+			return type;
+		}
 		final ServiceInterfaceFBType serviceType = LibraryElementFactory.eINSTANCE.createServiceInterfaceFBType();
 		copyGeneralTypeInformation(serviceType, type);
 		return serviceType;
@@ -405,6 +520,9 @@ public class FBTImporter extends TypeImporter {
 	 * @return - A FBType that is converted
 	 */
 	private static FBType convertToCompositeType(final FBType type) {
+		if (type instanceof CompositeFBType) {
+			return type;
+		}
 		final CompositeFBType compositeType = LibraryElementFactory.eINSTANCE.createCompositeFBType();
 		copyGeneralTypeInformation(compositeType, type);
 		return compositeType;
@@ -765,6 +883,9 @@ public class FBTImporter extends TypeImporter {
 	 * @return the basicFBType
 	 */
 	private static FBType convertToBasicType(final FBType type) {
+		if (type instanceof BasicFBType) {
+			return type;
+		}
 		final BasicFBType basicType = LibraryElementFactory.eINSTANCE.createBasicFBType();
 		copyGeneralTypeInformation(basicType, type);
 		return basicType;
@@ -778,6 +899,9 @@ public class FBTImporter extends TypeImporter {
 	 * @return the simpleFBType
 	 */
 	private static FBType convertToSimpleType(final FBType type) {
+		if (type instanceof SimpleFBType) {
+			return type;
+		}
 		final SimpleFBType simpleType = LibraryElementFactory.eINSTANCE.createSimpleFBType();
 		copyGeneralTypeInformation(simpleType, type);
 		return simpleType;
@@ -868,23 +992,44 @@ public class FBTImporter extends TypeImporter {
 			if (LibraryElementTags.ADAPTER_DECLARATION_ELEMENT.equals(name)) {
 				final AdapterDeclaration a = parseAdapterDeclaration();
 				a.setIsInput(isInput);
-				adapters.put(a.getName(), a);
 				adpaterList.add(a);
-				if ((null != a.getType()) && (null != a.getType().getInterfaceList())) {
-					if (isInput) {
-						addAdapterEventInputs(a.getType().getInterfaceList().getEventOutputs(), a);
-						addAdapterEventOutputs(a.getType().getInterfaceList().getEventInputs(), a);
-					} else {
-						addAdapterEventInputs(a.getType().getInterfaceList().getEventInputs(), a);
-						addAdapterEventOutputs(a.getType().getInterfaceList().getEventOutputs(), a);
-					}
-				}
+				addAdapter(a, isInput);
 				return true;
 			}
 			return false;
 		});
 	}
 
+	private void addAdapter(final AdapterDeclaration a, final boolean isInput) {
+		adapters.put(a.getName(), a);
+		if ((null != a.getType()) && (null != a.getType().getInterfaceList())) {
+			if (isInput) {
+				addAdapterEventInputs(a.getType().getInterfaceList().getEventOutputs(), a);
+				addAdapterEventOutputs(a.getType().getInterfaceList().getEventInputs(), a);
+			} else {
+				addAdapterEventInputs(a.getType().getInterfaceList().getEventInputs(), a);
+				addAdapterEventOutputs(a.getType().getInterfaceList().getEventOutputs(), a);
+			}
+		}
+	}
+
+	/** Replace the interface elements collected while parsing the interface list with the ones of the given interface
+	 * list, e.g., the interface of a type whose body is loaded lazily. The adapter positions are kept.
+	 *
+	 * @param interfaceList the interface list to be referenced by the body */
+	private void indexInterfaceList(final InterfaceList interfaceList) {
+		variables.clear();
+		inputEvents.clear();
+		outputEvents.clear();
+		adapters.clear();
+		interfaceList.getEventInputs().forEach(e -> inputEvents.put(e.getName(), e));
+		interfaceList.getEventOutputs().forEach(e -> outputEvents.put(e.getName(), e));
+		interfaceList.getInputVars().forEach(v -> variables.put(v.getName(), v));
+		interfaceList.getOutputVars().forEach(v -> variables.put(v.getName(), v));
+		interfaceList.getSockets().forEach(a -> addAdapter(a, true));
+		interfaceList.getPlugs().forEach(a -> addAdapter(a, false));
+	}
+
 	private void addAdapterEventOutputs(final EList<Event> eventOutputs, final AdapterDeclaration a) {
 		for (final Event event : eventOutputs) {
 			final AdapterEvent ae = createAdapterEvent(event, a);
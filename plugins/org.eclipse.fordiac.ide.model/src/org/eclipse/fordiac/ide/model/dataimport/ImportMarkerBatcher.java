@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceRuleFactory;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
+import org.eclipse.fordiac.ide.model.Activator;
+import org.eclipse.fordiac.ide.model.helpers.FordiacMarkerHelper;
+
+/** Collects the error marker deletions and creations of the importers and applies them in batches.
+ *
+ * Loading a file removes the old problem markers of the file and adds markers for the errors found. Instead of
+ * scheduling two workspace jobs per loaded file, the marker updates are queued here in the order they were requested
+ * and a single job applies all updates queued so far in one workspace operation. The job is started with a short
+ * delay, so that the files loaded together (e.g., when opening a project) end up in the same batch. As the files of a
+ * batch are only known when the job runs, the job itself has no scheduling rule. The workspace operation applying the
+ * batch uses the combined marker rules of the batch's files, so that other workspace operations are only blocked
+ * where needed. */
+public enum ImportMarkerBatcher {
+	INSTANCE;
+
+	/** time to wait for further marker updates before the batch is applied */
+	private static final long BATCH_DELAY = 100;
+
+	/** a queued marker update and the file it changes */
+	private static final class MarkerUpdate {
+		private final IFile file;
+		private final Runnable update;
+
+		private MarkerUpdate(final IFile file, final Runnable update) {
+			this.file = file;
+			this.update = update;
+		}
+	}
+
+	private final List<MarkerUpdate> pendingUpdates = new ArrayList<>();
+	private final AtomicLong batchCount = new AtomicLong();
+	private final AtomicLong updateCount = new AtomicLong();
+
+	private final Job job = new Job("Update error markers of loaded files") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(final IProgressMonitor monitor) {
+			final List<MarkerUpdate> updates = takePendingUpdates();
+			if (!updates.isEmpty()) {
+				batchCount.incrementAndGet();
+				try {
+					final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+					workspace.run(progress -> updates.forEach(update -> update.update.run()),
+							getMarkerRule(workspace.getRuleFactory(), updates), IWorkspace.AVOID_UPDATE, monitor);
+				} catch (final CoreException e) {
+					Activator.getDefault().logError("Could not update error markers", e); //$NON-NLS-1$
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	ImportMarkerBatcher() {
+		job.setSystem(true);
+	}
+
+	/** Queue the removal of all problem markers of the given file.
+	 *
+	 * @param file the file whose markers should be removed */
+	public void deleteMarkers(final IFile file) {
+		addUpdate(file, () -> {
+			if (file.exists()) {
+				try {
+					file.deleteMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+				} catch (final CoreException e) {
+					Activator.getDefault().logError("Could not delete error marker", e); //$NON-NLS-1$
+				}
+			}
+		});
+	}
+
+	/** Queue the creation of error markers in the given file.
+	 *
+	 * @param file         the file to add the markers to
+	 * @param errorMarkers the markers to create, nothing is queued if empty */
+	public void createMarkers(final IFile file, final List<ErrorMarkerBuilder> errorMarkers) {
+		if (!errorMarkers.isEmpty()) {
+			final List<ErrorMarkerBuilder> markers = new ArrayList<>(errorMarkers);
+			addUpdate(file, () -> {
+				if (file.exists()) {
+					markers.forEach(marker -> FordiacMarkerHelper.createMarkerInFile(marker, file));
+				}
+			});
+		}
+	}
+
+	/** Wait until all marker updates queued so far have been applied, e.g., for tests.
+	 *
+	 * @throws InterruptedException if interrupted while waiting */
+	public void join() throws InterruptedException {
+		do {
+			job.wakeUp();
+			job.join();
+		} while (hasPendingUpdates());
+	}
+
+	/** @return the number of batches (i.e., workspace jobs) applied so far */
+	public long getBatchCount() {
+		return batchCount.get();
+	}
+
+	/** @return the number of marker updates queued so far, each of them needed its own job before */
+	public long getUpdateCount() {
+		return updateCount.get();
+	}
+
+	private void addUpdate(final IFile file, final Runnable update) {
+		updateCount.incrementAndGet();
+		synchronized (pendingUpdates) {
+			pendingUpdates.add(new MarkerUpdate(file, update));
+		}
+		// a waiting job will take the update with it, a running job is run once more after it has finished
+		final int state = job.getState();
+		if ((Job.SLEEPING != state) && (Job.WAITING != state)) {
+			job.schedule(BATCH_DELAY);
+		}
+	}
+
+	private boolean hasPendingUpdates() {
+		synchronized (pendingUpdates) {
+			return !pendingUpdates.isEmpty();
+		}
+	}
+
+	private List<MarkerUpdate> takePendingUpdates() {
+		synchronized (pendingUpdates) {
+			final List<MarkerUpdate> updates = new ArrayList<>(pendingUpdates);
+			pendingUpdates.clear();
+			return updates;
+		}
+	}
+
+	private static ISchedulingRule getMarkerRule(final IResourceRuleFactory ruleFactory,
+			final List<MarkerUpdate> updates) {
+		final ISchedulingRule[] rules = updates.stream().map(update -> update.file).distinct()
+				.map(ruleFactory::markerRule).filter(Objects::nonNull).toArray(ISchedulingRule[]::new);
+		// the default rule factory needs no rule for markers
+		return (0 == rules.length) ? null : MultiRule.combine(rules);
+	}
+
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+/** Deduplicates the short attribute values read by the importers.
+ *
+ * Identifiers like type names, data type names and pin names are repeated many times within a system and across type
+ * files, but the XML reader creates a new string for each occurrence. The pool is a fixed size, lossy hash table: a
+ * value replaces the value stored in its slot if they differ. It therefore never grows, needs no locking and only
+ * keeps the recently read identifiers. Races between threads only lead to a missed deduplication, as strings are
+ * immutable. */
+public final class ImportStringPool {
+
+	private static final int POOL_SIZE = 1 << 14;
+	/** longer values like comments or algorithm texts are rarely repeated */
+	private static final int MAX_LENGTH = 64;
+
+	private static final String[] pool = new String[POOL_SIZE];
+
+	/** @param value the value read from the file
+	 * @return an equal string already in use or the given value */
+	public static String dedup(final String value) {
+		if ((null == value) || (value.length() > MAX_LENGTH)) {
+			return value;
+		}
+		final int index = value.hashCode() & (POOL_SIZE - 1);
+		final String pooled = pool[index];
+		if (value.equals(pooled)) {
+			return pooled;
+		}
+		pool[index] = value;
+		return value;
+	}
+
+	private ImportStringPool() {
+		throw new UnsupportedOperationException("ImportStringPool should not be instantiated"); //$NON-NLS-1$
+	}
+
+}
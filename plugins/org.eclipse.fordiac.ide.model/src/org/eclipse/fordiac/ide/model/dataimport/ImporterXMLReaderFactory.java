@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.InputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/** Creates the XML stream readers for the importers.
+ *
+ * Looking up and configuring an XMLInputFactory is expensive, so each thread configures its own factory once and
+ * reuses it for all files it loads. Factories are not guaranteed to be thread-safe, therefore they are not shared
+ * between threads (e.g., the threads of a parallel type library scan). */
+public final class ImporterXMLReaderFactory {
+
+	private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal
+			.withInitial(ImporterXMLReaderFactory::createFactory);
+
+	public static XMLStreamReader createReader(final InputStream inputStream) throws XMLStreamException {
+		return FACTORY.get().createXMLStreamReader(inputStream);
+	}
+
+	private static XMLInputFactory createFactory() {
+		final XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		return factory;
+	}
+
+	private ImporterXMLReaderFactory() {
+		throw new UnsupportedOperationException("ImporterXMLReaderFactory should not be instantiated"); //$NON-NLS-1$
+	}
+
+}
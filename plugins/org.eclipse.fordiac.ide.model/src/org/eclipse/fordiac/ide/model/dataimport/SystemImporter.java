@@ -18,8 +18,14 @@
 package org.eclipse.fordiac.ide.model.dataimport;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -28,7 +34,6 @@ import org.eclipse.fordiac.ide.model.CoordinateConverter;
 import org.eclipse.fordiac.ide.model.LibraryElementTags;
 import org.eclipse.fordiac.ide.model.Palette.DeviceTypePaletteEntry;
 import org.eclipse.fordiac.ide.model.dataimport.exceptions.TypeImportException;
-import org.eclipse.fordiac.ide.model.helpers.FBNetworkHelper;
 import org.eclipse.fordiac.ide.model.libraryElement.Application;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
 import org.eclipse.fordiac.ide.model.libraryElement.Color;
@@ -45,13 +50,66 @@ import org.eclipse.fordiac.ide.model.libraryElement.Segment;
 import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
 import org.eclipse.fordiac.ide.model.libraryElement.SystemConfiguration;
 import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.eclipse.fordiac.ide.model.libraryElement.impl.ApplicationImpl;
+import org.eclipse.fordiac.ide.model.libraryElement.impl.AutomationSystemImpl;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
 import org.eclipse.gef.commands.CommandStack;
 
 public class SystemImporter extends CommonElementImporter {
 
+	public static final String LAZY_APPLICATIONS_PROPERTY = "org.eclipse.fordiac.ide.model.lazyApplications"; //$NON-NLS-1$
+
+	/** the mapping targets by their dotted names (e.g., App.SubApp.FB or Device.Resource.FB), built with the first
+	 * mapping */
+	private Map<String, FBNetworkElement> mappingTargets;
+
+	/** If true the networks and attributes of the applications are loaded the first time they are accessed. */
+	private final boolean lazyApplications;
+
+	/** the number of applications found so far, used to find the application elements again when loading lazily */
+	private int applicationCount = 0;
+
+	/** the from and to names of the mappings of not yet loaded applications, the keys stay valid when an application
+	 * is renamed before it is loaded */
+	private final Map<Application, List<String[]>> pendingMappings = new LinkedHashMap<>();
+
+	/** true while the content of a lazily loaded application is loaded */
+	private boolean loadingApplication = false;
+
+	/** the number of times the networks of the system have been walked to resolve mapping names */
+	private int mappingNetworkWalks = 0;
+
+	/** Create an importer for a system file. The applications are loaded lazily unless this is switched off with the
+	 * system property {@value #LAZY_APPLICATIONS_PROPERTY}.
+	 *
+	 * @param systemfile the system file to load */
 	public SystemImporter(final IFile systemfile) {
+		this(systemfile, Boolean.parseBoolean(System.getProperty(LAZY_APPLICATIONS_PROPERTY, "true"))); //$NON-NLS-1$
+	}
+
+	/** Create an importer for a system file.
+	 *
+	 * @param systemfile       the system file to load
+	 * @param lazyApplications if true only the names and comments of the applications are loaded. The network and
+	 *                         attributes of an application are loaded the first time they are accessed. Mappings
+	 *                         from such applications are resolved when the application is loaded or when the
+	 *                         mappings or the devices of the system are accessed. */
+	public SystemImporter(final IFile systemfile, final boolean lazyApplications) {
 		super(systemfile);
+		this.lazyApplications = lazyApplications;
+	}
+
+	@Override
+	public void loadElement() {
+		// the types of the FB instances are loaded in parallel while the system is parsed
+		try (TypeResolutionPipeline pipeline = TypeResolutionPipeline.start(getFile(), getPalette(),
+				lazyApplications ? Set.of(LibraryElementTags.APPLICATION_ELEMENT) : Set.of())) {
+			setTypeResolution(pipeline);
+			super.loadElement();
+		} finally {
+			setTypeResolution(null);
+		}
+		updateMappingLoader();
 	}
 
 	@Override
@@ -201,19 +259,111 @@ public class SystemImporter extends CommonElementImporter {
 	private void parseMapping() throws XMLStreamException {
 		final String fromValue = getAttributeValue(LibraryElementTags.MAPPING_FROM_ATTRIBUTE);
 		final String toValue = getAttributeValue(LibraryElementTags.MAPPING_TO_ATTRIBUTE);
+		final Application application = getUnloadedApplication(fromValue);
+		if (null != application) {
+			pendingMappings.computeIfAbsent(application, app -> new ArrayList<>())
+			.add(new String[] { fromValue, toValue });
+		} else {
+			addMapping(fromValue, toValue);
+		}
+		// TODO perform some notificatin to the user that the mapping has an issue
+		proceedToEndElementNamed(LibraryElementTags.MAPPING_ELEMENT);
+	}
+
+	private void addMapping(final String fromValue, final String toValue) {
 		final FBNetworkElement fromElement = findMappingTargetFromName(fromValue);
 		final FBNetworkElement toElement = findMappingTargetFromName(toValue);
 
-		if (fromElement instanceof SubApp) {
-			FBNetworkHelper.loadSubappNetwork(fromElement);
+		// the networks of typed subapps are not copied here, they share their type's network until they are needed
+		if (null != fromElement && null != toElement) {
+			getElement().getMapping().add(createMappingEntry(toElement, fromElement));
 		}
+	}
 
+	/** add a mapping whose source has been found to belong to the given application while parsing the mapping */
+	private void addApplicationMapping(final Application application, final String fromValue, final String toValue) {
+		final FBNetworkElement fromElement = findMappingSourceInApplication(application, fromValue);
+		final FBNetworkElement toElement = findMappingTargetFromName(toValue);
 		if (null != fromElement && null != toElement) {
 			getElement().getMapping().add(createMappingEntry(toElement, fromElement));
 		}
+	}
 
-		// TODO perform some notificatin to the user that the mapping has an issue
-		proceedToEndElementNamed(LibraryElementTags.MAPPING_ELEMENT);
+	/** @return the element of the application's network named by the mapping source without its application name */
+	private static FBNetworkElement findMappingSourceInApplication(final Application application,
+			final String fromValue) {
+		final int start = fromValue.indexOf('.');
+		if (-1 == start) {
+			return null;
+		}
+		final Deque<String> parts = new ArrayDeque<>(Arrays.asList(fromValue.substring(start + 1).split("\\."))); //$NON-NLS-1$
+		return findMappingTargetInFBNetwork(getLoadedNetwork(application), parts);
+	}
+
+	/** @return the lazily loaded application the given mapping source belongs to if it has not been loaded yet */
+	private Application getUnloadedApplication(final String fromValue) {
+		if (lazyApplications && (null != fromValue)) {
+			final int end = fromValue.indexOf('.');
+			final Application application = getElement()
+					.getApplicationNamed((-1 != end) ? fromValue.substring(0, end) : fromValue);
+			if ((application instanceof ApplicationImpl) && !((ApplicationImpl) application).isContentLoaded()) {
+				return application;
+			}
+		}
+		return null;
+	}
+
+	private void updateMappingLoader() {
+		if (getElement() instanceof AutomationSystemImpl) {
+			((AutomationSystemImpl) getElement())
+			.setMappingLoader(pendingMappings.isEmpty() ? null : this::loadMappedApplications);
+		}
+	}
+
+	/** load all applications with unresolved mappings, this resolves the mappings */
+	private synchronized void loadMappedApplications() {
+		if (!loadingApplication) {
+			new ArrayList<>(pendingMappings.keySet()).forEach(application -> {
+				if (getElement().getApplication().contains(application)) {
+					application.getFBNetwork();
+				} else {
+					pendingMappings.remove(application);
+				}
+			});
+			updateMappingLoader();
+		}
+	}
+
+	/** The content loader of a lazily loaded application. The importer is the only lock taken for lazy loading, so
+	 * that loading an application and resolving the mappings of the system can not deadlock each other. */
+	private synchronized void loadApplication(final ApplicationImpl application, final int index) {
+		if (loadingApplication) {
+			// accessed while an application is loaded, e.g., when its mappings are added
+			return;
+		}
+		application.fillContent(() -> {
+			loadingApplication = true;
+			try {
+				loadChild(LibraryElementTags.APPLICATION_ELEMENT, index, name -> {
+					parseApplicationContent(application);
+					return true;
+				});
+				// the elements of the application are not in the index of mapping targets yet
+				mappingTargets = null;
+				final List<String[]> mappings = pendingMappings.remove(application);
+				if (null != mappings) {
+					mappings.forEach(mapping -> addApplicationMapping(application, mapping[0], mapping[1]));
+				}
+			} finally {
+				loadingApplication = false;
+			}
+		});
+		updateMappingLoader();
+	}
+
+	/** @return the number of index builds and searches needed to resolve the mapping names so far */
+	int getMappingNetworkWalks() {
+		return mappingNetworkWalks;
 	}
 
 	private static Mapping createMappingEntry(final FBNetworkElement toElement, final FBNetworkElement fromElement) {
@@ -226,30 +376,77 @@ public class SystemImporter extends CommonElementImporter {
 	}
 
 	private FBNetworkElement findMappingTargetFromName(final String targetName) {
-		FBNetworkElement element = null;
-		if (null != targetName) {
-			Deque<String> parts = new ArrayDeque<>(Arrays.asList(targetName.split("\\."))); ////$NON-NLS-1$
-			if (parts.size() >= 2) {
-				FBNetwork nw = null;
-				// first find out if the mapping points to a device/resource or application and
-				// get the appropriate starting fbnetwork
-				final Device dev = getElement().getDeviceNamed(parts.getFirst());
-				final Application application = getElement().getApplicationNamed(parts.getFirst());
-				if (null != dev) {
-					parts.pollFirst();
-					final Resource res = dev.getResourceNamed(parts.pollFirst());
-					if (null != res) {
-						nw = res.getFBNetwork();
-						element = findMappingTargetInFBNetwork(nw, parts);
-					}
+		if (null == targetName) {
+			return null;
+		}
+		if (null == mappingTargets) {
+			mappingTargets = createMappingTargetIndex();
+		}
+		final FBNetworkElement element = mappingTargets.get(targetName);
+		// elements added after the index has been built are searched for in the networks
+		return (null != element) ? element : searchMappingTargetFromName(targetName);
+	}
+
+	private Map<String, FBNetworkElement> createMappingTargetIndex() {
+		mappingNetworkWalks++;
+		final Map<String, FBNetworkElement> targets = new HashMap<>();
+		// mapping targets in resources take precedence over elements of equally named applications
+		for (final Device device : getElement().getSystemConfiguration().getDevices()) {
+			for (final Resource res : device.getResource()) {
+				addMappingTargets(targets, device.getName() + '.' + res.getName(), res.getFBNetwork());
+			}
+		}
+		for (final Application application : getElement().getApplication()) {
+			addMappingTargets(targets, application.getName(), getLoadedNetwork(application));
+		}
+		return targets;
+	}
+
+	/** @return the network of the application without triggering the loading of lazily loaded applications */
+	private static FBNetwork getLoadedNetwork(final Application application) {
+		if (application instanceof ApplicationImpl) {
+			return ((ApplicationImpl) application).basicGetFBNetwork();
+		}
+		return application.getFBNetwork();
+	}
+
+	private static void addMappingTargets(final Map<String, FBNetworkElement> targets, final String prefix,
+			final FBNetwork nw) {
+		if (null != nw) {
+			for (final FBNetworkElement element : nw.getNetworkElements()) {
+				final String name = prefix + '.' + element.getName();
+				targets.putIfAbsent(name, element);
+				if (element instanceof SubApp) {
+					addMappingTargets(targets, name, ((SubApp) element).getSubAppNetwork());
 				}
-				if (null == element && null != application) {
-					parts = new ArrayDeque<>(Arrays.asList(targetName.split("\\."))); //$NON-NLS-1$
-					parts.pollFirst();
-					nw = application.getFBNetwork();
+			}
+		}
+	}
+
+	private FBNetworkElement searchMappingTargetFromName(final String targetName) {
+		mappingNetworkWalks++;
+		FBNetworkElement element = null;
+		Deque<String> parts = new ArrayDeque<>(Arrays.asList(targetName.split("\\."))); ////$NON-NLS-1$
+		if (parts.size() >= 2) {
+			FBNetwork nw = null;
+			// first find out if the mapping points to a device/resource or application and
+			// get the appropriate starting fbnetwork
+			final Device dev = getElement().getDeviceNamed(parts.getFirst());
+			final Application application = getElement().getApplicationNamed(parts.getFirst());
+			if (null != dev) {
+				parts.pollFirst();
+				final Resource res = dev.getResourceNamed(parts.pollFirst());
+				if (null != res) {
+					nw = res.getFBNetwork();
 					element = findMappingTargetInFBNetwork(nw, parts);
 				}
 			}
+			if (null == element && null != application) {
+				parts = new ArrayDeque<>(Arrays.asList(targetName.split("\\."))); //$NON-NLS-1$
+				parts.pollFirst();
+				nw = getLoadedNetwork(application);
+				element = findMappingTargetInFBNetwork(nw, parts);
+			}
 		}
 		return element;
 	}
@@ -263,7 +460,7 @@ public class SystemImporter extends CommonElementImporter {
 					return element;
 				} else if (element instanceof SubApp) {
 					// as there are more elements the current should be a subapp
-					findMappingTargetInFBNetwork(((SubApp) element).getFbNetwork(), parts);
+					return findMappingTargetInFBNetwork(((SubApp) element).getSubAppNetwork(), parts);
 				}
 			}
 		}
@@ -330,7 +527,19 @@ public class SystemImporter extends CommonElementImporter {
 	private Application parseApplication() throws TypeImportException, XMLStreamException {
 		final Application application = LibraryElementFactory.eINSTANCE.createApplication();
 		readNameCommentAttributes(application);
+		final int index = applicationCount++;
+		if (lazyApplications && (application instanceof ApplicationImpl)) {
+			final ApplicationImpl lazyApplication = (ApplicationImpl) application;
+			lazyApplication.setContentLoader(() -> loadApplication(lazyApplication, index));
+			proceedToEndElementNamed(LibraryElementTags.APPLICATION_ELEMENT);
+		} else {
+			parseApplicationContent(application);
+		}
+		return application;
+	}
 
+	private void parseApplicationContent(final Application application)
+			throws TypeImportException, XMLStreamException {
 		processChildren(LibraryElementTags.APPLICATION_ELEMENT, name -> {
 			switch (name) {
 			case LibraryElementTags.ATTRIBUTE_ELEMENT:
@@ -347,8 +556,6 @@ public class SystemImporter extends CommonElementImporter {
 			}
 			return true;
 		});
-
-		return application;
 	}
 
 
@@ -0,0 +1,623 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.PalettePackage;
+import org.eclipse.fordiac.ide.model.data.DataType;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
+import org.eclipse.fordiac.ide.model.typelibrary.EventTypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+
+/** A compact binary encoding of an automation system.
+ *
+ * The containment tree of the system is written in pre-order. Each object is stored with its class and the values of
+ * its set attributes and containments, followed by a section with all references between the objects. References
+ * leaving the system are stored symbolically, i.e., as the palette entry file of a type (plus the path of the
+ * referenced element within the type) or as the name of an event or data type, and are resolved against the type
+ * library of the system's project when the snapshot is read. All class, feature and string values are written once
+ * and referred to by their index afterwards.
+ *
+ * As the instances in the system carry copies of their types' interfaces, the header of the snapshot lists the files
+ * of all referenced types with their time stamps. A snapshot is only valid as long as none of these files changed.
+ *
+ * Systems with references which can not be stored symbolically (e.g., to error marker types) are rejected with an
+ * {@link UnsupportedContentException}, they have to be loaded from their XML file. */
+final class SystemSnapshot {
+
+	private static final String FORMAT_HEADER = "4diac-system-snapshot"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 2;
+
+	private static final int END = -1;
+	private static final int NEW_ENTRY = -1;
+	private static final int NULL_STRING = -2;
+
+	private static final byte STRING_VALUE = 0;
+	private static final byte INT_VALUE = 1;
+	private static final byte LONG_VALUE = 2;
+	private static final byte BOOLEAN_VALUE = 3;
+	private static final byte CONVERTED_VALUE = 4;
+
+	private static final byte INTERNAL_TARGET = 0;
+	private static final byte PALETTE_TARGET = 1;
+	private static final byte PALETTE_ENTRY_TARGET = 2;
+	private static final byte TYPE_ELEMENT_TARGET = 3;
+	private static final byte EVENT_TYPE_TARGET = 4;
+	private static final byte DATA_TYPE_TARGET = 5;
+
+	/** Thrown if a system contains references which can not be stored in a snapshot. */
+	static final class UnsupportedContentException extends IOException {
+		private static final long serialVersionUID = 1L;
+
+		UnsupportedContentException(final String message) {
+			super(message);
+		}
+	}
+
+	/** A system encoded in memory together with the time stamps of its type files, which can be written as snapshot
+	 * later on, e.g., by a background job, while the system is edited again. */
+	static final class Serialized {
+		private final byte[] body;
+		private final Map<String, Long> typeStamps;
+
+		private Serialized(final byte[] body, final Map<String, Long> typeStamps) {
+			this.body = body;
+			this.typeStamps = typeStamps;
+		}
+
+		/** Write the snapshot.
+		 *
+		 * @param contentHash the hash of the system file the snapshot is valid for
+		 * @param stream      the stream to write to, it is not closed
+		 * @throws IOException if the stream can not be written */
+		void write(final String contentHash, final OutputStream stream) throws IOException {
+			final DataOutputStream out = new DataOutputStream(stream);
+			out.writeUTF(FORMAT_HEADER);
+			out.writeInt(FORMAT_VERSION);
+			out.writeUTF(contentHash);
+			out.writeInt(typeStamps.size());
+			for (final Map.Entry<String, Long> typeStamp : typeStamps.entrySet()) {
+				out.writeUTF(typeStamp.getKey());
+				out.writeLong(typeStamp.getValue().longValue());
+			}
+			out.write(body);
+			out.flush();
+		}
+	}
+
+	/** Encode the given system in memory. The system is not accessed any more afterwards.
+	 *
+	 * @param system the system to store
+	 * @return the encoded system
+	 * @throws IOException if the system can not be stored in a snapshot */
+	static Serialized serialize(final AutomationSystem system) throws IOException {
+		return new Writer(system).serialize();
+	}
+
+	/** Write a snapshot of the given system.
+	 *
+	 * @param system      the system to store
+	 * @param contentHash the hash of the system file the snapshot is valid for
+	 * @param stream      the stream to write to, it is not closed
+	 * @throws IOException if the stream can not be written or the system can not be stored in a snapshot */
+	static void write(final AutomationSystem system, final String contentHash, final OutputStream stream)
+			throws IOException {
+		serialize(system).write(contentHash, stream);
+	}
+
+	/** Read the content hash of the system file a snapshot has been written for.
+	 *
+	 * @param stream the snapshot, the stream is positioned after the header afterwards
+	 * @return the hash stored in the snapshot
+	 * @throws IOException if the stream is no snapshot or written by an incompatible version */
+	static String readContentHash(final InputStream stream) throws IOException {
+		final DataInputStream in = new DataInputStream(stream);
+		if (!FORMAT_HEADER.equals(in.readUTF()) || (FORMAT_VERSION != in.readInt())) {
+			throw new IOException("Unknown system snapshot format"); //$NON-NLS-1$
+		}
+		return in.readUTF();
+	}
+
+	/** Check the type files a snapshot depends on, after its content hash has been read with
+	 * {@link #readContentHash(InputStream)}.
+	 *
+	 * @param stream the snapshot, the stream is positioned after the header afterwards if all types are unchanged
+	 * @return true if all type files referenced by the snapshot still exist with the time stamps they had when the
+	 *         snapshot was written
+	 * @throws IOException if the stream can not be read */
+	static boolean readTypesUnchanged(final InputStream stream) throws IOException {
+		final DataInputStream in = new DataInputStream(stream);
+		final int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			final IFile typeFile = ResourcesPlugin.getWorkspace().getRoot()
+					.getFile(Path.fromPortableString(in.readUTF()));
+			final long stamp = in.readLong();
+			if (!typeFile.exists() || (typeFile.getLocalTimeStamp() != stamp)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** Read a system from a snapshot whose header has already been read with {@link #readContentHash(InputStream)}
+	 * and {@link #readTypesUnchanged(InputStream)}.
+	 *
+	 * @param systemFile the file of the system, its project's type library is used to resolve the types
+	 * @param stream     the snapshot positioned after the header
+	 * @return the system without its file, command stack and palette entry
+	 * @throws IOException if the snapshot is corrupt or refers to types which no longer exist */
+	static AutomationSystem read(final IFile systemFile, final InputStream stream) throws IOException {
+		final EObject root = new Reader(TypeLibrary.getTypeLibrary(systemFile.getProject()), new DataInputStream(stream))
+				.read();
+		if (!(root instanceof AutomationSystem)) {
+			throw new IOException("System snapshot does not contain a system"); //$NON-NLS-1$
+		}
+		return (AutomationSystem) root;
+	}
+
+	/** features which are set up by the code loading a system and not stored in the snapshot */
+	private static boolean isStoredAttribute(final EAttribute attribute) {
+		return !attribute.isTransient() && !attribute.isDerived();
+	}
+
+	private static boolean isStoredReference(final EReference reference) {
+		if (reference.isDerived() || reference.isContainer()
+				|| (LibraryElementPackage.Literals.LIBRARY_ELEMENT__PALETTE_ENTRY == reference)) {
+			return false;
+		}
+		final EReference opposite = reference.getEOpposite();
+		if ((null == opposite) || reference.isContainment()) {
+			return true;
+		}
+		// of a bidirectional reference only one end is stored, setting it updates the other end
+		if (reference.isMany() != opposite.isMany()) {
+			return !reference.isMany();
+		}
+		return reference.getName().compareTo(opposite.getName()) <= 0;
+	}
+
+	private static final class Writer {
+		private final AutomationSystem system;
+		private final TypeLibrary typeLib;
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		private final DataOutputStream out = new DataOutputStream(body);
+		private final Set<IFile> typeFiles = new LinkedHashSet<>();
+		private final Map<String, Integer> strings = new HashMap<>();
+		private final Map<EClass, Integer> classes = new HashMap<>();
+		private final Map<EObject, Integer> objectIds = new HashMap<>();
+		private final List<EObject> objects = new ArrayList<>();
+
+		Writer(final AutomationSystem system) {
+			this.system = system;
+			this.typeLib = TypeLibrary.getTypeLibrary(system.getSystemFile().getProject());
+		}
+
+		/** the header can only be written after the body, which collects the referenced type files */
+		Serialized serialize() throws IOException {
+			writeObject(system);
+			for (int i = 0; i < objects.size(); i++) {
+				writeReferences(i, objects.get(i));
+			}
+			out.writeInt(END);
+			out.flush();
+
+			final Map<String, Long> typeStamps = new LinkedHashMap<>();
+			for (final IFile typeFile : typeFiles) {
+				typeStamps.put(typeFile.getFullPath().toPortableString(), Long.valueOf(typeFile.getLocalTimeStamp()));
+			}
+			return new Serialized(body.toByteArray(), typeStamps);
+		}
+
+		private void writeObject(final EObject object) throws IOException {
+			writeClass(object.eClass());
+			objectIds.put(object, Integer.valueOf(objects.size()));
+			objects.add(object);
+			for (final EAttribute attribute : object.eClass().getEAllAttributes()) {
+				if (isStoredAttribute(attribute) && object.eIsSet(attribute)) {
+					writeString(attribute.getName());
+					writeAttribute(object, attribute);
+				}
+			}
+			for (final EReference containment : object.eClass().getEAllContainments()) {
+				if (isStoredReference(containment) && object.eIsSet(containment)) {
+					writeString(containment.getName());
+					if (containment.isMany()) {
+						final List<?> children = (List<?>) object.eGet(containment);
+						out.writeInt(children.size());
+						for (final Object child : children) {
+							writeObject((EObject) child);
+						}
+					} else {
+						writeObject((EObject) object.eGet(containment));
+					}
+				}
+			}
+			writeString(null);
+		}
+
+		private void writeAttribute(final EObject object, final EAttribute attribute) throws IOException {
+			if (attribute.isMany()) {
+				final List<?> values = (List<?>) object.eGet(attribute);
+				out.writeInt(values.size());
+				for (final Object value : values) {
+					writeValue(attribute, value);
+				}
+			} else {
+				writeValue(attribute, object.eGet(attribute));
+			}
+		}
+
+		private void writeValue(final EAttribute attribute, final Object value) throws IOException {
+			if ((null == value) || (value instanceof String)) {
+				out.writeByte(STRING_VALUE);
+				writeString((String) value);
+			} else if (value instanceof Integer) {
+				out.writeByte(INT_VALUE);
+				out.writeInt(((Integer) value).intValue());
+			} else if (value instanceof Long) {
+				out.writeByte(LONG_VALUE);
+				out.writeLong(((Long) value).longValue());
+			} else if (value instanceof Boolean) {
+				out.writeByte(BOOLEAN_VALUE);
+				out.writeBoolean(((Boolean) value).booleanValue());
+			} else {
+				out.writeByte(CONVERTED_VALUE);
+				writeString(EcoreUtil.convertToString(attribute.getEAttributeType(), value));
+			}
+		}
+
+		private void writeReferences(final int id, final EObject object) throws IOException {
+			for (final EReference reference : object.eClass().getEAllReferences()) {
+				if (!reference.isContainment() && isStoredReference(reference) && object.eIsSet(reference)) {
+					final List<EObject> targets = getTargets(object, reference);
+					out.writeInt(id);
+					writeString(reference.getName());
+					out.writeInt(targets.size());
+					for (final EObject target : targets) {
+						writeTarget(reference, target);
+					}
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static List<EObject> getTargets(final EObject object, final EReference reference) {
+			final Object value = object.eGet(reference, false);
+			if (reference.isMany()) {
+				return ((InternalEList<EObject>) value).basicList();
+			}
+			final List<EObject> targets = new ArrayList<>(1);
+			targets.add((EObject) value);
+			return targets;
+		}
+
+		private void writeTarget(final EReference reference, final EObject target) throws IOException {
+			final Integer id = objectIds.get(target);
+			if (null != id) {
+				out.writeByte(INTERNAL_TARGET);
+				out.writeInt(id.intValue());
+			} else if (null != reference.getEOpposite()) {
+				// setting the reference would change the referenced element
+				throw new UnsupportedContentException("Bidirectional reference leaving the system: " //$NON-NLS-1$
+						+ reference.getName());
+			} else if (typeLib.getBlockTypeLib() == target) {
+				out.writeByte(PALETTE_TARGET);
+			} else if (target instanceof PaletteEntry) {
+				out.writeByte(PALETTE_ENTRY_TARGET);
+				writeString(getEntryPath((PaletteEntry) target));
+			} else if (isTypeElement(target)) {
+				final LibraryElement type = (LibraryElement) EcoreUtil.getRootContainer(target);
+				out.writeByte(TYPE_ELEMENT_TARGET);
+				writeString(getEntryPath(type.getPaletteEntry()));
+				writeString((type == target) ? null : EcoreUtil.getRelativeURIFragmentPath(type, target));
+			} else if ((target instanceof DataType) && (null == target.eContainer())) {
+				writeDataType((DataType) target);
+			} else {
+				throw new UnsupportedContentException("Unsupported reference target: " + target); //$NON-NLS-1$
+			}
+		}
+
+		private void writeDataType(final DataType type) throws IOException {
+			if (EventTypeLibrary.getInstance().getEventTypes().contains(type)) {
+				out.writeByte(EVENT_TYPE_TARGET);
+			} else if (typeLib.getDataTypeLibrary().getTypeIfExists(type.getName()) == type) {
+				out.writeByte(DATA_TYPE_TARGET);
+				if ((null != type.getPaletteEntry()) && (null != type.getPaletteEntry().getFile())) {
+					typeFiles.add(type.getPaletteEntry().getFile());
+				}
+			} else {
+				throw new UnsupportedContentException("Unknown data type: " + type.getName()); //$NON-NLS-1$
+			}
+			writeString(type.getName());
+		}
+
+		/** an element of a loaded type (or the type itself) which can be found again through the type's palette entry */
+		private static boolean isTypeElement(final EObject target) {
+			final EObject root = EcoreUtil.getRootContainer(target);
+			if (root instanceof LibraryElement) {
+				final PaletteEntry entry = ((LibraryElement) root).getPaletteEntry();
+				return (null != entry) && (null != entry.getFile())
+						&& (root == ((InternalEObject) entry).eGet(PalettePackage.Literals.PALETTE_ENTRY__TYPE, false));
+			}
+			return false;
+		}
+
+		private String getEntryPath(final PaletteEntry entry) throws IOException {
+			if ((null == entry.getFile()) || (TypeLibrary.getPaletteEntryForFile(entry.getFile()) != entry)) {
+				throw new UnsupportedContentException("Palette entry not in a type library: " + entry.getLabel()); //$NON-NLS-1$
+			}
+			typeFiles.add(entry.getFile());
+			return entry.getFile().getFullPath().toPortableString();
+		}
+
+		private void writeClass(final EClass eClass) throws IOException {
+			final Integer id = classes.get(eClass);
+			if (null != id) {
+				out.writeInt(id.intValue());
+			} else {
+				classes.put(eClass, Integer.valueOf(classes.size()));
+				out.writeInt(NEW_ENTRY);
+				writeString(eClass.getEPackage().getNsURI());
+				writeString(eClass.getName());
+			}
+		}
+
+		private void writeString(final String value) throws IOException {
+			if (null == value) {
+				out.writeInt(NULL_STRING);
+				return;
+			}
+			final Integer id = strings.get(value);
+			if (null != id) {
+				out.writeInt(id.intValue());
+			} else {
+				strings.put(value, Integer.valueOf(strings.size()));
+				out.writeInt(NEW_ENTRY);
+				final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+		}
+	}
+
+	private static final class Reader {
+		private final TypeLibrary typeLib;
+		private final DataInputStream in;
+		private final List<String> strings = new ArrayList<>();
+		private final List<EClass> classes = new ArrayList<>();
+		private final List<EObject> objects = new ArrayList<>();
+		private final Map<String, PaletteEntry> entries = new HashMap<>();
+
+		Reader(final TypeLibrary typeLib, final DataInputStream in) {
+			this.typeLib = typeLib;
+			this.in = in;
+		}
+
+		EObject read() throws IOException {
+			final EObject root = readObject();
+			for (int id = in.readInt(); END != id; id = in.readInt()) {
+				readReference(getObject(id));
+			}
+			return root;
+		}
+
+		private EObject readObject() throws IOException {
+			final EClass eClass = readClass();
+			final EObject object = EcoreUtil.create(eClass);
+			objects.add(object);
+			for (String name = readString(); null != name; name = readString()) {
+				final EStructuralFeature feature = getFeature(eClass, name);
+				if (feature instanceof EAttribute) {
+					readAttribute(object, (EAttribute) feature);
+				} else if (feature.isMany()) {
+					final int count = in.readInt();
+					final List<EObject> children = new ArrayList<>(count);
+					for (int i = 0; i < count; i++) {
+						children.add(readObject());
+					}
+					getList(object, feature).addAllUnique(children);
+				} else {
+					object.eSet(feature, readObject());
+				}
+			}
+			return object;
+		}
+
+		private void readAttribute(final EObject object, final EAttribute attribute) throws IOException {
+			if (attribute.isMany()) {
+				final int count = in.readInt();
+				final List<Object> values = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					values.add(readValue(attribute));
+				}
+				getList(object, attribute).addAllUnique(values);
+			} else {
+				object.eSet(attribute, readValue(attribute));
+			}
+		}
+
+		private Object readValue(final EAttribute attribute) throws IOException {
+			final byte kind = in.readByte();
+			switch (kind) {
+			case STRING_VALUE:
+				return readString();
+			case INT_VALUE:
+				return Integer.valueOf(in.readInt());
+			case LONG_VALUE:
+				return Long.valueOf(in.readLong());
+			case BOOLEAN_VALUE:
+				return Boolean.valueOf(in.readBoolean());
+			case CONVERTED_VALUE:
+				return EcoreUtil.createFromString(attribute.getEAttributeType(), readString());
+			default:
+				throw new IOException("Unknown value kind in system snapshot: " + kind); //$NON-NLS-1$
+			}
+		}
+
+		private void readReference(final EObject object) throws IOException {
+			final EStructuralFeature feature = getFeature(object.eClass(), readString());
+			final int count = in.readInt();
+			final List<EObject> targets = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				targets.add(readTarget());
+			}
+			if (feature.isMany()) {
+				getList(object, feature).addAllUnique(targets);
+			} else if (1 == count) {
+				object.eSet(feature, targets.get(0));
+			} else {
+				throw new IOException("Corrupt reference in system snapshot: " + feature.getName()); //$NON-NLS-1$
+			}
+		}
+
+		private EObject readTarget() throws IOException {
+			final byte kind = in.readByte();
+			switch (kind) {
+			case INTERNAL_TARGET:
+				return getObject(in.readInt());
+			case PALETTE_TARGET:
+				return typeLib.getBlockTypeLib();
+			case PALETTE_ENTRY_TARGET:
+				return getEntry(readString());
+			case TYPE_ELEMENT_TARGET:
+				return getTypeElement(getEntry(readString()), readString());
+			case EVENT_TYPE_TARGET:
+				return EventTypeLibrary.getInstance().getType(readString());
+			case DATA_TYPE_TARGET:
+				final String typeName = readString();
+				final DataType type = typeLib.getDataTypeLibrary().getTypeIfExists(typeName);
+				if (null == type) {
+					throw new IOException("Data type no longer exists: " + typeName); //$NON-NLS-1$
+				}
+				return type;
+			default:
+				throw new IOException("Unknown reference kind in system snapshot: " + kind); //$NON-NLS-1$
+			}
+		}
+
+		private PaletteEntry getEntry(final String path) throws IOException {
+			PaletteEntry entry = entries.get(path);
+			if (null == entry) {
+				final IFile file = ResourcesPlugin.getWorkspace().getRoot().getFile(Path.fromPortableString(path));
+				entry = file.exists() ? TypeLibrary.getPaletteEntryForFile(file) : null;
+				if (null == entry) {
+					throw new IOException("Type no longer exists: " + path); //$NON-NLS-1$
+				}
+				entries.put(path, entry);
+			}
+			return entry;
+		}
+
+		private static EObject getTypeElement(final PaletteEntry entry, final String fragment) throws IOException {
+			final LibraryElement type = entry.getType();
+			final EObject element = ((null == type) || (null == fragment)) ? type
+					: EcoreUtil.getEObject(type, fragment);
+			if (null == element) {
+				throw new IOException("Type element no longer exists: " + entry.getLabel() + ' ' + fragment); //$NON-NLS-1$
+			}
+			return element;
+		}
+
+		private EObject getObject(final int id) throws IOException {
+			if ((id < 0) || (id >= objects.size())) {
+				throw new IOException("Invalid object reference in system snapshot: " + id); //$NON-NLS-1$
+			}
+			return objects.get(id);
+		}
+
+		private static EStructuralFeature getFeature(final EClass eClass, final String name) throws IOException {
+			final EStructuralFeature feature = (null != name) ? eClass.getEStructuralFeature(name) : null;
+			if (null == feature) {
+				throw new IOException("Unknown feature " + eClass.getName() + '.' + name); //$NON-NLS-1$
+			}
+			return feature;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> InternalEList<T> getList(final EObject object, final EStructuralFeature feature) {
+			return (InternalEList<T>) (EList<T>) object.eGet(feature);
+		}
+
+		private EClass readClass() throws IOException {
+			final int id = in.readInt();
+			if (NEW_ENTRY != id) {
+				if ((id < 0) || (id >= classes.size())) {
+					throw new IOException("Invalid class reference in system snapshot: " + id); //$NON-NLS-1$
+				}
+				return classes.get(id);
+			}
+			final String nsURI = readString();
+			final String name = readString();
+			final EPackage ePackage = EPackage.Registry.INSTANCE.getEPackage(nsURI);
+			final Object eClass = (null != ePackage) ? ePackage.getEClassifier(name) : null;
+			if (!(eClass instanceof EClass)) {
+				throw new IOException("Unknown class in system snapshot: " + nsURI + '#' + name); //$NON-NLS-1$
+			}
+			classes.add((EClass) eClass);
+			return (EClass) eClass;
+		}
+
+		private String readString() throws IOException {
+			final int id = in.readInt();
+			if (NULL_STRING == id) {
+				return null;
+			}
+			if (NEW_ENTRY != id) {
+				if ((id < 0) || (id >= strings.size())) {
+					throw new IOException("Invalid string reference in system snapshot: " + id); //$NON-NLS-1$
+				}
+				return strings.get(id);
+			}
+			final byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			final String value = new String(bytes, StandardCharsets.UTF_8);
+			strings.add(value);
+			return value;
+		}
+	}
+
+	private SystemSnapshot() {
+		throw new UnsupportedOperationException("The utility class SystemSnapshot should not be instatiated"); //$NON-NLS-1$
+	}
+
+}
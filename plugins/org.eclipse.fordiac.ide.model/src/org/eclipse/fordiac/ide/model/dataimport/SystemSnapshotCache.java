@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.fordiac.ide.model.Activator;
+import org.eclipse.fordiac.ide.model.dataimport.SystemSnapshot.Serialized;
+import org.eclipse.fordiac.ide.model.dataimport.SystemSnapshot.UnsupportedContentException;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.gef.commands.CommandStack;
+
+/** Binary snapshots of system files which can be loaded much faster than the XML files.
+ *
+ * Whenever a system is saved a snapshot of it is written to the model plug-in's state location together with the
+ * SHA-256 hash of the saved system file. The system is encoded while saving, hashing the file and writing the snapshot
+ * is left to a background job, so that saving does not wait for it. Snapshots are named after the hash of the system
+ * file's workspace path and removed when the file is deleted or moved or its project is closed or deleted. When the
+ * system is loaded again and the hash of the file still matches, the system is read from the snapshot instead of being
+ * imported from the XML file. Changes made to the file outside of 4diac IDE (e.g., by a version control system) change
+ * the hash, so that the file is imported again. The same holds if any of the type files referenced by the system
+ * changed since the snapshot was written, as the system's instances carry copies of their types' interfaces.
+ *
+ * Snapshots are neither written nor used for files with problem markers, so that the importer can report the
+ * problems. Systems which can not be stored in a snapshot are always imported. The snapshots can be switched off with
+ * the system property {@value #ENABLED_PROPERTY} or {@link #setEnabled(boolean)}. */
+public enum SystemSnapshotCache {
+	INSTANCE;
+
+	public static final String ENABLED_PROPERTY = "org.eclipse.fordiac.ide.model.systemSnapshots"; //$NON-NLS-1$
+
+	private static final String SNAPSHOT_FOLDER = "systemsnapshots"; //$NON-NLS-1$
+	private static final String SNAPSHOT_FILE_ENDING = ".snap"; //$NON-NLS-1$
+	private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+	private static final int BUFFER_SIZE = 65536;
+
+	/** an encoded system waiting to be written for the file as it was when the system was saved */
+	private static final class PendingSnapshot {
+		private final IFile systemFile;
+		private final Serialized system;
+		private final long modificationStamp;
+
+		private PendingSnapshot(final IFile systemFile, final Serialized system, final long modificationStamp) {
+			this.systemFile = systemFile;
+			this.system = system;
+			this.modificationStamp = modificationStamp;
+		}
+	}
+
+	private volatile boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")); //$NON-NLS-1$
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/** the snapshots to write, only the last save of each file is kept */
+	private final Map<IFile, PendingSnapshot> pendingSnapshots = new LinkedHashMap<>();
+
+	private final Job job = new Job("Store system snapshots") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(final IProgressMonitor monitor) {
+			takePendingSnapshots().forEach(SystemSnapshotCache::writeSnapshot);
+			return Status.OK_STATUS;
+		}
+	};
+
+	SystemSnapshotCache() {
+		job.setSystem(true);
+	}
+
+	/** Load the system stored in the given file from its snapshot.
+	 *
+	 * @param systemFile the system file
+	 * @return the system or null if there is no up to date snapshot of the file, the returned system has no palette
+	 *         entry yet */
+	public AutomationSystem load(final IFile systemFile) {
+		if (!isUsable(systemFile)) {
+			return null;
+		}
+		final Path location = getSnapshotLocation(systemFile);
+		if (Files.isReadable(location)) {
+			try (InputStream stream = new BufferedInputStream(Files.newInputStream(location), BUFFER_SIZE)) {
+				final String hash = SystemSnapshot.readContentHash(stream);
+				if (hash.equals(computeHash(systemFile)) && SystemSnapshot.readTypesUnchanged(stream)) {
+					final AutomationSystem system = SystemSnapshot.read(systemFile, stream);
+					system.setSystemFile(systemFile);
+					system.setCommandStack(new CommandStack());
+					hits.incrementAndGet();
+					return system;
+				}
+			} catch (final IOException | RuntimeException e) {
+				Activator.getDefault().logInfo("Discarding system snapshot " + location + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+				deleteSnapshot(location);
+			}
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/** Write the snapshot of a system which has just been saved to the given file. The system is encoded right away,
+	 * the snapshot is written in the background. It is dropped if the file changes in the meantime.
+	 *
+	 * @param system     the saved system
+	 * @param systemFile the file the system has been saved to */
+	public void store(final AutomationSystem system, final IFile systemFile) {
+		if (!isUsable(systemFile)) {
+			remove(systemFile);
+			return;
+		}
+		final long modificationStamp = systemFile.getModificationStamp();
+		try {
+			addPendingSnapshot(new PendingSnapshot(systemFile, SystemSnapshot.serialize(system), modificationStamp));
+		} catch (final UnsupportedContentException e) {
+			Activator.getDefault().logInfo("No snapshot for system " + systemFile.getFullPath() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+					+ e.getMessage());
+			remove(systemFile);
+		} catch (final IOException | RuntimeException e) {
+			Activator.getDefault().logError("Could not encode system " + systemFile.getFullPath(), e); //$NON-NLS-1$
+			remove(systemFile);
+		}
+	}
+
+	private static void writeSnapshot(final PendingSnapshot pending) {
+		final Path location = getSnapshotLocation(pending.systemFile);
+		final Path tmp = location.resolveSibling(location.getFileName() + ".tmp"); //$NON-NLS-1$
+		try {
+			// the hash has to be taken from the saved file, the snapshot is dropped if the file has changed since
+			if (isUnchanged(pending)) {
+				final String hash = computeHash(pending.systemFile);
+				if (isUnchanged(pending)) {
+					Files.createDirectories(location.getParent());
+					try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(tmp), BUFFER_SIZE)) {
+						pending.system.write(hash, stream);
+					}
+					Files.move(tmp, location, StandardCopyOption.REPLACE_EXISTING);
+					return;
+				}
+			}
+			deleteSnapshot(location);
+		} catch (final IOException | RuntimeException e) {
+			Activator.getDefault().logError("Could not store system snapshot " + location, e); //$NON-NLS-1$
+			deleteSnapshot(tmp);
+			deleteSnapshot(location);
+		}
+	}
+
+	private static boolean isUnchanged(final PendingSnapshot pending) {
+		return pending.systemFile.exists() && (pending.modificationStamp == pending.systemFile.getModificationStamp());
+	}
+
+	/** Remove the snapshot of the given system file, e.g., when the system is deleted or moved.
+	 *
+	 * @param systemFile the system file */
+	public void remove(final IFile systemFile) {
+		synchronized (pendingSnapshots) {
+			pendingSnapshots.remove(systemFile);
+		}
+		deleteSnapshot(getSnapshotLocation(systemFile));
+	}
+
+	/** Remove the snapshots of all system files of the given project, e.g., when the project is closed or deleted.
+	 *
+	 * @param project the project */
+	public void removeProject(final IProject project) {
+		synchronized (pendingSnapshots) {
+			pendingSnapshots.keySet().removeIf(systemFile -> project.equals(systemFile.getProject()));
+		}
+		final Path folder = getSnapshotFolder(project);
+		if (Files.isDirectory(folder)) {
+			try (Stream<Path> files = Files.walk(folder)) {
+				files.sorted(Comparator.reverseOrder()).forEach(SystemSnapshotCache::deleteSnapshot);
+			} catch (final IOException e) {
+				Activator.getDefault().logError("Could not delete system snapshots " + folder, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/** Wait until all snapshots stored so far have been written, e.g., for tests.
+	 *
+	 * @throws InterruptedException if interrupted while waiting */
+	public void join() throws InterruptedException {
+		do {
+			job.join();
+		} while (hasPendingSnapshots());
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/** @return the number of systems loaded from their snapshot */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/** @return the number of systems which had to be imported from their XML file */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	static Path getSnapshotLocation(final IFile systemFile) {
+		// the hash of the full path is a valid file name which no other system file maps to
+		final String fileName = toHex(digest(systemFile.getFullPath().toPortableString()
+				.getBytes(StandardCharsets.UTF_8)));
+		return getSnapshotFolder(systemFile.getProject()).resolve(fileName + SNAPSHOT_FILE_ENDING);
+	}
+
+	private static Path getSnapshotFolder(final IProject project) {
+		return Activator.getDefault().getStateLocation().append(SNAPSHOT_FOLDER).append(project.getName()).toFile()
+				.toPath();
+	}
+
+	private void addPendingSnapshot(final PendingSnapshot pending) {
+		synchronized (pendingSnapshots) {
+			pendingSnapshots.remove(pending.systemFile);
+			pendingSnapshots.put(pending.systemFile, pending);
+		}
+		job.schedule();
+	}
+
+	private boolean hasPendingSnapshots() {
+		synchronized (pendingSnapshots) {
+			return !pendingSnapshots.isEmpty();
+		}
+	}
+
+	private List<PendingSnapshot> takePendingSnapshots() {
+		synchronized (pendingSnapshots) {
+			final List<PendingSnapshot> snapshots = new ArrayList<>(pendingSnapshots.values());
+			pendingSnapshots.clear();
+			return snapshots;
+		}
+	}
+
+	private boolean isUsable(final IFile systemFile) {
+		return enabled && systemFile.exists() && !hasProblemMarkers(systemFile);
+	}
+
+	private static boolean hasProblemMarkers(final IFile file) {
+		try {
+			return 0 != file.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_ZERO).length;
+		} catch (final CoreException e) {
+			return true;
+		}
+	}
+
+	private static String computeHash(final IFile file) throws IOException {
+		try (InputStream stream = new DigestInputStream(file.getContents(true),
+				MessageDigest.getInstance(HASH_ALGORITHM))) {
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			while (-1 != stream.read(buffer)) {
+				// only read the file for the digest
+			}
+			return toHex(((DigestInputStream) stream).getMessageDigest().digest());
+		} catch (final NoSuchAlgorithmException | CoreException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	private static byte[] digest(final byte[] content) {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+		} catch (final NoSuchAlgorithmException e) {
+			// every Java platform has to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(final byte[] bytes) {
+		final StringBuilder hex = new StringBuilder();
+		for (final byte b : bytes) {
+			hex.append(String.format("%02x", Byte.valueOf(b))); //$NON-NLS-1$
+		}
+		return hex.toString();
+	}
+
+	private static void deleteSnapshot(final Path location) {
+		try {
+			Files.deleteIfExists(location);
+		} catch (final IOException e) {
+			Activator.getDefault().logError("Could not delete system snapshot " + location, e); //$NON-NLS-1$
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.InputStream;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.fordiac.ide.model.LibraryElementTags;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeHeader;
+
+/** Reads only the header of a type file: name, kind, version and comment. Parsing stops at the start of the interface
+ * list, so the interface, ECCs, algorithms, service sequences and networks are never touched. */
+public final class TypeHeaderImporter {
+
+	public static TypeHeader readHeader(final InputStream inputStream) throws XMLStreamException {
+		final XMLStreamReader reader = ImporterXMLReaderFactory.createReader(inputStream);
+		try {
+			return readHeader(reader);
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static TypeHeader readHeader(final XMLStreamReader reader) throws XMLStreamException {
+		String kind = null;
+		String name = null;
+		String comment = null;
+		String version = null;
+
+		while (reader.hasNext()) {
+			if (XMLStreamConstants.START_ELEMENT == reader.next()) {
+				final String localName = reader.getLocalName();
+				if (null == kind) {
+					kind = localName;
+					name = reader.getAttributeValue("", LibraryElementTags.NAME_ATTRIBUTE); //$NON-NLS-1$
+					comment = reader.getAttributeValue("", LibraryElementTags.COMMENT_ATTRIBUTE); //$NON-NLS-1$
+				} else if (LibraryElementTags.VERSION_INFO_ELEMENT.equals(localName) && (null == version)) {
+					version = reader.getAttributeValue("", LibraryElementTags.VERSION_ATTRIBUTE); //$NON-NLS-1$
+				} else if (isInterfaceListElement(localName)) {
+					// the version info precedes the interface list, the header is complete
+					break;
+				}
+			}
+		}
+		if (null == kind) {
+			throw new XMLStreamException("Could not find a root element"); //$NON-NLS-1$
+		}
+		return new TypeHeader(name, kind, version, comment);
+	}
+
+	private static boolean isInterfaceListElement(final String localName) {
+		return LibraryElementTags.INTERFACE_LIST_ELEMENT.equals(localName)
+				|| LibraryElementTags.SUBAPPINTERFACE_LIST_ELEMENT.equals(localName);
+	}
+
+	private TypeHeaderImporter() {
+		throw new UnsupportedOperationException("The utility class TypeHeaderImporter should not be instatiated"); //$NON-NLS-1$
+	}
+
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.fordiac.ide.model.LibraryElementTags;
+
+/** Reads only the type names of the FBs and subapps in the networks of a type file. No model elements are created, so
+ * this is considerably cheaper than loading the type. */
+public final class TypeReferenceImporter {
+
+	public static Set<String> readReferencedTypes(final InputStream inputStream) throws XMLStreamException {
+		final XMLStreamReader reader = ImporterXMLReaderFactory.createReader(inputStream);
+		try {
+			return readReferencedTypes(reader);
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static Set<String> readReferencedTypes(final XMLStreamReader reader) throws XMLStreamException {
+		final Set<String> typeNames = new HashSet<>();
+		while (reader.hasNext()) {
+			if ((XMLStreamConstants.START_ELEMENT == reader.next()) && isNetworkElement(reader.getLocalName())) {
+				final String typeName = reader.getAttributeValue("", LibraryElementTags.TYPE_ATTRIBUTE); //$NON-NLS-1$
+				if (null != typeName) {
+					typeNames.add(typeName);
+				}
+			}
+		}
+		return typeNames;
+	}
+
+	private static boolean isNetworkElement(final String localName) {
+		return LibraryElementTags.FB_ELEMENT.equals(localName) || LibraryElementTags.SUBAPP_ELEMENT.equals(localName);
+	}
+
+	private TypeReferenceImporter() {
+		throw new UnsupportedOperationException("The utility class TypeReferenceImporter should not be instatiated"); //$NON-NLS-1$
+	}
+
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.Activator;
+import org.eclipse.fordiac.ide.model.LibraryElementTags;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.Palette;
+import org.eclipse.fordiac.ide.model.Palette.impl.PaletteEntryImpl;
+
+/** Loads the FB types used in a file with a pool of workers while an importer parses the file.
+ *
+ * A scan task reads ahead through the file and requests the type of each FB instance it finds. The types are loaded in
+ * parallel through their palette entries, so that cold types are mostly loaded when the importer reaches the FB
+ * instances using them. Before the importer uses a type it joins the type's request, if the request has not been
+ * started yet the importer loads the type itself. Types not requested yet are loaded inline as before.
+ *
+ * The workers only use a snapshot of the palette's FB type entries, as the palette maps are not thread safe. They load
+ * the types without notifying the listeners of the palette entries, the notifications are delivered on the importer's
+ * thread when it gets the type. */
+final class TypeResolutionPipeline implements AutoCloseable {
+
+	static final String ENABLED_PROPERTY = "org.eclipse.fordiac.ide.model.parallelTypeResolution"; //$NON-NLS-1$
+
+	static final int DEFAULT_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+	private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")); //$NON-NLS-1$
+
+	private final Map<String, FBTypePaletteEntry> entries;
+	private final Set<String> skippedElements;
+	private final Map<String, FutureTask<Void>> requests = new ConcurrentHashMap<>();
+	private final ForkJoinPool pool;
+	private volatile boolean closed = false;
+
+	private TypeResolutionPipeline(final Palette palette, final Set<String> skippedElements, final int parallelism) {
+		entries = new HashMap<>(palette.getFbTypes().map());
+		this.skippedElements = skippedElements;
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	/** Start loading the FB types used in the given file.
+	 *
+	 * @param file            the file to be imported
+	 * @param palette         the palette the types of the file's FB instances are taken from
+	 * @param skippedElements the names of the elements whose content is not imported now (e.g., lazily loaded
+	 *                        applications)
+	 * @return the started pipeline, or null if parallel type resolution is switched off */
+	static TypeResolutionPipeline start(final IFile file, final Palette palette, final Set<String> skippedElements) {
+		if (!enabled || (DEFAULT_PARALLELISM < 2)) {
+			return null;
+		}
+		final TypeResolutionPipeline pipeline = new TypeResolutionPipeline(palette, skippedElements,
+				DEFAULT_PARALLELISM);
+		pipeline.pool.execute(() -> pipeline.scan(file));
+		return pipeline;
+	}
+
+	static boolean isEnabled() {
+		return enabled;
+	}
+
+	static void setEnabled(final boolean enabled) {
+		TypeResolutionPipeline.enabled = enabled;
+	}
+
+	/** Wait until the type with the given name is loaded if it has been requested.
+	 *
+	 * @param typeName the name of the FB type */
+	void awaitType(final String typeName) {
+		final FutureTask<Void> request = (null != typeName) ? requests.get(typeName) : null;
+		if ((null != request) && !closed) {
+			// if no worker has picked up the request yet load the type here instead of waiting for the queue
+			request.run();
+			try {
+				request.get();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (final ExecutionException e) {
+				// the importer tries to load the type again and reports the problem
+				Activator.getDefault().logWarning("Parallel loading of type " + typeName + " failed", e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/** Stop scanning and drop all requests not started yet. Types being loaded are finished in the background. */
+	@Override
+	public void close() {
+		closed = true;
+		requests.values().forEach(request -> request.cancel(false));
+		pool.shutdown();
+	}
+
+	private void scan(final IFile file) {
+		try (InputStream stream = file.getContents()) {
+			final XMLStreamReader reader = ImporterXMLReaderFactory.createReader(stream);
+			try {
+				while (!closed && reader.hasNext()) {
+					if (XMLStreamConstants.START_ELEMENT == reader.next()) {
+						final String name = reader.getLocalName();
+						if (skippedElements.contains(name)) {
+							skipElement(reader);
+						} else if (LibraryElementTags.FB_ELEMENT.equals(name)) {
+							request(reader.getAttributeValue(null, LibraryElementTags.TYPE_ATTRIBUTE));
+						}
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (final IOException | CoreException | XMLStreamException e) {
+			// the importer reports the problems of the file, it just does not get any help from us
+		}
+	}
+
+	private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while ((0 < depth) && reader.hasNext()) {
+			final int event = reader.next();
+			if (XMLStreamConstants.START_ELEMENT == event) {
+				depth++;
+			} else if (XMLStreamConstants.END_ELEMENT == event) {
+				depth--;
+			}
+		}
+	}
+
+	private void request(final String typeName) {
+		if ((null == typeName) || requests.containsKey(typeName)) {
+			return;
+		}
+		final FBTypePaletteEntry entry = entries.get(typeName);
+		if (null != entry) {
+			// the workers do not notify the listeners of the entry, the importer does when it gets the type
+			final Runnable load = (entry instanceof PaletteEntryImpl) ? ((PaletteEntryImpl) entry)::preloadType
+					: entry::getType;
+			final FutureTask<Void> request = new FutureTask<>(load, null);
+			if (null == requests.putIfAbsent(typeName, request)) {
+				try {
+					pool.execute(request);
+				} catch (final RejectedExecutionException e) {
+					// the import finished while we were scanning
+				}
+			}
+		}
+	}
+
+}
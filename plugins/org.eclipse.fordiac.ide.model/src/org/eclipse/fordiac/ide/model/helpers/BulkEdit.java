@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
+
+/** Bulk edit of an FB network, e.g., pasting or flattening many elements at once.
+ *
+ * While a bulk edit is open the elements and connections added to and removed from the network are not announced to
+ * the adapters of the network one by one. Only the {@link ImmediateAdapter}s, i.e., the indexes of the model which
+ * have to be up to date for the next change, get the single notifications. For all other adapters (edit parts, tree
+ * providers, ...) the changes are collected per list and delivered as one REMOVE_MANY and one ADD_MANY notification
+ * when the bulk edit is closed, so that they refresh once instead of once per element. Elements added and removed again
+ * within the bulk edit are not announced at all. All other notifications of the network are delivered as usual.
+ *
+ * Bulk edits are opened with {@link #start(FBNetwork)} in a try-with-resources statement and can be nested, the
+ * collected changes are delivered when the outermost bulk edit is closed:
+ *
+ * <pre>
+ * try (BulkEdit bulkEdit = BulkEdit.start(network)) {
+ * 	// add and remove elements and connections
+ * }
+ * </pre>
+ *
+ * Bulk edits can be switched off with the system property {@value #ENABLED_PROPERTY} or {@link #setEnabled(boolean)},
+ * then every change is delivered immediately. */
+public final class BulkEdit extends AdapterImpl implements AutoCloseable {
+
+	public static final String ENABLED_PROPERTY = "org.eclipse.fordiac.ide.model.bulkEdit"; //$NON-NLS-1$
+
+	private static volatile boolean enabled = Boolean
+			.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")); //$NON-NLS-1$
+
+	private static final List<EStructuralFeature> BATCHED_FEATURES = List.of(
+			LibraryElementPackage.Literals.FB_NETWORK__NETWORK_ELEMENTS,
+			LibraryElementPackage.Literals.FB_NETWORK__EVENT_CONNECTIONS,
+			LibraryElementPackage.Literals.FB_NETWORK__DATA_CONNECTIONS,
+			LibraryElementPackage.Literals.FB_NETWORK__ADAPTER_CONNECTIONS);
+
+	/** Adapters of FB networks which have to follow every change of the network immediately, also within bulk
+	 * edits. */
+	public interface ImmediateAdapter extends Adapter {
+		// marker interface
+	}
+
+	private final FBNetwork network;
+	private int depth = 1;
+	private final Map<EStructuralFeature, Set<Object>> added = new LinkedHashMap<>();
+	private final Map<EStructuralFeature, Set<Object>> removed = new LinkedHashMap<>();
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(final boolean enabled) {
+		BulkEdit.enabled = enabled;
+	}
+
+	/** Open a bulk edit of the network or join the bulk edit already open for it.
+	 *
+	 * @param network the edited network
+	 * @return the bulk edit, it has to be closed after the changes */
+	public static BulkEdit start(final FBNetwork network) {
+		if (!enabled) {
+			// not attached to the network, closing it has no effect
+			return new BulkEdit(network);
+		}
+		BulkEdit bulkEdit = getActive(network);
+		if (null != bulkEdit) {
+			bulkEdit.depth++;
+		} else {
+			bulkEdit = new BulkEdit(network);
+			network.eAdapters().add(bulkEdit);
+		}
+		return bulkEdit;
+	}
+
+	/** @return the bulk edit open for the network or null if there is none */
+	public static BulkEdit getActive(final Notifier network) {
+		return (BulkEdit) EcoreUtil.getExistingAdapter(network, BulkEdit.class);
+	}
+
+	private BulkEdit(final FBNetwork network) {
+		this.network = network;
+	}
+
+	@Override
+	public boolean isAdapterForType(final Object type) {
+		return BulkEdit.class == type;
+	}
+
+	/** Deliver a structural change of the network only to the immediate adapters and collect it for the others.
+	 *
+	 * @param notification a notification of the network
+	 * @return true if the notification was handled, false if it has to be delivered as usual */
+	public boolean defer(final Notification notification) {
+		if (!isBatched(notification)) {
+			return false;
+		}
+		for (final Adapter adapter : network.eAdapters().toArray(new Adapter[0])) {
+			if (adapter instanceof ImmediateAdapter) {
+				adapter.notifyChanged(notification);
+			}
+		}
+		collect(notification);
+		return true;
+	}
+
+	private static boolean isBatched(final Notification notification) {
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+		case Notification.ADD_MANY:
+		case Notification.REMOVE:
+		case Notification.REMOVE_MANY:
+			return BATCHED_FEATURES.contains(notification.getFeature());
+		default:
+			return false;
+		}
+	}
+
+	private void collect(final Notification notification) {
+		final EStructuralFeature feature = (EStructuralFeature) notification.getFeature();
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			add(feature, notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			((Collection<?>) notification.getNewValue()).forEach(value -> add(feature, value));
+			break;
+		case Notification.REMOVE:
+			remove(feature, notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			((Collection<?>) notification.getOldValue()).forEach(value -> remove(feature, value));
+			break;
+		default:
+		}
+	}
+
+	/** an object removed before within the bulk edit is back, e.g., when undoing a move */
+	private void add(final EStructuralFeature feature, final Object value) {
+		if (!getValues(removed, feature).remove(value)) {
+			getValues(added, feature).add(value);
+		}
+	}
+
+	private void remove(final EStructuralFeature feature, final Object value) {
+		if (!getValues(added, feature).remove(value)) {
+			getValues(removed, feature).add(value);
+		}
+	}
+
+	private static Set<Object> getValues(final Map<EStructuralFeature, Set<Object>> values,
+			final EStructuralFeature feature) {
+		return values.computeIfAbsent(feature, f -> new LinkedHashSet<>());
+	}
+
+	/** Close the bulk edit, the outermost close delivers the collected changes to the adapters of the network. */
+	@Override
+	public void close() {
+		depth--;
+		if (0 < depth) {
+			return;
+		}
+		network.eAdapters().remove(this);
+		if (!network.eDeliver()) {
+			return;
+		}
+		for (final EStructuralFeature feature : BATCHED_FEATURES) {
+			final Set<Object> removedValues = removed.get(feature);
+			if ((null != removedValues) && !removedValues.isEmpty()) {
+				deliver(new ENotificationImpl((InternalEObject) network, Notification.REMOVE_MANY, feature,
+						new ArrayList<>(removedValues), null));
+			}
+			final Set<Object> addedValues = added.get(feature);
+			if ((null != addedValues) && !addedValues.isEmpty()) {
+				deliver(new ENotificationImpl((InternalEObject) network, Notification.ADD_MANY, feature, null,
+						new ArrayList<>(addedValues)));
+			}
+		}
+	}
+
+	private void deliver(final Notification notification) {
+		for (final Adapter adapter : network.eAdapters().toArray(new Adapter[0])) {
+			if (!(adapter instanceof ImmediateAdapter)) {
+				adapter.notifyChanged(notification);
+			}
+		}
+	}
+
+}
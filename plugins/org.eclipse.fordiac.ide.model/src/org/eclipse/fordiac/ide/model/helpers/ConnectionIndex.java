@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.model.libraryElement.Connection;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
+
+/** Adjacency index of the connections of an FB network: from the pins and from the network elements to the
+ * connections of the network attached to them.
+ *
+ * The connection lists of a pin contain the connections of all networks the pin is part of (e.g., the pins of a
+ * subapp are connected in the subapp's network and in the network containing the subapp), the index only contains the
+ * connections of its network. The pins of the network's own interface (i.e., the pins of a subapp within its network)
+ * belong to the subapp, the pins of a type's interface within the type's network to no element ({@code null}).
+ *
+ * The index is an EMF adapter on the network, created with the first {@link #of(FBNetwork)}. It follows the added and
+ * removed connections of the network and, with a second adapter on each connection, the changes of their source and
+ * destination, also within a {@link BulkEdit} of the network. It can be switched off with the system property
+ * {@value #ENABLED_PROPERTY} or {@link #setEnabled(boolean)}, callers then have to fall back to the connection lists
+ * of the pins. */
+public final class ConnectionIndex extends AdapterImpl implements BulkEdit.ImmediateAdapter {
+
+	public static final String ENABLED_PROPERTY = "org.eclipse.fordiac.ide.model.connectionIndex"; //$NON-NLS-1$
+
+	private static volatile boolean enabled = Boolean
+			.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")); //$NON-NLS-1$
+
+	/** the pins and elements a connection was indexed with, they are needed to remove it again */
+	private static final class Endpoints {
+		private final IInterfaceElement source;
+		private final IInterfaceElement destination;
+		private final FBNetworkElement sourceElement;
+		private final FBNetworkElement destinationElement;
+
+		private Endpoints(final Connection connection) {
+			source = connection.getSource();
+			destination = connection.getDestination();
+			sourceElement = (null != source) ? source.getFBNetworkElement() : null;
+			destinationElement = (null != destination) ? destination.getFBNetworkElement() : null;
+		}
+	}
+
+	private final Map<Connection, Endpoints> endpoints = new HashMap<>();
+	private final Map<IInterfaceElement, Set<Connection>> pinConnections = new HashMap<>();
+	private final Map<FBNetworkElement, Set<Connection>> elementConnections = new HashMap<>();
+
+	private final Adapter endpointAdapter = new AdapterImpl() {
+		@Override
+		public void notifyChanged(final Notification notification) {
+			final Object feature = notification.getFeature();
+			if (((LibraryElementPackage.Literals.CONNECTION__SOURCE == feature)
+					|| (LibraryElementPackage.Literals.CONNECTION__DESTINATION == feature))
+					&& (notification.getOldValue() != notification.getNewValue())) {
+				final Connection connection = (Connection) notification.getNotifier();
+				unindex(connection);
+				index(connection);
+			}
+		}
+	};
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(final boolean enabled) {
+		ConnectionIndex.enabled = enabled;
+	}
+
+	/** @return the index of the network or null if the index is switched off */
+	public static ConnectionIndex of(final FBNetwork network) {
+		if (!enabled) {
+			return null;
+		}
+		synchronized (network) {
+			ConnectionIndex index = (ConnectionIndex) EcoreUtil.getExistingAdapter(network, ConnectionIndex.class);
+			if (null == index) {
+				index = new ConnectionIndex(network);
+				network.eAdapters().add(index);
+			}
+			return index;
+		}
+	}
+
+	private ConnectionIndex(final FBNetwork network) {
+		network.getEventConnections().forEach(this::add);
+		network.getDataConnections().forEach(this::add);
+		network.getAdapterConnections().forEach(this::add);
+	}
+
+	/** @return the connections of the network attached to the pin, unmodifiable and backed by the index */
+	public Collection<Connection> getConnections(final IInterfaceElement pin) {
+		return unmodifiable(pinConnections.get(pin));
+	}
+
+	/** @return the connections of the network attached to a pin of the element, unmodifiable and backed by the index */
+	public Collection<Connection> getConnections(final FBNetworkElement element) {
+		return unmodifiable(elementConnections.get(element));
+	}
+
+	/** Get the connections of the network attached to any of the elements, e.g., the connections to delete with the
+	 * elements.
+	 *
+	 * @param elements the network elements
+	 * @return a new set of the connections */
+	public Set<Connection> getConnections(final Collection<? extends FBNetworkElement> elements) {
+		final Set<Connection> connections = new LinkedHashSet<>();
+		elements.forEach(element -> connections.addAll(getConnections(element)));
+		return connections;
+	}
+
+	/** Get the connections of the network between the given elements, e.g., the connections to keep when the elements
+	 * are copied or moved into a subapp.
+	 *
+	 * @param elements the network elements
+	 * @return a new set of the connections whose source and destination belong to the elements */
+	public Set<Connection> getInternalConnections(final Collection<? extends FBNetworkElement> elements) {
+		final Set<Connection> connections = getConnections(elements);
+		connections.removeIf(connection -> {
+			final Endpoints connectionEndpoints = endpoints.get(connection);
+			return !elements.contains(connectionEndpoints.sourceElement)
+					|| !elements.contains(connectionEndpoints.destinationElement);
+		});
+		return connections;
+	}
+
+	/** @return the elements connected to the element in the network, without the element itself */
+	public Set<FBNetworkElement> getConnectedElements(final FBNetworkElement element) {
+		final Set<FBNetworkElement> connected = new LinkedHashSet<>();
+		for (final Connection connection : getConnections(element)) {
+			final Endpoints connectionEndpoints = endpoints.get(connection);
+			connected.add(connectionEndpoints.sourceElement);
+			connected.add(connectionEndpoints.destinationElement);
+		}
+		connected.remove(element);
+		connected.remove(null);
+		return connected;
+	}
+
+	private static Collection<Connection> unmodifiable(final Set<Connection> connections) {
+		return (null != connections) ? Collections.unmodifiableSet(connections) : Collections.emptySet();
+	}
+
+	@Override
+	public boolean isAdapterForType(final Object type) {
+		return ConnectionIndex.class == type;
+	}
+
+	@Override
+	public void notifyChanged(final Notification notification) {
+		final Object feature = notification.getFeature();
+		if ((LibraryElementPackage.Literals.FB_NETWORK__EVENT_CONNECTIONS != feature)
+				&& (LibraryElementPackage.Literals.FB_NETWORK__DATA_CONNECTIONS != feature)
+				&& (LibraryElementPackage.Literals.FB_NETWORK__ADAPTER_CONNECTIONS != feature)) {
+			return;
+		}
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			add(notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			((List<?>) notification.getNewValue()).forEach(this::add);
+			break;
+		case Notification.REMOVE:
+			remove(notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			((List<?>) notification.getOldValue()).forEach(this::remove);
+			break;
+		case Notification.SET:
+			remove(notification.getOldValue());
+			add(notification.getNewValue());
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void add(final Object object) {
+		if (object instanceof Connection) {
+			final Connection connection = (Connection) object;
+			index(connection);
+			connection.eAdapters().add(endpointAdapter);
+		}
+	}
+
+	private void remove(final Object object) {
+		if (object instanceof Connection) {
+			final Connection connection = (Connection) object;
+			connection.eAdapters().remove(endpointAdapter);
+			unindex(connection);
+		}
+	}
+
+	private void index(final Connection connection) {
+		final Endpoints connectionEndpoints = new Endpoints(connection);
+		endpoints.put(connection, connectionEndpoints);
+		if (null != connectionEndpoints.source) {
+			pinConnections.computeIfAbsent(connectionEndpoints.source, pin -> new LinkedHashSet<>()).add(connection);
+			elementConnections.computeIfAbsent(connectionEndpoints.sourceElement, element -> new LinkedHashSet<>())
+			.add(connection);
+		}
+		if (null != connectionEndpoints.destination) {
+			pinConnections.computeIfAbsent(connectionEndpoints.destination, pin -> new LinkedHashSet<>())
+			.add(connection);
+			elementConnections
+			.computeIfAbsent(connectionEndpoints.destinationElement, element -> new LinkedHashSet<>())
+			.add(connection);
+		}
+	}
+
+	private void unindex(final Connection connection) {
+		final Endpoints connectionEndpoints = endpoints.remove(connection);
+		if (null == connectionEndpoints) {
+			return;
+		}
+		removeFrom(pinConnections, connectionEndpoints.source, connection);
+		removeFrom(pinConnections, connectionEndpoints.destination, connection);
+		removeFrom(elementConnections, connectionEndpoints.sourceElement, connection);
+		removeFrom(elementConnections, connectionEndpoints.destinationElement, connection);
+	}
+
+	private static <K> void removeFrom(final Map<K, Set<Connection>> map, final K key, final Connection connection) {
+		final Set<Connection> connections = map.get(key);
+		if ((null != connections) && connections.remove(connection) && connections.isEmpty()) {
+			map.remove(key);
+		}
+	}
+
+}
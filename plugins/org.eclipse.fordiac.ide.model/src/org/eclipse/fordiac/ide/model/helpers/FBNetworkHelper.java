@@ -16,12 +16,14 @@
 package org.eclipse.fordiac.ide.model.helpers;
 
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.fordiac.ide.model.Messages;
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterConnection;
@@ -40,6 +42,7 @@ import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
 import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
 import org.eclipse.fordiac.ide.model.libraryElement.Position;
 import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
 import org.eclipse.fordiac.ide.ui.errormessages.ErrorMessenger;
@@ -58,12 +61,63 @@ public final class FBNetworkHelper {
 	 */
 	public static FBNetwork copyFBNetWork(final FBNetwork srcNetwork, final InterfaceList destInterface) {
 		final FBNetwork dstNetwork = LibraryElementFactory.eINSTANCE.createFBNetwork();
-		dstNetwork.getNetworkElements().addAll(EcoreUtil.copyAll(srcNetwork.getNetworkElements()));
+		final EcoreUtil.Copier copier = new NetworkElementCopier();
+		final Collection<FBNetworkElement> copies = copier.copyAll(srcNetwork.getNetworkElements());
+		copier.copyReferences();
+		dstNetwork.getNetworkElements().addAll(copies);
 		checkForAdapterFBs(dstNetwork, destInterface);
-		createConnections(srcNetwork, dstNetwork, destInterface);
+		createConnections(srcNetwork, dstNetwork, destInterface, copier);
 		return dstNetwork;
 	}
 
+	/** Get the network of a subapp or CFB instance for reading it, e.g., for deployment or analysis.
+	 *
+	 * Typed subapps and CFB instances only get their own copy of their type's network when it is loaded (see
+	 * {@link SubApp#loadSubAppNetwork()} and {@link CFBInstance#loadCFBNetwork()}). Until then all instances of a type
+	 * share the network of the type. Therefore the returned network must not be modified and its elements must not be
+	 * used where the instance's own elements are needed (e.g., for mapping or monitoring).
+	 *
+	 * @param element the subapp or CFB instance
+	 * @return the instance's own network if it has one, the network of its type otherwise, or null if the element
+	 *         has no network */
+	public static FBNetwork getNetworkForReading(final FBNetworkElement element) {
+		if (element instanceof SubApp) {
+			final SubApp subApp = (SubApp) element;
+			if ((null == subApp.getSubAppNetwork()) && subApp.isTyped()) {
+				return subApp.getType().getFBNetwork();
+			}
+			return subApp.getSubAppNetwork();
+		}
+		if (element instanceof CFBInstance) {
+			final CFBInstance cfb = (CFBInstance) element;
+			if ((null == cfb.getCfbNetwork()) && (null != cfb.getType())) {
+				return cfb.getType().getFBNetwork();
+			}
+			return cfb.getCfbNetwork();
+		}
+		return null;
+	}
+
+	/** Copies the elements of a network. The networks of typed subapps and CFB instances in the network are not
+	 * copied, the copies load them from their types when needed. */
+	private static final class NetworkElementCopier extends EcoreUtil.Copier {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected void copyContainment(final EReference eReference, final EObject eObject,
+				final EObject copyEObject) {
+			if (!isInstanceNetwork(eReference, eObject)) {
+				super.copyContainment(eReference, eObject, copyEObject);
+			}
+		}
+
+		private static boolean isInstanceNetwork(final EReference eReference, final EObject eObject) {
+			return (LibraryElementPackage.Literals.CFB_INSTANCE__CFB_NETWORK == eReference)
+					|| ((LibraryElementPackage.Literals.SUB_APP__SUB_APP_NETWORK == eReference)
+							&& ((SubApp) eObject).isTyped());
+		}
+	}
+
 	/** Take the src FBNetwork and copy it into a new network with the members of the srce network as resource type fbs.
 	 *
 	 * @param srcNetwork    the FBNetwork to copy
@@ -106,30 +160,52 @@ public final class FBNetworkHelper {
 	}
 
 	private static void createConnections(final FBNetwork srcNetwork, final FBNetwork dstNetwork, final InterfaceList destInterface) {
+		createConnections(srcNetwork, dstNetwork, destInterface, null);
+	}
+
+	private static void createConnections(final FBNetwork srcNetwork, final FBNetwork dstNetwork,
+			final InterfaceList destInterface, final EcoreUtil.Copier copier) {
 		for (final Connection connection : srcNetwork.getEventConnections()) {
 			dstNetwork.getEventConnections()
-			.add((EventConnection) createConnection(srcNetwork, destInterface, dstNetwork, connection));
+			.add((EventConnection) createConnection(srcNetwork, destInterface, dstNetwork, connection, copier));
 		}
 
 		for (final Connection connection : srcNetwork.getDataConnections()) {
 			dstNetwork.getDataConnections()
-			.add((DataConnection) createConnection(srcNetwork, destInterface, dstNetwork, connection));
+			.add((DataConnection) createConnection(srcNetwork, destInterface, dstNetwork, connection, copier));
 		}
 
 		for (final Connection connection : srcNetwork.getAdapterConnections()) {
 			dstNetwork.getAdapterConnections()
-			.add((AdapterConnection) createConnection(srcNetwork, destInterface, dstNetwork, connection));
+			.add((AdapterConnection) createConnection(srcNetwork, destInterface, dstNetwork, connection, copier));
 		}
 	}
 
-	private static Connection createConnection(final FBNetwork srcNetwork, final InterfaceList destInterface, final FBNetwork dstNetwork,
-			final Connection connection) {
+	private static Connection createConnection(final FBNetwork srcNetwork, final InterfaceList destInterface,
+			final FBNetwork dstNetwork, final Connection connection, final EcoreUtil.Copier copier) {
 		final Connection newConn = EcoreUtil.copy(connection);
-		newConn.setSource(getInterfaceElement(connection.getSource(), destInterface, dstNetwork, srcNetwork));
-		newConn.setDestination(getInterfaceElement(connection.getDestination(), destInterface, dstNetwork, srcNetwork));
+		newConn.setSource(getCopiedInterfaceElement(connection.getSource(), destInterface, dstNetwork, srcNetwork,
+				copier));
+		newConn.setDestination(getCopiedInterfaceElement(connection.getDestination(), destInterface, dstNetwork,
+				srcNetwork, copier));
 		return newConn;
 	}
 
+	/** the copier knows the copy of each interface element of the copied network elements, this avoids searching
+	 * the destination network by name for each connection end */
+	private static IInterfaceElement getCopiedInterfaceElement(final IInterfaceElement ie,
+			final InterfaceList typeInterface, final FBNetwork dstNetwork, final FBNetwork srcNetwork,
+			final EcoreUtil.Copier copier) {
+		if ((null != copier) && (null != ie.getFBNetworkElement())
+				&& srcNetwork.equals(ie.getFBNetworkElement().getFbNetwork())) {
+			final EObject copy = copier.get(ie);
+			if (copy instanceof IInterfaceElement) {
+				return (IInterfaceElement) copy;
+			}
+		}
+		return getInterfaceElement(ie, typeInterface, dstNetwork, srcNetwork);
+	}
+
 	private static IInterfaceElement getInterfaceElement(final IInterfaceElement ie, final InterfaceList typeInterface,
 			final FBNetwork dstNetwork, final FBNetwork srcNetwork) {
 		if (null == ie.getFBNetworkElement()) {
@@ -305,7 +305,10 @@ public final class FordiacMarkerHelper {
 		fbType.setInterfaceList(LibraryElementFactory.eINSTANCE.createInterfaceList());
 		errorFb.setInterface(fbType.getInterfaceList().copy());
 		errorFb.setPaletteEntry(entry);
-		typeLibrary.getErrorTypeLib().addPaletteEntry(entry);
+		// types may be loaded in parallel (e.g., during a system import), which can create error types concurrently
+		synchronized (typeLibrary.getErrorTypeLib()) {
+			typeLibrary.getErrorTypeLib().addPaletteEntry(entry);
+		}
 		return errorFb;
 	}
 
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+
+/** Model elements whose contents are loaded on first access, e.g., the body of an FB type loaded interface only.
+ *
+ * The contents are loaded with notifications suppressed, as from the outside they have always been there. Accessing
+ * the contents (e.g., with eContents()) loads them, so plain EMF content adapters follow them without further ado.
+ * Adapters which deliberately do not follow the contents of an element which is not loaded yet, such as the type
+ * usage index, get a {@link #CONTENT_LOADED} notification from the element after its contents have been loaded and
+ * adapt the new contents then. */
+public final class LazyContent {
+
+	/** The event type of the notification sent by an element after its contents have been loaded. The notification
+	 * has no feature and neither an old nor a new value. */
+	public static final int CONTENT_LOADED = Notification.EVENT_TYPE_COUNT + 1;
+
+	/** A model element whose contents are loaded on first access. */
+	public interface Loadable {
+
+		/** @return true if the contents are loaded or have never been deferred */
+		boolean isContentLoaded();
+
+		/** Load the contents now if they have not been loaded yet, e.g., before the element is edited. */
+		void loadContent();
+	}
+
+	/** @param object any object, e.g., a model element
+	 * @return false if the object is a {@link Loadable} whose contents have not been loaded yet, true otherwise */
+	public static boolean isContentLoaded(final Object object) {
+		return !(object instanceof Loadable) || ((Loadable) object).isContentLoaded();
+	}
+
+	/** Load the contents of the given object if it is a {@link Loadable}.
+	 *
+	 * @param object any object, e.g., a model element */
+	public static void loadContent(final Object object) {
+		if (object instanceof Loadable) {
+			((Loadable) object).loadContent();
+		}
+	}
+
+	/** Inform the adapters of an element that its contents have been loaded. To be called by the {@link Loadable}s
+	 * after loading, with notifications delivered again.
+	 *
+	 * @param element the element whose contents have been loaded */
+	public static void notifyContentLoaded(final InternalEObject element) {
+		if (element.eNotificationRequired()) {
+			element.eNotify(new ENotificationImpl(element, CONTENT_LOADED, Notification.NO_FEATURE_ID, null, null));
+		}
+	}
+
+	private LazyContent() {
+		throw new UnsupportedOperationException("LazyContent should not be instantiated"); //$NON-NLS-1$
+	}
+}
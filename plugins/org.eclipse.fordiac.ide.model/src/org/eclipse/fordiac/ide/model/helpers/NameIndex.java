@@ -0,0 +1,495 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.model.libraryElement.BaseFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.Device;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.INamedElement;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
+import org.eclipse.fordiac.ide.model.libraryElement.SystemConfiguration;
+
+/** Hash index from names to the named children of a container, i.e., the pins of an interface list, the elements of
+ * an FB network, the devices of a system configuration and the resources of a device. For types with internal
+ * variables, whose names have to differ from the names of the pins, an index on the type covers both the pins of the
+ * type's interface list and the internal variables.
+ *
+ * The index is an EMF adapter on the container. It is created with the first lookup in a container with at least
+ * {@value #MIN_SIZE} children, smaller containers are searched linearly by the callers. Afterwards the adapter follows
+ * added, removed and replaced children of the container and a second adapter on each child follows its renames, so the
+ * index stays consistent with the model (including undo and redo of commands and bulk edits, see {@link BulkEdit}).
+ * The index can be switched off with the system property {@value #ENABLED_PROPERTY} or {@link #setEnabled(boolean)}.
+ *
+ * Lookups, unique name allocations and the updates from the adapters are synchronized on the index, as type
+ * interfaces and networks are shared between the instances and may be searched from several threads (e.g., during
+ * the parallel import of types and systems) while they are changed.
+ *
+ * The index also allocates unique names for the children with per-prefix counters, see
+ * {@link #createUniqueName(String, INamedElement, BinaryOperator)}. */
+public final class NameIndex extends AdapterImpl implements BulkEdit.ImmediateAdapter {
+
+	public static final String ENABLED_PROPERTY = "org.eclipse.fordiac.ide.model.nameIndex"; //$NON-NLS-1$
+
+	/** minimum number of children for which an index is created */
+	static final int MIN_SIZE = 16;
+
+	// the features are given in the order the linear searches visit them
+	private static final EReference[] INTERFACE_LIST_FEATURES = {
+			LibraryElementPackage.Literals.INTERFACE_LIST__EVENT_INPUTS,
+			LibraryElementPackage.Literals.INTERFACE_LIST__EVENT_OUTPUTS,
+			LibraryElementPackage.Literals.INTERFACE_LIST__INPUT_VARS,
+			LibraryElementPackage.Literals.INTERFACE_LIST__OUTPUT_VARS,
+			LibraryElementPackage.Literals.INTERFACE_LIST__PLUGS,
+			LibraryElementPackage.Literals.INTERFACE_LIST__SOCKETS,
+			LibraryElementPackage.Literals.INTERFACE_LIST__ERROR_MARKER };
+	private static final EReference[] FB_NETWORK_FEATURES = {
+			LibraryElementPackage.Literals.FB_NETWORK__NETWORK_ELEMENTS };
+	private static final EReference[] SYSTEM_CONFIGURATION_FEATURES = {
+			LibraryElementPackage.Literals.SYSTEM_CONFIGURATION__DEVICES };
+	private static final EReference[] DEVICE_FEATURES = { LibraryElementPackage.Literals.DEVICE__RESOURCE };
+	private static final EReference[] BASE_FB_TYPE_FEATURES = {
+			LibraryElementPackage.Literals.BASE_FB_TYPE__INTERNAL_VARS };
+
+	/** trailing numbers with more digits are not counted, so that the counters can not overflow */
+	private static final int MAX_COUNTED_DIGITS = 9;
+
+	private static volatile boolean enabled = Boolean
+			.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")); //$NON-NLS-1$
+
+	private final EObject container;
+	private final EReference[] features;
+	// for the index of a type the type's interface list, whose pins come first in the search order
+	private final InterfaceList interfaceList;
+	// the lists are unmodifiable singletons for unique names, which are the common case
+	private final Map<String, List<INamedElement>> elements = new HashMap<>();
+	// the per-prefix counters: for each prefix the run of numbers whose names are known to be used
+	private final Map<String, Run> runs = new HashMap<>();
+
+	/** A run of used names with the same prefix and the consecutive numbers from start (inclusive) to end
+	 * (exclusive). The name with the number end is the one which follows the run. */
+	private static final class Run {
+		private int start;
+		private int end;
+
+		private Run(final int number) {
+			start = number;
+			end = number + 1;
+		}
+
+		private boolean contains(final int number) {
+			return (start <= number) && (number < end);
+		}
+	}
+
+	/** A name ending with a number. The prefix is the name without the number together with the number of digits, as
+	 * the numbers keep their leading zeros. */
+	private static final class NumberedName {
+		private final String stem;
+		private final int digits;
+		private final int number;
+
+		private NumberedName(final String stem, final int digits, final int number) {
+			this.stem = stem;
+			this.digits = digits;
+			this.number = number;
+		}
+
+		/** @return the numbered name or null if the name does not end with a number which can be counted */
+		private static NumberedName parse(final String name) {
+			if (null == name) {
+				return null;
+			}
+			int stemLength = name.length();
+			while ((stemLength > 1) && (name.charAt(stemLength - 1) >= '0') && (name.charAt(stemLength - 1) <= '9')) {
+				stemLength--;
+			}
+			final int digits = name.length() - stemLength;
+			if ((0 == digits) || (digits > MAX_COUNTED_DIGITS)) {
+				return null;
+			}
+			return new NumberedName(name.substring(0, stemLength), digits,
+					Integer.parseInt(name.substring(stemLength)));
+		}
+
+		private String getPrefix() {
+			return stem + '#' + digits;
+		}
+
+		private String withNumber(final int newNumber) {
+			final StringBuilder name = new StringBuilder(stem);
+			final String numberText = Integer.toString(newNumber);
+			for (int i = numberText.length(); i < digits; i++) {
+				name.append('0');
+			}
+			return name.append(numberText).toString();
+		}
+	}
+
+	// for types the notifications of the interface list are handled by the index
+	private final Adapter interfaceListAdapter = new AdapterImpl() {
+		@Override
+		public void notifyChanged(final Notification notification) {
+			NameIndex.this.notifyChanged(notification);
+		}
+	};
+
+	private final Adapter nameAdapter = new AdapterImpl() {
+		@Override
+		public void notifyChanged(final Notification notification) {
+			if ((LibraryElementPackage.Literals.INAMED_ELEMENT__NAME == notification.getFeature())
+					&& (Notification.SET == notification.getEventType())) {
+				final INamedElement element = (INamedElement) notification.getNotifier();
+				synchronized (NameIndex.this) {
+					remove(notification.getOldStringValue(), element);
+					add(notification.getNewStringValue(), element);
+				}
+			}
+		}
+	};
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(final boolean enabled) {
+		NameIndex.enabled = enabled;
+	}
+
+	/** @return the index of the interface list's pins or null if the list should be searched linearly */
+	public static NameIndex of(final InterfaceList interfaceList) {
+		return get(interfaceList, INTERFACE_LIST_FEATURES);
+	}
+
+	/** @return the index of the network's elements or null if the network should be searched linearly */
+	public static NameIndex of(final FBNetwork network) {
+		return get(network, FB_NETWORK_FEATURES);
+	}
+
+	/** @return the index of the configuration's devices or null if the devices should be searched linearly */
+	public static NameIndex of(final SystemConfiguration systemConfiguration) {
+		return get(systemConfiguration, SYSTEM_CONFIGURATION_FEATURES);
+	}
+
+	/** @return the index of the device's resources or null if the resources should be searched linearly */
+	public static NameIndex of(final Device device) {
+		return get(device, DEVICE_FEATURES, null);
+	}
+
+	/** @return the index of the type's pins and internal variables or null if they should be searched linearly */
+	public static NameIndex of(final BaseFBType type) {
+		if (null == type.getInterfaceList()) {
+			return null;
+		}
+		return get(type, BASE_FB_TYPE_FEATURES, type.getInterfaceList());
+	}
+
+	private static NameIndex get(final EObject container, final EReference[] features) {
+		return get(container, features, null);
+	}
+
+	private static NameIndex get(final EObject container, final EReference[] features,
+			final InterfaceList interfaceList) {
+		if (!enabled) {
+			return null;
+		}
+		// types are shared between the instances and may be searched from several threads during the import
+		synchronized (container) {
+			final NameIndex index = (NameIndex) EcoreUtil.getExistingAdapter(container, NameIndex.class);
+			if (null != index) {
+				return index;
+			}
+			final int size = size(container, features)
+					+ ((null != interfaceList) ? size(interfaceList, INTERFACE_LIST_FEATURES) : 0);
+			if (size < MIN_SIZE) {
+				return null;
+			}
+			final NameIndex newIndex = new NameIndex(container, features, interfaceList);
+			container.eAdapters().add(newIndex);
+			return newIndex;
+		}
+	}
+
+	private static int size(final EObject container, final EReference[] features) {
+		int size = 0;
+		for (final EReference feature : features) {
+			size += ((List<?>) container.eGet(feature)).size();
+		}
+		return size;
+	}
+
+	private NameIndex(final EObject container, final EReference[] features, final InterfaceList interfaceList) {
+		this.container = container;
+		this.features = features;
+		this.interfaceList = interfaceList;
+		if (null != interfaceList) {
+			for (final EReference feature : INTERFACE_LIST_FEATURES) {
+				((List<?>) interfaceList.eGet(feature)).forEach(this::add);
+			}
+			interfaceList.eAdapters().add(interfaceListAdapter);
+		}
+		for (final EReference feature : features) {
+			((List<?>) container.eGet(feature)).forEach(this::add);
+		}
+	}
+
+	/** Find the child with the given name.
+	 *
+	 * @param name the name to look for
+	 * @return the child or null if there is none, if several children have the name the first one in the order of
+	 *         the container's features and lists is returned */
+	public INamedElement find(final String name) {
+		return find(name, element -> true);
+	}
+
+	/** Find the child with the given name which matches the filter.
+	 *
+	 * @param name   the name to look for
+	 * @param filter the condition the child has to fulfill (e.g., its type or containing feature)
+	 * @return the child or null if there is none, if several matching children have the name the first one in the
+	 *         order of the container's features and lists is returned */
+	public synchronized INamedElement find(final String name, final Predicate<? super INamedElement> filter) {
+		final List<INamedElement> candidates = elements.get(name);
+		if (null == candidates) {
+			return null;
+		}
+		if (1 == candidates.size()) {
+			final INamedElement element = candidates.get(0);
+			return filter.test(element) ? element : null;
+		}
+		return findFirst(candidates, filter);
+	}
+
+	private INamedElement findFirst(final List<INamedElement> candidates,
+			final Predicate<? super INamedElement> filter) {
+		// duplicate names are rare (e.g., broken models), therefore the order is determined with a linear search
+		if (null != interfaceList) {
+			final INamedElement pin = findFirst(interfaceList, INTERFACE_LIST_FEATURES, candidates, filter);
+			if (null != pin) {
+				return pin;
+			}
+		}
+		return findFirst(container, features, candidates, filter);
+	}
+
+	private static INamedElement findFirst(final EObject parent, final EReference[] parentFeatures,
+			final List<INamedElement> candidates, final Predicate<? super INamedElement> filter) {
+		for (final EReference feature : parentFeatures) {
+			for (final Object child : (List<?>) parent.eGet(feature)) {
+				if (candidates.contains(child) && filter.test((INamedElement) child)) {
+					return (INamedElement) child;
+				}
+			}
+		}
+		return null;
+	}
+
+	/** Check if a child other than the given element has the name.
+	 *
+	 * @param name    the name to check
+	 * @param element the element to ignore, may be null
+	 * @return true if the name is used */
+	public synchronized boolean isUsed(final String name, final INamedElement element) {
+		final List<INamedElement> candidates = elements.get(name);
+		return (null != candidates) && ((candidates.size() > 1) || (candidates.get(0) != element));
+	}
+
+	/** Create a name for the element which no other child has.
+	 *
+	 * The names nameProposal, nextName(nameProposal, nameProposal), nextName(nameProposal, previous), ... are probed
+	 * until a name is found which is not used. Each time a used name ending with a number is followed by the name with
+	 * the incremented number, the counter of the name's prefix (the name without the number) is advanced: it keeps
+	 * the run of consecutive numbers whose names are used. Later searches reaching a name of the run (e.g., when
+	 * pasting many elements or creating many instances of one type) jump to the end of the run instead of probing
+	 * the used names one by one. When a name of a run is freed, e.g., by a delete, a rename or an undo, the run is
+	 * cut off before it. Therefore the result is the same as the one of a plain probing. A run is not skipped if it
+	 * contains the element's own name, which is free for the element.
+	 *
+	 * @param nameProposal the first name to probe
+	 * @param element      the element the name is for, it is ignored when checking the names
+	 * @param nextName     creates the name to probe after a used name from the proposal and the used name, the
+	 *                     result may only depend on the proposal if the used name is the proposal itself and a used
+	 *                     name ending with a number has to be followed by the name with the incremented number
+	 *                     whenever it is followed by it for another proposal
+	 * @return a name not used by any other child */
+	public synchronized String createUniqueName(final String nameProposal, final INamedElement element,
+			final BinaryOperator<String> nextName) {
+		final NumberedName ownName = isUsed(element.getName(), element) ? null
+				: NumberedName.parse(element.getName());
+		String name = nameProposal;
+		while (isUsed(name, element)) {
+			final NumberedName used = NumberedName.parse(name);
+			final Run run = (null != used) ? runs.get(used.getPrefix()) : null;
+			if ((null != run) && run.contains(used.number) && !containsOwnName(run, used, ownName)) {
+				name = used.withNumber(run.end);
+			} else {
+				final String next = nextName.apply(nameProposal, name);
+				count(used, next);
+				name = next;
+			}
+		}
+		return name;
+	}
+
+	/** @return true if the part of the run which would be skipped from the used name contains the own name */
+	private static boolean containsOwnName(final Run run, final NumberedName used, final NumberedName ownName) {
+		return (null != ownName) && ownName.getPrefix().equals(used.getPrefix()) && (ownName.number >= used.number)
+				&& run.contains(ownName.number);
+	}
+
+	/** advance the counter of the used name's prefix if the used name is followed by the next number */
+	private void count(final NumberedName used, final String next) {
+		if ((null == used) || !next.equals(used.withNumber(used.number + 1))) {
+			return;
+		}
+		final Run run = runs.get(used.getPrefix());
+		if ((null != run) && (run.start <= used.number) && (used.number <= run.end)) {
+			run.end = Math.max(run.end, used.number + 1);
+		} else if ((null != run) && (run.start == (used.number + 1))) {
+			run.start = used.number;
+		} else {
+			runs.put(used.getPrefix(), new Run(used.number));
+		}
+	}
+
+	/** cut off the run containing the freed name before it */
+	private void free(final String name) {
+		final NumberedName freed = NumberedName.parse(name);
+		final Run run = (null != freed) ? runs.get(freed.getPrefix()) : null;
+		if ((null != run) && run.contains(freed.number)) {
+			if (run.start == freed.number) {
+				runs.remove(freed.getPrefix());
+			} else {
+				run.end = freed.number;
+			}
+		}
+	}
+
+	@Override
+	public boolean isAdapterForType(final Object type) {
+		return NameIndex.class == type;
+	}
+
+	@Override
+	public synchronized void notifyChanged(final Notification notification) {
+		if ((null != interfaceList)
+				&& (LibraryElementPackage.Literals.FB_TYPE__INTERFACE_LIST == notification.getFeature())) {
+			// the index is created again for the new interface list with the next lookup
+			dispose();
+			return;
+		}
+		if (!isIndexedFeature(notification.getFeature())) {
+			return;
+		}
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			add(notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			((List<?>) notification.getNewValue()).forEach(this::add);
+			break;
+		case Notification.REMOVE:
+			remove(notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			((List<?>) notification.getOldValue()).forEach(this::remove);
+			break;
+		case Notification.SET:
+			remove(notification.getOldValue());
+			add(notification.getNewValue());
+			break;
+		default:
+			break;
+		}
+	}
+
+	private boolean isIndexedFeature(final Object feature) {
+		return contains(features, feature) || ((null != interfaceList) && contains(INTERFACE_LIST_FEATURES, feature));
+	}
+
+	private static boolean contains(final EReference[] indexedFeatures, final Object feature) {
+		for (final EReference indexed : indexedFeatures) {
+			if (indexed == feature) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void dispose() {
+		container.eAdapters().remove(this);
+		interfaceList.eAdapters().remove(interfaceListAdapter);
+		for (final List<INamedElement> candidates : elements.values()) {
+			candidates.forEach(element -> element.eAdapters().remove(nameAdapter));
+		}
+		elements.clear();
+		runs.clear();
+	}
+
+	private void add(final Object child) {
+		if (child instanceof INamedElement) {
+			final INamedElement element = (INamedElement) child;
+			add(element.getName(), element);
+			element.eAdapters().add(nameAdapter);
+		}
+	}
+
+	private void remove(final Object child) {
+		if (child instanceof INamedElement) {
+			final INamedElement element = (INamedElement) child;
+			element.eAdapters().remove(nameAdapter);
+			remove(element.getName(), element);
+		}
+	}
+
+	private void add(final String name, final INamedElement element) {
+		final List<INamedElement> candidates = elements.get(name);
+		if (null == candidates) {
+			elements.put(name, Collections.singletonList(element));
+		} else {
+			final List<INamedElement> newCandidates = new ArrayList<>(candidates);
+			newCandidates.add(element);
+			elements.put(name, newCandidates);
+		}
+	}
+
+	private void remove(final String name, final INamedElement element) {
+		final List<INamedElement> candidates = elements.get(name);
+		if (null == candidates) {
+			return;
+		}
+		if (1 == candidates.size()) {
+			if (candidates.get(0) == element) {
+				elements.remove(name);
+				free(name);
+			}
+		} else {
+			candidates.remove(element);
+		}
+	}
+
+}
@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.fordiac.ide.model.Palette.DeviceTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.ResourceTypeEntry;
+import org.eclipse.fordiac.ide.model.dataexport.SystemExporter;
+import org.eclipse.fordiac.ide.model.dataimport.SystemImporter;
+import org.eclipse.fordiac.ide.model.libraryElement.Application;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.Connection;
+import org.eclipse.fordiac.ide.model.libraryElement.Device;
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.Mapping;
+import org.eclipse.fordiac.ide.model.libraryElement.Resource;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.eclipse.fordiac.ide.model.typelibrary.EventTypeLibrary;
+
+/** Generates synthetic systems of configurable size, e.g., for benchmarks and scale tests.
+ *
+ * Each application network contains a number of FBs of the given type and untyped subapps, the subapps contain the
+ * same structure down to the configured nesting depth. The first event output of each FB is connected to the first
+ * event input of the following FBs according to the fan-out, and the first data output with a matching data input of
+ * the next FB to that input. The subapps' event input triggers the first FB of their network. A share of the FBs is
+ * mapped to the resources of the generated devices, connections between FBs mapped to the same resource are created
+ * in the resource as well.
+ *
+ * All FBs have system wide unique names, the generation is deterministic. */
+public final class SyntheticSystemGenerator {
+
+	private static final String SUBAPP_EVENT_INPUT = "EI"; //$NON-NLS-1$
+	private static final int GRID = 200;
+	private static final int COLUMNS = 20;
+
+	private final FBTypePaletteEntry fbType;
+	private DeviceTypePaletteEntry deviceType;
+	private ResourceTypeEntry resourceType;
+	private int applications = 1;
+	private int fbsPerNetwork = 100;
+	private int subAppsPerNetwork = 0;
+	private int subAppDepth = 0;
+	private int fanOut = 1;
+	private int devices = 1;
+	private int resourcesPerDevice = 1;
+	private double mappingRatio = 0.0;
+
+	private int fbCount;
+	private final List<FB> applicationFBs = new ArrayList<>();
+
+	/** @param fbType the type of the generated FBs, it needs at least one event input and one event output */
+	public SyntheticSystemGenerator(final FBTypePaletteEntry fbType) {
+		this.fbType = fbType;
+	}
+
+	public SyntheticSystemGenerator setApplications(final int applications) {
+		this.applications = applications;
+		return this;
+	}
+
+	public SyntheticSystemGenerator setFBsPerNetwork(final int fbsPerNetwork) {
+		this.fbsPerNetwork = fbsPerNetwork;
+		return this;
+	}
+
+	/** @param subAppsPerNetwork the number of subapps in each network above the deepest nesting level
+	 * @param subAppDepth       the nesting depth of subapps, 0 for flat applications */
+	public SyntheticSystemGenerator setSubApps(final int subAppsPerNetwork, final int subAppDepth) {
+		this.subAppsPerNetwork = subAppsPerNetwork;
+		this.subAppDepth = subAppDepth;
+		return this;
+	}
+
+	/** @param fanOut the number of following FBs each FB's event output is connected to */
+	public SyntheticSystemGenerator setFanOut(final int fanOut) {
+		this.fanOut = fanOut;
+		return this;
+	}
+
+	/** @param devices            the number of devices
+	 * @param resourcesPerDevice the number of resources of each device
+	 * @param deviceType         the type of the devices, may be null
+	 * @param resourceType       the type of the resources, may be null */
+	public SyntheticSystemGenerator setDevices(final int devices, final int resourcesPerDevice,
+			final DeviceTypePaletteEntry deviceType, final ResourceTypeEntry resourceType) {
+		this.devices = devices;
+		this.resourcesPerDevice = resourcesPerDevice;
+		this.deviceType = deviceType;
+		this.resourceType = resourceType;
+		return this;
+	}
+
+	/** @param mappingRatio the share of FBs mapped to resources, between 0 and 1 */
+	public SyntheticSystemGenerator setMappingRatio(final double mappingRatio) {
+		this.mappingRatio = Math.max(0.0, Math.min(1.0, mappingRatio));
+		return this;
+	}
+
+	/** @return the number of FBs of each application with the current settings */
+	public int getFBsPerApplication() {
+		int fbs = 0;
+		int networks = 1;
+		for (int level = 0; level <= subAppDepth; level++) {
+			fbs += networks * fbsPerNetwork;
+			networks *= subAppsPerNetwork;
+		}
+		return fbs;
+	}
+
+	/** Create the system and save it to the given file.
+	 *
+	 * @param systemFile the file of the system, its project's type library has to contain the used types
+	 * @return the generated system */
+	public AutomationSystem generate(final IFile systemFile) {
+		final AutomationSystem system = create(systemFile);
+		new SystemExporter(system).saveSystem(systemFile);
+		return system;
+	}
+
+	/** Create the system model without saving it.
+	 *
+	 * @param systemFile the file of the system, its project's type library has to contain the used types
+	 * @return the generated system */
+	public AutomationSystem create(final IFile systemFile) {
+		fbCount = 0;
+		applicationFBs.clear();
+		final AutomationSystem system = SystemImporter.createAutomationSystem(systemFile);
+		for (int i = 0; i < applications; i++) {
+			final Application application = LibraryElementFactory.eINSTANCE.createApplication();
+			application.setName("App" + i); //$NON-NLS-1$
+			application.setFBNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+			system.getApplication().add(application);
+			fillNetwork(application.getFBNetwork(), subAppDepth, null);
+		}
+		final List<Resource> resources = createDevices(system);
+		if (!resources.isEmpty()) {
+			createMappings(system, resources);
+		}
+		return system;
+	}
+
+	private void fillNetwork(final FBNetwork network, final int depth, final IInterfaceElement trigger) {
+		final List<FB> fbs = new ArrayList<>(fbsPerNetwork);
+		for (int i = 0; i < fbsPerNetwork; i++) {
+			final FB fb = createFB("FB" + fbCount++, network.getNetworkElements().size()); //$NON-NLS-1$
+			network.getNetworkElements().add(fb);
+			fbs.add(fb);
+			applicationFBs.add(fb);
+		}
+		if (!fbs.isEmpty() && (null != trigger)) {
+			addConnection(network, trigger, getFirstEventInput(fbs.get(0)));
+		}
+		for (int i = 0; i < fbs.size(); i++) {
+			final IInterfaceElement source = getFirstEventOutput(fbs.get(i));
+			for (int target = i + 1; target <= Math.min(i + fanOut, fbs.size() - 1); target++) {
+				addConnection(network, source, getFirstEventInput(fbs.get(target)));
+			}
+			if (i + 1 < fbs.size()) {
+				addDataConnection(network, fbs.get(i), fbs.get(i + 1));
+			}
+		}
+		if (0 < depth) {
+			for (int i = 0; i < subAppsPerNetwork; i++) {
+				final SubApp subApp = createSubApp("Sub" + i, network.getNetworkElements().size()); //$NON-NLS-1$
+				network.getNetworkElements().add(subApp);
+				final IInterfaceElement subAppInput = subApp.getInterface().getEventInputs().get(0);
+				if (!fbs.isEmpty()) {
+					addConnection(network, getFirstEventOutput(fbs.get(i % fbs.size())), subAppInput);
+				}
+				fillNetwork(subApp.getSubAppNetwork(), depth - 1, subAppInput);
+			}
+		}
+	}
+
+	private FB createFB(final String name, final int index) {
+		final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		fb.setName(name);
+		fb.setInterface(fbType.getFBType().getInterfaceList().copy());
+		fb.setPaletteEntry(fbType);
+		fb.updatePosition((index % COLUMNS) * GRID, (index / COLUMNS) * GRID);
+		return fb;
+	}
+
+	private static SubApp createSubApp(final String name, final int index) {
+		final SubApp subApp = LibraryElementFactory.eINSTANCE.createSubApp();
+		subApp.setName(name);
+		final InterfaceList interfaceList = LibraryElementFactory.eINSTANCE.createInterfaceList();
+		final Event input = LibraryElementFactory.eINSTANCE.createEvent();
+		input.setName(SUBAPP_EVENT_INPUT);
+		input.setIsInput(true);
+		input.setType(EventTypeLibrary.getInstance().getType(null));
+		interfaceList.getEventInputs().add(input);
+		subApp.setInterface(interfaceList);
+		subApp.setSubAppNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		subApp.updatePosition((index % COLUMNS) * GRID, (index / COLUMNS) * GRID);
+		return subApp;
+	}
+
+	private static IInterfaceElement getFirstEventInput(final FB fb) {
+		return fb.getInterface().getEventInputs().get(0);
+	}
+
+	private static IInterfaceElement getFirstEventOutput(final FB fb) {
+		return fb.getInterface().getEventOutputs().get(0);
+	}
+
+	/** connect the first data output to the first unconnected data input of the same type */
+	private static void addDataConnection(final FBNetwork network, final FB source, final FB destination) {
+		for (final VarDeclaration output : source.getInterface().getOutputVars()) {
+			for (final VarDeclaration input : destination.getInterface().getInputVars()) {
+				if ((input.getType() == output.getType()) && input.getInputConnections().isEmpty()) {
+					addConnection(network, output, input);
+					return;
+				}
+			}
+		}
+	}
+
+	private static void addConnection(final FBNetwork network, final IInterfaceElement source,
+			final IInterfaceElement destination) {
+		final Connection connection = (source instanceof Event)
+				? LibraryElementFactory.eINSTANCE.createEventConnection()
+						: LibraryElementFactory.eINSTANCE.createDataConnection();
+		connection.setSource(source);
+		connection.setDestination(destination);
+		connection.setRoutingData(LibraryElementFactory.eINSTANCE.createConnectionRoutingData());
+		network.addConnection(connection);
+	}
+
+	private List<Resource> createDevices(final AutomationSystem system) {
+		final List<Resource> resources = new ArrayList<>();
+		for (int i = 0; i < devices; i++) {
+			final Device device = LibraryElementFactory.eINSTANCE.createDevice();
+			device.setName("Dev" + i); //$NON-NLS-1$
+			device.setPaletteEntry(deviceType);
+			device.updatePosition((i % COLUMNS) * GRID, (i / COLUMNS) * GRID);
+			for (int r = 0; r < resourcesPerDevice; r++) {
+				final Resource resource = LibraryElementFactory.eINSTANCE.createResource();
+				resource.setName("Res" + r); //$NON-NLS-1$
+				resource.setPaletteEntry(resourceType);
+				resource.setFBNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+				device.getResource().add(resource);
+				resources.add(resource);
+			}
+			system.getSystemConfiguration().getDevices().add(device);
+		}
+		return resources;
+	}
+
+	/** Map consecutive blocks of the selected FBs to the resources, so that connected FBs share their resource. */
+	private void createMappings(final AutomationSystem system, final List<Resource> resources) {
+		final List<FB> mapped = new ArrayList<>();
+		for (int i = 0; i < applicationFBs.size(); i++) {
+			if (Math.floor((i + 1) * mappingRatio) > Math.floor(i * mappingRatio)) {
+				mapped.add(applicationFBs.get(i));
+			}
+		}
+		final Map<FB, FB> resourceFBs = new HashMap<>();
+		for (int i = 0; i < mapped.size(); i++) {
+			final FB from = mapped.get(i);
+			final FBNetwork network = resources.get((int) ((long) i * resources.size() / mapped.size()))
+					.getFBNetwork();
+			final FB to = createFB(from.getName(), network.getNetworkElements().size());
+			network.getNetworkElements().add(to);
+			resourceFBs.put(from, to);
+
+			final Mapping mapping = LibraryElementFactory.eINSTANCE.createMapping();
+			mapping.setFrom(from);
+			mapping.setTo(to);
+			from.setMapping(mapping);
+			to.setMapping(mapping);
+			system.getMapping().add(mapping);
+		}
+		for (final FB from : mapped) {
+			for (final IInterfaceElement output : from.getInterface().getAllInterfaceElements()) {
+				if (!output.isIsInput()) {
+					output.getOutputConnections().forEach(connection -> addResourceConnection(connection, resourceFBs));
+				}
+			}
+		}
+	}
+
+	private static void addResourceConnection(final Connection connection, final Map<FB, FB> resourceFBs) {
+		final FB source = resourceFBs.get(connection.getSourceElement());
+		final FB destination = resourceFBs.get(connection.getDestinationElement());
+		if ((null != source) && (null != destination) && (source.getFbNetwork() == destination.getFbNetwork())) {
+			addConnection(source.getFbNetwork(), source.getInterfaceElement(connection.getSource().getName()),
+					destination.getInterfaceElement(connection.getDestination().getName()));
+		}
+	}
+
+}
@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.fordiac.ide.model.Activator;
@@ -36,8 +38,10 @@ import org.eclipse.fordiac.ide.model.datatype.helper.IecTypes.GenericTypes;
 
 public final class DataTypeLibrary {
 
-	private final Map<String, DataType> typeMap = new HashMap<>();
+	// concurrent as types may be loaded in parallel and missing types are added on the fly
+	private final Map<String, DataType> typeMap = new ConcurrentHashMap<>();
 	private final Map<String, DataTypePaletteEntry> derivedTypeMap = new HashMap<>();
+	private final TypeSearchIndex<String> nameIndex = new TypeSearchIndex<>(Function.identity());
 
 	/** Instantiates a new data type library. */
 	public DataTypeLibrary() {
@@ -48,19 +52,36 @@ public final class DataTypeLibrary {
 
 	public void addPaletteEntry(final DataTypePaletteEntry entry) {
 		derivedTypeMap.put(entry.getLabel(), entry);
+		nameIndex.add(entry.getLabel());
 	}
 
 	public void removePaletteEntry(final DataTypePaletteEntry entry) {
 		derivedTypeMap.remove(entry.getLabel());
+		if (!typeMap.containsKey(entry.getLabel())) {
+			nameIndex.remove(entry.getLabel());
+		}
 	}
 
 	/** Inits the elementary types. */
 	private void initElementaryTypes() {
-		Arrays.asList(ElementaryTypes.getAllElementaryType()).forEach(type -> typeMap.put(type.getName(), type));
+		Arrays.asList(ElementaryTypes.getAllElementaryType()).forEach(this::addBuiltinType);
 	}
 
 	private void initGenericTypes() {
-		Arrays.asList(GenericTypes.getAllGenericTypes()).forEach(type -> typeMap.put(type.getName(), type));
+		Arrays.asList(GenericTypes.getAllGenericTypes()).forEach(this::addBuiltinType);
+	}
+
+	private void addBuiltinType(final DataType type) {
+		typeMap.put(type.getName(), type);
+		nameIndex.add(type.getName());
+	}
+
+	/** Find the names of the elementary, generic and derived data types starting with the given prefix.
+	 *
+	 * @param prefix the beginning of the type names ignoring the case
+	 * @return the type names sorted alphabetically */
+	public List<String> findTypeNames(final String prefix) {
+		return nameIndex.findByPrefix(prefix);
 	}
 
 	public Map<String, DataTypePaletteEntry> getDerivedDataTypes() {
@@ -103,9 +124,12 @@ public final class DataTypeLibrary {
 			if (null == type) {
 				// TODO reconsider if in this case a new type should be created
 				Activator.getDefault().logInfo("Missing Datatype: " + name); //$NON-NLS-1$
-				type = DataFactory.eINSTANCE.createElementaryType();
-				type.setName(name);
-				typeMap.put(name, type);
+				final DataType missingType = DataFactory.eINSTANCE.createElementaryType();
+				missingType.setName(name);
+				type = typeMap.computeIfAbsent(name, key -> {
+					nameIndex.add(key);
+					return missingType;
+				});
 			}
 		}
 		return type;
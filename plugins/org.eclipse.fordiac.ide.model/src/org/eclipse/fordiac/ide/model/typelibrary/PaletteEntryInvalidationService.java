@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.Activator;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.impl.PaletteEntryImpl;
+
+/** Marks the types of palette entries as outdated when their type file changes and indexes them again for the type
+ * search.
+ *
+ * Instead of comparing the modification stamp of the type file on each access to a palette entry's type, the
+ * resource deltas of the workspace are used to invalidate the loaded types. Changes written by 4diac IDE itself (e.g.,
+ * when saving a type) update the entry's last modification timestamp and are therefore not treated as outdated. */
+public final class PaletteEntryInvalidationService implements IResourceChangeListener {
+
+	private static final int CONTENT_CHANGE_FLAGS = IResourceDelta.CONTENT | IResourceDelta.REPLACED;
+
+	private static PaletteEntryInvalidationService instance = null;
+
+	public static synchronized void install() {
+		if (null == instance) {
+			instance = new PaletteEntryInvalidationService();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(instance, IResourceChangeEvent.POST_CHANGE);
+		}
+	}
+
+	public static synchronized void uninstall() {
+		if (null != instance) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(instance);
+			instance = null;
+		}
+	}
+
+	/** Mark the entry's type as outdated if it's file has been changed since the type was loaded.
+	 *
+	 * @param entry the palette entry to check */
+	public static void invalidate(final PaletteEntry entry) {
+		if ((entry instanceof PaletteEntryImpl) && (null != entry.getFile())) {
+			final long stamp = entry.getFile().getModificationStamp();
+			if ((IResource.NULL_STAMP != stamp) && (stamp != entry.getLastModificationTimestamp())) {
+				((PaletteEntryImpl) entry).invalidateType();
+			}
+		}
+	}
+
+	private final IResourceDeltaVisitor visitor = delta -> {
+		final IResource resource = delta.getResource();
+		if (IResource.FILE == resource.getType()) {
+			if ((IResourceDelta.CHANGED == delta.getKind()) && (0 != (delta.getFlags() & CONTENT_CHANGE_FLAGS))) {
+				final TypeLibrary typeLib = TypeLibrary.getLoadedTypeLibrary(resource.getProject());
+				if (null != typeLib) {
+					final PaletteEntry entry = typeLib.getPaletteEntry((IFile) resource);
+					if (null != entry) {
+						invalidate(entry);
+						// the comment or version may have changed, they are read again with the next full text search
+						typeLib.getSearchIndex().add(entry);
+					}
+				}
+			}
+			return false;
+		}
+		// only descend into open projects
+		return (IResource.PROJECT != resource.getType()) || resource.getProject().isOpen();
+	};
+
+	private PaletteEntryInvalidationService() {
+		// only created by install
+	}
+
+	@Override
+	public void resourceChanged(final IResourceChangeEvent event) {
+		if (null != event.getDelta()) {
+			try {
+				event.getDelta().accept(visitor);
+			} catch (final CoreException e) {
+				Activator.getDefault().logError("Could not process resource delta", e); //$NON-NLS-1$
+			}
+		}
+	}
+
+}
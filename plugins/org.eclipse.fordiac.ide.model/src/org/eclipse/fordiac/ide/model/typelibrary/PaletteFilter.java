@@ -17,8 +17,10 @@ import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
 import org.eclipse.fordiac.ide.model.Palette.Palette;
 import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.SubApplicationTypePaletteEntry;
 import org.eclipse.ui.dialogs.SearchPattern;
 
 public class PaletteFilter {
@@ -32,6 +34,17 @@ public class PaletteFilter {
 	}
 
 	public List<PaletteEntry> findFBAndSubappTypes(final String searchString) {
+		final TypeLibrary typeLib = palette.getTypeLibrary();
+		if ((null != typeLib) && (palette == typeLib.getBlockTypeLib())) {
+			// only match the candidates from the search index instead of all types
+			setSearchPattern(searchString);
+			return typeLib.getSearchIndex().findCandidates(searchString).stream()
+					.filter(entry -> (entry instanceof FBTypePaletteEntry)
+							|| (entry instanceof SubApplicationTypePaletteEntry))
+					.filter(entry -> matcher.matches(entry.getLabel()))
+					.filter(entry -> (null != entry.getType())) // only forward types that can be loaded correctly
+					.collect(Collectors.toList());
+		}
 		final Stream<Entry<String, ? extends PaletteEntry>> stream = Stream.concat(palette.getFbTypes().entrySet().stream(),
 				palette.getSubAppTypes().entrySet().stream());
 		return findTypes(searchString, stream);
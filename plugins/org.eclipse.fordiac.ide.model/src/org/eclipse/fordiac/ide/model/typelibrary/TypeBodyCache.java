@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.fordiac.ide.model.libraryElement.impl.FBTypeImpl;
+
+/** Keeps the memory held by the lazily loaded bodies of FB types (ECC, algorithms, internal variables and FBs,
+ * networks, service sequences) within a configurable budget.
+ *
+ * FB types are loaded interface only and their body is loaded the first time it is accessed. Every loaded body is
+ * registered here with an estimate of its size. When the estimated size of all loaded bodies exceeds the budget, the
+ * least recently used bodies are unloaded (see {@link FBTypeImpl#unloadBody()}): they are taken from their type and
+ * only kept behind a soft reference, so the garbage collector may reclaim them when memory gets short. With the next
+ * access an unloaded body is put back if it has not been reclaimed yet, otherwise it is loaded from the type file
+ * again. The interface of a type always stays in memory, as it is referenced by all instances of the type. Bodies
+ * which are observed by adapters (e.g., by an open editor) and bodies used within the last ten seconds are never
+ * unloaded.
+ *
+ * The budget is given in bytes and can be set with the system property {@value #BUDGET_PROPERTY} or with
+ * {@link #setMemoryBudget(long)}. */
+public enum TypeBodyCache {
+	INSTANCE;
+
+	public static final String BUDGET_PROPERTY = "org.eclipse.fordiac.ide.model.typeBodyCache.budget"; //$NON-NLS-1$
+	private static final long DEFAULT_BUDGET = 128L * 1024 * 1024;
+	/** bodies accessed within this time are never unloaded, so that a body is not taken away while it is used */
+	private static final long MIN_IDLE_TIME = TimeUnit.SECONDS.toNanos(10);
+
+	/** the loaded bodies with their estimated size, weak so that types removed from their library can be collected */
+	private final Map<FBTypeImpl, Long> loadedBodies = new WeakHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder restores = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private long loadedBytes;
+	private long memoryBudget = Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET).longValue();
+	private long minIdleTime = MIN_IDLE_TIME;
+
+	/** Count an access to a loaded body. */
+	public void bodyHit() {
+		hits.increment();
+	}
+
+	/** Register a body which has just been loaded and unload the least recently used bodies if the budget is
+	 * exceeded.
+	 *
+	 * @param type     the type whose body has been loaded
+	 * @param restored true if an unloaded body has been put back, false if it has been loaded from the type file */
+	public void bodyLoaded(final FBTypeImpl type, final boolean restored) {
+		if (restored) {
+			restores.increment();
+		} else {
+			misses.increment();
+		}
+		final long size = type.estimateBodySize();
+		final List<FBTypeImpl> candidates;
+		synchronized (this) {
+			final Long oldSize = loadedBodies.put(type, Long.valueOf(size));
+			loadedBytes += size - ((null != oldSize) ? oldSize.longValue() : 0);
+			if (loadedBytes <= memoryBudget) {
+				return;
+			}
+			candidates = new ArrayList<>(loadedBodies.keySet());
+		}
+		evict(type, candidates);
+	}
+
+	private void evict(final FBTypeImpl loadedType, final List<FBTypeImpl> candidates) {
+		final long now = System.nanoTime();
+		candidates.sort(Comparator.comparingLong(FBTypeImpl::getLastBodyAccess));
+		for (final FBTypeImpl candidate : candidates) {
+			if (getLoadedBytes() <= getMemoryBudget()) {
+				return;
+			}
+			if ((candidate != loadedType) && ((now - candidate.getLastBodyAccess()) >= getMinIdleTime())
+					&& candidate.unloadBody()) {
+				bodyUnloaded(candidate);
+				evictions.increment();
+			}
+		}
+	}
+
+	private synchronized void bodyUnloaded(final FBTypeImpl type) {
+		final Long size = loadedBodies.remove(type);
+		if (null != size) {
+			loadedBytes -= size.longValue();
+		}
+	}
+
+	/** @return the number of accesses to loaded bodies */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/** @return the number of bodies loaded from their type file */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/** @return the number of unloaded bodies put back before they have been reclaimed */
+	public long getRestores() {
+		return restores.sum();
+	}
+
+	/** @return the number of unloaded bodies */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	public synchronized long getLoadedBytes() {
+		return loadedBytes;
+	}
+
+	public synchronized int getLoadedBodyCount() {
+		return loadedBodies.size();
+	}
+
+	public synchronized long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/** Set the memory budget for loaded bodies. Bodies exceeding the new budget are unloaded with the next load.
+	 *
+	 * @param memoryBudget the estimated number of bytes the loaded bodies may occupy */
+	public synchronized void setMemoryBudget(final long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
+	private synchronized long getMinIdleTime() {
+		return minIdleTime;
+	}
+
+	/** Set the time a body has to be unused before it may be unloaded, e.g., for tests.
+	 *
+	 * @param minIdleTime the minimum idle time in nanoseconds */
+	public synchronized void setMinIdleTime(final long minIdleTime) {
+		this.minIdleTime = minIdleTime;
+	}
+
+	/** Reset the counters and the configuration, e.g., for tests. Loaded bodies stay loaded. */
+	public synchronized void reset() {
+		hits.reset();
+		misses.reset();
+		restores.reset();
+		evictions.reset();
+		memoryBudget = Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET).longValue();
+		minIdleTime = MIN_IDLE_TIME;
+	}
+
+	/** @return a short human readable report on the use of the cache */
+	public String getMemoryReport() {
+		return String.format(
+				"Type body cache: %d bodies (~%d KiB of %d KiB), %d hits, %d loads, %d restores, %d evictions", //$NON-NLS-1$
+				Integer.valueOf(getLoadedBodyCount()), Long.valueOf(getLoadedBytes() / 1024),
+				Long.valueOf(getMemoryBudget() / 1024), Long.valueOf(getHits()), Long.valueOf(getMisses()),
+				Long.valueOf(getRestores()), Long.valueOf(getEvictions()));
+	}
+
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+/** The header information of a type file which can be determined without loading the full type.
+ *
+ * The kind is the name of the root xml element (e.g., FBType, AdapterType, DataType). */
+public final class TypeHeader {
+
+	private final String name;
+	private final String kind;
+	private final String version;
+	private final String comment;
+
+	public TypeHeader(final String name, final String kind, final String version, final String comment) {
+		this.name = emptyIfNull(name);
+		this.kind = emptyIfNull(kind);
+		this.version = emptyIfNull(version);
+		this.comment = emptyIfNull(comment);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getKind() {
+		return kind;
+	}
+
+	public String getVersion() {
+		return version;
+	}
+
+	public String getComment() {
+		return comment;
+	}
+
+	private static String emptyIfNull(final String value) {
+		return (null != value) ? value : ""; //$NON-NLS-1$
+	}
+
+}
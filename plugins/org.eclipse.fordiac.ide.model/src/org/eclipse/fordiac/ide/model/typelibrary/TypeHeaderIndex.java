@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.fordiac.ide.model.Activator;
+import org.eclipse.fordiac.ide.model.dataimport.TypeHeaderImporter;
+
+/** A persistent per project index of the type headers in a type library.
+ *
+ * Entries are keyed by the project relative path of the type file and are only valid as long as the local time stamp
+ * of the file has not changed. The local time stamp is used instead of the resource modification stamp, as the
+ * latter is reset whenever a project (e.g., the tool library project) is recreated. If the index file is corrupt or
+ * written by an incompatible version it is discarded and the headers are read from the type files again. */
+final class TypeHeaderIndex {
+
+	private static final String INDEX_FOLDER = "typeindex"; //$NON-NLS-1$
+	private static final String INDEX_FILE_ENDING = ".idx"; //$NON-NLS-1$
+	private static final String FORMAT_HEADER = "4diac-type-header-index 2"; //$NON-NLS-1$
+	private static final char FIELD_SEPARATOR = '\t';
+	private static final int FIELD_COUNT = 6;
+
+	private static final class IndexEntry {
+		private final long timeStamp;
+		private final TypeHeader header;
+
+		IndexEntry(final long timeStamp, final TypeHeader header) {
+			this.timeStamp = timeStamp;
+			this.header = header;
+		}
+	}
+
+	private final Map<String, IndexEntry> entries = new ConcurrentHashMap<>();
+	private volatile boolean dirty = false;
+
+	/** Get the header for the given type file. If the index has no valid entry the header is read from the file.
+	 *
+	 * @param file the type file
+	 * @return the header or null if the file could not be read */
+	TypeHeader getHeader(final IFile file) {
+		final String key = getKey(file);
+		final long timeStamp = file.getLocalTimeStamp();
+		final IndexEntry entry = entries.get(key);
+		if ((null != entry) && (IResource.NULL_STAMP != timeStamp) && (entry.timeStamp == timeStamp)) {
+			return entry.header;
+		}
+
+		final TypeHeader header = readHeader(file);
+		if (null != header) {
+			entries.put(key, new IndexEntry(timeStamp, header));
+		} else {
+			entries.remove(key);
+		}
+		dirty = true;
+		return header;
+	}
+
+	void remove(final IFile file) {
+		if (null != entries.remove(getKey(file))) {
+			dirty = true;
+		}
+	}
+
+	void clear() {
+		entries.clear();
+		dirty = true;
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private static TypeHeader readHeader(final IFile file) {
+		try (InputStream stream = file.getContents(true)) {
+			return TypeHeaderImporter.readHeader(stream);
+		} catch (final Exception e) {
+			Activator.getDefault().logInfo("Could not read type header of " + file.getFullPath() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+					+ e.getMessage());
+		}
+		return null;
+	}
+
+	private static String getKey(final IFile file) {
+		return file.getProjectRelativePath().toString();
+	}
+
+	static Path getIndexLocation(final IProject project) {
+		return Activator.getDefault().getStateLocation().append(INDEX_FOLDER)
+				.append(project.getName() + INDEX_FILE_ENDING).toFile().toPath();
+	}
+
+	/** Load the index from the given location. A missing, outdated or corrupt index results in an empty index. */
+	void load(final Path location) {
+		entries.clear();
+		dirty = false;
+		if (!Files.isReadable(location)) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(location, StandardCharsets.UTF_8)) {
+			if (!FORMAT_HEADER.equals(reader.readLine())) {
+				throw new IOException("Unknown type header index format"); //$NON-NLS-1$
+			}
+			String line;
+			while (null != (line = reader.readLine())) {
+				parseLine(line);
+			}
+		} catch (final IOException | IllegalArgumentException e) {
+			Activator.getDefault().logInfo("Discarding type header index " + location + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			clear();
+		}
+	}
+
+	private void parseLine(final String line) throws IOException {
+		final String[] fields = line.split(String.valueOf(FIELD_SEPARATOR), -1);
+		if (FIELD_COUNT != fields.length) {
+			throw new IOException("Corrupt type header index entry: " + line); //$NON-NLS-1$
+		}
+		final long timeStamp = Long.parseLong(fields[1]);
+		entries.put(unescape(fields[0]), new IndexEntry(timeStamp, new TypeHeader(unescape(fields[2]),
+				unescape(fields[3]), unescape(fields[4]), unescape(fields[5]))));
+	}
+
+	/** Store the index if it has changed since it was loaded. Entries for files which no longer exist in the project
+	 * are dropped. The index is first written to a temporary file, so that a crash can not leave a half written index
+	 * behind. */
+	void save(final Path location, final IProject project) {
+		if (!dirty) {
+			return;
+		}
+		entries.keySet().removeIf(key -> !project.getFile(key).exists());
+		try {
+			Files.createDirectories(location.getParent());
+			final Path tmp = location.resolveSibling(location.getFileName() + ".tmp"); //$NON-NLS-1$
+			try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+				writer.write(FORMAT_HEADER);
+				writer.newLine();
+				for (final Map.Entry<String, IndexEntry> entry : entries.entrySet()) {
+					writeEntry(writer, entry.getKey(), entry.getValue());
+				}
+			}
+			Files.move(tmp, location, StandardCopyOption.REPLACE_EXISTING);
+			dirty = false;
+		} catch (final IOException e) {
+			Activator.getDefault().logError("Could not store type header index " + location, e); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeEntry(final BufferedWriter writer, final String key, final IndexEntry entry)
+			throws IOException {
+		final TypeHeader header = entry.header;
+		writer.write(escape(key));
+		writer.write(FIELD_SEPARATOR);
+		writer.write(Long.toString(entry.timeStamp));
+		for (final String field : new String[] { header.getName(), header.getKind(), header.getVersion(),
+				header.getComment() }) {
+			writer.write(FIELD_SEPARATOR);
+			writer.write(escape(field));
+		}
+		writer.newLine();
+	}
+
+	static String escape(final String value) {
+		final StringBuilder builder = new StringBuilder(value.length());
+		for (final char c : value.toCharArray()) {
+			switch (c) {
+			case '\\':
+				builder.append("\\\\"); //$NON-NLS-1$
+				break;
+			case '\t':
+				builder.append("\\t"); //$NON-NLS-1$
+				break;
+			case '\n':
+				builder.append("\\n"); //$NON-NLS-1$
+				break;
+			case '\r':
+				builder.append("\\r"); //$NON-NLS-1$
+				break;
+			default:
+				builder.append(c);
+				break;
+			}
+		}
+		return builder.toString();
+	}
+
+	static String unescape(final String value) throws IOException {
+		final StringBuilder builder = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if ('\\' == c) {
+				i++;
+				if (i >= value.length()) {
+					throw new IOException("Invalid escape sequence in type header index"); //$NON-NLS-1$
+				}
+				builder.append(unescapeChar(value.charAt(i)));
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	private static char unescapeChar(final char c) throws IOException {
+		switch (c) {
+		case '\\':
+			return '\\';
+		case 't':
+			return '\t';
+		case 'n':
+			return '\n';
+		case 'r':
+			return '\r';
+		default:
+			throw new IOException("Invalid escape sequence in type header index"); //$NON-NLS-1$
+		}
+	}
+
+}
@@ -19,8 +19,10 @@
  ********************************************************************************/
 package org.eclipse.fordiac.ide.model.typelibrary;
 
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IContainer;
@@ -28,6 +30,9 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -59,9 +64,30 @@ public final class TypeLibrary implements TypeLibraryTags {
 
 	}
 
+	/** Get the type library of a project only if it has already been loaded.
+	 *
+	 * @param proj the project
+	 * @return the project's type library or null if it has not been loaded */
+	static TypeLibrary getLoadedTypeLibrary(final IProject proj) {
+		synchronized (typeLibraryList) {
+			return typeLibraryList.get(proj);
+		}
+	}
+
 	public static void removeProject(final IProject project) {
 		synchronized (typeLibraryList) {
-			typeLibraryList.remove(project);
+			final TypeLibrary typelib = typeLibraryList.remove(project);
+			if (typelib != null) {
+				typelib.saveTypeHeaderIndex();
+			}
+			TypeUsageIndex.INSTANCE.removeProject(project);
+		}
+	}
+
+	/** Store the type header indexes of all loaded type libraries, e.g., on shutdown. */
+	public static void saveTypeHeaderIndexes() {
+		synchronized (typeLibraryList) {
+			typeLibraryList.values().forEach(TypeLibrary::saveTypeHeaderIndex);
 		}
 	}
 
@@ -78,6 +104,9 @@ public final class TypeLibrary implements TypeLibraryTags {
 	private final Palette blockTypeLib = PaletteFactory.eINSTANCE.createPalette();
 	private final Palette errorTypeLib = PaletteFactory.eINSTANCE.createPalette();
 	private final DataTypeLibrary dataTypeLib = new DataTypeLibrary();
+	private final TypeHeaderIndex headerIndex = new TypeHeaderIndex();
+	private final TypeSearchIndex<PaletteEntry> searchIndex = new TypeSearchIndex<>(PaletteEntry::getLabel,
+			this::getTypeDetails);
 	private IProject project;
 
 	/** An array of palette entry creators */
@@ -159,6 +188,7 @@ public final class TypeLibrary implements TypeLibraryTags {
 		blockTypeLib.setTypeLibrary(this);
 		errorTypeLib.setTypeLibrary(this);
 		if (project != null && project.exists()) {
+			headerIndex.load(TypeHeaderIndex.getIndexLocation(project));
 			loadPaletteFolderMembers(project);
 		}
 	}
@@ -186,21 +216,7 @@ public final class TypeLibrary implements TypeLibraryTags {
 	}
 
 	private void loadPaletteFolderMembers(final IContainer container) {
-		IResource[] members;
-		try {
-			members = container.members();
-
-			for (final IResource iResource : members) {
-				if (iResource instanceof IFolder) {
-					loadPaletteFolderMembers((IFolder) iResource);
-				}
-				if (iResource instanceof IFile) {
-					createPaletteEntry((IFile) iResource);
-				}
-			}
-		} catch (final CoreException e) {
-			Activator.getDefault().logError(e.getMessage(), e);
-		}
+		new TypeLibraryScanner(getPaletteCreators()).scan(container).forEach(this::addPaletteEntry);
 	}
 
 	/**
@@ -234,9 +250,33 @@ public final class TypeLibrary implements TypeLibraryTags {
 		} else {
 			blockTypeLib.addPaletteEntry(entry);
 		}
+		searchIndex.add(entry);
 	}
 
 	public void removePaletteEntry(final PaletteEntry entry) {
+		if (null != entry.getFile()) {
+			headerIndex.remove(entry.getFile());
+		}
+		TypeUsageIndex.INSTANCE.removeEntry(entry);
+		removeFromPalette(entry);
+	}
+
+	/** Move an entry of this library to a new type file, e.g., when the file has been renamed or moved. If the new
+	 * file is in another project the entry is moved to that project's library. The entry and its loaded type are kept,
+	 * so that all references to the entry and its usages in the {@link TypeUsageIndex} stay valid.
+	 *
+	 * @param entry the entry to move
+	 * @param dst   the new type file */
+	public void movePaletteEntry(final PaletteEntry entry, final IFile dst) {
+		headerIndex.remove(entry.getFile());
+		removeFromPalette(entry);
+		entry.setLabel(TypeLibrary.getTypeNameFromFile(dst));
+		entry.setFile(dst);
+		getTypeLibrary(dst.getProject()).addPaletteEntry(entry);
+	}
+
+	private void removeFromPalette(final PaletteEntry entry) {
+		searchIndex.remove(entry);
 		if (entry instanceof DataTypePaletteEntry) {
 			dataTypeLib.removePaletteEntry((DataTypePaletteEntry) entry);
 		} else {
@@ -274,59 +314,72 @@ public final class TypeLibrary implements TypeLibraryTags {
 		return paletteCreators;
 	}
 
-	private static void configurePaletteEntry(final PaletteEntry entry, final IFile file) {
+	static void configurePaletteEntry(final PaletteEntry entry, final IFile file) {
 		entry.setType(null);
 		entry.setLabel(TypeLibrary.getTypeNameFromFile(file));
 		entry.setFile(file);
 	}
 
+	/** Refresh a single file from the file system, e.g., after it has been written with java.io, and update the type
+	 * library of its project with the resulting resource delta. Only the given file is refreshed.
+	 *
+	 * @param file the added, changed or removed type file */
 	public static void refreshTypeLib(final IFile file) {
 		final TypeLibrary typeLib = TypeLibrary.getTypeLibrary(file.getProject());
-		typeLib.refresh();
-	}
-
-	private void refresh() {
+		// the delta is applied here as well for workspaces without the IDE's resource change listener, applying a delta
+		// twice does no harm
+		final IResourceChangeListener listener = event -> {
+			if (null != event.getDelta()) {
+				typeLib.refresh(event.getDelta());
+			}
+		};
+		final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		workspace.addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
 		try {
-			project.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+			file.refreshLocal(IResource.DEPTH_ZERO, new NullProgressMonitor());
 		} catch (final CoreException e) {
 			Activator.getDefault().logError(e.getMessage(), e);
+		} finally {
+			workspace.removeResourceChangeListener(listener);
 		}
-
-		checkDeletions();
-		checkAdditions(project);
-	}
-
-	private void checkDeletions() {
-		checkDeletionsForTypeGroup(blockTypeLib.getAdapterTypes().values());
-		checkDeletionsForTypeGroup(blockTypeLib.getDeviceTypes().values());
-		checkDeletionsForTypeGroup(blockTypeLib.getFbTypes().values());
-		checkDeletionsForTypeGroup(blockTypeLib.getResourceTypes().values());
-		checkDeletionsForTypeGroup(blockTypeLib.getSegmentTypes().values());
-		checkDeletionsForTypeGroup(blockTypeLib.getSubAppTypes().values());
-		checkDeletionsForTypeGroup(dataTypeLib.getDerivedDataTypes().values());
 	}
 
-	private static void checkDeletionsForTypeGroup(final Collection<? extends PaletteEntry> typeEntries) {
-		typeEntries.removeIf(e -> (!e.getFile().exists()));
+	/** Update the loaded type libraries with the additions, removals and moves of type files contained in the given
+	 * delta. Only the changed paths are touched. To be called from resource change listeners, which get all deltas of
+	 * the workspace.
+	 *
+	 * @param rootDelta the resource delta of the workspace root */
+	public static void refreshTypeLibs(final IResourceDelta rootDelta) {
+		// renamed projects keep their library, so that the moved files find their entries
+		for (final IResourceDelta projectDelta : rootDelta.getAffectedChildren(IResourceDelta.ADDED)) {
+			if (0 != (projectDelta.getFlags() & IResourceDelta.MOVED_FROM)) {
+				renameProject(ResourcesPlugin.getWorkspace().getRoot()
+						.getProject(projectDelta.getMovedFromPath().lastSegment()),
+						projectDelta.getResource().getProject());
+			}
+		}
+		for (final IResourceDelta projectDelta : rootDelta.getAffectedChildren()) {
+			final TypeLibrary typeLib = getLoadedTypeLibrary(projectDelta.getResource().getProject());
+			if (null != typeLib) {
+				typeLib.refresh(projectDelta);
+			}
+		}
 	}
 
-	private void checkAdditions(final IContainer container) {
-		try {
-			final IResource[] members = container.members();
-
-			for (final IResource resource : members) {
-				if (resource instanceof IFolder) {
-					checkAdditions((IFolder) resource);
-				}
-				if ((resource instanceof IFile) && (!containsType((IFile) resource))) {
-					// only add new entry if it does not exist
-					createPaletteEntry((IFile) resource);
-				}
+	/** Update the library with the additions, removals and moves of type files contained in the given delta. Only
+	 * the changed paths are touched.
+	 *
+	 * @param delta a resource delta, either for the workspace root or for this library's project */
+	public void refresh(final IResourceDelta delta) {
+		final IResourceDelta projectDelta = (IResource.ROOT == delta.getResource().getType())
+				? delta.findMember(project.getFullPath()) : delta;
+		if ((null != projectDelta) && project.equals(projectDelta.getResource().getProject())) {
+			try {
+				projectDelta.accept(new TypeLibraryDeltaVisitor(this));
+			} catch (final CoreException e) {
+				Activator.getDefault().logError(e.getMessage(), e);
 			}
-		} catch (final CoreException e) {
-			Activator.getDefault().logError(e.getMessage(), e);
 		}
-
 	}
 
 	public boolean containsType(final IFile file) {
@@ -399,6 +452,38 @@ public final class TypeLibrary implements TypeLibraryTags {
 		}
 	}
 
+	/** Get the header information (name, kind, version, comment) of a palette entry's type without loading the type.
+	 * The header is taken from the persistent type header index and only read from the type file if the file has
+	 * changed since it was indexed.
+	 *
+	 * @param entry the palette entry
+	 * @return the type header or null if the type file could not be read */
+	public TypeHeader getTypeHeader(final PaletteEntry entry) {
+		if (null != entry.getFile()) {
+			return headerIndex.getHeader(entry.getFile());
+		}
+		return null;
+	}
+
+	/** @return the search index over the names, comments and versions of all types of this library */
+	public TypeSearchIndex<PaletteEntry> getSearchIndex() {
+		return searchIndex;
+	}
+
+	private List<String> getTypeDetails(final PaletteEntry entry) {
+		final TypeHeader header = getTypeHeader(entry);
+		if (null != header) {
+			return Arrays.asList(header.getComment(), header.getVersion());
+		}
+		return Collections.emptyList();
+	}
+
+	public void saveTypeHeaderIndex() {
+		if (project != null && project.exists()) {
+			headerIndex.save(TypeHeaderIndex.getIndexLocation(project), project);
+		}
+	}
+
 	public Palette getErrorTypeLib() {
 		return errorTypeLib;
 	}
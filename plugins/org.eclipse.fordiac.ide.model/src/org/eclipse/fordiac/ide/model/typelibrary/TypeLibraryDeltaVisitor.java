@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+
+/** Applies the file additions, removals and moves of a resource delta to a type library.
+ *
+ * This is the only place where the libraries follow the file system, the resource change listener of the IDE hands
+ * it every workspace delta before it reacts to the changes itself. All operations are idempotent, so that applying a
+ * delta twice does not do any harm. Files moved between loaded libraries keep their entry. Content changes are not
+ * handled here, they are covered by the {@link PaletteEntryInvalidationService}. */
+final class TypeLibraryDeltaVisitor implements IResourceDeltaVisitor {
+
+	private final TypeLibrary typeLib;
+
+	TypeLibraryDeltaVisitor(final TypeLibrary typeLib) {
+		this.typeLib = typeLib;
+	}
+
+	@Override
+	public boolean visit(final IResourceDelta delta) {
+		final IResource resource = delta.getResource();
+		if (IResource.FILE != resource.getType()) {
+			return true;
+		}
+		final IFile file = (IFile) resource;
+		switch (delta.getKind()) {
+		case IResourceDelta.ADDED:
+			if (0 != (delta.getFlags() & IResourceDelta.MOVED_FROM)) {
+				handleMovedFrom(ResourcesPlugin.getWorkspace().getRoot().getFile(delta.getMovedFromPath()), file);
+			} else {
+				handleAdded(file);
+			}
+			break;
+		case IResourceDelta.REMOVED:
+			if ((0 == (delta.getFlags() & IResourceDelta.MOVED_TO))
+					|| (null == TypeLibrary.getLoadedTypeLibrary(getProject(delta.getMovedToPath().segment(0))))) {
+				// moves into a loaded library are handled on the added side, so that the entry is kept
+				handleRemoved(file);
+			}
+			break;
+		default:
+			break;
+		}
+		return false;
+	}
+
+	private void handleAdded(final IFile file) {
+		if (!typeLib.containsType(file)) {
+			typeLib.createPaletteEntry(file);
+		}
+	}
+
+	private void handleRemoved(final IFile file) {
+		final PaletteEntry entry = typeLib.getPaletteEntry(file);
+		if ((null != entry) && file.equals(entry.getFile())) {
+			typeLib.removePaletteEntry(entry);
+		}
+	}
+
+	private void handleMovedFrom(final IFile src, final IFile dst) {
+		// after a project rename the library of the old project is this library
+		final TypeLibrary srcLib = TypeLibrary.getLoadedTypeLibrary(src.getProject());
+		final TypeLibrary entryLib = (null != srcLib) ? srcLib : typeLib;
+		final PaletteEntry entry = entryLib.getPaletteEntry(src);
+		if ((null != entry) && src.equals(entry.getFile())) {
+			entryLib.movePaletteEntry(entry, dst);
+		} else {
+			handleAdded(dst);
+		}
+	}
+
+	private static IProject getProject(final String name) {
+		return ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+	}
+
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.Activator;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+
+/** Walks the folder tree of a type library with a bounded pool of workers and
+ * creates the palette entries for all type files found.
+ *
+ * The scanner never touches the palette maps of the type library, these are not
+ * thread safe. The created entries are handed back to the caller which adds them
+ * from its own thread. They are in the depth-first member order of the former
+ * serial walk, so that the entry winning a name clash neither depends on the
+ * scheduling of the workers nor differs from the serial walk. */
+final class TypeLibraryScanner {
+
+	static final int DEFAULT_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+	private final IPaletteEntryCreator[] creators;
+	private final int parallelism;
+
+	TypeLibraryScanner(final IPaletteEntryCreator[] creators) {
+		this(creators, DEFAULT_PARALLELISM);
+	}
+
+	TypeLibraryScanner(final IPaletteEntryCreator[] creators, final int parallelism) {
+		this.creators = creators;
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/** Scan the given container and all its sub-folders for type files.
+	 *
+	 * @param root the container to start the scan from
+	 * @return the palette entries for all type files found in depth-first member order, not yet added to any palette */
+	List<PaletteEntry> scan(final IContainer root) {
+		final ScanFolderAction action = new ScanFolderAction(root);
+		if (parallelism == 1) {
+			action.compute();
+		} else {
+			final ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				pool.invoke(action);
+			} finally {
+				pool.shutdown();
+			}
+		}
+		final List<PaletteEntry> entries = new ArrayList<>();
+		action.collectEntries(entries);
+		return entries;
+	}
+
+	private void createEntries(final IFile file, final List<Object> entries) {
+		for (final IPaletteEntryCreator creator : creators) {
+			if (creator.canHandle(file)) {
+				final PaletteEntry entry = creator.createPaletteEntry();
+				TypeLibrary.configurePaletteEntry(entry, file);
+				entries.add(entry);
+			}
+		}
+	}
+
+	private class ScanFolderAction extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final transient IContainer container;
+		/** the entries of the files and the actions of the sub-folders in the order of the container's members */
+		private final transient List<Object> members = new ArrayList<>();
+
+		ScanFolderAction(final IContainer container) {
+			this.container = container;
+		}
+
+		@Override
+		protected void compute() {
+			final List<ScanFolderAction> subFolders = new ArrayList<>();
+			try {
+				for (final IResource resource : container.members()) {
+					if (resource instanceof IContainer) {
+						final ScanFolderAction subFolder = new ScanFolderAction((IContainer) resource);
+						subFolders.add(subFolder);
+						members.add(subFolder);
+					} else if (resource instanceof IFile) {
+						createEntries((IFile) resource, members);
+					}
+				}
+			} catch (final CoreException e) {
+				Activator.getDefault().logError(e.getMessage(), e);
+			}
+
+			if (parallelism == 1) {
+				subFolders.forEach(ScanFolderAction::compute);
+			} else {
+				invokeAll(subFolders);
+			}
+		}
+
+		/** called after the action and all its sub-folders completed */
+		void collectEntries(final List<PaletteEntry> entries) {
+			for (final Object member : members) {
+				if (member instanceof ScanFolderAction) {
+					((ScanFolderAction) member).collectEntries(entries);
+				} else {
+					entries.add((PaletteEntry) member);
+				}
+			}
+		}
+	}
+
+}
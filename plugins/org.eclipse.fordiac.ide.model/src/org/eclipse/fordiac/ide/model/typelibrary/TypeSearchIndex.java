@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/** A search index over the names and optionally further texts (e.g., comments and versions) of types.
+ *
+ * The names are kept in a sorted map for prefix queries and in an n-gram index for substring queries. All queries are
+ * case insensitive. The further texts are only indexed with the first full text search, as getting them may require
+ * reading the type files. The index is updated incrementally with {@link #add(Object)} and {@link #remove(Object)}.
+ *
+ * @param <T> the type of the indexed elements */
+public final class TypeSearchIndex<T> {
+
+	private static final int GRAM_LENGTH = 2;
+	private static final char[] WILDCARDS = { '*', '?', ' ', '<' };
+
+	private final Function<T, String> nameProvider;
+	private final Function<T, Collection<String>> detailsProvider;
+
+	private final NavigableMap<String, Set<T>> names = new TreeMap<>();
+	private final Map<String, Set<T>> nameGrams = new HashMap<>();
+	private final Map<T, String> indexedNames = new HashMap<>();
+	private final Map<String, Set<T>> detailGrams = new HashMap<>();
+	private final Map<T, Collection<String>> indexedDetails = new HashMap<>();
+
+	/** Create an index over the names of the elements only.
+	 *
+	 * @param nameProvider provides the name of an element */
+	public TypeSearchIndex(final Function<T, String> nameProvider) {
+		this(nameProvider, element -> Collections.emptyList());
+	}
+
+	/** @param nameProvider    provides the name of an element
+	 * @param detailsProvider provides further texts of an element for full text searches */
+	public TypeSearchIndex(final Function<T, String> nameProvider,
+			final Function<T, Collection<String>> detailsProvider) {
+		this.nameProvider = nameProvider;
+		this.detailsProvider = detailsProvider;
+	}
+
+	public synchronized void add(final T element) {
+		remove(element);
+		final String name = normalize(nameProvider.apply(element));
+		indexedNames.put(element, name);
+		names.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(element);
+		grams(name).forEach(gram -> nameGrams.computeIfAbsent(gram, key -> new HashSet<>()).add(element));
+	}
+
+	/** Remove an element under the name it has been indexed with, so that renamed elements can be removed. */
+	public synchronized void remove(final T element) {
+		final String name = indexedNames.remove(element);
+		if (null != name) {
+			removeFrom(names, name, element);
+			grams(name).forEach(gram -> removeFrom(nameGrams, gram, element));
+		}
+		final Collection<String> details = indexedDetails.remove(element);
+		if (null != details) {
+			details.forEach(detail -> grams(detail).forEach(gram -> removeFrom(detailGrams, gram, element)));
+		}
+	}
+
+	public synchronized int size() {
+		return indexedNames.size();
+	}
+
+	/** @param name the name to look for
+	 * @return all elements with the given name ignoring the case */
+	public synchronized List<T> findByName(final String name) {
+		return new ArrayList<>(names.getOrDefault(normalize(name), Collections.emptySet()));
+	}
+
+	/** @param prefix the beginning of the names to look for
+	 * @return all elements whose name starts with the given prefix ignoring the case, sorted by name */
+	public synchronized List<T> findByPrefix(final String prefix) {
+		final String key = normalize(prefix);
+		final List<T> result = new ArrayList<>();
+		for (final Map.Entry<String, Set<T>> entry : names.tailMap(key, true).entrySet()) {
+			if (!entry.getKey().startsWith(key)) {
+				break;
+			}
+			result.addAll(entry.getValue());
+		}
+		return result;
+	}
+
+	/** Get the elements which may match a pattern. Each returned element contains all literal parts of the pattern
+	 * (the parts between the wildcards '*', '?', ' ' and '&lt;') in its name, the final matching has to be done by
+	 * the caller.
+	 *
+	 * @param pattern the search pattern
+	 * @return the candidates sorted by name */
+	public synchronized List<T> findCandidates(final String pattern) {
+		Set<T> candidates = null;
+		for (final String literal : getLiterals(normalize(pattern))) {
+			candidates = intersect(candidates, nameGrams, literal);
+		}
+		return sortByName(null == candidates ? indexedNames.keySet() : candidates,
+				element -> containsLiterals(indexedNames.get(element), pattern));
+	}
+
+	/** Search for elements where every whitespace separated word of the query is contained in the name or in one of
+	 * the further texts of the element.
+	 *
+	 * @param query the words to look for
+	 * @return the matching elements sorted by name */
+	public synchronized List<T> search(final String query) {
+		indexDetails();
+		final String[] words = normalize(query).trim().split("\\s+"); //$NON-NLS-1$
+		Set<T> candidates = null;
+		for (final String word : words) {
+			if (word.length() >= GRAM_LENGTH) {
+				final Set<T> matches = new HashSet<>(lookup(nameGrams, word));
+				matches.addAll(lookup(detailGrams, word));
+				candidates = (null == candidates) ? matches : retain(candidates, matches);
+			}
+		}
+		return sortByName(null == candidates ? indexedNames.keySet() : candidates,
+				element -> containsWords(element, words));
+	}
+
+	private boolean containsWords(final T element, final String[] words) {
+		final Collection<String> details = indexedDetails.getOrDefault(element, Collections.emptyList());
+		for (final String word : words) {
+			if (!indexedNames.get(element).contains(word)
+					&& details.stream().noneMatch(detail -> detail.contains(word))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void indexDetails() {
+		for (final T element : indexedNames.keySet()) {
+			if (!indexedDetails.containsKey(element)) {
+				final List<String> details = new ArrayList<>();
+				detailsProvider.apply(element).stream().filter(detail -> null != detail).map(TypeSearchIndex::normalize)
+				.forEach(details::add);
+				indexedDetails.put(element, details);
+				details.forEach(detail -> grams(detail)
+						.forEach(gram -> detailGrams.computeIfAbsent(gram, key -> new HashSet<>()).add(element)));
+			}
+		}
+	}
+
+	private List<T> sortByName(final Collection<T> elements, final Predicate<T> filter) {
+		final List<T> result = new ArrayList<>();
+		elements.stream().filter(filter).forEach(result::add);
+		result.sort(Comparator.comparing(indexedNames::get));
+		return result;
+	}
+
+	private Set<T> intersect(final Set<T> candidates, final Map<String, Set<T>> index, final String literal) {
+		if (literal.length() < GRAM_LENGTH) {
+			return candidates;
+		}
+		final Set<T> matches = lookup(index, literal);
+		return (null == candidates) ? new HashSet<>(matches) : retain(candidates, matches);
+	}
+
+	private static <T> Set<T> retain(final Set<T> candidates, final Set<T> matches) {
+		candidates.retainAll(matches);
+		return candidates;
+	}
+
+	/** @return the elements containing all n-grams of the text */
+	private static <T> Set<T> lookup(final Map<String, Set<T>> index, final String text) {
+		Set<T> result = null;
+		for (final String gram : grams(text)) {
+			final Set<T> elements = index.getOrDefault(gram, Collections.emptySet());
+			if ((null == result) || (elements.size() < result.size())) {
+				result = elements;
+			}
+		}
+		if (null == result) {
+			return Collections.emptySet();
+		}
+		final Set<T> matches = new HashSet<>(result);
+		grams(text).forEach(gram -> matches.retainAll(index.getOrDefault(gram, Collections.emptySet())));
+		return matches;
+	}
+
+	private static boolean containsLiterals(final String name, final String pattern) {
+		return getLiterals(normalize(pattern)).stream().allMatch(name::contains);
+	}
+
+	private static List<String> getLiterals(final String pattern) {
+		final List<String> literals = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i <= pattern.length(); i++) {
+			if ((i == pattern.length()) || isWildcard(pattern.charAt(i))) {
+				if (i > start) {
+					literals.add(pattern.substring(start, i));
+				}
+				start = i + 1;
+			}
+		}
+		return literals;
+	}
+
+	private static boolean isWildcard(final char c) {
+		for (final char wildcard : WILDCARDS) {
+			if (wildcard == c) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Set<String> grams(final String text) {
+		final Set<String> grams = new HashSet<>();
+		for (int i = 0; (i + GRAM_LENGTH) <= text.length(); i++) {
+			grams.add(text.substring(i, i + GRAM_LENGTH));
+		}
+		return grams;
+	}
+
+	private static <T> void removeFrom(final Map<String, Set<T>> index, final String key, final T element) {
+		final Set<T> elements = index.get(key);
+		if (null != elements) {
+			elements.remove(element);
+			if (elements.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
+	private static String normalize(final String text) {
+		return (null == text) ? "" : text.toLowerCase(Locale.ROOT); //$NON-NLS-1$
+	}
+
+}
@@ -0,0 +1,338 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
+import org.eclipse.fordiac.ide.model.Activator;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.dataimport.CommonElementImporter;
+import org.eclipse.fordiac.ide.model.dataimport.FBTImporter;
+import org.eclipse.fordiac.ide.model.dataimport.ImportMarkerBatcher;
+import org.eclipse.fordiac.ide.model.datatype.helper.IecTypes.ElementaryTypes;
+import org.eclipse.fordiac.ide.model.datatype.helper.IecTypes.GenericTypes;
+import org.eclipse.fordiac.ide.model.libraryElement.FBType;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
+import org.eclipse.fordiac.ide.model.libraryElement.impl.FBTypeImpl;
+
+/** A cache of the interfaces of parsed FB type files shared by all type libraries.
+ *
+ * FB types are loaded interface only (see {@link FBTImporter#FBTImporter(IFile, boolean)}). The templates are keyed by
+ * the SHA-256 hash of the file content, so that the copies of the standard library in every project share one template
+ * as well as the linked tool library or a project which is closed and opened again. The hash of a file is kept per
+ * location and local time stamp, a file is only read again for the hash when it has changed. When the same content is
+ * loaded for the second time, a template of the type's interface is stored. Further loads of the content get a copy of
+ * the template instead of parsing the interface again. As EMF copies share the attribute values, the names and comments
+ * of these copies are held in memory only once. The body of each copy is loaded from its own file on first access like
+ * for a parsed type, the templates never contain a body.
+ *
+ * The parsed interface can not be shared itself, each palette entry gets its own copy: an EMF object has exactly one
+ * container, so an interface list can not be part of the types of several entries. The type in turn refers to its
+ * palette entry and, through it, to the type library of its project, which the instances and editors of the type use
+ * to resolve further types. And the type editors change the type of an entry in place, which must never affect
+ * another project.
+ *
+ * Only types which are self-contained are shared, i.e., types whose interface references only the global elementary,
+ * generic and event types. Types referencing project specific elements (e.g., structured data types or adapters) are
+ * parsed per project as before. The template of a content is dropped when the type of the last palette entry of a
+ * file with this content is invalidated. */
+public enum TypeTemplateCache {
+	INSTANCE;
+
+	/** rough per string overhead (object header, hash, array header) used for the memory report */
+	private static final int STRING_OVERHEAD = 40;
+
+	/** the containments loaded with the body of a type, they are neither copied into nor out of a template */
+	private static final Set<EReference> BODY_FEATURES = Set.of(LibraryElementPackage.Literals.FB_TYPE__SERVICE,
+			LibraryElementPackage.Literals.BASE_FB_TYPE__INTERNAL_VARS,
+			LibraryElementPackage.Literals.BASE_FB_TYPE__INTERNAL_FBS,
+			LibraryElementPackage.Literals.BASIC_FB_TYPE__ECC,
+			LibraryElementPackage.Literals.BASIC_FB_TYPE__ALGORITHM,
+			LibraryElementPackage.Literals.SIMPLE_FB_TYPE__ALGORITHM,
+			LibraryElementPackage.Literals.COMPOSITE_FB_TYPE__FB_NETWORK);
+
+	private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+	private static final int BUFFER_SIZE = 65536;
+
+	/** the content hash of a file as it was at the given local time stamp */
+	private static final class FileVersion {
+		private final long stamp;
+		private final String hash;
+
+		FileVersion(final long stamp, final String hash) {
+			this.stamp = stamp;
+			this.hash = hash;
+		}
+	}
+
+	private static final class Template {
+		/** the interface of the type, null if the content has been seen only once or if it can't be shared */
+		private final FBType type;
+		private final boolean shareable;
+		private final long sharedBytes;
+
+		Template(final FBType type, final boolean shareable) {
+			this.type = type;
+			this.shareable = shareable;
+			this.sharedBytes = (null != type) ? estimateStringBytes(type) : 0;
+		}
+	}
+
+	/** Copies a type without its body, copying does therefore not load the body of an interface-only type. */
+	private static final class InterfaceCopier extends Copier {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected void copyContainment(final EReference eReference, final EObject eObject, final EObject copyEObject) {
+			if (!BODY_FEATURES.contains(eReference)) {
+				super.copyContainment(eReference, eObject, copyEObject);
+			}
+		}
+	}
+
+	/** the content hashes by file location */
+	private final Map<IPath, FileVersion> versions = new ConcurrentHashMap<>();
+	/** the templates by content hash */
+	private final Map<String, Template> templates = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong savedBytes = new AtomicLong();
+
+	private Set<EObject> globalTypes;
+
+	/** Load the type of the given palette entry either by copying a template or with the given importer.
+	 *
+	 * @param entry    the palette entry whose type should be loaded
+	 * @param importer supplies an importer which has already loaded the type of the entry
+	 * @return the loaded type or null if it could not be loaded */
+	public LibraryElement loadType(final PaletteEntry entry, final Supplier<CommonElementImporter> importer) {
+		final IFile file = entry.getFile();
+		final IPath location = ((entry instanceof FBTypePaletteEntry) && (null != file)) ? file.getLocation() : null;
+		if (null == location) {
+			return importer.get().getElement();
+		}
+
+		final String hash = getContentHash(file, location);
+		if (null == hash) {
+			return importer.get().getElement();
+		}
+		final Template template = templates.get(hash);
+		if ((null != template) && (null != template.type)) {
+			hits.incrementAndGet();
+			savedBytes.addAndGet(template.sharedBytes);
+			return copyTemplate(template.type, file);
+		}
+
+		misses.incrementAndGet();
+		final CommonElementImporter typeImporter = importer.get();
+		final LibraryElement type = typeImporter.getElement();
+		if (null == template) {
+			// first load of this content, the template is created on the next load
+			templates.put(hash, new Template(null, true));
+		} else if (template.shareable) {
+			final FBType templateType = (isInterfaceOnly(type) && !typeImporter.hasErrors())
+					? copyInterface((FBType) type)
+					: null;
+			final boolean shareable = (null != templateType) && isSelfContained(templateType);
+			templates.put(hash, new Template(shareable ? templateType : null, shareable));
+		}
+		return type;
+	}
+
+	/** Drop the content hash of the given file and the template of its content if no other file has this content,
+	 * e.g., because the file has been changed.
+	 *
+	 * @param file the type file */
+	public void invalidate(final IFile file) {
+		final IPath location = (null != file) ? file.getLocation() : null;
+		if (null != location) {
+			final FileVersion version = versions.remove(location);
+			if (null != version) {
+				release(version.hash);
+			}
+		}
+	}
+
+	/** @return the content hash of the file's current version or null if the file could not be read */
+	private String getContentHash(final IFile file, final IPath location) {
+		final long stamp = file.getLocalTimeStamp();
+		final FileVersion version = versions.get(location);
+		if ((null != version) && (stamp == version.stamp)) {
+			return version.hash;
+		}
+		final String hash;
+		try {
+			hash = computeHash(file);
+		} catch (final IOException e) {
+			Activator.getDefault().logError("Could not hash type file " + location, e); //$NON-NLS-1$
+			return null;
+		}
+		final FileVersion previous = versions.put(location, new FileVersion(stamp, hash));
+		if ((null != previous) && !previous.hash.equals(hash)) {
+			release(previous.hash);
+		}
+		return hash;
+	}
+
+	/** drop the template of a content which no file has any more */
+	private void release(final String hash) {
+		if (versions.values().stream().noneMatch(version -> version.hash.equals(hash))) {
+			templates.remove(hash);
+		}
+	}
+
+	private static String computeHash(final IFile file) throws IOException {
+		try (InputStream stream = new DigestInputStream(file.getContents(true),
+				MessageDigest.getInstance(HASH_ALGORITHM))) {
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			while (-1 != stream.read(buffer)) {
+				// only read the file for the digest
+			}
+			return toHex(((DigestInputStream) stream).getMessageDigest().digest());
+		} catch (final NoSuchAlgorithmException | CoreException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	private static String toHex(final byte[] bytes) {
+		final StringBuilder hex = new StringBuilder();
+		for (final byte b : bytes) {
+			hex.append(String.format("%02x", Byte.valueOf(b))); //$NON-NLS-1$
+		}
+		return hex.toString();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public int getTemplateCount() {
+		return (int) templates.values().stream().filter(t -> null != t.type).count();
+	}
+
+	/** Remove all templates, e.g., for tests or to free memory. */
+	public void clear() {
+		versions.clear();
+		templates.clear();
+		hits.set(0);
+		misses.set(0);
+		savedBytes.set(0);
+	}
+
+	/** @return a short human readable report on the use of the cache and the estimated memory savings */
+	public String getMemoryReport() {
+		final long templateBytes = templates.values().stream().mapToLong(t -> t.sharedBytes).sum();
+		return String.format("Type template cache: %d templates (~%d KiB strings), %d copies, %d parsed loads, " //$NON-NLS-1$
+				+ "~%d KiB of strings shared instead of duplicated", Integer.valueOf(getTemplateCount()), //$NON-NLS-1$
+				Long.valueOf(templateBytes / 1024), Long.valueOf(hits.get()), Long.valueOf(misses.get()),
+				Long.valueOf(savedBytes.get() / 1024));
+	}
+
+	/** only types whose body has not been loaded yet can be copied without loading the body */
+	private static boolean isInterfaceOnly(final LibraryElement type) {
+		return (type instanceof FBTypeImpl) && !((FBTypeImpl) type).isBodyLoaded();
+	}
+
+	private static FBType copyInterface(final FBType type) {
+		final Copier copier = new InterfaceCopier();
+		final FBType copy = (FBType) copier.copy(type);
+		copier.copyReferences();
+		return copy;
+	}
+
+	private static FBType copyTemplate(final FBType template, final IFile file) {
+		final FBType copy = copyInterface(template);
+		// like a freshly imported type the copy starts with an empty service, the body is loaded from its own file
+		copy.setService(LibraryElementFactory.eINSTANCE.createService());
+		FBTImporter.setBodyLoader(copy, file);
+		// the interface of the file has been loaded without errors before
+		ImportMarkerBatcher.INSTANCE.deleteMarkers(file);
+		return copy;
+	}
+
+	/** check that all references leaving the type point to global types */
+	private boolean isSelfContained(final LibraryElement type) {
+		final TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(type, false);
+		while (iterator.hasNext()) {
+			if (!referencesOnlyGlobals(type, iterator.next())) {
+				return false;
+			}
+		}
+		return referencesOnlyGlobals(type, type);
+	}
+
+	private boolean referencesOnlyGlobals(final LibraryElement type, final EObject object) {
+		for (final EObject referenced : object.eCrossReferences()) {
+			if ((EcoreUtil.getRootContainer(referenced) != type) && !getGlobalTypes().contains(referenced)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private synchronized Set<EObject> getGlobalTypes() {
+		if (null == globalTypes) {
+			final Set<EObject> types = Collections.newSetFromMap(new IdentityHashMap<>());
+			types.addAll(Arrays.asList(ElementaryTypes.getAllElementaryType()));
+			types.addAll(Arrays.asList(GenericTypes.getAllGenericTypes()));
+			types.addAll(EventTypeLibrary.getInstance().getEventTypes());
+			globalTypes = types;
+		}
+		return globalTypes;
+	}
+
+	private static long estimateStringBytes(final LibraryElement type) {
+		long bytes = 0;
+		final TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(type, false);
+		EObject object = type;
+		while (null != object) {
+			for (final EAttribute attribute : object.eClass().getEAllAttributes()) {
+				final Object value = attribute.isMany() ? null : object.eGet(attribute);
+				if (value instanceof String) {
+					bytes += STRING_OVERHEAD + ((String) value).length();
+				}
+			}
+			object = iterator.hasNext() ? iterator.next() : null;
+		}
+		return bytes;
+	}
+
+}
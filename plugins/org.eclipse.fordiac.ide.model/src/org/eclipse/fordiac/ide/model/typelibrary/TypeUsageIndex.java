@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.fordiac.ide.model.Activator;
+import org.eclipse.fordiac.ide.model.Palette.Palette;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.dataimport.TypeReferenceImporter;
+import org.eclipse.fordiac.ide.model.helpers.BulkEdit;
+import org.eclipse.fordiac.ide.model.helpers.LazyContent;
+import org.eclipse.fordiac.ide.model.libraryElement.Application;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.CompositeFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
+import org.eclipse.fordiac.ide.model.libraryElement.ResourceType;
+import org.eclipse.fordiac.ide.model.libraryElement.SystemConfiguration;
+import org.eclipse.fordiac.ide.model.libraryElement.TypedConfigureableObject;
+
+/** Reverse index from palette entries to the typed elements (FBs, subapps, resources, devices, ...) using them.
+ *
+ * Every loaded system, composite FB type, subapp type and resource type is a root of the index. The roots are
+ * registered when they are set as type of their palette entry and removed when the entry is removed from its library.
+ * Within a root an EMF content adapter follows the containment tree down to the FB networks, so that added, removed
+ * and retyped elements update the index from the model notifications. Finding the usages of a type is therefore
+ * proportional to the number of usages and not to the size of the workspace. Lazily loaded contents, such as the
+ * bodies of types loaded interface only and the applications of a system, are followed once they have been loaded. */
+public enum TypeUsageIndex {
+	INSTANCE;
+
+	private final Map<PaletteEntry, Set<TypedConfigureableObject>> usages = new HashMap<>();
+	private final Map<TypedConfigureableObject, PaletteEntry> indexedEntries = new HashMap<>();
+	private final Map<PaletteEntry, LibraryElement> roots = new HashMap<>();
+
+	private final Map<IFile, ReferencedTypes> referencedTypes = new ConcurrentHashMap<>();
+
+	private final EContentAdapter usageAdapter = new UsageAdapter();
+
+	/** the type names referenced in the networks of a type file */
+	private static final class ReferencedTypes {
+		private final long stamp;
+		private final Set<String> typeNames;
+
+		private ReferencedTypes(final long stamp, final Set<String> typeNames) {
+			this.stamp = stamp;
+			this.typeNames = typeNames;
+		}
+	}
+
+	/** follows the containment tree of the roots, also within bulk edits of their networks */
+	private final class UsageAdapter extends EContentAdapter implements BulkEdit.ImmediateAdapter {
+
+		@Override
+		public void notifyChanged(final Notification notification) {
+			super.notifyChanged(notification);
+			if ((LazyContent.CONTENT_LOADED == notification.getEventType())
+					&& (notification.getNotifier() instanceof EObject)) {
+				// adopt the contents which have not been followed before they were loaded
+				super.setTarget((EObject) notification.getNotifier());
+			} else if ((LibraryElementPackage.Literals.TYPED_CONFIGUREABLE_OBJECT__PALETTE_ENTRY == notification
+					.getFeature()) && (notification.getNotifier() instanceof TypedConfigureableObject)) {
+				final TypedConfigureableObject element = (TypedConfigureableObject) notification.getNotifier();
+				removeUsage(element);
+				addUsage(element);
+			}
+		}
+
+		@Override
+		protected void addAdapter(final Notifier notifier) {
+			if (isIndexed(notifier)) {
+				super.addAdapter(notifier);
+			}
+		}
+
+		@Override
+		protected void setTarget(final EObject target) {
+			if (target instanceof TypedConfigureableObject) {
+				addUsage((TypedConfigureableObject) target);
+			}
+			if (LazyContent.isContentLoaded(target)) {
+				super.setTarget(target);
+			} else {
+				// following the contents would load them, they are adopted on the content loaded notification
+				basicSetTarget(target);
+				getLoadedChildren(target).forEach(this::addAdapter);
+			}
+		}
+
+		@Override
+		protected void unsetTarget(final EObject target) {
+			if (target instanceof TypedConfigureableObject) {
+				removeUsage((TypedConfigureableObject) target);
+			}
+			if (LazyContent.isContentLoaded(target)) {
+				super.unsetTarget(target);
+			} else {
+				basicUnsetTarget(target);
+				getLoadedChildren(target).forEach(this::removeAdapter);
+			}
+		}
+	}
+
+	/** Get all elements currently using the given palette entry as their type.
+	 *
+	 * @param entry the palette entry
+	 * @return a snapshot of the usages, empty if the type is not used in any loaded root */
+	public synchronized Set<TypedConfigureableObject> getUsages(final PaletteEntry entry) {
+		final Set<TypedConfigureableObject> entryUsages = usages.get(entry);
+		return (null != entryUsages) ? new HashSet<>(entryUsages) : Collections.emptySet();
+	}
+
+	/** Get all elements using the given palette entry as their type which are instances of the given class.
+	 *
+	 * @param entry the palette entry
+	 * @param type  the required element class (e.g., FBNetworkElement)
+	 * @return a snapshot of the matching usages */
+	public synchronized <T extends TypedConfigureableObject> Set<T> getUsages(final PaletteEntry entry,
+			final Class<T> type) {
+		final Set<T> result = new HashSet<>();
+		usages.getOrDefault(entry, Collections.emptySet()).stream().filter(type::isInstance).map(type::cast)
+		.forEach(result::add);
+		return result;
+	}
+
+	/** Make sure that all types of the entry's palette which contain instances of the entry are part of the index.
+	 * Only the composite, subapp and resource types whose files reference the entry's type name are loaded, afterwards
+	 * the index is kept up to date by the notifications. The type names referenced by a file are read with a
+	 * lightweight scan and cached with the file's modification stamp.
+	 *
+	 * @param entry the palette entry whose usages should be indexed */
+	public void indexNetworkTypes(final PaletteEntry entry) {
+		final Palette palette = entry.getPalette();
+		if (null == palette) {
+			return;
+		}
+		Stream.concat(Stream.concat(palette.getFbTypes().values().stream(), palette.getSubAppTypes().values().stream()),
+				palette.getResourceTypes().values().stream())
+		.filter(networkEntry -> getReferencedTypes(networkEntry.getFile()).contains(entry.getLabel()))
+		.map(PaletteEntry::getType).filter(CompositeFBType.class::isInstance)
+		// accessing the network loads the body of interface only loaded types
+		.forEach(type -> ((CompositeFBType) type).getFBNetwork());
+	}
+
+	private Set<String> getReferencedTypes(final IFile file) {
+		if ((null == file) || !file.exists()) {
+			return Collections.emptySet();
+		}
+		final long stamp = file.getModificationStamp();
+		final ReferencedTypes cached = referencedTypes.get(file);
+		if ((null != cached) && (cached.stamp == stamp)) {
+			return cached.typeNames;
+		}
+		try (InputStream stream = file.getContents(true)) {
+			final Set<String> typeNames = TypeReferenceImporter.readReferencedTypes(stream);
+			referencedTypes.put(file, new ReferencedTypes(stamp, typeNames));
+			return typeNames;
+		} catch (final Exception e) {
+			Activator.getDefault().logInfo(
+					"Could not read referenced types of " + file.getFullPath() + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			return Collections.emptySet();
+		}
+	}
+
+	/** Update the roots of the index when the type of a palette entry changes. Called by the palette entries.
+	 *
+	 * @param entry   the palette entry
+	 * @param oldType the previous type, may be null
+	 * @param newType the new type, may be null */
+	public synchronized void entryTypeChanged(final PaletteEntry entry, final LibraryElement oldType,
+			final LibraryElement newType) {
+		if ((null != oldType) && (roots.get(entry) == oldType)) {
+			roots.remove(entry);
+			oldType.eAdapters().remove(usageAdapter);
+		}
+		if (isRoot(newType) && !newType.eAdapters().contains(usageAdapter)) {
+			roots.put(entry, newType);
+			newType.eAdapters().add(usageAdapter);
+		}
+	}
+
+	/** Remove the root registered for the given palette entry, e.g., when the type file or system file is deleted.
+	 *
+	 * @param entry the removed palette entry */
+	public synchronized void removeEntry(final PaletteEntry entry) {
+		final LibraryElement root = roots.remove(entry);
+		if (null != root) {
+			root.eAdapters().remove(usageAdapter);
+		}
+	}
+
+	/** Remove all roots stemming from files of the given project, e.g., when the project is closed or deleted.
+	 *
+	 * @param project the removed project */
+	public synchronized void removeProject(final IProject project) {
+		final Set<PaletteEntry> projectEntries = new HashSet<>();
+		roots.keySet().stream()
+		.filter(entry -> (null != entry.getFile()) && project.equals(entry.getFile().getProject()))
+		.forEach(projectEntries::add);
+		projectEntries.forEach(this::removeEntry);
+		referencedTypes.keySet().removeIf(file -> project.equals(file.getProject()));
+	}
+
+	private synchronized void addUsage(final TypedConfigureableObject element) {
+		final PaletteEntry entry = element.getPaletteEntry();
+		if (null != entry) {
+			usages.computeIfAbsent(entry, e -> new HashSet<>()).add(element);
+			indexedEntries.put(element, entry);
+		}
+	}
+
+	private synchronized void removeUsage(final TypedConfigureableObject element) {
+		final PaletteEntry entry = indexedEntries.remove(element);
+		if (null != entry) {
+			final Set<TypedConfigureableObject> entryUsages = usages.get(entry);
+			entryUsages.remove(element);
+			if (entryUsages.isEmpty()) {
+				usages.remove(entry);
+			}
+		}
+	}
+
+	/** @return the children of an element which is not loaded completely that can be followed without loading it, i.e.,
+	 *         the applications and the system configuration of a system whose mappings are not resolved yet */
+	private static Stream<? extends Notifier> getLoadedChildren(final EObject element) {
+		if (element instanceof AutomationSystem) {
+			final AutomationSystem system = (AutomationSystem) element;
+			return Stream.concat(system.getApplication().stream(), Stream.ofNullable(system.getSystemConfiguration()));
+		}
+		return Stream.empty();
+	}
+
+	private static boolean isRoot(final LibraryElement type) {
+		return (type instanceof AutomationSystem) || (type instanceof CompositeFBType)
+				|| (type instanceof ResourceType);
+	}
+
+	/** only the containment paths leading to typed elements are followed, interfaces, ECCs, ... are not adapted */
+	private static boolean isIndexed(final Notifier notifier) {
+		return (notifier instanceof FBNetwork) || (notifier instanceof TypedConfigureableObject)
+				|| (notifier instanceof Application) || (notifier instanceof SystemConfiguration);
+	}
+
+}
@@ -19,6 +19,7 @@
 package org.eclipse.fordiac.ide.monitoring.editparts;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.draw2d.AncestorListener;
@@ -92,7 +93,11 @@ public abstract class AbstractMonitoringBaseEditPart extends AbstractViewEditPar
 
 	public boolean isElementOrParentDeleted(final Notification notification) {
 		final FBNetworkElement fbNetworkElement = getInterfaceElement().getFBNetworkElement();
-		return fbNetworkElement == null || notification.getOldValue() == fbNetworkElement
+		final Object oldValue = notification.getOldValue();
+		// aggregated removes (e.g., of a bulk edit) contain the list of removed elements
+		final boolean removed = (oldValue instanceof Collection) ? ((Collection<?>) oldValue).contains(fbNetworkElement)
+				: (oldValue == fbNetworkElement);
+		return fbNetworkElement == null || removed
 				|| fbNetworkElement.isNestedInSubApp() && fBnetworks.contains(fbNetworkElement.getFbNetwork());
 	}
 
@@ -25,7 +25,7 @@ import org.eclipse.fordiac.ide.model.Palette.Palette;
 import org.eclipse.fordiac.ide.model.Palette.ResourceTypeEntry;
 import org.eclipse.fordiac.ide.model.Palette.SegmentTypePaletteEntry;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
-import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeHeader;
 import org.eclipse.fordiac.ide.ui.imageprovider.FordiacImage;
 import org.eclipse.gef.palette.CombinedTemplateCreationEntry;
 import org.eclipse.gef.palette.PaletteDrawer;
@@ -150,12 +150,13 @@ public final class SystemConfPaletteFactory {
 	 */
 	private static PaletteEntry createCreationEntry(final org.eclipse.fordiac.ide.model.Palette.PaletteEntry entry,
 			final ImageDescriptor desc) {
-		final LibraryElement type = entry.getType();
-		if (type == null) {
+		// the type header index provides name and comment without loading the type
+		final TypeHeader header = entry.getTypeLibrary().getTypeHeader(entry);
+		if (header == null) {
 			return null;
 		}
-		return new CombinedTemplateCreationEntry(type.getName(), type.getComment(), new TemplateCreationFactory(entry),
-				desc, desc);
+		return new CombinedTemplateCreationEntry(header.getName(), header.getComment(),
+				new TemplateCreationFactory(entry), desc, desc);
 	}
 
 	private SystemConfPaletteFactory() {
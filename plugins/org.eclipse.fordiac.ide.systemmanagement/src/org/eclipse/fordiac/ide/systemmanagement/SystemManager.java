@@ -46,9 +46,12 @@ import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
 import org.eclipse.fordiac.ide.model.Palette.PaletteFactory;
 import org.eclipse.fordiac.ide.model.Palette.SystemPaletteEntry;
 import org.eclipse.fordiac.ide.model.dataexport.SystemExporter;
+import org.eclipse.fordiac.ide.model.dataexport.SystemExporter.SaveResult;
 import org.eclipse.fordiac.ide.model.dataimport.SystemImporter;
+import org.eclipse.fordiac.ide.model.dataimport.SystemSnapshotCache;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeUsageIndex;
 import org.eclipse.fordiac.ide.systemmanagement.changelistener.DistributedSystemListener;
 import org.eclipse.fordiac.ide.systemmanagement.changelistener.FordiacResourceChangeListener;
 import org.eclipse.fordiac.ide.systemmanagement.extension.ITagProvider;
@@ -138,6 +141,7 @@ public enum SystemManager {
 
 	public synchronized void removeProject(final IProject project) {
 		allSystemsInWS.remove(project);
+		TypeUsageIndex.INSTANCE.removeProject(project);
 		notifyListeners();
 	}
 
@@ -164,6 +168,7 @@ public enum SystemManager {
 		final Map<IFile, AutomationSystem> projectSystems = getProjectSystems(systemFile.getProject());
 		final AutomationSystem refSystem = projectSystems.remove(systemFile);
 		if (null != refSystem) {
+			TypeUsageIndex.INSTANCE.removeEntry(refSystem.getPaletteEntry());
 			closeAllSystemEditors(refSystem);
 			notifyListeners();
 		}
@@ -206,7 +211,13 @@ public enum SystemManager {
 		if (systemFile.exists()) {
 			final SystemPaletteEntry entry = PaletteFactory.eINSTANCE.createSystemPaletteEntry();
 			entry.setFile(systemFile);
-			final AutomationSystem type = (AutomationSystem) entry.getType();
+			AutomationSystem type = SystemSnapshotCache.INSTANCE.load(systemFile);
+			if (null != type) {
+				entry.setLastModificationTimestamp(systemFile.getModificationStamp());
+				entry.setType(type);
+			} else {
+				type = (AutomationSystem) entry.getType();
+			}
 			type.setPaletteEntry(entry);
 			return type;
 		}
@@ -242,8 +253,15 @@ public enum SystemManager {
 	public static void saveSystem(final AutomationSystem system, final IFile file) {
 		Assert.isNotNull(system.getPaletteEntry()); // there should be no system without palette entry
 		system.getPaletteEntry().setLastModificationTimestamp(file.getModificationStamp() + 1);
-		final SystemExporter systemExporter = new SystemExporter(system);
-		systemExporter.saveSystem(file);
+		final SaveResult result = new SystemExporter(system).saveSystem(file);
+		if (SaveResult.SAVED != result) {
+			// the file has not been touched, so a later external change must still be detected
+			system.getPaletteEntry().setLastModificationTimestamp(file.getModificationStamp());
+		}
+		if (result.isUpToDate()) {
+			// the snapshot must only be stored for a file holding the saved system
+			SystemSnapshotCache.INSTANCE.store(system, file);
+		}
 	}
 
 	public synchronized AutomationSystem getSystem(final IFile systemFile) {
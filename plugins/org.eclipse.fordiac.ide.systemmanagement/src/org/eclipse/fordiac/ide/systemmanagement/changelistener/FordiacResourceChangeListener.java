@@ -44,8 +44,10 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.fordiac.ide.model.NameRepository;
 import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
 import org.eclipse.fordiac.ide.model.dataexport.AbstractTypeExporter;
+import org.eclipse.fordiac.ide.model.dataimport.SystemSnapshotCache;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.typelibrary.PaletteEntryInvalidationService;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
 import org.eclipse.fordiac.ide.systemmanagement.Activator;
 import org.eclipse.fordiac.ide.systemmanagement.ISystemEditor;
@@ -79,6 +81,9 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 			// get the delta, if any, for the documentation directory
 			final IResourceDelta rootDelta = event.getDelta();
 			try {
+				// the type libraries follow the added, removed and moved files only here, the visitor relies on the
+				// updated libraries, e.g., to find the entry of a copied type
+				TypeLibrary.refreshTypeLibs(rootDelta);
 				rootDelta.accept(visitor);
 				if (!changedFiles.isEmpty()) {
 					handleChangedFiles();
@@ -230,6 +235,10 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 		PaletteEntry paletteEntryForFile = TypeLibrary.getPaletteEntryForFile(file);
 		if (paletteEntryForFile == null) {
 			paletteEntryForFile = systemManager.getPaletteEntry(file);
+			if (paletteEntryForFile != null) {
+				// system entries are not known to the type libraries and therefore need to be invalidated here
+				PaletteEntryInvalidationService.invalidate(paletteEntryForFile);
+			}
 		}
 		if (paletteEntryForFile != null
 				&& paletteEntryForFile.getLastModificationTimestamp() != file.getModificationStamp()) {
@@ -291,17 +300,14 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 	}
 
 	private void handleFileDelete(final IResourceDelta delta) {
-		final TypeLibrary typeLib = TypeLibrary.getTypeLibrary(delta.getResource().getProject());
 		final IFile file = ResourcesPlugin.getWorkspace().getRoot().getFile(delta.getResource().getFullPath());
 
 		if (isSystemFile(file)) {
+			SystemSnapshotCache.INSTANCE.remove(file);
 			systemManager.removeSystem(file);
 		} else {
-			final PaletteEntry entry = TypeLibrary.getPaletteEntryForFile(file);
-			if (null != entry) {
-				closeAllEditorsForFile(file);
-				typeLib.removePaletteEntry(entry);
-			}
+			// the palette entry has already been removed by the type library
+			closeAllEditorsForFile(file);
 		}
 	}
 
@@ -314,19 +320,17 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 				// node
 				renameSystemFileCopy(file);
 			} else {
-				final TypeLibrary typeLib = TypeLibrary.getTypeLibrary(delta.getResource().getProject());
+				// new files have already been added to the type library
 				final PaletteEntry paletteEntryForFile = TypeLibrary.getPaletteEntryForFile(file);
-				if (paletteEntryForFile == null) {
-					final PaletteEntry entry = typeLib.createPaletteEntry(file);
-					if (null != entry) {
-						updatePaletteEntry(file, entry);
+				if (null != paletteEntryForFile) {
+					if (file.equals(paletteEntryForFile.getFile())) {
+						updateTypeName(file, paletteEntryForFile);
+					} else {
+						// After a file has been copied and the copied file is not the same as the founded palette
+						// entry the file and the resulting type must be renamed with a unique name
+						autoRenameExistingType(file, paletteEntryForFile);
 					}
-				} else if (!file.equals(paletteEntryForFile.getFile())) {
-					// After a file has been copied and the copied file is not the same as the founded palette entry
-					// the file and the resulting type must be renamed with a unique name
-					autoRenameExistingType(file, paletteEntryForFile);
 				}
-
 			}
 		}
 	}
@@ -395,15 +399,20 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 		final IProject oldProject = ResourcesPlugin.getWorkspace().getRoot()
 				.getProject(delta.getMovedFromPath().lastSegment());
 		final IProject newProject = delta.getResource().getProject();
-		TypeLibrary.renameProject(oldProject, newProject);
+		// the type library has already been renamed with the project
 		systemManager.renameProject(oldProject, newProject);
+		SystemSnapshotCache.INSTANCE.removeProject(oldProject);
 	}
 
 	private void handleFileMove(final IResourceDelta delta) {
 		final IFile src = ResourcesPlugin.getWorkspace().getRoot().getFile(delta.getMovedFromPath());
+		if (isSystemFile(src)) {
+			// snapshots are stored per file path, the moved system gets a new one when it is saved
+			SystemSnapshotCache.INSTANCE.remove(src);
+		}
 
 		if (src.getParent().equals(delta.getResource().getParent())) {
-			handleFileRename(delta, src);
+			handleFileRename(delta);
 		} else {
 			final IFile dst = ResourcesPlugin.getWorkspace().getRoot().getFile(delta.getResource().getFullPath());
 			if (!src.getProject().equals(dst.getProject())) {
@@ -412,13 +421,8 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 				} else {
 					handleFileAfterProjectRename(src, dst);
 				}
-			} else {
-				// file was moved update pallette entry
-				final PaletteEntry entry = TypeLibrary.getPaletteEntryForFile(src);
-				if (null != entry) {
-					entry.setFile(dst);
-				}
 			}
+			// the palette entry of a moved type file has already been updated by the type library
 			updateEditorInput(src, dst);
 		}
 	}
@@ -426,15 +430,6 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 	private void handleFileMoveBetweenProjects(final IFile src, final IFile dst) {
 		if (isSystemFile(src)) {
 			systemManager.moveSystemToNewProject(src, dst);
-		} else {
-			final TypeLibrary srcTypeLib = TypeLibrary.getTypeLibrary(src.getProject());
-			final PaletteEntry entry = srcTypeLib.getPaletteEntry(src);
-			if (null != entry) {
-				srcTypeLib.removePaletteEntry(entry);
-				entry.setFile(dst);
-				final TypeLibrary dstTypeLib = TypeLibrary.getTypeLibrary(src.getProject());
-				dstTypeLib.addPaletteEntry(entry);
-			}
 		}
 	}
 
@@ -442,36 +437,24 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 		if (isSystemFile(src)) {
 			systemManager.updateSystemFile(dst.getProject(), src, dst);  // if loaded the system should already be in
 			// the list of the new project
-		} else {
-			final TypeLibrary typeLib = TypeLibrary.getTypeLibrary(dst.getProject());
-			final PaletteEntry entry = typeLib.getPaletteEntry(src);
-			if (entry == null) {
-				// we have to create the entry
-				typeLib.createPaletteEntry(dst);
-			} else {
-				entry.setFile(dst);
-			}
 		}
-
 	}
 
-	private void handleFileRename(final IResourceDelta delta, final IFile src) {
+	private void handleFileRename(final IResourceDelta delta) {
 		final IFile file = ResourcesPlugin.getWorkspace().getRoot().getFile(delta.getResource().getFullPath()); // targetFile
 		if (isSystemFile(file)) {
 			renameSystemFile(file);
 		} else {
-			handleTypeRename(delta, src, file);
+			handleTypeRename(file);
 		}
 		systemManager.notifyListeners();
 	}
 
-	private static void handleTypeRename(final IResourceDelta delta, final IFile src, final IFile file) {
-		final TypeLibrary typeLibrary = TypeLibrary.getTypeLibrary(delta.getResource().getProject());
-		final PaletteEntry entry = TypeLibrary.getPaletteEntryForFile(src);
-		if (src.equals(entry.getFile())) {
-			updatePaletteEntry(file, entry);
-		} else {
-			updatePaletteEntry(file, typeLibrary.createPaletteEntry(file));
+	private static void handleTypeRename(final IFile file) {
+		// the type library has already moved the entry to the renamed file or created a new one
+		final PaletteEntry entry = TypeLibrary.getPaletteEntryForFile(file);
+		if ((null != entry) && file.equals(entry.getFile())) {
+			updateTypeName(file, entry);
 		}
 	}
 
@@ -494,14 +477,10 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 		job.schedule();
 	}
 
-	private static void updatePaletteEntry(final IFile newFile, final PaletteEntry entry) {
+	/** save the type of the entry with the name of its new file if the names differ */
+	private static void updateTypeName(final IFile newFile, final PaletteEntry entry) {
 		if (null != entry) {
 			final String newTypeName = TypeLibrary.getTypeNameFromFile(newFile);
-			entry.getTypeLibrary().removePaletteEntry(entry);
-			entry.setLabel(newTypeName);
-			entry.setFile(newFile);
-			entry.getTypeLibrary().addPaletteEntry(entry);
-
 			final WorkspaceJob job = new WorkspaceJob("Save Renamed type: " + entry.getLabel()) { //$NON-NLS-1$
 				@Override
 				public IStatus runInWorkspace(final IProgressMonitor monitor) {
@@ -530,6 +509,7 @@ public class FordiacResourceChangeListener implements IResourceChangeListener {
 		final IProject project = delta.getResource().getProject();
 		closeAllProjectRelatedEditors(project);
 		systemManager.removeProject(project);
+		SystemSnapshotCache.INSTANCE.removeProject(project);
 		TypeLibrary.removeProject(project);
 	}
 
@@ -14,10 +14,9 @@
 package org.eclipse.fordiac.ide.typemanagement;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResourceDelta;
@@ -25,15 +24,14 @@ import org.eclipse.core.resources.mapping.IResourceChangeDescriptionFactory;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
-import org.eclipse.fordiac.ide.model.Palette.Palette;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
 import org.eclipse.fordiac.ide.model.libraryElement.CompositeFBType;
-import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
 import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
 import org.eclipse.fordiac.ide.model.libraryElement.ResourceType;
-import org.eclipse.fordiac.ide.model.libraryElement.SubAppType;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeUsageIndex;
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.participants.CheckConditionsContext;
@@ -65,11 +63,10 @@ public class DeleteFBTypeParticipant extends DeleteParticipant {
 	private static RefactoringStatus verifyAffectedChildren(IResourceDelta[] affectedChildren) {
 		for (IResourceDelta resourceDelta : affectedChildren) {
 			if (resourceDelta.getResource() instanceof IFile) {
-				Palette palette = TypeLibrary.getTypeLibrary(resourceDelta.getResource().getProject())
-						.getBlockTypeLib();
+				TypeLibrary typeLib = TypeLibrary.getTypeLibrary(resourceDelta.getResource().getProject());
 
 				String typeNameToDelete = TypeLibrary.getTypeNameFromFile((IFile) resourceDelta.getResource());
-				List<String> typeNames = checkTypeContainment(palette, typeNameToDelete);
+				List<String> typeNames = checkTypeContainment(typeLib, (IFile) resourceDelta.getResource());
 
 				if (!typeNames.isEmpty()) {
 					return RefactoringStatus.createWarningStatus(MessageFormat.format(
@@ -82,43 +79,17 @@ public class DeleteFBTypeParticipant extends DeleteParticipant {
 		return new RefactoringStatus();
 	}
 
-	private static List<String> checkTypeContainment(Palette palette, String searchTypeName) {
-		List<String> retVal = new ArrayList<>();
-		Stream<Entry<String, ? extends PaletteEntry>> stream = Stream.concat(
-				Stream.concat(palette.getFbTypes().entrySet().stream(), palette.getSubAppTypes().entrySet().stream()),
-				palette.getResourceTypes().entrySet().stream());
-
-		stream.forEach(entry -> {
-			FBNetwork network = getNetwork(entry);
-			if ((null != network) && (containsElementWithType(searchTypeName, network))) {
-				retVal.add(entry.getValue().getLabel());
-			}
-		});
-
-		return retVal;
-	}
-
-	private static FBNetwork getNetwork(Entry<String, ? extends PaletteEntry> entry) {
-		FBNetwork network = null;
-		LibraryElement type = entry.getValue().getType();
-
-		if (type instanceof CompositeFBType) {
-			network = ((CompositeFBType) type).getFBNetwork();
-		} else if (type instanceof ResourceType) {
-			network = ((ResourceType) type).getFBNetwork();
-		} else if (type instanceof SubAppType) {
-			network = ((SubAppType) type).getFBNetwork();
-		}
-		return network;
-	}
-
-	private static boolean containsElementWithType(String searchTypeName, FBNetwork network) {
-		for (FBNetworkElement element : network.getNetworkElements()) {
-			if (searchTypeName.equals(element.getTypeName())) {
-				return true;
-			}
+	private static List<String> checkTypeContainment(TypeLibrary typeLib, IFile typeFile) {
+		PaletteEntry entry = typeLib.getPaletteEntry(typeFile);
+		if (null == entry) {
+			return Collections.emptyList();
 		}
-		return false;
+		TypeUsageIndex.INSTANCE.indexNetworkTypes(entry);
+		return TypeUsageIndex.INSTANCE.getUsages(entry, FBNetworkElement.class).stream()
+				.map(EcoreUtil::getRootContainer)
+				.filter(root -> (root instanceof CompositeFBType) || (root instanceof ResourceType))
+				.map(root -> ((LibraryElement) root).getPaletteEntry().getLabel()).distinct()
+				.collect(Collectors.toList());
 	}
 
 	@Override
@@ -14,6 +14,7 @@ package org.eclipse.fordiac.ide.typemanagement.navigator;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeHeader;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
 import org.eclipse.jface.viewers.IDecoration;
 import org.eclipse.jface.viewers.ILabelProviderListener;
@@ -45,9 +46,15 @@ public class TypeDecorator implements ILightweightLabelDecorator {
 	@Override
 	public void decorate(Object element, IDecoration decoration) {
 		if (element instanceof IFile) {
-			PaletteEntry entry = TypeLibrary.getPaletteEntryForFile((IFile) element);
+			final IFile file = (IFile) element;
+			final TypeLibrary typeLib = TypeLibrary.getTypeLibrary(file.getProject());
+			final PaletteEntry entry = typeLib.getPaletteEntry(file);
 			if (null != entry) {
-				decoration.addSuffix(" [" + entry.getType().getComment() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+				// use the type header index so that decorating the navigator does not load all types
+				final TypeHeader header = typeLib.getTypeHeader(entry);
+				if (null != header) {
+					decoration.addSuffix(" [" + header.getComment() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
 			}
 		}
 	}
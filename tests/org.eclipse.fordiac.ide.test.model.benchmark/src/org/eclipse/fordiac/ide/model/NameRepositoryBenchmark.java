@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.fordiac.ide.model.helpers.NameIndex;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Unique names for a bulk paste of 2000 FBs into networks of different sizes, with and without the name index. As in
+ * a paste each copy is added with the name of its original and then renamed, one operation pastes all copies into a
+ * fresh network. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class NameRepositoryBenchmark {
+
+	private static final int PASTED_ELEMENTS = 2000;
+
+	@Param({ "2000", "20000" })
+	public int networkSize;
+
+	@Param({ "true", "false" })
+	public boolean indexed;
+
+	private FBNetwork network;
+
+	@Setup(Level.Trial)
+	public void setIndex() {
+		NameIndex.setEnabled(indexed);
+	}
+
+	@Setup(Level.Invocation)
+	public void createNetwork() {
+		network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		for (int i = 0; i < networkSize; i++) {
+			network.getNetworkElements().add(createFB("FB" + i)); //$NON-NLS-1$
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void enableIndex() {
+		NameIndex.setEnabled(true);
+	}
+
+	private static FB createFB(final String name) {
+		final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		fb.setName(name);
+		return fb;
+	}
+
+	@Benchmark
+	public FBNetwork bulkPaste() {
+		for (int i = 0; i < PASTED_ELEMENTS; i++) {
+			final FB copy = createFB(network.getNetworkElements().get(i).getName());
+			network.getNetworkElements().add(copy);
+			copy.setName(NameRepository.createUniqueName(copy, copy.getName()));
+		}
+		return network;
+	}
+
+	@Benchmark
+	public FBNetwork bulkCreate() {
+		for (int i = 0; i < PASTED_ELEMENTS; i++) {
+			final FB fb = createFB("E_CTU"); //$NON-NLS-1$
+			network.getNetworkElements().add(fb);
+			fb.setName(NameRepository.createUniqueName(fb, fb.getName()));
+		}
+		return network;
+	}
+
+}
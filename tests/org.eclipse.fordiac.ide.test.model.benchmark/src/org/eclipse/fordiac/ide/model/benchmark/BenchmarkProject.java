@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+
+/** A workspace project with the benchmark data: a copy of the shipped type library, generated data types and
+ * generated systems.
+ *
+ * The shipped type library is taken from the folder given with the system property {@value #TYPELIB_PATH_PROPERTY},
+ * the same property the tool library uses. It is copied, as the export benchmarks overwrite the type files. */
+public final class BenchmarkProject {
+
+	public static final String TYPELIB_PATH_PROPERTY = "4diac.typelib.path"; //$NON-NLS-1$
+
+	/** the folder of the project containing the copy of the shipped type library */
+	public static final String TYPELIB_FOLDER = "typelibrary"; //$NON-NLS-1$
+
+	/** the shipped type the FBs of the generated systems are instances of */
+	public static final String FB_TYPE = "E_CTU"; //$NON-NLS-1$
+
+	private static final int FBS_PER_RESOURCE = 500;
+
+	private final IProject project;
+
+	private BenchmarkProject(final IProject project) {
+		this.project = project;
+	}
+
+	/** Create the project with a copy of the shipped type library and load its type library.
+	 *
+	 * @param name the name of the project
+	 * @return the created project */
+	public static BenchmarkProject create(final String name) throws CoreException, IOException {
+		final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+		if (project.exists()) {
+			project.delete(true, true, new NullProgressMonitor());
+		}
+		project.create(new NullProgressMonitor());
+		project.open(new NullProgressMonitor());
+		final String typeLibPath = System.getProperty(TYPELIB_PATH_PROPERTY);
+		if ((null == typeLibPath) || typeLibPath.isEmpty()) {
+			throw new IllegalStateException("The system property " + TYPELIB_PATH_PROPERTY + " is not set"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		copyFolder(Paths.get(typeLibPath), project.getLocation().toFile().toPath().resolve(TYPELIB_FOLDER));
+		project.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+		TypeLibrary.getTypeLibrary(project);
+		return new BenchmarkProject(project);
+	}
+
+	private static void copyFolder(final Path source, final Path target) throws IOException {
+		try (Stream<Path> files = Files.walk(source)) {
+			for (final Path file : (Iterable<Path>) files::iterator) {
+				final Path copy = target.resolve(source.relativize(file).toString());
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(copy);
+				} else {
+					Files.copy(file, copy);
+				}
+			}
+		}
+	}
+
+	public IProject getProject() {
+		return project;
+	}
+
+	public TypeLibrary getTypeLibrary() {
+		return TypeLibrary.getTypeLibrary(project);
+	}
+
+	/** @param fileEnding the file ending without the dot, e.g., "fbt"
+	 * @return all files of the project with the given ending */
+	public List<IFile> getFiles(final String fileEnding) throws CoreException {
+		final List<IFile> files = new ArrayList<>();
+		project.accept(resource -> {
+			if ((resource instanceof IFile) && fileEnding.equalsIgnoreCase(resource.getFileExtension())) {
+				files.add((IFile) resource);
+			}
+			return true;
+		});
+		return files;
+	}
+
+	/** Create structured data types with the given number of members, each type contains the previous one, and add
+	 * them to the type library.
+	 *
+	 * @param count   the number of data types
+	 * @param members the number of elementary members of each type
+	 * @return the created files */
+	public List<IFile> createDataTypes(final int count, final int members) throws CoreException {
+		final List<IFile> files = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			final StringBuilder type = new StringBuilder("<DataType Name=\"BENCH_STRUCT").append(i) //$NON-NLS-1$
+					.append("\" Comment=\"generated\"><StructuredType>"); //$NON-NLS-1$
+			for (int m = 0; m < members; m++) {
+				type.append("<VarDeclaration Name=\"M").append(m).append("\" Type=\"INT\" Comment=\"member\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			if (0 < i) {
+				type.append("<VarDeclaration Name=\"PREVIOUS\" Type=\"BENCH_STRUCT").append(i - 1).append("\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			type.append("</StructuredType></DataType>"); //$NON-NLS-1$
+			final IFile file = project.getFile("BENCH_STRUCT" + i + ".dtp"); //$NON-NLS-1$ //$NON-NLS-2$
+			write(file, type);
+			files.add(file);
+		}
+		// add the new types to the project's type library, unless a resource change listener already did
+		final TypeLibrary typeLib = getTypeLibrary();
+		files.stream().filter(file -> !typeLib.containsType(file)).forEach(typeLib::createPaletteEntry);
+		return files;
+	}
+
+	/** Create a folder with sub-folders of empty FB types. The files are written directly to the file system, the
+	 * folder is refreshed afterwards, and they are not added to the type library.
+	 *
+	 * @param name           the name of the folder
+	 * @param folders        the number of sub-folders
+	 * @param typesPerFolder the number of types in each sub-folder
+	 * @return the created folder */
+	public IFolder createSyntheticTypes(final String name, final int folders, final int typesPerFolder)
+			throws CoreException, IOException {
+		final IFolder folder = project.getFolder(name);
+		final Path location = folder.getLocation().toFile().toPath();
+		for (int f = 0; f < folders; f++) {
+			final Path folderPath = Files.createDirectories(location.resolve("folder" + f)); //$NON-NLS-1$
+			for (int t = 0; t < typesPerFolder; t++) {
+				final String typeName = "T_" + f + "_" + t; //$NON-NLS-1$ //$NON-NLS-2$
+				Files.write(folderPath.resolve(typeName + ".fbt"), //$NON-NLS-1$
+						("<FBType Name=\"" + typeName + "\"/>").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		folder.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+		return folder;
+	}
+
+	/** Create a system with one application of chained FBs. The FBs are distributed over resources of several
+	 * devices and mapped to them.
+	 *
+	 * @param name the name of the system
+	 * @param fbs  the number of FBs of the application
+	 * @return the created system file */
+	public IFile createSystem(final String name, final int fbs) throws CoreException {
+		final StringBuilder system = new StringBuilder("<System Name=\"").append(name) //$NON-NLS-1$
+				.append("\"><Application Name=\"App\"><SubAppNetwork>"); //$NON-NLS-1$
+		for (int i = 0; i < fbs; i++) {
+			appendFB(system, i);
+		}
+		system.append("<EventConnections>"); //$NON-NLS-1$
+		for (int i = 1; i < fbs; i++) {
+			appendConnection(system, i, ".CUO", ".CU"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		system.append("</EventConnections><DataConnections>"); //$NON-NLS-1$
+		for (int i = 1; i < fbs; i++) {
+			appendConnection(system, i, ".CV", ".PV"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		system.append("</DataConnections></SubAppNetwork></Application>"); //$NON-NLS-1$
+
+		final int resources = (fbs + FBS_PER_RESOURCE - 1) / FBS_PER_RESOURCE;
+		for (int res = 0; res < resources; res++) {
+			system.append("<Device Name=\"Dev").append(res).append("\" Type=\"FORTE_PC\" x=\"0\" y=\"0\">") //$NON-NLS-1$ //$NON-NLS-2$
+			.append("<Resource Name=\"Res\" Type=\"EMB_RES\" x=\"0\" y=\"0\"><FBNetwork>"); //$NON-NLS-1$
+			for (int i = res * FBS_PER_RESOURCE; i < Math.min(fbs, (res + 1) * FBS_PER_RESOURCE); i++) {
+				appendFB(system, i);
+			}
+			system.append("</FBNetwork></Resource></Device>"); //$NON-NLS-1$
+		}
+		for (int i = 0; i < fbs; i++) {
+			system.append("<Mapping From=\"App.FB").append(i).append("\" To=\"Dev").append(i / FBS_PER_RESOURCE) //$NON-NLS-1$ //$NON-NLS-2$
+			.append(".Res.FB").append(i).append("\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		system.append("</System>"); //$NON-NLS-1$
+
+		final IFile file = project.getFile(name + ".sys"); //$NON-NLS-1$
+		write(file, system);
+		return file;
+	}
+
+	private static void appendFB(final StringBuilder system, final int index) {
+		system.append("<FB Name=\"FB").append(index).append("\" Type=\"").append(FB_TYPE) //$NON-NLS-1$ //$NON-NLS-2$
+		.append("\" Comment=\"counter ").append(index).append("\" x=\"").append(index % 100 * 200) //$NON-NLS-1$ //$NON-NLS-2$
+		.append("\" y=\"").append(index / 100 * 200).append("\"><Parameter Name=\"PV\" Value=\"") //$NON-NLS-1$ //$NON-NLS-2$
+		.append(index).append("\"/></FB>"); //$NON-NLS-1$
+	}
+
+	private static void appendConnection(final StringBuilder system, final int index, final String source,
+			final String destination) {
+		system.append("<Connection Source=\"FB").append(index - 1).append(source).append("\" Destination=\"FB") //$NON-NLS-1$ //$NON-NLS-2$
+		.append(index).append(destination).append("\"/>"); //$NON-NLS-1$
+	}
+
+	private static void write(final IFile file, final CharSequence content) throws CoreException {
+		final ByteArrayInputStream stream = new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, IResource.FORCE, new NullProgressMonitor());
+		} else {
+			file.create(stream, IResource.FORCE, new NullProgressMonitor());
+		}
+	}
+
+	/** Remove the project and its type library from the workspace. */
+	public void delete() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Runs the JMH benchmarks of the model's importers and exporters and writes the results as JSON.
+ *
+ * The benchmarks need the workspace and the type libraries, so they run inside the test runtime instead of forked
+ * JVMs. The results contain the throughput and, from the GC profiler, the allocation per operation
+ * ({@code gc.alloc.rate.norm}). Start them with {@code mvn verify -DskipBenchmarks=false} in this bundle, the result
+ * file is given with {@value #RESULT_PROPERTY} and a benchmark selection regex with {@value #INCLUDE_PROPERTY}. */
+class PersistenceBenchmarkTest {
+
+	static final String RESULT_PROPERTY = "org.eclipse.fordiac.ide.benchmark.result"; //$NON-NLS-1$
+	static final String INCLUDE_PROPERTY = "org.eclipse.fordiac.ide.benchmark.include"; //$NON-NLS-1$
+
+	private static final String DEFAULT_INCLUDE = "org\\.eclipse\\.fordiac\\.ide\\.model\\..*Benchmark\\."; //$NON-NLS-1$
+
+	@Test
+	void runBenchmarks() throws RunnerException {
+		final Options options = new OptionsBuilder().include(System.getProperty(INCLUDE_PROPERTY, DEFAULT_INCLUDE))
+				.forks(0).addProfiler(GCProfiler.class).resultFormat(ResultFormatType.JSON)
+				.result(System.getProperty(RESULT_PROPERTY, "jmh-result.json")).build(); //$NON-NLS-1$
+		final Collection<RunResult> results = new Runner(options).run();
+		assertFalse(results.isEmpty());
+	}
+
+}
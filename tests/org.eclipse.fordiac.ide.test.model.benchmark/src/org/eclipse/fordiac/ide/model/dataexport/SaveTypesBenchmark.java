@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataexport;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Saving all FB types of the shipped type library after an edit of each of them: with one workspace job per type as
+ * the type editors do, with one batch serialized by a single worker, and with one batch serialized in parallel. One
+ * operation saves every type once and waits until the files are written. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SaveTypesBenchmark {
+
+	private BenchmarkProject project;
+	private final List<FBTypePaletteEntry> fbTypes = new ArrayList<>();
+	private long saves = 0;
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		project.getTypeLibrary().getBlockTypeLib().getFbTypes().map().values().forEach(entry -> {
+			if (null != entry.getType()) {
+				fbTypes.add(entry);
+			}
+		});
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		project.delete();
+	}
+
+	private void changeTypes() {
+		final String comment = Long.toString(saves++);
+		fbTypes.forEach(entry -> entry.getType().setComment(comment));
+	}
+
+	@Benchmark
+	public void oneJobPerType() throws InterruptedException {
+		changeTypes();
+		fbTypes.forEach(AbstractTypeExporter::saveType);
+		// the jobs of single saves can not be joined
+		while (!Job.getJobManager().isIdle()) {
+			Thread.sleep(1);
+		}
+	}
+
+	@Benchmark
+	public void sequentialBatch() throws InterruptedException {
+		changeTypes();
+		AbstractTypeExporter.saveTypes(fbTypes, 1).join();
+	}
+
+	@Benchmark
+	public void parallelBatch() throws InterruptedException {
+		changeTypes();
+		AbstractTypeExporter.saveTypes(fbTypes).join();
+	}
+
+}
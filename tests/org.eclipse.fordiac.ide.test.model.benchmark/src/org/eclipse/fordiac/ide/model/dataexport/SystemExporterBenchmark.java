@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataexport;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.dataexport.SystemExporter.SaveResult;
+import org.eclipse.fordiac.ide.model.dataimport.SystemImporter;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Saving generated systems to their files, with the streaming and the in-memory export. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SystemExporterBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int fbs;
+
+	@Param({ "true", "false" })
+	public boolean streaming;
+
+	private BenchmarkProject project;
+	private IFile systemFile;
+	private AutomationSystem system;
+	private long saves = 0;
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		systemFile = project.createSystem("Benchmark", fbs); //$NON-NLS-1$
+		final SystemImporter importer = new SystemImporter(systemFile, false);
+		importer.loadElement();
+		system = importer.getElement();
+		SystemExporter.setStreamingEnabled(streaming);
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		SystemExporter.setStreamingEnabled(true);
+		project.delete();
+	}
+
+	/** save after an edit, the file is always written */
+	@Benchmark
+	public SaveResult changedSystemExporter() {
+		system.setComment(Long.toString(saves++));
+		return new SystemExporter(system).saveSystem(systemFile);
+	}
+
+	/** save without an edit, the streaming export does not write the file */
+	@Benchmark
+	public SaveResult unchangedSystemExporter() {
+		return new SystemExporter(system).saveSystem(systemFile);
+	}
+
+}
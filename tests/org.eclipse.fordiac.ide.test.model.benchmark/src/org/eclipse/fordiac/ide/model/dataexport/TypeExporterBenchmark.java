@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataexport;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.data.AnyDerivedType;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Serialization of all FB types of the shipped type library and of generated structured data types. One operation
+ * serializes every type once. The files are not written, writing is covered by the {@link SystemExporterBenchmark}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TypeExporterBenchmark {
+
+	private static final int DATA_TYPES = 200;
+	private static final int DATA_TYPE_MEMBERS = 20;
+
+	private BenchmarkProject project;
+	private final List<FBTypePaletteEntry> fbTypes = new ArrayList<>();
+	private final List<AnyDerivedType> dataTypes = new ArrayList<>();
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		project.createDataTypes(DATA_TYPES, DATA_TYPE_MEMBERS);
+		final TypeLibrary typeLibrary = project.getTypeLibrary();
+		typeLibrary.getBlockTypeLib().getFbTypes().map().values().forEach(entry -> {
+			if (null != entry.getType()) {
+				fbTypes.add(entry);
+			}
+		});
+		typeLibrary.getDataTypeLibrary().getDerivedDataTypes().values()
+		.forEach(entry -> dataTypes.add(entry.getType()));
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		project.delete();
+	}
+
+	@Benchmark
+	public void fbtExporter() throws XMLStreamException {
+		for (final FBTypePaletteEntry entry : fbTypes) {
+			final FbtExporter exporter = new FbtExporter(entry);
+			exporter.createXMLEntries();
+			exporter.endDocument();
+		}
+	}
+
+	@Benchmark
+	public void dataTypeExporter() throws XMLStreamException {
+		for (final AnyDerivedType type : dataTypes) {
+			final DataTypeExporter exporter = new DataTypeExporter(type);
+			exporter.createXMLEntries();
+			exporter.endDocument();
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryTags;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Import of all FB types of the shipped type library including the application of their error marker updates. One
+ * operation imports every file once and waits for the marker updates. Besides the time, the marker updates and the
+ * workspace jobs applying them are counted; before batching each update was a job of its own. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ImportMarkerBatcherBenchmark {
+
+	/** the marker updates and jobs of the measured operations */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class MarkerCounters {
+		public long markerUpdates;
+		public long markerJobs;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			markerUpdates = 0;
+			markerJobs = 0;
+		}
+	}
+
+	private BenchmarkProject project;
+	private List<IFile> fbtFiles;
+
+	@Setup
+	public void createProject() throws CoreException, IOException, InterruptedException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		fbtFiles = project.getFiles(TypeLibraryTags.FB_TYPE_FILE_ENDING);
+		ImportMarkerBatcher.INSTANCE.join();
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		project.delete();
+	}
+
+	@Benchmark
+	public void loadWithMarkers(final MarkerCounters counters, final Blackhole blackhole) throws InterruptedException {
+		final long updates = ImportMarkerBatcher.INSTANCE.getUpdateCount();
+		final long jobs = ImportMarkerBatcher.INSTANCE.getBatchCount();
+		for (final IFile file : fbtFiles) {
+			final FBTImporter importer = new FBTImporter(file);
+			importer.loadElement();
+			blackhole.consume(importer.getElement());
+		}
+		ImportMarkerBatcher.INSTANCE.join();
+		counters.markerUpdates += ImportMarkerBatcher.INSTANCE.getUpdateCount() - updates;
+		counters.markerJobs += ImportMarkerBatcher.INSTANCE.getBatchCount() - jobs;
+	}
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Import of generated systems. The eager import loads all applications, the lazy import only what is needed to open
+ * the system. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SystemImporterBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int fbs;
+
+	@Param({ "false", "true" })
+	public boolean lazyApplications;
+
+	private BenchmarkProject project;
+	private IFile systemFile;
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		systemFile = project.createSystem("Benchmark", fbs); //$NON-NLS-1$
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		project.delete();
+	}
+
+	@Benchmark
+	public AutomationSystem systemImporter() {
+		final SystemImporter importer = new SystemImporter(systemFile, lazyApplications);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+}
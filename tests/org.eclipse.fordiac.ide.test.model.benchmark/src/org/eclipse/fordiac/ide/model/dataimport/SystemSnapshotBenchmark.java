@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Load of generated systems from their binary snapshot compared to the import of the XML file. Loading from the
+ * snapshot includes hashing the system file. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SystemSnapshotBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int fbs;
+
+	private BenchmarkProject project;
+	private IFile systemFile;
+
+	@Setup
+	public void createProject() throws CoreException, IOException, InterruptedException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		systemFile = project.createSystem("Benchmark", fbs); //$NON-NLS-1$
+		SystemSnapshotCache.INSTANCE.store(xmlImport(), systemFile);
+		SystemSnapshotCache.INSTANCE.join();
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		SystemSnapshotCache.INSTANCE.removeProject(project.getProject());
+		project.delete();
+	}
+
+	@Benchmark
+	public AutomationSystem xmlImport() {
+		final SystemImporter importer = new SystemImporter(systemFile);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+	@Benchmark
+	public AutomationSystem snapshot() {
+		return SystemSnapshotCache.INSTANCE.load(systemFile);
+	}
+
+}
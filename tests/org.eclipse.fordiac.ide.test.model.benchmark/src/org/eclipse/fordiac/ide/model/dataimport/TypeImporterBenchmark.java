@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryTags;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Import of all FB types of the shipped type library and of generated structured data types. One operation imports
+ * every file once. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TypeImporterBenchmark {
+
+	private static final int DATA_TYPES = 200;
+	private static final int DATA_TYPE_MEMBERS = 20;
+
+	private BenchmarkProject project;
+	private List<IFile> fbtFiles;
+	private List<IFile> dataTypeFiles;
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		fbtFiles = project.getFiles(TypeLibraryTags.FB_TYPE_FILE_ENDING);
+		dataTypeFiles = project.createDataTypes(DATA_TYPES, DATA_TYPE_MEMBERS);
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		project.delete();
+	}
+
+	@Benchmark
+	public void fbtImporter(final Blackhole blackhole) {
+		for (final IFile file : fbtFiles) {
+			final FBTImporter importer = new FBTImporter(file);
+			importer.loadElement();
+			blackhole.consume(importer.getElement());
+		}
+	}
+
+	@Benchmark
+	public void dataTypeImporter(final Blackhole blackhole) {
+		for (final IFile file : dataTypeFiles) {
+			final DataTypeImporter importer = new DataTypeImporter(file);
+			importer.loadElement();
+			blackhole.consume(importer.getElement());
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.Palette.impl.PaletteEntryImpl;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Cold open of a system with instances of 300 basic FB types, with the types loaded one after the other while
+ * importing the system and with the types loaded by the parallel pipeline. Before each operation all types of the
+ * project are marked as outdated, so that they are loaded from their files again. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class TypeResolutionPipelineBenchmark {
+
+	private static final int TYPES = 300;
+	private static final int INSTANCES_PER_TYPE = 3;
+	private static final int VARIABLES = 8;
+	private static final int STATES = 20;
+
+	@Param({ "false", "true" })
+	public boolean pipelined;
+
+	private BenchmarkProject project;
+	private IFile systemFile;
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		TypeResolutionPipeline.setEnabled(pipelined);
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		final TypeLibrary typeLib = project.getTypeLibrary();
+		final StringBuilder network = new StringBuilder();
+		for (int t = 0; t < TYPES; t++) {
+			final IFile typeFile = project.getProject().getFile("T" + t + ".fbt"); //$NON-NLS-1$ //$NON-NLS-2$
+			create(typeFile, createType("T" + t)); //$NON-NLS-1$
+			if (!typeLib.containsType(typeFile)) {
+				typeLib.createPaletteEntry(typeFile);
+			}
+			for (int i = 0; i < INSTANCES_PER_TYPE; i++) {
+				network.append("<FB Name=\"FB").append(t).append('_').append(i).append("\" Type=\"T").append(t) //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\" x=\"0\" y=\"0\"><Parameter Name=\"DI0\" Value=\"1\"/></FB>"); //$NON-NLS-1$
+			}
+		}
+		systemFile = project.getProject().getFile("Pipeline.sys"); //$NON-NLS-1$
+		create(systemFile, "<System Name=\"Pipeline\"><Application Name=\"App\"><SubAppNetwork>" + network //$NON-NLS-1$
+				+ "</SubAppNetwork></Application></System>"); //$NON-NLS-1$
+	}
+
+	private static void create(final IFile file, final CharSequence content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	private static CharSequence createType(final String name) {
+		final StringBuilder type = new StringBuilder("<FBType Name=\"").append(name) //$NON-NLS-1$
+				.append("\"><InterfaceList><EventInputs><Event Name=\"REQ\">"); //$NON-NLS-1$
+		for (int v = 0; v < VARIABLES; v++) {
+			type.append("<With Var=\"DI").append(v).append("\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		type.append("</Event></EventInputs><EventOutputs><Event Name=\"CNF\"/></EventOutputs><InputVars>"); //$NON-NLS-1$
+		for (int v = 0; v < VARIABLES; v++) {
+			type.append("<VarDeclaration Name=\"DI").append(v).append("\" Type=\"INT\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		type.append("</InputVars></InterfaceList><BasicFB><ECC><ECState Name=\"START\"/>"); //$NON-NLS-1$
+		for (int s = 0; s < STATES; s++) {
+			type.append("<ECState Name=\"S").append(s).append("\"><ECAction Algorithm=\"A").append(s) //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\" Output=\"CNF\"/></ECState>"); //$NON-NLS-1$
+		}
+		type.append("</ECC>"); //$NON-NLS-1$
+		for (int s = 0; s < STATES; s++) {
+			type.append("<Algorithm Name=\"A").append(s).append("\"><ST Text=\"DI0 := DI1 + ").append(s) //$NON-NLS-1$ //$NON-NLS-2$
+			.append(";\"/></Algorithm>"); //$NON-NLS-1$
+		}
+		return type.append("</BasicFB></FBType>"); //$NON-NLS-1$
+	}
+
+	/** mark all types as outdated, including the cached templates of their files */
+	@Setup(Level.Invocation)
+	public void invalidateTypes() {
+		project.getTypeLibrary().getBlockTypeLib().getFbTypes().values()
+				.forEach(entry -> ((PaletteEntryImpl) entry).invalidateType());
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		TypeResolutionPipeline.setEnabled(true);
+		project.delete();
+	}
+
+	@Benchmark
+	public AutomationSystem coldOpen() {
+		final SystemImporter importer = new SystemImporter(systemFile, false);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.fordiac.ide.application.commands.ConnectionReference;
+import org.eclipse.fordiac.ide.application.commands.PasteCommand;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.commands.create.EventConnectionCreateCommand;
+import org.eclipse.fordiac.ide.model.commands.create.FBCreateCommand;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Pasting copies of 1000 connected FBs into their network shown in an editor, within one bulk edit and with a
+ * notification for every pasted FB and connection. Before each operation the network is created again. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class BulkPasteBenchmark {
+
+	private static final int FBS = 1000;
+
+	/** Stands in for the FB network edit part, which refreshes its children for every added or removed element or
+	 * connection. Like GEF's refreshChildren a refresh maps all model children of the network. */
+	private static final class RefreshingAdapter extends AdapterImpl {
+		@Override
+		public void notifyChanged(final Notification notification) {
+			switch (notification.getEventType()) {
+			case Notification.ADD:
+			case Notification.ADD_MANY:
+			case Notification.REMOVE:
+			case Notification.REMOVE_MANY:
+				refresh((FBNetwork) notification.getNotifier());
+				break;
+			default:
+			}
+		}
+
+		private static void refresh(final FBNetwork network) {
+			final Map<Object, Object> children = new HashMap<>();
+			network.getNetworkElements().forEach(element -> children.put(element, element));
+			network.getEventConnections().forEach(connection -> children.put(connection, connection));
+		}
+	}
+
+	@Param({ "false", "true" })
+	public boolean bulkEdit;
+
+	private BenchmarkProject project;
+	private FBTypePaletteEntry entry;
+	private FBNetwork network;
+	private PasteCommand paste;
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		BulkEdit.setEnabled(bulkEdit);
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		entry = project.getTypeLibrary().getBlockTypeLib().getFBTypeEntry(BenchmarkProject.FB_TYPE);
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		BulkEdit.setEnabled(true);
+		project.delete();
+	}
+
+	/** create a network with a chain of connected FBs and the command pasting copies of all of them */
+	@Setup(Level.Invocation)
+	public void createNetwork() {
+		network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		FB previous = null;
+		for (int i = 0; i < FBS; i++) {
+			final FBCreateCommand create = new FBCreateCommand(entry, network, 0, 0);
+			create.execute();
+			if (null != previous) {
+				final EventConnectionCreateCommand connect = new EventConnectionCreateCommand(network);
+				connect.setSource(previous.getInterface().getEventOutputs().get(0));
+				connect.setDestination(create.getFB().getInterface().getEventInputs().get(0));
+				connect.execute();
+			}
+			previous = create.getFB();
+		}
+		network.eAdapters().add(new RefreshingAdapter());
+
+		final List<Object> templates = new ArrayList<>(network.getNetworkElements());
+		network.getEventConnections().forEach(connection -> templates.add(new ConnectionReference(connection)));
+		paste = new PasteCommand(templates, network, 0, 0);
+	}
+
+	@Benchmark
+	public FBNetwork paste() {
+		paste.execute();
+		return network;
+	}
+
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.fordiac.ide.application.commands.FlattenSubAppCommand;
+import org.eclipse.fordiac.ide.model.commands.delete.DeleteFBNetworkElementCommand;
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.EventConnection;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.gef.commands.CompoundCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Deleting all FBs of a subapp and flattening the subapp, whose network has 5000 FBs and 20000 connections, with the
+ * connection index and with the connection lists of the pins. Before each operation the network is created again, the
+ * index of the network is built by the measured command. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class ConnectionIndexBenchmark {
+
+	/** each FB is connected to the next FBs, so the network has four connections per FB */
+	private static final int FAN_OUT = 4;
+	private static final int FBS = 5000;
+
+	@Param({ "false", "true" })
+	public boolean indexed;
+
+	private SubApp subApp;
+
+	@Setup
+	public void configureIndex() {
+		ConnectionIndex.setEnabled(indexed);
+	}
+
+	@TearDown
+	public void enableIndex() {
+		ConnectionIndex.setEnabled(true);
+	}
+
+	private static InterfaceList createInterface() {
+		final InterfaceList interfaceList = LibraryElementFactory.eINSTANCE.createInterfaceList();
+		final Event input = LibraryElementFactory.eINSTANCE.createEvent();
+		input.setName("EI"); //$NON-NLS-1$
+		input.setIsInput(true);
+		interfaceList.getEventInputs().add(input);
+		final Event output = LibraryElementFactory.eINSTANCE.createEvent();
+		output.setName("EO"); //$NON-NLS-1$
+		interfaceList.getEventOutputs().add(output);
+		return interfaceList;
+	}
+
+	private static void connect(final FBNetwork network, final FBNetworkElement source,
+			final FBNetworkElement destination) {
+		final EventConnection connection = LibraryElementFactory.eINSTANCE.createEventConnection();
+		// the pins of the subapp are used from inside its network
+		final boolean sourceInside = source.getFbNetwork() == network;
+		final boolean destinationInside = destination.getFbNetwork() == network;
+		connection.setSource(source.getInterfaceElement(sourceInside ? "EO" : "EI")); //$NON-NLS-1$ //$NON-NLS-2$
+		connection.setDestination(
+				destination.getInterfaceElement(destinationInside ? "EI" : "EO")); //$NON-NLS-1$ //$NON-NLS-2$
+		network.getEventConnections().add(connection);
+	}
+
+	/** create a network with an FB connected to a subapp containing the FBs */
+	@Setup(Level.Invocation)
+	public void createNetwork() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final FB outer = LibraryElementFactory.eINSTANCE.createFB();
+		outer.setName("Outer"); //$NON-NLS-1$
+		outer.setInterface(createInterface());
+		network.getNetworkElements().add(outer);
+
+		subApp = LibraryElementFactory.eINSTANCE.createSubApp();
+		subApp.setName("SubApp"); //$NON-NLS-1$
+		subApp.setInterface(createInterface());
+		subApp.setSubAppNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		network.getNetworkElements().add(subApp);
+		connect(network, outer, subApp);
+
+		final FBNetwork subAppNetwork = subApp.getSubAppNetwork();
+		for (int i = 0; i < FBS; i++) {
+			final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+			fb.setName("FB" + i); //$NON-NLS-1$
+			fb.setInterface(createInterface());
+			subAppNetwork.getNetworkElements().add(fb);
+		}
+		connect(subAppNetwork, subApp, subAppNetwork.getNetworkElements().get(0));
+		for (int i = 0; i < FBS; i++) {
+			for (int j = 1; j <= FAN_OUT; j++) {
+				connect(subAppNetwork, subAppNetwork.getNetworkElements().get(i),
+						subAppNetwork.getNetworkElements().get((i + j) % FBS));
+			}
+		}
+	}
+
+	@Benchmark
+	public FBNetwork deleteAll() {
+		final FBNetwork subAppNetwork = subApp.getSubAppNetwork();
+		final CompoundCommand command = new CompoundCommand();
+		subAppNetwork.getNetworkElements().forEach(fb -> command.add(new DeleteFBNetworkElementCommand(fb)));
+		command.execute();
+		return subAppNetwork;
+	}
+
+	@Benchmark
+	public FBNetwork flatten() {
+		final FBNetwork network = subApp.getFbNetwork();
+		new FlattenSubAppCommand(subApp).execute();
+		return network;
+	}
+
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Name lookups in an interface with 500 pins and a network with 5000 FBs, with and without the name index. One
+ * operation looks up every pin or element once. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NameIndexBenchmark {
+
+	private static final int PINS_PER_LIST = 125;
+	private static final int NETWORK_ELEMENTS = 5000;
+
+	@Param({ "true", "false" })
+	public boolean indexed;
+
+	private final InterfaceList interfaceList = LibraryElementFactory.eINSTANCE.createInterfaceList();
+	private final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+	private String[] pinNames;
+	private String[] elementNames;
+
+	@Setup
+	public void createModel() {
+		NameIndex.setEnabled(indexed);
+		addEvents(interfaceList.getEventInputs(), "EI"); //$NON-NLS-1$
+		addEvents(interfaceList.getEventOutputs(), "EO"); //$NON-NLS-1$
+		addVariables(interfaceList.getInputVars(), "DI"); //$NON-NLS-1$
+		addVariables(interfaceList.getOutputVars(), "DO"); //$NON-NLS-1$
+		pinNames = interfaceList.getAllInterfaceElements().stream().map(IInterfaceElement::getName)
+				.toArray(String[]::new);
+
+		elementNames = new String[NETWORK_ELEMENTS];
+		for (int i = 0; i < NETWORK_ELEMENTS; i++) {
+			final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+			fb.setName("FB" + i); //$NON-NLS-1$
+			network.getNetworkElements().add(fb);
+			elementNames[i] = fb.getName();
+		}
+		// create the indexes before the measurement
+		NameIndex.of(interfaceList);
+		NameIndex.of(network);
+	}
+
+	private static void addEvents(final List<Event> events, final String prefix) {
+		for (int i = 0; i < PINS_PER_LIST; i++) {
+			final Event event = LibraryElementFactory.eINSTANCE.createEvent();
+			event.setName(prefix + i);
+			events.add(event);
+		}
+	}
+
+	private static void addVariables(final List<VarDeclaration> variables, final String prefix) {
+		for (int i = 0; i < PINS_PER_LIST; i++) {
+			final VarDeclaration variable = LibraryElementFactory.eINSTANCE.createVarDeclaration();
+			variable.setName(prefix + i);
+			variables.add(variable);
+		}
+	}
+
+	@TearDown
+	public void enableIndex() {
+		NameIndex.setEnabled(true);
+	}
+
+	@Benchmark
+	public void interfaceElementLookup(final Blackhole blackhole) {
+		for (final String name : pinNames) {
+			blackhole.consume(interfaceList.getInterfaceElement(name));
+		}
+	}
+
+	@Benchmark
+	public void variableLookup(final Blackhole blackhole) {
+		for (final String name : pinNames) {
+			blackhole.consume(interfaceList.getVariable(name));
+		}
+	}
+
+	@Benchmark
+	public void networkElementLookup(final Blackhole blackhole) {
+		for (final String name : elementNames) {
+			blackhole.consume(network.getElementNamed(name));
+		}
+	}
+
+	/** renames every element and back, the index has to follow each rename */
+	@Benchmark
+	public void networkElementRename() {
+		for (int i = 0; i < NETWORK_ELEMENTS; i++) {
+			final FB fb = (FB) network.getNetworkElements().get(i);
+			fb.setName("Renamed"); //$NON-NLS-1$
+			fb.setName(elementNames[i]);
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.eclipse.fordiac.ide.model.dataimport.SystemImporter;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Import of a system with 2000 typed subapps mapped to a resource, whose instances share the network of their type,
+ * compared to the import followed by a private copy of every instance's network as the import did before. The memory
+ * needed for the networks is reported by the GC profiler as allocation per operation. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SharedNetworkBenchmark {
+
+	private static final int FBS_PER_TYPE = 10;
+	private static final int INSTANCES = 2000;
+
+	private BenchmarkProject project;
+	private IFile systemFile;
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		final IFile subAppType = project.getProject().getFile("SHARED.sub"); //$NON-NLS-1$
+		create(subAppType, createSubAppType());
+		final TypeLibrary typeLib = project.getTypeLibrary();
+		if (!typeLib.containsType(subAppType)) {
+			typeLib.createPaletteEntry(subAppType);
+		}
+
+		final StringBuilder app = new StringBuilder();
+		final StringBuilder res = new StringBuilder();
+		final StringBuilder mappings = new StringBuilder();
+		for (int i = 0; i < INSTANCES; i++) {
+			final String subApp = "<SubApp Name=\"Sub" + i + "\" Type=\"SHARED\" x=\"0\" y=\"0\"/>"; //$NON-NLS-1$ //$NON-NLS-2$
+			app.append(subApp);
+			res.append(subApp);
+			mappings.append("<Mapping From=\"App.Sub").append(i).append("\" To=\"Dev.Res.Sub").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\"/>"); //$NON-NLS-1$
+		}
+		systemFile = project.getProject().getFile("Shared.sys"); //$NON-NLS-1$
+		create(systemFile, "<System Name=\"Shared\"><Application Name=\"App\"><SubAppNetwork>" + app //$NON-NLS-1$
+				+ "</SubAppNetwork></Application><Device Name=\"Dev\" Type=\"FORTE_PC\" x=\"0\" y=\"0\">" //$NON-NLS-1$
+				+ "<Resource Name=\"Res\" Type=\"EMB_RES\" x=\"0\" y=\"0\"><FBNetwork>" + res //$NON-NLS-1$
+				+ "</FBNetwork></Resource></Device>" + mappings + "</System>"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void create(final IFile file, final CharSequence content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	/** a subapp type with a chain of FBs connected to the subapp's event input */
+	private static CharSequence createSubAppType() {
+		final StringBuilder type = new StringBuilder("<SubAppType Name=\"SHARED\"><SubAppInterfaceList>") //$NON-NLS-1$
+				.append("<SubAppEventInputs><SubAppEvent Name=\"EI\"/></SubAppEventInputs>") //$NON-NLS-1$
+				.append("</SubAppInterfaceList><SubAppNetwork>"); //$NON-NLS-1$
+		for (int i = 0; i < FBS_PER_TYPE; i++) {
+			type.append("<FB Name=\"FB").append(i).append("\" Type=\"").append(BenchmarkProject.FB_TYPE) //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\" x=\"0\" y=\"0\"/>"); //$NON-NLS-1$
+		}
+		type.append("<EventConnections><Connection Source=\"EI\" Destination=\"FB0.CU\"/>"); //$NON-NLS-1$
+		for (int i = 1; i < FBS_PER_TYPE; i++) {
+			type.append("<Connection Source=\"FB").append(i - 1).append(".CUO\" Destination=\"FB").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+			.append(".CU\"/>"); //$NON-NLS-1$
+		}
+		return type.append("</EventConnections></SubAppNetwork></SubAppType>"); //$NON-NLS-1$
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		project.delete();
+	}
+
+	@Benchmark
+	public AutomationSystem sharedNetworks() {
+		final SystemImporter importer = new SystemImporter(systemFile, false);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+	@Benchmark
+	public AutomationSystem privateNetworks() {
+		final AutomationSystem system = sharedNetworks();
+		for (final FBNetworkElement element : system.getApplicationNamed("App").getFBNetwork() //$NON-NLS-1$
+				.getNetworkElements()) {
+			FBNetworkHelper.loadSubappNetwork((SubApp) element);
+		}
+		return system;
+	}
+
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.benchmark.BenchmarkProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Scan of the shipped type library and of a synthetic library with 10000 types in 100 folders, with a single worker
+ * as the former serial walk and with the default number of workers. One operation scans the whole library. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TypeLibraryScannerBenchmark {
+
+	private static final String SYNTHETIC_FOLDER = "synthetic"; //$NON-NLS-1$
+	private static final int SYNTHETIC_FOLDERS = 100;
+	private static final int SYNTHETIC_TYPES_PER_FOLDER = 100;
+
+	@Param({ BenchmarkProject.TYPELIB_FOLDER, SYNTHETIC_FOLDER })
+	public String library;
+
+	@Param({ "1", "0" })
+	public int workers;
+
+	private BenchmarkProject project;
+	private IContainer root;
+	private TypeLibraryScanner scanner;
+
+	@Setup
+	public void createProject() throws CoreException, IOException {
+		project = BenchmarkProject.create(getClass().getSimpleName());
+		if (SYNTHETIC_FOLDER.equals(library)) {
+			root = project.createSyntheticTypes(SYNTHETIC_FOLDER, SYNTHETIC_FOLDERS, SYNTHETIC_TYPES_PER_FOLDER);
+		} else {
+			root = project.getProject().getFolder(library);
+		}
+		final IPaletteEntryCreator[] creators = { new CreateFBTypePaletteEntry(), new CreateAdapterTypePaletteEntry(),
+				new CreateDeviceTypePaletteEntry(), new CreateResourceTypePaletteEntry(),
+				new CreateSegmentTypePaletteEntry(), new CreateSubapplicationTypePaletteEntry(),
+				new CreateDataTypePaletteEntry() };
+		// 0 workers stands for the default parallelism of the type library
+		scanner = (0 == workers) ? new TypeLibraryScanner(creators) : new TypeLibraryScanner(creators, workers);
+	}
+
+	@TearDown
+	public void deleteProject() throws CoreException {
+		project.delete();
+	}
+
+	@Benchmark
+	public List<PaletteEntry> scan() {
+		return scanner.scan(root);
+	}
+
+}
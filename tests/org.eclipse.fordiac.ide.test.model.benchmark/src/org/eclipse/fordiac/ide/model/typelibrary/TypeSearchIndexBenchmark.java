@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Prefix and substring queries on a library of 20000 type names, with the search index and with a scan over all
+ * names as the data type dropdown and the palette filter did before. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TypeSearchIndexBenchmark {
+
+	private static final int TYPES = 20000;
+	private static final String PREFIX = "type_01"; //$NON-NLS-1$
+	private static final String SUBSTRING = "1234"; //$NON-NLS-1$
+
+	private final List<String> names = new ArrayList<>();
+	private final TypeSearchIndex<String> index = new TypeSearchIndex<>(name -> name);
+
+	@Setup
+	public void createLibrary() {
+		for (int i = 0; i < TYPES; i++) {
+			final String name = String.format("TYPE_%05d_%s", Integer.valueOf(i), //$NON-NLS-1$
+					(0 == (i % 2)) ? "EVEN" : "ODD"); //$NON-NLS-1$ //$NON-NLS-2$
+			names.add(name);
+			index.add(name);
+		}
+	}
+
+	@Benchmark
+	public List<String> prefixIndexed() {
+		return index.findByPrefix(PREFIX);
+	}
+
+	@Benchmark
+	public List<String> prefixScan() {
+		return names.stream().filter(name -> name.toLowerCase(Locale.ROOT).startsWith(PREFIX))
+				.collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<String> substringIndexed() {
+		return index.findCandidates("*" + SUBSTRING + "*"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Benchmark
+	public List<String> substringScan() {
+		return names.stream().filter(name -> name.toLowerCase(Locale.ROOT).contains(SUBSTRING))
+				.collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.application.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.commands.create.CreateInterfaceElementCommand;
+import org.eclipse.fordiac.ide.model.commands.create.EventConnectionCreateCommand;
+import org.eclipse.fordiac.ide.model.commands.create.FBCreateCommand;
+import org.eclipse.fordiac.ide.model.commands.testinfra.FBNetworkTestBase;
+import org.eclipse.fordiac.ide.model.helpers.BulkEdit;
+import org.eclipse.fordiac.ide.model.helpers.ConnectionIndex;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.INamedElement;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.typelibrary.EventTypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Pasting 1000 connected FBs into a network shown in an editor, with and without bulk edits. */
+class BulkPasteTest {
+
+	private static final int FBS = 1000;
+
+	/** Stands in for the FB network edit part, which refreshes its children for every added or removed element or
+	 * connection. Like GEF's refreshChildren a refresh maps all model children of the network. */
+	private static final class RefreshingAdapter extends AdapterImpl {
+		private int refreshes;
+
+		@Override
+		public void notifyChanged(final Notification notification) {
+			switch (notification.getEventType()) {
+			case Notification.ADD:
+			case Notification.ADD_MANY:
+			case Notification.REMOVE:
+			case Notification.REMOVE_MANY:
+				refresh((FBNetwork) notification.getNotifier());
+				break;
+			default:
+			}
+		}
+
+		private void refresh(final FBNetwork network) {
+			final Map<Object, Object> children = new HashMap<>();
+			network.getNetworkElements().forEach(element -> children.put(element, element));
+			network.getEventConnections().forEach(connection -> children.put(connection, connection));
+			refreshes++;
+		}
+	}
+
+	private FBTypePaletteEntry entry;
+
+	@BeforeEach
+	void createType() {
+		entry = new FBNetworkTestBase.State().getFunctionblock();
+		new CreateInterfaceElementCommand(EventTypeLibrary.getInstance().getType(null),
+				entry.getFBType().getInterfaceList(), true, 0).execute();
+		new CreateInterfaceElementCommand(EventTypeLibrary.getInstance().getType(null),
+				entry.getFBType().getInterfaceList(), false, 0).execute();
+	}
+
+	@AfterEach
+	void enableBulkEdit() {
+		BulkEdit.setEnabled(true);
+	}
+
+	/** @return a network with a chain of connected FBs */
+	private FBNetwork createNetwork() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		FB previous = null;
+		for (int i = 0; i < FBS; i++) {
+			final FBCreateCommand create = new FBCreateCommand(entry, network, 0, 0);
+			create.execute();
+			if (null != previous) {
+				final EventConnectionCreateCommand connect = new EventConnectionCreateCommand(network);
+				connect.setSource(previous.getInterface().getEventOutputs().get(0));
+				connect.setDestination(create.getFB().getInterface().getEventInputs().get(0));
+				connect.execute();
+			}
+			previous = create.getFB();
+		}
+		return network;
+	}
+
+	/** @return the command pasting copies of all FBs and connections of the network into the network */
+	private static PasteCommand createPasteCommand(final FBNetwork network) {
+		final List<Object> templates = new ArrayList<>(network.getNetworkElements());
+		network.getEventConnections().forEach(connection -> templates.add(new ConnectionReference(connection)));
+		return new PasteCommand(templates, network, 0, 0);
+	}
+
+	private static void assertPasted(final FBNetwork network) {
+		assertEquals(2 * FBS, network.getNetworkElements().size());
+		assertEquals(2 * (FBS - 1), network.getEventConnections().size());
+		final Set<String> names = network.getNetworkElements().stream().map(INamedElement::getName)
+				.collect(Collectors.toSet());
+		assertEquals(2 * FBS, names.size());
+		// the copies are connected among each other like the originals
+		final List<FBNetworkElement> copies = network.getNetworkElements().subList(FBS, 2 * FBS);
+		final ConnectionIndex index = ConnectionIndex.of(network);
+		assertNotNull(index);
+		assertEquals(FBS - 1, index.getInternalConnections(copies).size());
+	}
+
+	@Test
+	void pasteRefreshesOnce() {
+		final FBNetwork network = createNetwork();
+		final RefreshingAdapter editPart = new RefreshingAdapter();
+		network.eAdapters().add(editPart);
+
+		final PasteCommand paste = createPasteCommand(network);
+		paste.execute();
+		assertPasted(network);
+		// one refresh for the pasted FBs and one for the pasted connections
+		assertEquals(2, editPart.refreshes);
+
+		paste.undo();
+		assertEquals(FBS, network.getNetworkElements().size());
+		assertEquals(FBS - 1, network.getEventConnections().size());
+		assertEquals(4, editPart.refreshes);
+
+		paste.redo();
+		assertPasted(network);
+		assertEquals(6, editPart.refreshes);
+	}
+
+	private void paste(final int expectedRefreshes) {
+		final FBNetwork network = createNetwork();
+		final RefreshingAdapter editPart = new RefreshingAdapter();
+		network.eAdapters().add(editPart);
+		createPasteCommand(network).execute();
+		assertPasted(network);
+		assertEquals(expectedRefreshes, editPart.refreshes);
+	}
+
+	@Test
+	void pasteWithAndWithoutBulkEdit() {
+		paste(2);
+		BulkEdit.setEnabled(false);
+		// every pasted FB and connection refreshes the editor
+		paste(FBS + (FBS - 1));
+	}
+
+}
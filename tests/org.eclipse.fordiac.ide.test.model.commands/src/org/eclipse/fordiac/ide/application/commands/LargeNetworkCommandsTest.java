@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.application.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.fordiac.ide.model.commands.delete.DeleteFBNetworkElementCommand;
+import org.eclipse.fordiac.ide.model.helpers.ConnectionIndex;
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.EventConnection;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.gef.commands.CompoundCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Delete and flatten commands on networks with 20000 connections, with and without the connection index. */
+class LargeNetworkCommandsTest {
+
+	/** each FB is connected to the next FBs, so the networks have four connections per FB */
+	private static final int FAN_OUT = 4;
+	private static final int SMALL_NETWORK = 500;
+	private static final int LARGE_NETWORK = 5000;
+
+	/** counts the notifications of the networks, each of them refreshes the edit part of an open editor */
+	private static final class NotificationCounter extends AdapterImpl {
+		private int notifications;
+
+		@Override
+		public void notifyChanged(final Notification notification) {
+			notifications++;
+		}
+	}
+
+	@AfterEach
+	void enableIndex() {
+		ConnectionIndex.setEnabled(true);
+	}
+
+	private static InterfaceList createInterface() {
+		final InterfaceList interfaceList = LibraryElementFactory.eINSTANCE.createInterfaceList();
+		final Event input = LibraryElementFactory.eINSTANCE.createEvent();
+		input.setName("EI"); //$NON-NLS-1$
+		input.setIsInput(true);
+		interfaceList.getEventInputs().add(input);
+		final Event output = LibraryElementFactory.eINSTANCE.createEvent();
+		output.setName("EO"); //$NON-NLS-1$
+		interfaceList.getEventOutputs().add(output);
+		return interfaceList;
+	}
+
+	private static void connect(final FBNetwork network, final FBNetworkElement source,
+			final FBNetworkElement destination) {
+		final EventConnection connection = LibraryElementFactory.eINSTANCE.createEventConnection();
+		// the pins of the subapp are used from inside its network
+		final boolean sourceInside = source.getFbNetwork() == network;
+		final boolean destinationInside = destination.getFbNetwork() == network;
+		connection.setSource(source.getInterfaceElement(sourceInside ? "EO" : "EI")); //$NON-NLS-1$ //$NON-NLS-2$
+		connection.setDestination(
+				destination.getInterfaceElement(destinationInside ? "EI" : "EO")); //$NON-NLS-1$ //$NON-NLS-2$
+		network.getEventConnections().add(connection);
+	}
+
+	/** @return a network with an FB connected to a subapp containing the given number of FBs */
+	private static FBNetwork createNetwork(final int fbs) {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final FB outer = LibraryElementFactory.eINSTANCE.createFB();
+		outer.setName("Outer"); //$NON-NLS-1$
+		outer.setInterface(createInterface());
+		network.getNetworkElements().add(outer);
+
+		final SubApp subApp = LibraryElementFactory.eINSTANCE.createSubApp();
+		subApp.setName("SubApp"); //$NON-NLS-1$
+		subApp.setInterface(createInterface());
+		subApp.setSubAppNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		network.getNetworkElements().add(subApp);
+		connect(network, outer, subApp);
+
+		final FBNetwork subAppNetwork = subApp.getSubAppNetwork();
+		for (int i = 0; i < fbs; i++) {
+			final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+			fb.setName("FB" + i); //$NON-NLS-1$
+			fb.setInterface(createInterface());
+			subAppNetwork.getNetworkElements().add(fb);
+		}
+		connect(subAppNetwork, subApp, subAppNetwork.getNetworkElements().get(0));
+		for (int i = 0; i < fbs; i++) {
+			for (int j = 1; j <= FAN_OUT; j++) {
+				connect(subAppNetwork, subAppNetwork.getNetworkElements().get(i),
+						subAppNetwork.getNetworkElements().get((i + j) % fbs));
+			}
+		}
+		return network;
+	}
+
+	private static SubApp getSubApp(final FBNetwork network) {
+		return (SubApp) network.getElementNamed("SubApp"); //$NON-NLS-1$
+	}
+
+	/** @return the number of notifications the parent and the subapp network received while flattening */
+	private static int flatten(final int fbs) {
+		final FBNetwork network = createNetwork(fbs);
+		final NotificationCounter counter = new NotificationCounter();
+		network.eAdapters().add(counter);
+		getSubApp(network).getSubAppNetwork().eAdapters().add(counter);
+		final FlattenSubAppCommand command = new FlattenSubAppCommand(getSubApp(network));
+		command.execute();
+		final int notifications = counter.notifications;
+
+		assertEquals(fbs + 1, network.getNetworkElements().size());
+		// the connection from the outer FB to the subapp is replaced by one to the first inner FB
+		assertEquals((fbs * FAN_OUT) + 1, network.getEventConnections().size());
+		assertEquals(FAN_OUT + 1, network.getElementNamed("FB0").getInterfaceElement("EI") //$NON-NLS-1$ //$NON-NLS-2$
+				.getInputConnections().size());
+
+		command.undo();
+		final SubApp subApp = getSubApp(network);
+		assertEquals(2, network.getNetworkElements().size());
+		assertEquals(1, network.getEventConnections().size());
+		assertEquals(fbs, subApp.getSubAppNetwork().getNetworkElements().size());
+		assertEquals((fbs * FAN_OUT) + 1, subApp.getSubAppNetwork().getEventConnections().size());
+
+		command.redo();
+		assertEquals(fbs + 1, network.getNetworkElements().size());
+		assertEquals((fbs * FAN_OUT) + 1, network.getEventConnections().size());
+		return notifications;
+	}
+
+	private static void deleteAll(final int fbs) {
+		final FBNetwork subAppNetwork = getSubApp(createNetwork(fbs)).getSubAppNetwork();
+		final CompoundCommand command = new CompoundCommand();
+		subAppNetwork.getNetworkElements().forEach(fb -> command.add(new DeleteFBNetworkElementCommand(fb)));
+		command.execute();
+
+		assertTrue(subAppNetwork.getNetworkElements().isEmpty());
+		assertTrue(subAppNetwork.getEventConnections().isEmpty());
+
+		command.undo();
+		assertEquals(fbs, subAppNetwork.getNetworkElements().size());
+		assertEquals((fbs * FAN_OUT) + 1, subAppNetwork.getEventConnections().size());
+		final FBNetworkElement fb0 = subAppNetwork.getElementNamed("FB0"); //$NON-NLS-1$
+		final FBNetworkElement fb1 = subAppNetwork.getElementNamed("FB1"); //$NON-NLS-1$
+		assertTrue(fb1.getInterfaceElement("EI").getInputConnections().stream() //$NON-NLS-1$
+				.anyMatch(connection -> connection.getSourceElement() == fb0));
+	}
+
+	@Test
+	void flattenMovesTheContentAtOnce() {
+		// the content is moved list by list, not element by element
+		final int notifications = flatten(SMALL_NETWORK);
+		assertEquals(notifications, flatten(LARGE_NETWORK));
+		ConnectionIndex.setEnabled(false);
+		assertEquals(notifications, flatten(LARGE_NETWORK));
+	}
+
+	@Test
+	void deleteWithAndWithoutIndex() {
+		deleteAll(LARGE_NETWORK);
+		ConnectionIndex.setEnabled(false);
+		deleteAll(LARGE_NETWORK);
+	}
+
+}
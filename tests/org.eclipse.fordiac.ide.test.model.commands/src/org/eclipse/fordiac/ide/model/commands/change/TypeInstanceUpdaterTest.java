@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.commands.change;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.PaletteFactory;
+import org.eclipse.fordiac.ide.model.Palette.SubApplicationTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.SystemPaletteEntry;
+import org.eclipse.fordiac.ide.model.commands.create.CreateInterfaceElementCommand;
+import org.eclipse.fordiac.ide.model.commands.create.EventConnectionCreateCommand;
+import org.eclipse.fordiac.ide.model.commands.create.FBCreateCommand;
+import org.eclipse.fordiac.ide.model.commands.testinfra.FBNetworkTestBase;
+import org.eclipse.fordiac.ide.model.libraryElement.Application;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.fordiac.ide.model.libraryElement.SubAppType;
+import org.eclipse.fordiac.ide.model.typelibrary.EventTypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeUsageIndex;
+import org.eclipse.gef.commands.CommandStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TypeInstanceUpdaterTest {
+
+	private static final int INSTANCES = 2000;
+
+	private FBTypePaletteEntry entry;
+	private final List<PaletteEntry> rootEntries = new ArrayList<>();
+
+	@BeforeEach
+	void createType() {
+		entry = new FBNetworkTestBase.State().getFunctionblock();
+		addEvent(true);
+		addEvent(false);
+	}
+
+	@AfterEach
+	void removeRoots() {
+		rootEntries.forEach(TypeUsageIndex.INSTANCE::removeEntry);
+	}
+
+	private void addEvent(final boolean isInput) {
+		new CreateInterfaceElementCommand(EventTypeLibrary.getInstance().getType(null),
+				entry.getFBType().getInterfaceList(), isInput, 0).execute();
+	}
+
+	/** creates a chain of connected instances of the type */
+	private void fillNetwork(final FBNetwork network, final int instances) {
+		FB previous = null;
+		for (int i = 0; i < instances; i++) {
+			final FBCreateCommand create = new FBCreateCommand(entry, network, 0, 0);
+			create.execute();
+			if (null != previous) {
+				final EventConnectionCreateCommand connect = new EventConnectionCreateCommand(network);
+				connect.setSource(previous.getInterface().getEventOutputs().get(0));
+				connect.setDestination(create.getFB().getInterface().getEventInputs().get(0));
+				connect.execute();
+			}
+			previous = create.getFB();
+		}
+	}
+
+	private AutomationSystem createSystem(final int instances) {
+		final AutomationSystem system = LibraryElementFactory.eINSTANCE.createAutomationSystem();
+		system.setName("System"); //$NON-NLS-1$
+		system.setCommandStack(new CommandStack());
+		final Application application = LibraryElementFactory.eINSTANCE.createApplication();
+		application.setFBNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		system.getApplication().add(application);
+		fillNetwork(application.getFBNetwork(), instances);
+
+		final SystemPaletteEntry systemEntry = PaletteFactory.eINSTANCE.createSystemPaletteEntry();
+		systemEntry.setType(system);
+		rootEntries.add(systemEntry);
+		return system;
+	}
+
+	private SubAppType createSubAppType(final int instances) {
+		final SubAppType subAppType = LibraryElementFactory.eINSTANCE.createSubAppType();
+		subAppType.setName("SubAppType"); //$NON-NLS-1$
+		subAppType.setInterfaceList(LibraryElementFactory.eINSTANCE.createInterfaceList());
+		subAppType.setFBNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		fillNetwork(subAppType.getFBNetwork(), instances);
+
+		final SubApplicationTypePaletteEntry subAppEntry = PaletteFactory.eINSTANCE
+				.createSubApplicationTypePaletteEntry();
+		subAppEntry.setType(subAppType);
+		rootEntries.add(subAppEntry);
+		return subAppType;
+	}
+
+	private static FBNetwork getApplicationNetwork(final AutomationSystem system) {
+		return system.getApplication().get(0).getFBNetwork();
+	}
+
+	private static void assertUpdated(final FBNetwork network, final Set<FBNetworkElement> oldInstances) {
+		for (final FBNetworkElement element : network.getNetworkElements()) {
+			if (element instanceof FB) {
+				assertFalse(oldInstances.contains(element));
+				assertEquals(2, element.getInterface().getEventInputs().size());
+			}
+		}
+	}
+
+	@Test
+	void instancesOfAllRootsAreUpdated() {
+		final AutomationSystem system = createSystem(10);
+		final FBNetwork network = getApplicationNetwork(system);
+		final SubAppType subAppType = createSubAppType(3);
+
+		// the FB in the typed subapp is part of the subapp type and must not be updated in the system
+		final SubApp typedSubApp = LibraryElementFactory.eINSTANCE.createSubApp();
+		typedSubApp.setPaletteEntry(subAppType.getPaletteEntry());
+		typedSubApp.setInterface(LibraryElementFactory.eINSTANCE.createInterfaceList());
+		typedSubApp.setSubAppNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		network.getNetworkElements().add(typedSubApp);
+		fillNetwork(typedSubApp.getSubAppNetwork(), 1);
+		final FBNetworkElement instanceInTypedSubApp = typedSubApp.getSubAppNetwork().getNetworkElements().get(0);
+
+		final Set<FBNetworkElement> oldInstances = TypeUsageIndex.INSTANCE.getUsages(entry, FBNetworkElement.class);
+		assertEquals(10 + 3 + 1, oldInstances.size());
+
+		addEvent(true);
+		final List<TypeInstanceUpdater.RootUpdate> updates = TypeInstanceUpdater.update(List.of(entry));
+
+		assertEquals(Set.of(system, subAppType),
+				updates.stream().map(TypeInstanceUpdater.RootUpdate::getRoot).collect(Collectors.toSet()));
+		updates.forEach(update -> assertEquals((update.getRoot() == system) ? 10 : 3, update.getInstanceCount()));
+		assertUpdated(network, oldInstances);
+		assertUpdated(subAppType.getFBNetwork(), oldInstances);
+		assertEquals(9, network.getEventConnections().size());
+		assertEquals(2, subAppType.getFBNetwork().getEventConnections().size());
+		assertSame(typedSubApp.getSubAppNetwork(), instanceInTypedSubApp.getFbNetwork());
+		assertEquals(1, instanceInTypedSubApp.getInterface().getEventInputs().size());
+
+		// the update of the system is one step on the system's command stack
+		assertTrue(system.getCommandStack().canUndo());
+		system.getCommandStack().undo();
+		assertFalse(system.getCommandStack().canUndo());
+		network.getNetworkElements().stream().filter(FB.class::isInstance)
+		.forEach(element -> assertTrue(oldInstances.contains(element)));
+		assertEquals(9, network.getEventConnections().size());
+	}
+
+	@Test
+	void filteredRootsAreSkipped() {
+		final AutomationSystem system = createSystem(10);
+		final SubAppType subAppType = createSubAppType(3);
+		final Set<FBNetworkElement> oldInstances = TypeUsageIndex.INSTANCE.getUsages(entry, FBNetworkElement.class);
+
+		addEvent(true);
+		// e.g., a system with unsaved changes
+		final List<TypeInstanceUpdater.RootUpdate> updates = TypeInstanceUpdater.update(List.of(entry),
+				root -> root != system);
+
+		assertEquals(List.of(subAppType),
+				updates.stream().map(TypeInstanceUpdater.RootUpdate::getRoot).collect(Collectors.toList()));
+		assertUpdated(subAppType.getFBNetwork(), oldInstances);
+		assertFalse(system.getCommandStack().canUndo());
+		getApplicationNetwork(system).getNetworkElements()
+		.forEach(element -> assertTrue(oldInstances.contains(element)));
+	}
+
+	private static TypeInstanceUpdater.RootUpdate getUpdate(final List<TypeInstanceUpdater.RootUpdate> updates,
+			final LibraryElement root) {
+		return updates.stream().filter(update -> update.getRoot() == root).findAny().orElse(null);
+	}
+
+	@Test
+	void parallelPreparation() {
+		final AutomationSystem system = createSystem(INSTANCES);
+		addEvent(true);
+
+		final TypeInstanceUpdater.RootUpdate sequential = getUpdate(TypeInstanceUpdater.update(List.of(entry), 1),
+				system);
+		assertEquals(INSTANCES, sequential.getInstanceCount());
+		system.getCommandStack().undo();
+
+		final TypeInstanceUpdater.RootUpdate parallel = getUpdate(
+				TypeInstanceUpdater.update(List.of(entry), TypeInstanceUpdater.DEFAULT_PARALLELISM), system);
+		assertNotNull(parallel);
+
+		assertEquals(INSTANCES, parallel.getInstanceCount());
+		assertEquals(INSTANCES - 1, getApplicationNetwork(system).getEventConnections().size());
+		getApplicationNetwork(system).getNetworkElements()
+		.forEach(element -> assertEquals(2, element.getInterface().getEventInputs().size()));
+	}
+
+	@Test
+	void concurrentPreparationOfTheSameType() throws InterruptedException, ExecutionException {
+		final AutomationSystem system = createSystem(INSTANCES);
+		addEvent(true);
+		final List<AbstractUpdateFBNElementCommand> commands = getApplicationNetwork(system).getNetworkElements()
+				.stream().map(TypeInstanceUpdater::createUpdateCommand).collect(Collectors.toList());
+
+		// all threads start at once and copy the interface of the same type
+		final int threads = Math.max(4, TypeInstanceUpdater.DEFAULT_PARALLELISM);
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final CountDownLatch start = new CountDownLatch(1);
+		try {
+			final List<Future<Void>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				final int first = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = first; i < commands.size(); i += threads) {
+						commands.get(i).prepare();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (final Future<Void> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		final Set<InterfaceList> interfaces = new HashSet<>();
+		for (final AbstractUpdateFBNElementCommand command : commands) {
+			final FBNetworkElement prepared = command.newElement;
+			assertNotNull(prepared);
+			assertEquals(command.oldElement.getName(), prepared.getName());
+			assertEquals(2, prepared.getInterface().getEventInputs().size());
+			// each instance has its own copy of the type's interface
+			assertTrue(interfaces.add(prepared.getInterface()));
+			assertSame(prepared, prepared.getInterface().getEventInputs().get(0).getFBNetworkElement());
+		}
+
+		commands.forEach(AbstractUpdateFBNElementCommand::execute);
+		assertEquals(INSTANCES - 1, getApplicationNetwork(system).getEventConnections().size());
+		getApplicationNetwork(system).getNetworkElements()
+		.forEach(element -> assertEquals(2, element.getInterface().getEventInputs().size()));
+	}
+
+}
@@ -14,15 +14,29 @@
 package org.eclipse.fordiac.ide.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
+import org.eclipse.fordiac.ide.model.helpers.NameIndex;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 class NameRepositoryTest {
 
+	private static final int BULK_PASTE = 1000;
+
 	static Stream<Arguments> createUniqueNameTestCases() {
 		return Stream.of(
 				Arguments.of("a2147483646", "a2147483647"),//$NON-NLS-1$ //$NON-NLS-2$
@@ -48,4 +62,151 @@ class NameRepositoryTest {
 		assertEquals(NameRepository.createUniqueName(input, input), output);
 	}
 
+	private static FBNetwork createNetwork(final int size) {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		for (int i = 0; i < size; i++) {
+			network.getNetworkElements().add(createFB("FB" + i)); //$NON-NLS-1$
+		}
+		return network;
+	}
+
+	private static FB createFB(final String name) {
+		final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		fb.setName(name);
+		return fb;
+	}
+
+	/** add copies of the network's elements as a paste does: the copy is added with the name of the original and
+	 * then renamed */
+	private static List<String> paste(final FBNetwork network, final int count) {
+		final List<String> names = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			final FB copy = createFB(network.getNetworkElements().get(i).getName());
+			network.getNetworkElements().add(copy);
+			copy.setName(NameRepository.createUniqueName(copy, copy.getName()));
+			names.add(copy.getName());
+		}
+		return names;
+	}
+
+	/** pastes, deletes, renames and creates elements and returns the given names */
+	private static List<String> editNetwork() {
+		final FBNetwork network = createNetwork(50);
+		final List<String> names = paste(network, 20);
+
+		// freed names are given again
+		network.getNetworkElements().remove(3);
+		network.getNetworkElements().get(60).setName("Renamed"); //$NON-NLS-1$
+		names.addAll(paste(network, 5));
+
+		for (int i = 0; i < 5; i++) {
+			final FB fb = createFB("E_CTU"); //$NON-NLS-1$
+			network.getNetworkElements().add(fb);
+			fb.setName(NameRepository.createUniqueName(fb, fb.getName()));
+			names.add(fb.getName());
+		}
+		// a rename may keep the element's own name (FB11)
+		final FBNetworkElement element = network.getNetworkElements().get(10);
+		names.add(NameRepository.createUniqueName(element, "FB5")); //$NON-NLS-1$
+		names.add(NameRepository.createUniqueName(element, "FB10")); //$NON-NLS-1$
+		return names;
+	}
+
+	@Test
+	void uniqueNamesInNetwork() {
+		final List<String> names = editNetwork();
+		assertEquals("FB50", names.get(0)); //$NON-NLS-1$
+		assertEquals("FB69", names.get(19)); //$NON-NLS-1$
+		assertEquals("FB3", names.get(20)); //$NON-NLS-1$
+		assertEquals("FB61", names.get(21)); //$NON-NLS-1$
+		assertEquals("FB70", names.get(22)); //$NON-NLS-1$
+		assertEquals("E_CTU", names.get(25)); //$NON-NLS-1$
+		assertEquals("E_CTU_4", names.get(29)); //$NON-NLS-1$
+		assertEquals("FB11", names.get(30)); //$NON-NLS-1$
+		assertEquals("FB11", names.get(31)); //$NON-NLS-1$
+	}
+
+	@Test
+	void sameNamesWithoutNameIndex() {
+		final List<String> indexedNames = editNetwork();
+		NameIndex.setEnabled(false);
+		try {
+			assertEquals(indexedNames, editNetwork());
+		} finally {
+			NameIndex.setEnabled(true);
+		}
+	}
+
+	private static VarDeclaration createVariable(final String name) {
+		final VarDeclaration variable = LibraryElementFactory.eINSTANCE.createVarDeclaration();
+		variable.setName(name);
+		return variable;
+	}
+
+	/** adds inputs and internal variables to a type and returns the given names */
+	private static List<String> editType() {
+		final BasicFBType type = LibraryElementFactory.eINSTANCE.createBasicFBType();
+		final InterfaceList interfaceList = LibraryElementFactory.eINSTANCE.createInterfaceList();
+		type.setInterfaceList(interfaceList);
+		for (int i = 0; i < 20; i++) {
+			interfaceList.getInputVars().add(createVariable("IN" + i)); //$NON-NLS-1$
+		}
+		final List<String> names = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			final VarDeclaration internal = createVariable("IN1"); //$NON-NLS-1$
+			type.getInternalVars().add(internal);
+			internal.setName(NameRepository.createUniqueName(internal, internal.getName()));
+			names.add(internal.getName());
+		}
+		// a freed input is given again
+		interfaceList.getInputVars().remove(7);
+		final VarDeclaration input = createVariable("IN0"); //$NON-NLS-1$
+		interfaceList.getInputVars().add(input);
+		input.setName(NameRepository.createUniqueName(input, input.getName()));
+		names.add(input.getName());
+		return names;
+	}
+
+	@Test
+	void uniqueNamesInTypeWithInternalVariables() {
+		final List<String> names = editType();
+		assertEquals("IN20", names.get(0)); //$NON-NLS-1$
+		assertEquals("IN24", names.get(4)); //$NON-NLS-1$
+		assertEquals("IN7", names.get(5)); //$NON-NLS-1$
+
+		NameIndex.setEnabled(false);
+		try {
+			assertEquals(names, editType());
+		} finally {
+			NameIndex.setEnabled(true);
+		}
+	}
+
+	/** paste as above with the name index of the network and return the number of names created for probing */
+	private static int pasteCountingProbes(final FBNetwork network, final int count) {
+		final NameIndex index = NameIndex.of(network);
+		final int[] probes = { 0 };
+		for (int i = 0; i < count; i++) {
+			final FB copy = createFB(network.getNetworkElements().get(i).getName());
+			network.getNetworkElements().add(copy);
+			copy.setName(index.createUniqueName(copy.getName(), copy, (proposal, used) -> {
+				probes[0]++;
+				return NameRepository.createUniqueName(proposal, used);
+			}));
+		}
+		return probes[0];
+	}
+
+	@Test
+	void bulkPasteProbesLinearly() {
+		final FBNetwork network = createNetwork(BULK_PASTE);
+		final int probes = pasteCountingProbes(network, BULK_PASTE);
+		assertEquals(network.getNetworkElements().get(2 * BULK_PASTE - 1),
+				network.getElementNamed("FB" + (2 * BULK_PASTE - 1))); //$NON-NLS-1$
+
+		// the first copy probes all names of the network, the others jump over them. Plain probing would probe
+		// BULK_PASTE names for every copy.
+		assertTrue(probes <= (2 * BULK_PASTE));
+	}
+
 }
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataexport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AbstractTypeExporterSaveTypesTest {
+
+	private static final String PROJECT_NAME = "AbstractTypeExporterSaveTypesTest"; //$NON-NLS-1$
+	private static final int TYPES = 200;
+	private static final long MAX_WAIT_TIME = TimeUnit.MINUTES.toMillis(5);
+
+	private IProject project;
+	private final List<PaletteEntry> entries = new ArrayList<>();
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		for (int i = 0; i < TYPES; i++) {
+			final StringBuilder type = new StringBuilder("<FBType Name=\"T").append(i) //$NON-NLS-1$
+					.append("\"><InterfaceList><EventInputs><Event Name=\"REQ\"/></EventInputs>") //$NON-NLS-1$
+					.append("<InputVars><VarDeclaration Name=\"IN\" Type=\"INT\"/></InputVars></InterfaceList>") //$NON-NLS-1$
+					.append("<BasicFB><ECC><ECState Name=\"START\"/>"); //$NON-NLS-1$
+			for (int s = 0; s < 20; s++) {
+				type.append("<ECState Name=\"S").append(s).append("\"><ECAction Algorithm=\"A").append(s) //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\"/></ECState>"); //$NON-NLS-1$
+			}
+			type.append("</ECC>"); //$NON-NLS-1$
+			for (int s = 0; s < 20; s++) {
+				type.append("<Algorithm Name=\"A").append(s).append("\"><ST Text=\"IN := IN + ").append(s) //$NON-NLS-1$ //$NON-NLS-2$
+				.append(";\"/></Algorithm>"); //$NON-NLS-1$
+			}
+			type.append("</BasicFB></FBType>"); //$NON-NLS-1$
+			project.getFile("T" + i + ".fbt").create( //$NON-NLS-1$ //$NON-NLS-2$
+					new ByteArrayInputStream(type.toString().getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+					new NullProgressMonitor());
+		}
+		final TypeLibrary typeLibrary = TypeLibrary.getTypeLibrary(project);
+		for (int i = 0; i < TYPES; i++) {
+			final FBTypePaletteEntry entry = typeLibrary.getBlockTypeLib().getFBTypeEntry("T" + i); //$NON-NLS-1$
+			assertNotNull(entry.getType());
+			entries.add(entry);
+		}
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private void changeComments(final String comment) {
+		entries.forEach(entry -> entry.getType().setComment(comment));
+	}
+
+	private void checkFiles(final String comment) throws CoreException, IOException {
+		for (final PaletteEntry entry : entries) {
+			try (InputStream stream = entry.getFile().getContents(true)) {
+				assertTrue(new String(stream.readAllBytes(), StandardCharsets.UTF_8).contains(comment));
+			}
+			assertEquals(entry.getFile().getModificationStamp(), entry.getLastModificationTimestamp());
+		}
+	}
+
+	private static void waitForJobs() throws InterruptedException {
+		final long end = System.currentTimeMillis() + MAX_WAIT_TIME;
+		while (!Job.getJobManager().isIdle() && (System.currentTimeMillis() < end)) {
+			Thread.sleep(10);
+		}
+	}
+
+	@Test
+	void savesAllTypes() throws CoreException, IOException, InterruptedException {
+		changeComments("batched"); //$NON-NLS-1$
+		final WorkspaceJob job = AbstractTypeExporter.saveTypes(entries);
+		assertNotNull(job);
+		job.join();
+		checkFiles("batched"); //$NON-NLS-1$
+	}
+
+	@Test
+	void nothingToSave() {
+		assertNull(AbstractTypeExporter.saveTypes(Collections.emptyList()));
+	}
+
+	@Test
+	void singleSequentialAndParallelSavesWriteAllTypes() throws CoreException, IOException, InterruptedException {
+		changeComments("single"); //$NON-NLS-1$
+		waitForJobs();
+		entries.forEach(AbstractTypeExporter::saveType);
+		waitForJobs();
+		checkFiles("single"); //$NON-NLS-1$
+
+		changeComments("sequential"); //$NON-NLS-1$
+		AbstractTypeExporter.saveTypes(entries, 1).join();
+		checkFiles("sequential"); //$NON-NLS-1$
+
+		changeComments("parallel"); //$NON-NLS-1$
+		AbstractTypeExporter.saveTypes(entries).join();
+		checkFiles("parallel"); //$NON-NLS-1$
+	}
+
+}
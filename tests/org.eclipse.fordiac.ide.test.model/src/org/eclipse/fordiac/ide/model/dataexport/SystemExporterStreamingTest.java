@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataexport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.dataimport.SystemImporter;
+import org.eclipse.fordiac.ide.model.dataexport.SystemExporter.SaveResult;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SystemExporterStreamingTest {
+
+	private static final String PROJECT_NAME = "SystemExporterStreamingTest"; //$NON-NLS-1$
+	private static final String TYPE_NAME = "E_STREAM"; //$NON-NLS-1$
+	private static final int FBS = 20000;
+
+	private IProject project;
+	private AutomationSystem system;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		createFile(project.getFile(TYPE_NAME + ".fbt"), "<FBType Name=\"" + TYPE_NAME + "\"><InterfaceList>" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "<EventInputs><Event Name=\"REQ\"/></EventInputs><EventOutputs><Event Name=\"CNF\"/></EventOutputs>" //$NON-NLS-1$
+				+ "</InterfaceList><BasicFB><ECC><ECState Name=\"START\"/></ECC></BasicFB></FBType>"); //$NON-NLS-1$
+		TypeLibrary.getTypeLibrary(project);
+
+		final StringBuilder content = new StringBuilder(
+				"<System Name=\"Stream\" Comment=\"streamed\"><Application Name=\"App\"><SubAppNetwork>"); //$NON-NLS-1$
+		for (int i = 0; i < FBS; i++) {
+			content.append("<FB Name=\"FB").append(i).append("\" Type=\"").append(TYPE_NAME) //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\" Comment=\"a &quot;commented&quot; FB\" x=\"").append(i).append("\" y=\"0\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		content.append("<EventConnections>"); //$NON-NLS-1$
+		for (int i = 1; i < FBS; i++) {
+			content.append("<Connection Source=\"FB").append(i - 1).append(".CNF\" Destination=\"FB").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+			.append(".REQ\"/>"); //$NON-NLS-1$
+		}
+		content.append("</EventConnections></SubAppNetwork></Application></System>"); //$NON-NLS-1$
+		final IFile file = project.getFile("Stream.sys"); //$NON-NLS-1$
+		createFile(file, content.toString());
+		final SystemImporter importer = new SystemImporter(file);
+		importer.loadElement();
+		system = importer.getElement();
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		SystemExporter.setStreamingEnabled(true);
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private static void createFile(final IFile file, final String content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	private static String getContent(final IFile file) throws CoreException, IOException {
+		try (InputStream stream = file.getContents(true)) {
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private SaveResult save(final IFile file, final boolean streaming) {
+		SystemExporter.setStreamingEnabled(streaming);
+		return new SystemExporter(system).saveSystem(file);
+	}
+
+	@Test
+	void streamedFileEqualsBufferedFile() throws CoreException, IOException {
+		final IFile buffered = project.getFile("Buffered.sys"); //$NON-NLS-1$
+		final IFile streamed = project.getFile("sub/folder/Streamed.sys"); //$NON-NLS-1$
+		assertEquals(SaveResult.SAVED, save(buffered, false));
+		assertEquals(SaveResult.SAVED, save(streamed, true));
+		assertTrue(streamed.exists());
+		assertEquals(getContent(buffered), getContent(streamed));
+	}
+
+	@Test
+	void unchangedSystemIsNotWritten() throws CoreException, IOException {
+		final IFile file = project.getFile("Unchanged.sys"); //$NON-NLS-1$
+		assertEquals(SaveResult.SAVED, save(file, true));
+		final long stamp = file.getModificationStamp();
+
+		assertEquals(SaveResult.UNCHANGED, save(file, true));
+		assertEquals(stamp, file.getModificationStamp());
+
+		system.setComment("changed"); //$NON-NLS-1$
+		assertEquals(SaveResult.SAVED, save(file, true));
+		assertNotEquals(stamp, file.getModificationStamp());
+		assertTrue(getContent(file).contains("changed")); //$NON-NLS-1$
+		// the file is written through the workspace, which keeps the previous content in the local history
+		assertEquals(1, file.getHistory(new NullProgressMonitor()).length);
+
+		try (Stream<Path> files = Files.list(project.getLocation().toFile().toPath())) {
+			assertTrue(files.noneMatch(path -> path.getFileName().toString().endsWith(".tmp"))); //$NON-NLS-1$
+		}
+	}
+
+}
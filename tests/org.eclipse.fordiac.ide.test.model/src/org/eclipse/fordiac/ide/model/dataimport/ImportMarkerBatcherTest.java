@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ImportMarkerBatcherTest {
+
+	private static final String PROJECT_NAME = "ImportMarkerBatcherTest"; //$NON-NLS-1$
+	private static final int FILE_COUNT = 100;
+	private static final Duration MAX_WAIT_TIME = Duration.ofSeconds(30);
+
+	private IProject project;
+	private final List<IFile> files = new ArrayList<>();
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		for (int i = 0; i < FILE_COUNT; i++) {
+			final IFile file = project.getFile("T_" + i + ".fbt"); //$NON-NLS-1$ //$NON-NLS-2$
+			// every second file is broken and gets an error marker
+			final String content = "<FBType Name=\"T_" + i + "\">" + ((0 == (i % 2)) ? "</FBType>" : "<Broken"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+					new NullProgressMonitor());
+			files.add(file);
+		}
+		TypeLibrary.getTypeLibrary(project);
+		ImportMarkerBatcher.INSTANCE.join();
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	@Test
+	void markerUpdatesOfALoadAreBatched() throws CoreException, InterruptedException {
+		final long batches = ImportMarkerBatcher.INSTANCE.getBatchCount();
+		final long updates = ImportMarkerBatcher.INSTANCE.getUpdateCount();
+
+		files.forEach(file -> new FBTImporter(file).loadElement());
+		ImportMarkerBatcher.INSTANCE.join();
+
+		final long newBatches = ImportMarkerBatcher.INSTANCE.getBatchCount() - batches;
+		final long newUpdates = ImportMarkerBatcher.INSTANCE.getUpdateCount() - updates;
+
+		// one deletion per file and one creation per broken file, which have been one job each before
+		assertEquals(FILE_COUNT + (FILE_COUNT / 2), newUpdates);
+		assertTrue(newBatches < (FILE_COUNT / 2));
+		for (int i = 0; i < FILE_COUNT; i++) {
+			final int markerCount = files.get(i).findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_ZERO).length;
+			assertEquals(0 != (i % 2), 0 != markerCount);
+		}
+	}
+
+	@Test
+	void markerUpdatesDoNotWaitForOtherProjects() {
+		final IProject otherProject = ResourcesPlugin.getWorkspace().getRoot()
+				.getProject(PROJECT_NAME + "Other"); //$NON-NLS-1$
+		Job.getJobManager().beginRule(otherProject, new NullProgressMonitor());
+		try {
+			files.forEach(file -> new FBTImporter(file).loadElement());
+			// the batch would wait for the end of the rule if it locked the whole workspace
+			assertTimeoutPreemptively(MAX_WAIT_TIME, ImportMarkerBatcher.INSTANCE::join);
+		} finally {
+			Job.getJobManager().endRule(otherProject);
+		}
+	}
+
+}
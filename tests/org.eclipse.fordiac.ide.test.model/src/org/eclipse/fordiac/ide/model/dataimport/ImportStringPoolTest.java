@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class ImportStringPoolTest {
+
+	@Test
+	void repeatedIdentifiersAreShared() {
+		final String first = ImportStringPool.dedup(new String("E_CYCLE")); //$NON-NLS-1$
+		final String second = new String("E_CYCLE"); //$NON-NLS-1$
+		assertNotSame(first, second);
+		assertSame(first, ImportStringPool.dedup(second));
+	}
+
+	@Test
+	void longValuesAreNotPooled() {
+		final String comment = "This comment is far too long to be repeated in many places of a system file"; //$NON-NLS-1$
+		ImportStringPool.dedup(comment);
+		final String copy = new String(comment);
+		assertSame(copy, ImportStringPool.dedup(copy));
+		assertEquals(comment, copy);
+	}
+
+	@Test
+	void missingValuesStayMissing() {
+		assertNull(ImportStringPool.dedup(null));
+	}
+
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.fordiac.ide.model.helpers.LazyContent;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.ECAction;
+import org.eclipse.fordiac.ide.model.libraryElement.ECTransition;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.STAlgorithm;
+import org.eclipse.fordiac.ide.model.libraryElement.impl.FBTypeImpl;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InterfaceOnlyImportTest {
+
+	private static final String PROJECT_NAME = "InterfaceOnlyImportTest"; //$NON-NLS-1$
+
+	private static final String TYPE = "<FBType Name=\"T_LAZY\">\n" //$NON-NLS-1$
+			+ "  <InterfaceList>\n" //$NON-NLS-1$
+			+ "    <EventInputs><Event Name=\"REQ\"/></EventInputs>\n" //$NON-NLS-1$
+			+ "    <EventOutputs><Event Name=\"CNF\"/></EventOutputs>\n" //$NON-NLS-1$
+			+ "  </InterfaceList>\n" //$NON-NLS-1$
+			+ "  <BasicFB>\n" //$NON-NLS-1$
+			+ "    <ECC>\n" //$NON-NLS-1$
+			+ "      <ECState Name=\"START\"/>\n" //$NON-NLS-1$
+			+ "      <ECState Name=\"REQ\"><ECAction Algorithm=\"REQ\" Output=\"CNF\"/></ECState>\n" //$NON-NLS-1$
+			+ "      <ECTransition Source=\"START\" Destination=\"REQ\" Condition=\"REQ\"/>\n" //$NON-NLS-1$
+			+ "      <ECTransition Source=\"REQ\" Destination=\"START\" Condition=\"1\"/>\n" //$NON-NLS-1$
+			+ "    </ECC>\n" //$NON-NLS-1$
+			+ "    <Algorithm Name=\"REQ\"><ST Text=\"REQ;\"/></Algorithm>\n" //$NON-NLS-1$
+			+ "  </BasicFB>\n" //$NON-NLS-1$
+			+ "</FBType>\n"; //$NON-NLS-1$
+
+	private IProject project;
+	private IFile file;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		file = project.getFile("T_LAZY.fbt"); //$NON-NLS-1$
+		file.create(new ByteArrayInputStream(TYPE.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+		TypeLibrary.getTypeLibrary(project);
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	@Test
+	void bodyIsLoadedOnFirstAccess() {
+		final FBTImporter importer = new FBTImporter(file, true);
+		importer.loadElement();
+		final BasicFBType type = (BasicFBType) importer.getElement();
+		final InterfaceList interfaceList = type.getInterfaceList();
+		assertFalse(((FBTypeImpl) type).isBodyLoaded());
+
+		assertEquals("REQ;", ((STAlgorithm) type.getAlgorithm().get(0)).getText()); //$NON-NLS-1$
+		assertTrue(((FBTypeImpl) type).isBodyLoaded());
+		assertSame(interfaceList, type.getInterfaceList());
+		assertEquals(2, type.getECC().getECState().size());
+		assertEquals(2, type.getECC().getECTransition().size());
+	}
+
+	@Test
+	void bodyReferencesTheLoadedInterface() {
+		final FBTImporter importer = new FBTImporter(file, true);
+		importer.loadElement();
+		final BasicFBType type = (BasicFBType) importer.getElement();
+		final InterfaceList interfaceList = type.getInterfaceList();
+
+		final ECTransition transition = type.getECC().getECTransition().get(0);
+		assertSame(interfaceList.getEventInputs().get(0), transition.getConditionEvent());
+		final ECAction action = type.getECC().getECState().get(1).getECAction().get(0);
+		assertSame(interfaceList.getEventOutputs().get(0), action.getOutput());
+		assertSame(type.getAlgorithm().get(0), action.getAlgorithm());
+	}
+
+	@Test
+	void changedFileIsLoadedAgainWithItsInterface() throws CoreException {
+		final FBTImporter importer = new FBTImporter(file, true);
+		importer.loadElement();
+		final BasicFBType type = (BasicFBType) importer.getElement();
+		final String changedType = TYPE.replace("REQ", "INIT"); //$NON-NLS-1$ //$NON-NLS-2$
+		file.setContents(new ByteArrayInputStream(changedType.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+
+		final ECTransition transition = type.getECC().getECTransition().get(0);
+		assertEquals("INIT", type.getInterfaceList().getEventInputs().get(0).getName()); //$NON-NLS-1$
+		assertSame(type.getInterfaceList().getEventInputs().get(0), transition.getConditionEvent());
+	}
+
+	@Test
+	void adaptersAreNotifiedWhenTheBodyIsLoaded() {
+		final FBTImporter importer = new FBTImporter(file, true);
+		importer.loadElement();
+		final BasicFBType type = (BasicFBType) importer.getElement();
+		final List<Integer> eventTypes = new ArrayList<>();
+		type.eAdapters().add(new AdapterImpl() {
+			@Override
+			public void notifyChanged(final Notification notification) {
+				eventTypes.add(Integer.valueOf(notification.getEventType()));
+			}
+		});
+
+		type.getECC();
+		assertEquals(List.of(Integer.valueOf(LazyContent.CONTENT_LOADED)), eventTypes);
+	}
+
+}
@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.PaletteFactory;
+import org.eclipse.fordiac.ide.model.Palette.SystemPaletteEntry;
+import org.eclipse.fordiac.ide.model.dataexport.SystemExporter;
+import org.eclipse.fordiac.ide.model.libraryElement.Application;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.Mapping;
+import org.eclipse.fordiac.ide.model.libraryElement.impl.ApplicationImpl;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeUsageIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SystemImporterLazyTest {
+
+	private static final String PROJECT_NAME = "SystemImporterLazyTest"; //$NON-NLS-1$
+	private static final String TYPE_NAME = "E_LAZY"; //$NON-NLS-1$
+	private static final int APPLICATIONS = 50;
+	private static final int FBS_PER_APPLICATION = 100;
+	private static final int MAPPED_APPLICATION = 7;
+	private static final long MAX_WAIT_TIME = 30;
+
+	private IProject project;
+	private IFile systemFile;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		createFile(project.getFile(TYPE_NAME + ".fbt"), "<FBType Name=\"" + TYPE_NAME + "\"><InterfaceList>" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "<EventInputs><Event Name=\"REQ\"/></EventInputs><EventOutputs><Event Name=\"CNF\"/></EventOutputs>" //$NON-NLS-1$
+				+ "</InterfaceList><BasicFB><ECC><ECState Name=\"START\"/></ECC></BasicFB></FBType>"); //$NON-NLS-1$
+		TypeLibrary.getTypeLibrary(project);
+		systemFile = project.getFile("Lazy.sys"); //$NON-NLS-1$
+		createFile(systemFile, createSystem());
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private static void createFile(final IFile file, final String content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	private static String createFB(final String name) {
+		return "<FB Name=\"" + name + "\" Type=\"" + TYPE_NAME + "\" x=\"0\" y=\"0\"/>"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/** create a system with many applications of chained FBs, the FBs of one application are mapped to a resource */
+	private static String createSystem() {
+		final StringBuilder system = new StringBuilder("<System Name=\"Lazy\">"); //$NON-NLS-1$
+		for (int app = 0; app < APPLICATIONS; app++) {
+			system.append("<Application Name=\"App").append(app).append("\" Comment=\"app ").append(app) //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\"><SubAppNetwork>"); //$NON-NLS-1$
+			for (int i = 0; i < FBS_PER_APPLICATION; i++) {
+				system.append(createFB("FB" + i)); //$NON-NLS-1$
+			}
+			system.append("<EventConnections>"); //$NON-NLS-1$
+			for (int i = 1; i < FBS_PER_APPLICATION; i++) {
+				system.append("<Connection Source=\"FB").append(i - 1).append(".CNF\" Destination=\"FB").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+				.append(".REQ\"/>"); //$NON-NLS-1$
+			}
+			system.append("</EventConnections></SubAppNetwork>") //$NON-NLS-1$
+			.append("<Attribute Name=\"Prio\" Type=\"STRING\" Value=\"").append(app).append("\"/></Application>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		system.append("<Device Name=\"Dev\" x=\"0\" y=\"0\"><Resource Name=\"Res\" x=\"0\" y=\"0\"><FBNetwork>"); //$NON-NLS-1$
+		for (int i = 0; i < FBS_PER_APPLICATION; i++) {
+			system.append(createFB("FB" + i)); //$NON-NLS-1$
+		}
+		system.append("</FBNetwork></Resource></Device>"); //$NON-NLS-1$
+		for (int i = 0; i < FBS_PER_APPLICATION; i++) {
+			system.append("<Mapping From=\"App").append(MAPPED_APPLICATION).append(".FB").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\" To=\"Dev.Res.FB").append(i).append("\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return system.append("</System>").toString(); //$NON-NLS-1$
+	}
+
+	private AutomationSystem importSystem(final boolean lazy) {
+		final SystemImporter importer = new SystemImporter(systemFile, lazy);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+	private String export(final AutomationSystem system, final String fileName) throws CoreException, IOException {
+		final IFile file = project.getFile(fileName);
+		new SystemExporter(system).saveSystem(file);
+		try (InputStream stream = file.getContents(true)) {
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static boolean isLoaded(final Application application) {
+		return ((ApplicationImpl) application).isContentLoaded();
+	}
+
+	@Test
+	void onlyAccessedApplicationIsLoaded() {
+		final AutomationSystem system = importSystem(true);
+		assertEquals(APPLICATIONS, system.getApplication().size());
+		system.getApplication().forEach(app -> assertFalse(isLoaded(app)));
+
+		final Application app = system.getApplicationNamed("App3"); //$NON-NLS-1$
+		assertEquals("app 3", app.getComment()); //$NON-NLS-1$
+		assertFalse(isLoaded(app));
+		assertEquals(FBS_PER_APPLICATION, app.getFBNetwork().getNetworkElements().size());
+		assertEquals(FBS_PER_APPLICATION - 1, app.getFBNetwork().getEventConnections().size());
+		assertEquals("3", app.getAttributeValue("Prio")); //$NON-NLS-1$ //$NON-NLS-2$
+		system.getApplication().forEach(other -> assertEquals(other == app, isLoaded(other)));
+	}
+
+	@Test
+	void mappingsAreResolvedOnAccess() {
+		final AutomationSystem system = importSystem(true);
+		final Application mapped = system.getApplicationNamed("App" + MAPPED_APPLICATION); //$NON-NLS-1$
+		assertFalse(isLoaded(mapped));
+
+		assertEquals(FBS_PER_APPLICATION, system.getMapping().size());
+		assertTrue(isLoaded(mapped));
+		final Mapping mapping = system.getMapping().get(0);
+		assertSame(mapped.getFBNetwork().getElementNamed("FB0"), mapping.getFrom()); //$NON-NLS-1$
+		assertSame(system.getDeviceNamed("Dev").getResourceNamed("Res").getFBNetwork().getElementNamed("FB0"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				mapping.getTo());
+		assertTrue(mapping.getFrom().isMapped());
+		// the other applications stay unloaded
+		assertFalse(isLoaded(system.getApplicationNamed("App0"))); //$NON-NLS-1$
+	}
+
+	@Test
+	void mappingsAreResolvedWhenApplicationIsLoaded() {
+		final AutomationSystem system = importSystem(true);
+		final Application mapped = system.getApplicationNamed("App" + MAPPED_APPLICATION); //$NON-NLS-1$
+		assertTrue(mapped.getFBNetwork().getElementNamed("FB5").isMapped()); //$NON-NLS-1$
+		assertEquals(FBS_PER_APPLICATION, system.getMapping().size());
+	}
+
+	@Test
+	void mappingsFollowRenamedApplications() {
+		final AutomationSystem system = importSystem(true);
+		final Application mapped = system.getApplicationNamed("App" + MAPPED_APPLICATION); //$NON-NLS-1$
+		mapped.setName("Renamed"); //$NON-NLS-1$
+		assertFalse(isLoaded(mapped));
+
+		assertEquals(FBS_PER_APPLICATION, system.getMapping().size());
+		assertSame(mapped.getFBNetwork().getElementNamed("FB0"), system.getMapping().get(0).getFrom()); //$NON-NLS-1$
+	}
+
+	@Test
+	void mappingsAndApplicationsLoadConcurrently() throws InterruptedException, ExecutionException, TimeoutException {
+		final AutomationSystem system = importSystem(true);
+		final Application mapped = system.getApplicationNamed("App" + MAPPED_APPLICATION); //$NON-NLS-1$
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Future<Integer> mappings = executor.submit(() -> Integer.valueOf(system.getMapping().size()));
+			final Future<FBNetwork> network = executor.submit(mapped::getFBNetwork);
+			assertEquals(FBS_PER_APPLICATION, mappings.get(MAX_WAIT_TIME, TimeUnit.SECONDS).intValue());
+			assertEquals(FBS_PER_APPLICATION,
+					network.get(MAX_WAIT_TIME, TimeUnit.SECONDS).getNetworkElements().size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void usageIndexKeepsApplicationsUnloaded() {
+		final SystemPaletteEntry entry = PaletteFactory.eINSTANCE.createSystemPaletteEntry();
+		entry.setFile(systemFile);
+		try {
+			// loading the system through its palette entry registers it as root of the type usage index
+			final AutomationSystem system = entry.getSystem();
+			system.getApplication().forEach(app -> assertFalse(isLoaded(app)));
+
+			final FBNetworkElement appFB = system.getApplicationNamed("App3").getFBNetwork().getElementNamed("FB0"); //$NON-NLS-1$ //$NON-NLS-2$
+			final PaletteEntry typeEntry = appFB.getPaletteEntry();
+			assertTrue(TypeUsageIndex.INSTANCE.getUsages(typeEntry).contains(appFB));
+			assertFalse(isLoaded(system.getApplicationNamed("App0"))); //$NON-NLS-1$
+
+			assertEquals(FBS_PER_APPLICATION, system.getMapping().size());
+			final FBNetworkElement resourceFB = system.getDeviceNamed("Dev").getResourceNamed("Res").getFBNetwork() //$NON-NLS-1$ //$NON-NLS-2$
+					.getElementNamed("FB0"); //$NON-NLS-1$
+			assertTrue(TypeUsageIndex.INSTANCE.getUsages(typeEntry).contains(resourceFB));
+			assertFalse(isLoaded(system.getApplicationNamed("App0"))); //$NON-NLS-1$
+		} finally {
+			TypeUsageIndex.INSTANCE.removeEntry(entry);
+		}
+	}
+
+	@Test
+	void lazySystemEqualsEagerSystem() throws CoreException, IOException {
+		final String eager = export(importSystem(false), "Eager.sys"); //$NON-NLS-1$
+		final String lazy = export(importSystem(true), "Eager.sys"); //$NON-NLS-1$
+		assertEquals(eager, lazy);
+	}
+
+}
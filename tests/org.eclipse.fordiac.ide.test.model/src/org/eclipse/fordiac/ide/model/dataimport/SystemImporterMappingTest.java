@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.Mapping;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SystemImporterMappingTest {
+
+	private static final String PROJECT_NAME = "SystemImporterMappingTest"; //$NON-NLS-1$
+	private static final String TYPE_NAME = "E_MAPPED"; //$NON-NLS-1$
+	private static final int SMALL_SYSTEM = 10;
+	private static final int LARGE_SYSTEM = 1000;
+
+	private IProject project;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		createFile(project.getFile(TYPE_NAME + ".fbt"), "<FBType Name=\"" + TYPE_NAME + "\">" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "<InterfaceList><EventInputs><Event Name=\"REQ\"/></EventInputs></InterfaceList>" //$NON-NLS-1$
+				+ "<BasicFB><ECC><ECState Name=\"START\"/></ECC></BasicFB></FBType>"); //$NON-NLS-1$
+		TypeLibrary.getTypeLibrary(project);
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private static void createFile(final IFile file, final String content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	private static String createFB(final String name) {
+		return "<FB Name=\"" + name + "\" Type=\"" + TYPE_NAME + "\" x=\"0\" y=\"0\"/>"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/** create a system with one application and one resource, each application FB is mapped to the resource */
+	private SystemImporter importSystem(final String name, final int fbCount) throws CoreException {
+		final StringBuilder appNetwork = new StringBuilder();
+		final StringBuilder resNetwork = new StringBuilder();
+		final StringBuilder mappings = new StringBuilder();
+		for (int i = 0; i < fbCount; i++) {
+			appNetwork.append(createFB("FB" + i)); //$NON-NLS-1$
+			resNetwork.append(createFB("FB" + i)); //$NON-NLS-1$
+			mappings.append("<Mapping From=\"App.FB" + i + "\" To=\"Dev.Res.FB" + i + "\"/>"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		// a nested subapp with an FB mapped to the resource as well
+		appNetwork.append("<SubApp Name=\"Sub\" x=\"0\" y=\"0\"><SubAppInterfaceList/><SubAppNetwork>") //$NON-NLS-1$
+		.append(createFB("Inner")).append("</SubAppNetwork></SubApp>"); //$NON-NLS-1$ //$NON-NLS-2$
+		resNetwork.append(createFB("Sub_Inner")); //$NON-NLS-1$
+		mappings.append("<Mapping From=\"App.Sub.Inner\" To=\"Dev.Res.Sub_Inner\"/>"); //$NON-NLS-1$
+
+		final IFile file = project.getFile(name + ".sys"); //$NON-NLS-1$
+		createFile(file, "<System Name=\"" + name + "\">" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "<Application Name=\"App\"><SubAppNetwork>" + appNetwork + "</SubAppNetwork></Application>" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "<Device Name=\"Dev\" x=\"0\" y=\"0\"><Resource Name=\"Res\" x=\"0\" y=\"0\"><FBNetwork>" //$NON-NLS-1$
+				+ resNetwork + "</FBNetwork></Resource></Device>" + mappings + "</System>"); //$NON-NLS-1$ //$NON-NLS-2$
+		final SystemImporter importer = new SystemImporter(file);
+		importer.loadElement();
+		return importer;
+	}
+
+	@Test
+	void nestedMappingTargetsAreFound() throws CoreException {
+		final AutomationSystem system = importSystem("Nested", 1).getElement(); //$NON-NLS-1$
+		assertEquals(2, system.getMapping().size());
+		final Mapping mapping = system.getMapping().get(1);
+		final SubApp subApp = (SubApp) system.getApplicationNamed("App").getFBNetwork().getElementNamed("Sub"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame(subApp.getSubAppNetwork().getElementNamed("Inner"), mapping.getFrom()); //$NON-NLS-1$
+		assertEquals("Sub_Inner", mapping.getTo().getName()); //$NON-NLS-1$
+	}
+
+	@Test
+	void mappingNamesAreResolvedWithoutSearchingTheNetworks() throws CoreException {
+		final SystemImporter small = importSystem("Small", SMALL_SYSTEM); //$NON-NLS-1$
+		assertEquals(SMALL_SYSTEM + 1, small.getElement().getMapping().size());
+		final SystemImporter large = importSystem("Large", LARGE_SYSTEM); //$NON-NLS-1$
+		assertEquals(LARGE_SYSTEM + 1, large.getElement().getMapping().size());
+
+		// the networks are indexed once, the number of mappings does not matter
+		assertEquals(1, small.getMappingNetworkWalks());
+		assertEquals(1, large.getMappingNetworkWalks());
+	}
+
+}
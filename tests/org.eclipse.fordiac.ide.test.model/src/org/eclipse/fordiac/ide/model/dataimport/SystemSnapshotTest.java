@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.model.dataexport.SystemExporter;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.Connection;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SystemSnapshotTest {
+
+	private static final String PROJECT_NAME = "SystemSnapshotTest"; //$NON-NLS-1$
+	private static final String TYPE_NAME = "E_SNAP"; //$NON-NLS-1$
+	private static final int LARGE_SYSTEM = 2000;
+
+	private static final String SYSTEM = "<System Name=\"Snap\">" //$NON-NLS-1$
+			+ "<Application Name=\"App\" Comment=\"the application\"><SubAppNetwork>" //$NON-NLS-1$
+			+ "<FB Name=\"FB1\" Type=\"E_SNAP\" Comment=\"first\" x=\"10\" y=\"20\">" //$NON-NLS-1$
+			+ "<Parameter Name=\"IN\" Value=\"42\"/><Attribute Name=\"Prio\" Type=\"STRING\" Value=\"high\"/></FB>" //$NON-NLS-1$
+			+ "<FB Name=\"FB2\" Type=\"E_SNAP\" x=\"100\" y=\"20\"/>" //$NON-NLS-1$
+			+ "<SubApp Name=\"Sub\" x=\"0\" y=\"0\"><SubAppInterfaceList><EventInputs><Event Name=\"EI\"/></EventInputs>" //$NON-NLS-1$
+			+ "</SubAppInterfaceList><SubAppNetwork><FB Name=\"Inner\" Type=\"E_SNAP\" x=\"0\" y=\"0\"/>" //$NON-NLS-1$
+			+ "<EventConnections><Connection Source=\"EI\" Destination=\"Inner.REQ\"/></EventConnections>" //$NON-NLS-1$
+			+ "</SubAppNetwork></SubApp>" //$NON-NLS-1$
+			+ "<EventConnections><Connection Source=\"FB1.CNF\" Destination=\"FB2.REQ\"/>" //$NON-NLS-1$
+			+ "<Connection Source=\"FB2.CNF\" Destination=\"Sub.EI\"/></EventConnections>" //$NON-NLS-1$
+			+ "<DataConnections><Connection Source=\"FB1.OUT\" Destination=\"FB2.IN\"/></DataConnections>" //$NON-NLS-1$
+			+ "</SubAppNetwork></Application>" //$NON-NLS-1$
+			+ "<Device Name=\"Dev\" x=\"0\" y=\"0\"><Resource Name=\"Res\" x=\"0\" y=\"0\"><FBNetwork>" //$NON-NLS-1$
+			+ "<FB Name=\"FB1\" Type=\"E_SNAP\" x=\"0\" y=\"0\"/></FBNetwork></Resource></Device>" //$NON-NLS-1$
+			+ "<Mapping From=\"App.FB1\" To=\"Dev.Res.FB1\"/></System>"; //$NON-NLS-1$
+
+	private IProject project;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		createFile(project.getFile(TYPE_NAME + ".fbt"), "<FBType Name=\"" + TYPE_NAME + "\"><InterfaceList>" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "<EventInputs><Event Name=\"REQ\"><With Var=\"IN\"/></Event></EventInputs>" //$NON-NLS-1$
+				+ "<EventOutputs><Event Name=\"CNF\"><With Var=\"OUT\"/></Event></EventOutputs>" //$NON-NLS-1$
+				+ "<InputVars><VarDeclaration Name=\"IN\" Type=\"INT\"/></InputVars>" //$NON-NLS-1$
+				+ "<OutputVars><VarDeclaration Name=\"OUT\" Type=\"INT\"/></OutputVars>" //$NON-NLS-1$
+				+ "</InterfaceList><BasicFB><ECC><ECState Name=\"START\"/></ECC></BasicFB></FBType>"); //$NON-NLS-1$
+		TypeLibrary.getTypeLibrary(project);
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		SystemSnapshotCache.INSTANCE.removeProject(project);
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private static void createFile(final IFile file, final String content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	private IFile createSystemFile(final String name, final String content) throws CoreException {
+		final IFile file = project.getFile(name + ".sys"); //$NON-NLS-1$
+		createFile(file, content);
+		return file;
+	}
+
+	/** store the snapshot and wait until it has been written */
+	private static void store(final AutomationSystem system, final IFile file) throws InterruptedException {
+		SystemSnapshotCache.INSTANCE.store(system, file);
+		SystemSnapshotCache.INSTANCE.join();
+	}
+
+	private static AutomationSystem importSystem(final IFile file) {
+		final SystemImporter importer = new SystemImporter(file);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+	private static byte[] writeSnapshot(final AutomationSystem system) throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		SystemSnapshot.write(system, "hash", stream); //$NON-NLS-1$
+		return stream.toByteArray();
+	}
+
+	private static AutomationSystem readSnapshot(final IFile file, final byte[] snapshot) throws IOException {
+		final InputStream stream = new ByteArrayInputStream(snapshot);
+		assertEquals("hash", SystemSnapshot.readContentHash(stream)); //$NON-NLS-1$
+		assertTrue(SystemSnapshot.readTypesUnchanged(stream));
+		final AutomationSystem system = SystemSnapshot.read(file, stream);
+		system.setSystemFile(file);
+		return system;
+	}
+
+	private String export(final AutomationSystem system, final String fileName) throws CoreException, IOException {
+		final IFile file = project.getFile(fileName);
+		new SystemExporter(system).saveSystem(file);
+		try (InputStream stream = file.getContents(true)) {
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@Test
+	void snapshotEqualsXmlImport() throws CoreException, IOException {
+		final IFile file = createSystemFile("Snap", SYSTEM); //$NON-NLS-1$
+		final AutomationSystem imported = importSystem(file);
+		final AutomationSystem restored = readSnapshot(file, writeSnapshot(imported));
+
+		assertEquals(export(imported, "Imported.xml"), export(restored, "Restored.xml")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(1, restored.getMapping().size());
+		assertSame(restored.getSystemConfiguration().getDevices().get(0).getResource().get(0).getFBNetwork()
+				.getElementNamed("FB1"), restored.getMapping().get(0).getTo()); //$NON-NLS-1$
+
+		// references leaving the system point to the project's types, connections stay inside the restored system
+		final FBNetwork network = restored.getApplicationNamed("App").getFBNetwork(); //$NON-NLS-1$
+		final FB fb = network.getFBNamed("FB1"); //$NON-NLS-1$
+		assertSame(TypeLibrary.getTypeLibrary(project).getBlockTypeLib().getFBTypeEntry(TYPE_NAME),
+				fb.getPaletteEntry());
+		assertSame(imported.getPalette(), restored.getPalette());
+		assertSame(fb.getInterface().getInputVars().get(0).getType(),
+				imported.getApplicationNamed("App").getFBNetwork().getFBNamed("FB1").getInterface().getInputVars() //$NON-NLS-1$ //$NON-NLS-2$
+				.get(0).getType());
+		for (final Connection connection : network.getEventConnections()) {
+			assertSame(restored, EcoreUtil.getRootContainer(connection.getSource()));
+			assertSame(restored, EcoreUtil.getRootContainer(connection.getDestination()));
+			assertEquals(1, connection.getSource().getOutputConnections().size());
+		}
+	}
+
+	@Test
+	void cacheOnlyUsesSnapshotsOfUnchangedFiles() throws CoreException, InterruptedException {
+		final IFile file = createSystemFile("Snap", SYSTEM); //$NON-NLS-1$
+		final AutomationSystem imported = importSystem(file);
+		store(imported, file);
+
+		final long hits = SystemSnapshotCache.INSTANCE.getHits();
+		final AutomationSystem restored = SystemSnapshotCache.INSTANCE.load(file);
+		assertNotNull(restored);
+		assertSame(file, restored.getSystemFile());
+		assertNotNull(restored.getCommandStack());
+		assertEquals(hits + 1, SystemSnapshotCache.INSTANCE.getHits());
+
+		file.setContents(new ByteArrayInputStream((SYSTEM + "\n").getBytes(StandardCharsets.UTF_8)), //$NON-NLS-1$
+				IResource.FORCE, new NullProgressMonitor());
+		assertNull(SystemSnapshotCache.INSTANCE.load(file));
+
+		SystemSnapshotCache.INSTANCE.setEnabled(false);
+		try {
+			store(importSystem(file), file);
+			assertNull(SystemSnapshotCache.INSTANCE.load(file));
+		} finally {
+			SystemSnapshotCache.INSTANCE.setEnabled(true);
+		}
+	}
+
+	@Test
+	void cacheOnlyUsesSnapshotsOfUnchangedTypes() throws CoreException, InterruptedException {
+		final IFile file = createSystemFile("Snap", SYSTEM); //$NON-NLS-1$
+		store(importSystem(file), file);
+		assertNotNull(SystemSnapshotCache.INSTANCE.load(file));
+
+		// the instances in the snapshot carry the interface of the type, so a changed type invalidates it
+		final IFile typeFile = project.getFile(TYPE_NAME + ".fbt"); //$NON-NLS-1$
+		typeFile.setLocalTimeStamp(typeFile.getLocalTimeStamp() + 1000);
+		assertNull(SystemSnapshotCache.INSTANCE.load(file));
+	}
+
+	@Test
+	void snapshotsAreKeptPerFilePath() {
+		assertNotEquals(SystemSnapshotCache.getSnapshotLocation(project.getFile("a/b.sys")), //$NON-NLS-1$
+				SystemSnapshotCache.getSnapshotLocation(project.getFile("a_b.sys"))); //$NON-NLS-1$
+	}
+
+	@Test
+	void removedSnapshotsAreDeleted() throws CoreException, InterruptedException {
+		final IFile file = createSystemFile("Snap", SYSTEM); //$NON-NLS-1$
+		store(importSystem(file), file);
+		assertTrue(Files.exists(SystemSnapshotCache.getSnapshotLocation(file)));
+		SystemSnapshotCache.INSTANCE.remove(file);
+		assertFalse(Files.exists(SystemSnapshotCache.getSnapshotLocation(file)));
+
+		store(importSystem(file), file);
+		SystemSnapshotCache.INSTANCE.removeProject(project);
+		assertFalse(Files.exists(SystemSnapshotCache.getSnapshotLocation(file)));
+		assertNull(SystemSnapshotCache.INSTANCE.load(file));
+	}
+
+	@Test
+	void largeSystemsRoundTrip() throws CoreException, IOException {
+		final StringBuilder content = new StringBuilder("<System Name=\"Large\"><Application Name=\"App\"><SubAppNetwork>"); //$NON-NLS-1$
+		final StringBuilder connections = new StringBuilder();
+		for (int i = 0; i < LARGE_SYSTEM; i++) {
+			content.append("<FB Name=\"FB" + i + "\" Type=\"E_SNAP\" x=\"" + i + "\" y=\"0\"/>"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			if (i > 0) {
+				connections.append("<Connection Source=\"FB" + (i - 1) + ".OUT\" Destination=\"FB" + i + ".IN\"/>"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+		content.append("<DataConnections>").append(connections) //$NON-NLS-1$
+		.append("</DataConnections></SubAppNetwork></Application></System>"); //$NON-NLS-1$
+		final IFile file = createSystemFile("Large", content.toString()); //$NON-NLS-1$
+
+		final AutomationSystem imported = importSystem(file);
+		final AutomationSystem restored = readSnapshot(file, writeSnapshot(imported));
+		assertEquals(LARGE_SYSTEM - 1,
+				restored.getApplicationNamed("App").getFBNetwork().getDataConnections().size()); //$NON-NLS-1$
+		assertEquals(export(imported, "ImportedLarge.xml"), export(restored, "RestoredLarge.xml")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+}
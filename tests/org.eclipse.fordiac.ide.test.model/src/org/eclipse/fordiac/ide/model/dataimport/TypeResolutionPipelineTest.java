@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.dataimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.fordiac.ide.model.Palette.PalettePackage;
+import org.eclipse.fordiac.ide.model.Palette.impl.PaletteEntryImpl;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.ErrorMarkerRef;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TypeResolutionPipelineTest {
+
+	private static final String PROJECT_NAME = "TypeResolutionPipelineTest"; //$NON-NLS-1$
+	private static final int TYPES = 300;
+	private static final int INSTANCES_PER_TYPE = 3;
+
+	private final List<IProject> projects = new ArrayList<>();
+
+	@AfterEach
+	void deleteProjects() throws CoreException {
+		TypeResolutionPipeline.setEnabled(true);
+		for (final IProject project : projects) {
+			TypeLibrary.removeProject(project);
+			project.delete(true, true, new NullProgressMonitor());
+		}
+	}
+
+	private static void createFile(final IFile file, final String content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	/** create a project with its own type files, the variant makes the type files differ from the ones of other
+	 * projects, so that no type is taken from a cache */
+	private IFile createProject(final String variant) throws CoreException {
+		final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME + variant);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		projects.add(project);
+
+		final StringBuilder network = new StringBuilder();
+		final StringBuilder connections = new StringBuilder();
+		for (int t = 0; t < TYPES; t++) {
+			createFile(project.getFile("T" + t + ".fbt"), createType("T" + t, variant)); //$NON-NLS-1$ //$NON-NLS-2$
+			for (int i = 0; i < INSTANCES_PER_TYPE; i++) {
+				final String name = "FB" + t + "_" + i; //$NON-NLS-1$ //$NON-NLS-2$
+				network.append("<FB Name=\"").append(name).append("\" Type=\"T").append(t) //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\" x=\"0\" y=\"0\"><Parameter Name=\"DI0\" Value=\"1\"/></FB>"); //$NON-NLS-1$
+				if (0 < i) {
+					connections.append("<Connection Source=\"FB").append(t).append('_').append(i - 1) //$NON-NLS-1$
+					.append(".CNF\" Destination=\"").append(name).append(".REQ\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+		TypeLibrary.getTypeLibrary(project);
+
+		final IFile file = project.getFile("Pipeline.sys"); //$NON-NLS-1$
+		createFile(file, "<System Name=\"Pipeline\"><Application Name=\"App\"><SubAppNetwork>" + network //$NON-NLS-1$
+				+ "<EventConnections>" + connections + "</EventConnections></SubAppNetwork></Application></System>"); //$NON-NLS-1$ //$NON-NLS-2$
+		return file;
+	}
+
+	private static String createType(final String name, final String variant) {
+		final StringBuilder type = new StringBuilder("<FBType Name=\"").append(name).append("\" Comment=\"") //$NON-NLS-1$ //$NON-NLS-2$
+				.append(variant).append("\"><InterfaceList><EventInputs><Event Name=\"REQ\">"); //$NON-NLS-1$
+		for (int v = 0; v < 8; v++) {
+			type.append("<With Var=\"DI").append(v).append("\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		type.append("</Event></EventInputs><EventOutputs><Event Name=\"CNF\"/></EventOutputs><InputVars>"); //$NON-NLS-1$
+		for (int v = 0; v < 8; v++) {
+			type.append("<VarDeclaration Name=\"DI").append(v).append("\" Type=\"INT\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		type.append("</InputVars></InterfaceList><BasicFB><ECC><ECState Name=\"START\"/>"); //$NON-NLS-1$
+		for (int s = 0; s < 20; s++) {
+			type.append("<ECState Name=\"S").append(s).append("\"><ECAction Algorithm=\"A").append(s) //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\" Output=\"CNF\"/></ECState>"); //$NON-NLS-1$
+		}
+		type.append("</ECC>"); //$NON-NLS-1$
+		for (int s = 0; s < 20; s++) {
+			type.append("<Algorithm Name=\"A").append(s).append("\"><ST Text=\"DI0 := DI1 + ").append(s) //$NON-NLS-1$ //$NON-NLS-2$
+			.append(";\"/></Algorithm>"); //$NON-NLS-1$
+		}
+		return type.append("</BasicFB></FBType>").toString(); //$NON-NLS-1$
+	}
+
+	private static AutomationSystem importSystem(final IFile file) {
+		final SystemImporter importer = new SystemImporter(file, false);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+	private static void checkSystem(final AutomationSystem system) {
+		final FBNetwork network = system.getApplicationNamed("App").getFBNetwork(); //$NON-NLS-1$
+		assertEquals(TYPES * INSTANCES_PER_TYPE, network.getNetworkElements().size());
+		for (final FBNetworkElement element : network.getNetworkElements()) {
+			assertFalse(element instanceof ErrorMarkerRef);
+			assertNotNull(element.getType());
+			assertEquals("1", element.getInterface().getVariable("DI0").getValue().getValue()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertEquals(TYPES * (INSTANCES_PER_TYPE - 1), network.getEventConnections().size());
+	}
+
+	@Test
+	void pipelinedImportResolvesAllTypes() throws CoreException {
+		TypeResolutionPipeline.setEnabled(true);
+		checkSystem(importSystem(createProject("Parallel"))); //$NON-NLS-1$
+	}
+
+	@Test
+	void preloadedTypesNotifyTheirGetter() throws CoreException, InterruptedException {
+		final IFile file = createProject("Preload"); //$NON-NLS-1$
+		final PaletteEntryImpl entry = (PaletteEntryImpl) TypeLibrary.getTypeLibrary(file.getProject())
+				.getBlockTypeLib().getFBTypeEntry("T0"); //$NON-NLS-1$
+		entry.invalidateType();
+		final List<Thread> notifiedThreads = new ArrayList<>();
+		entry.eAdapters().add(new AdapterImpl() {
+			@Override
+			public void notifyChanged(final Notification notification) {
+				if (PalettePackage.Literals.PALETTE_ENTRY__TYPE == notification.getFeature()) {
+					notifiedThreads.add(Thread.currentThread());
+				}
+			}
+		});
+
+		final Thread worker = new Thread(entry::preloadType);
+		worker.start();
+		worker.join();
+		assertTrue(notifiedThreads.isEmpty());
+		assertFalse(entry.isTypeStale());
+
+		assertNotNull(entry.getType());
+		assertEquals(List.of(Thread.currentThread()), notifiedThreads);
+	}
+
+	@Test
+	void sequentialImportResolvesAllTypes() throws CoreException {
+		TypeResolutionPipeline.setEnabled(false);
+		checkSystem(importSystem(createProject("Sequential"))); //$NON-NLS-1$
+	}
+
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.EventConnection;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementPackage;
+import org.junit.jupiter.api.Test;
+
+class BulkEditTest {
+
+	/** records the notifications of the network like an edit part */
+	private static final class Recorder extends AdapterImpl {
+		private final List<Notification> notifications = new ArrayList<>();
+
+		@Override
+		public void notifyChanged(final Notification notification) {
+			notifications.add(notification);
+		}
+	}
+
+	private static InterfaceList createInterface() {
+		final InterfaceList interfaceList = LibraryElementFactory.eINSTANCE.createInterfaceList();
+		final Event input = LibraryElementFactory.eINSTANCE.createEvent();
+		input.setName("EI"); //$NON-NLS-1$
+		input.setIsInput(true);
+		interfaceList.getEventInputs().add(input);
+		final Event output = LibraryElementFactory.eINSTANCE.createEvent();
+		output.setName("EO"); //$NON-NLS-1$
+		interfaceList.getEventOutputs().add(output);
+		return interfaceList;
+	}
+
+	private static FB createFB(final FBNetwork network, final String name) {
+		final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		fb.setName(name);
+		fb.setInterface(createInterface());
+		network.getNetworkElements().add(fb);
+		return fb;
+	}
+
+	private static EventConnection connect(final FBNetwork network, final FB source, final FB destination) {
+		final EventConnection connection = LibraryElementFactory.eINSTANCE.createEventConnection();
+		connection.setSource(source.getInterfaceElement("EO")); //$NON-NLS-1$
+		connection.setDestination(destination.getInterfaceElement("EI")); //$NON-NLS-1$
+		network.getEventConnections().add(connection);
+		return connection;
+	}
+
+	@Test
+	void changesAreAggregated() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final FB existing = createFB(network, "Existing"); //$NON-NLS-1$
+		final ConnectionIndex index = ConnectionIndex.of(network);
+		final Recorder recorder = new Recorder();
+		network.eAdapters().add(recorder);
+
+		final FB fb1;
+		final FB fb2;
+		final EventConnection connection;
+		try (BulkEdit bulkEdit = BulkEdit.start(network)) {
+			fb1 = createFB(network, "FB1"); //$NON-NLS-1$
+			fb2 = createFB(network, "FB2"); //$NON-NLS-1$
+			final FB temporary = createFB(network, "Temporary"); //$NON-NLS-1$
+			connection = connect(network, fb1, fb2);
+			network.getNetworkElements().remove(temporary);
+			network.getNetworkElements().remove(existing);
+
+			// the indexes follow every change, the other adapters wait for the end of the bulk edit
+			assertEquals(Set.of(connection), Set.copyOf(index.getConnections(fb1)));
+			assertTrue(recorder.notifications.isEmpty());
+		}
+		assertNull(BulkEdit.getActive(network));
+
+		assertEquals(3, recorder.notifications.size());
+		final Notification removedElements = recorder.notifications.get(0);
+		assertEquals(Notification.REMOVE_MANY, removedElements.getEventType());
+		assertEquals(List.of(existing), removedElements.getOldValue());
+		final Notification addedElements = recorder.notifications.get(1);
+		assertEquals(Notification.ADD_MANY, addedElements.getEventType());
+		assertSame(LibraryElementPackage.Literals.FB_NETWORK__NETWORK_ELEMENTS, addedElements.getFeature());
+		assertEquals(List.of(fb1, fb2), addedElements.getNewValue());
+		final Notification addedConnections = recorder.notifications.get(2);
+		assertSame(LibraryElementPackage.Literals.FB_NETWORK__EVENT_CONNECTIONS, addedConnections.getFeature());
+		assertEquals(List.of(connection), addedConnections.getNewValue());
+	}
+
+	@Test
+	void nestedBulkEdits() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final Recorder recorder = new Recorder();
+		network.eAdapters().add(recorder);
+
+		try (BulkEdit outer = BulkEdit.start(network)) {
+			try (BulkEdit inner = BulkEdit.start(network)) {
+				assertSame(outer, inner);
+				createFB(network, "FB1"); //$NON-NLS-1$
+			}
+			createFB(network, "FB2"); //$NON-NLS-1$
+			assertTrue(recorder.notifications.isEmpty());
+		}
+		assertEquals(1, recorder.notifications.size());
+		assertEquals(2, ((List<?>) recorder.notifications.get(0).getNewValue()).size());
+
+		// other changes of the network are delivered immediately
+		try (BulkEdit bulkEdit = BulkEdit.start(network)) {
+			network.getNetworkElements().move(0, 1);
+			assertEquals(2, recorder.notifications.size());
+		}
+	}
+
+	@Test
+	void disabledBulkEdit() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final Recorder recorder = new Recorder();
+		network.eAdapters().add(recorder);
+		BulkEdit.setEnabled(false);
+		try (BulkEdit bulkEdit = BulkEdit.start(network)) {
+			createFB(network, "FB1"); //$NON-NLS-1$
+			createFB(network, "FB2"); //$NON-NLS-1$
+			assertNull(BulkEdit.getActive(network));
+			assertEquals(2, recorder.notifications.size());
+		} finally {
+			BulkEdit.setEnabled(true);
+		}
+		assertEquals(2, recorder.notifications.size());
+	}
+
+}
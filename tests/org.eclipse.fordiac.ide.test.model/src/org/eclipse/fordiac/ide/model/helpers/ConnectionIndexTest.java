@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.fordiac.ide.model.libraryElement.DataConnection;
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.EventConnection;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.junit.jupiter.api.Test;
+
+class ConnectionIndexTest {
+
+	private static InterfaceList createInterface() {
+		final InterfaceList interfaceList = LibraryElementFactory.eINSTANCE.createInterfaceList();
+		final Event input = LibraryElementFactory.eINSTANCE.createEvent();
+		input.setName("EI"); //$NON-NLS-1$
+		input.setIsInput(true);
+		interfaceList.getEventInputs().add(input);
+		final Event output = LibraryElementFactory.eINSTANCE.createEvent();
+		output.setName("EO"); //$NON-NLS-1$
+		interfaceList.getEventOutputs().add(output);
+		final VarDeclaration dataOutput = LibraryElementFactory.eINSTANCE.createVarDeclaration();
+		dataOutput.setName("DO"); //$NON-NLS-1$
+		interfaceList.getOutputVars().add(dataOutput);
+		final VarDeclaration dataInput = LibraryElementFactory.eINSTANCE.createVarDeclaration();
+		dataInput.setName("DI"); //$NON-NLS-1$
+		dataInput.setIsInput(true);
+		interfaceList.getInputVars().add(dataInput);
+		return interfaceList;
+	}
+
+	private static FB createFB(final FBNetwork network, final String name) {
+		final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		fb.setName(name);
+		fb.setInterface(createInterface());
+		network.getNetworkElements().add(fb);
+		return fb;
+	}
+
+	private static EventConnection connect(final FBNetwork network, final FBNetworkElement source,
+			final FBNetworkElement destination) {
+		final EventConnection connection = LibraryElementFactory.eINSTANCE.createEventConnection();
+		connection.setSource(source.getInterfaceElement("EO")); //$NON-NLS-1$
+		connection.setDestination(destination.getInterfaceElement("EI")); //$NON-NLS-1$
+		network.getEventConnections().add(connection);
+		return connection;
+	}
+
+	@Test
+	void connectionsOfPinsAndElements() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final FB fb1 = createFB(network, "FB1"); //$NON-NLS-1$
+		final FB fb2 = createFB(network, "FB2"); //$NON-NLS-1$
+		final FB fb3 = createFB(network, "FB3"); //$NON-NLS-1$
+		final EventConnection con12 = connect(network, fb1, fb2);
+		final ConnectionIndex index = ConnectionIndex.of(network);
+		assertSame(index, ConnectionIndex.of(network));
+
+		// connections added after the index was created
+		final EventConnection con23 = connect(network, fb2, fb3);
+		final DataConnection data13 = LibraryElementFactory.eINSTANCE.createDataConnection();
+		data13.setSource(fb1.getInterfaceElement("DO")); //$NON-NLS-1$
+		data13.setDestination(fb3.getInterfaceElement("DI")); //$NON-NLS-1$
+		network.getDataConnections().add(data13);
+
+		assertEquals(Set.of(con12, data13), Set.copyOf(index.getConnections(fb1)));
+		assertEquals(Set.of(con12, con23), Set.copyOf(index.getConnections(fb2)));
+		assertEquals(Set.of(con12), Set.copyOf(index.getConnections(fb2.getInterfaceElement("EI")))); //$NON-NLS-1$
+		assertEquals(Set.of(con23), Set.copyOf(index.getConnections(fb2.getInterfaceElement("EO")))); //$NON-NLS-1$
+		assertEquals(Set.of(fb1, fb3), index.getConnectedElements(fb2));
+		assertEquals(Set.of(con12), index.getInternalConnections(List.of(fb1, fb2)));
+		assertEquals(Set.of(con12, con23, data13), index.getConnections(List.of(fb1, fb3)));
+
+		network.getEventConnections().remove(con12);
+		assertEquals(Set.of(data13), Set.copyOf(index.getConnections(fb1)));
+		assertTrue(index.getConnections(fb2.getInterfaceElement("EI")).isEmpty()); //$NON-NLS-1$
+
+		network.getEventConnections().add(con12);
+		assertEquals(Set.of(con12, con23), Set.copyOf(index.getConnections(fb2)));
+	}
+
+	@Test
+	void reconnectedConnections() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final FB fb1 = createFB(network, "FB1"); //$NON-NLS-1$
+		final FB fb2 = createFB(network, "FB2"); //$NON-NLS-1$
+		final FB fb3 = createFB(network, "FB3"); //$NON-NLS-1$
+		final EventConnection connection = connect(network, fb1, fb2);
+		final ConnectionIndex index = ConnectionIndex.of(network);
+
+		connection.setDestination(fb3.getInterfaceElement("EI")); //$NON-NLS-1$
+		assertTrue(index.getConnections(fb2).isEmpty());
+		assertEquals(Set.of(connection), Set.copyOf(index.getConnections(fb3)));
+
+		// a deleted connection is detached before it is removed
+		connection.setSource(null);
+		connection.setDestination(null);
+		assertTrue(index.getConnections(fb1).isEmpty());
+		network.getEventConnections().remove(connection);
+		assertTrue(index.getConnections(fb3).isEmpty());
+
+		// removed connections are not followed any more
+		connection.setSource(fb1.getInterfaceElement("EO")); //$NON-NLS-1$
+		assertTrue(index.getConnections(fb1).isEmpty());
+	}
+
+	@Test
+	void subAppInterface() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final FB outer = createFB(network, "Outer"); //$NON-NLS-1$
+		final SubApp subApp = LibraryElementFactory.eINSTANCE.createSubApp();
+		subApp.setName("SubApp"); //$NON-NLS-1$
+		subApp.setInterface(createInterface());
+		subApp.setSubAppNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		network.getNetworkElements().add(subApp);
+		final FBNetwork subAppNetwork = subApp.getSubAppNetwork();
+		final FB inner = createFB(subAppNetwork, "Inner"); //$NON-NLS-1$
+
+		final EventConnection outside = connect(network, outer, subApp);
+		final EventConnection inside = LibraryElementFactory.eINSTANCE.createEventConnection();
+		inside.setSource(subApp.getInterfaceElement("EI")); //$NON-NLS-1$
+		inside.setDestination(inner.getInterfaceElement("EI")); //$NON-NLS-1$
+		subAppNetwork.getEventConnections().add(inside);
+
+		// the subapp's input pin has connections in both networks, each index has only its own
+		final IInterfaceElement pin = subApp.getInterfaceElement("EI"); //$NON-NLS-1$
+		assertEquals(2, pin.getInputConnections().size() + pin.getOutputConnections().size());
+		assertEquals(Set.of(outside), Set.copyOf(ConnectionIndex.of(network).getConnections(subApp)));
+		assertEquals(Set.of(inside), Set.copyOf(ConnectionIndex.of(subAppNetwork).getConnections(subApp)));
+		assertEquals(Set.of(inner), ConnectionIndex.of(subAppNetwork).getConnectedElements(subApp));
+	}
+
+	@Test
+	void disabledIndex() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		ConnectionIndex.setEnabled(false);
+		try {
+			assertNull(ConnectionIndex.of(network));
+		} finally {
+			ConnectionIndex.setEnabled(true);
+		}
+	}
+
+}
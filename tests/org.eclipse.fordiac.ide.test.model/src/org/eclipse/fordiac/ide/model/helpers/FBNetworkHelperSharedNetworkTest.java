@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.dataimport.SystemImporter;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.Connection;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FBNetworkHelperSharedNetworkTest {
+
+	private static final String PROJECT_NAME = "FBNetworkHelperSharedNetworkTest"; //$NON-NLS-1$
+	private static final int FBS_PER_TYPE = 10;
+	private static final int INSTANCES = 2000;
+
+	private IProject project;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		createFile(project.getFile("E_SHARED.fbt"), "<FBType Name=\"E_SHARED\"><InterfaceList>" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "<EventInputs><Event Name=\"REQ\"/></EventInputs><EventOutputs><Event Name=\"CNF\"/></EventOutputs>" //$NON-NLS-1$
+				+ "</InterfaceList><BasicFB><ECC><ECState Name=\"START\"/></ECC></BasicFB></FBType>"); //$NON-NLS-1$
+		createFile(project.getFile("INNER.sub"), createSubAppType("INNER", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		createFile(project.getFile("OUTER.sub"), //$NON-NLS-1$
+				createSubAppType("OUTER", "<SubApp Name=\"Inner\" Type=\"INNER\" x=\"0\" y=\"0\"/>")); //$NON-NLS-1$ //$NON-NLS-2$
+		TypeLibrary.getTypeLibrary(project);
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private static void createFile(final IFile file, final String content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	/** a subapp type with a chain of FBs connected to the subapp's event input */
+	private static String createSubAppType(final String name, final String additionalElements) {
+		final StringBuilder type = new StringBuilder("<SubAppType Name=\"").append(name) //$NON-NLS-1$
+				.append("\"><SubAppInterfaceList><SubAppEventInputs><SubAppEvent Name=\"EI\"/></SubAppEventInputs>") //$NON-NLS-1$
+				.append("</SubAppInterfaceList><SubAppNetwork>").append(additionalElements); //$NON-NLS-1$
+		for (int i = 0; i < FBS_PER_TYPE; i++) {
+			type.append("<FB Name=\"FB").append(i).append("\" Type=\"E_SHARED\" x=\"0\" y=\"0\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		type.append("<EventConnections><Connection Source=\"EI\" Destination=\"FB0.REQ\"/>"); //$NON-NLS-1$
+		for (int i = 1; i < FBS_PER_TYPE; i++) {
+			type.append("<Connection Source=\"FB").append(i - 1).append(".CNF\" Destination=\"FB").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+			.append(".REQ\"/>"); //$NON-NLS-1$
+		}
+		return type.append("</EventConnections></SubAppNetwork></SubAppType>").toString(); //$NON-NLS-1$
+	}
+
+	/** a system with typed subapps which are all mapped to a resource */
+	private AutomationSystem importSystem(final int instances) throws CoreException {
+		final StringBuilder app = new StringBuilder();
+		final StringBuilder res = new StringBuilder();
+		final StringBuilder mappings = new StringBuilder();
+		for (int i = 0; i < instances; i++) {
+			final String subApp = "<SubApp Name=\"Sub" + i + "\" Type=\"OUTER\" x=\"0\" y=\"0\"/>"; //$NON-NLS-1$ //$NON-NLS-2$
+			app.append(subApp);
+			res.append(subApp);
+			mappings.append("<Mapping From=\"App.Sub").append(i).append("\" To=\"Dev.Res.Sub").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\"/>"); //$NON-NLS-1$
+		}
+		final IFile file = project.getFile("Shared" + instances + ".sys"); //$NON-NLS-1$ //$NON-NLS-2$
+		createFile(file, "<System Name=\"Shared\"><Application Name=\"App\"><SubAppNetwork>" + app //$NON-NLS-1$
+				+ "</SubAppNetwork></Application><Device Name=\"Dev\" x=\"0\" y=\"0\">" //$NON-NLS-1$
+				+ "<Resource Name=\"Res\" x=\"0\" y=\"0\"><FBNetwork>" + res + "</FBNetwork></Resource></Device>" //$NON-NLS-1$ //$NON-NLS-2$
+				+ mappings + "</System>"); //$NON-NLS-1$
+		final SystemImporter importer = new SystemImporter(file, false);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+	private static SubApp getSubApp(final AutomationSystem system, final int index) {
+		return (SubApp) system.getApplicationNamed("App").getFBNetwork().getElementNamed("Sub" + index); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	void loadedNetworkIsConnectedToInstanceInterface() throws CoreException {
+		final SubApp subApp = getSubApp(importSystem(1), 0);
+		final FBNetwork network = subApp.loadSubAppNetwork();
+		assertNotNull(network);
+		assertNotSame(subApp.getType().getFBNetwork(), network);
+		assertEquals(FBS_PER_TYPE + 1, network.getNetworkElements().size());
+		assertEquals(FBS_PER_TYPE, network.getEventConnections().size());
+		final Connection connection = network.getEventConnections().get(0);
+		assertSame(subApp.getInterfaceElement("EI"), connection.getSource()); //$NON-NLS-1$
+		assertSame(network.getElementNamed("FB0").getInterfaceElement("REQ"), connection.getDestination()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame(network.getElementNamed("FB1").getInterfaceElement("REQ"), //$NON-NLS-1$ //$NON-NLS-2$
+				network.getEventConnections().get(1).getDestination());
+	}
+
+	@Test
+	void nestedTypedNetworksAreNotCopied() throws CoreException {
+		final SubApp subApp = getSubApp(importSystem(1), 0);
+		// open the nested instance in the type, e.g., as the type editor does
+		final SubApp typeInner = (SubApp) subApp.getType().getFBNetwork().getElementNamed("Inner"); //$NON-NLS-1$
+		assertNotNull(typeInner.loadSubAppNetwork());
+
+		final SubApp inner = (SubApp) subApp.loadSubAppNetwork().getElementNamed("Inner"); //$NON-NLS-1$
+		assertNull(inner.getSubAppNetwork());
+		assertSame(inner.getType().getFBNetwork(), FBNetworkHelper.getNetworkForReading(inner));
+		assertEquals(FBS_PER_TYPE, inner.loadSubAppNetwork().getNetworkElements().size());
+		assertSame(inner.getSubAppNetwork(), FBNetworkHelper.getNetworkForReading(inner));
+	}
+
+	@Test
+	void mappedInstancesShareTypeNetwork() throws CoreException {
+		final AutomationSystem system = importSystem(INSTANCES);
+		for (int i = 0; i < INSTANCES; i++) {
+			final SubApp subApp = getSubApp(system, i);
+			assertNotNull(subApp.getMapping());
+			assertNull(subApp.getSubAppNetwork());
+			assertSame(subApp.getType().getFBNetwork(), FBNetworkHelper.getNetworkForReading(subApp));
+		}
+
+		// the instances get their own network when it is needed
+		for (int i = 0; i < INSTANCES; i++) {
+			FBNetworkHelper.loadSubappNetwork(getSubApp(system, i));
+		}
+		for (final FBNetworkElement element : system.getApplicationNamed("App").getFBNetwork() //$NON-NLS-1$
+				.getNetworkElements()) {
+			assertNotNull(((SubApp) element).getSubAppNetwork());
+		}
+	}
+
+}
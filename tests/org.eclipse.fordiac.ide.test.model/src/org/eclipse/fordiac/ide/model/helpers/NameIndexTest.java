@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.fordiac.ide.model.libraryElement.AdapterDeclaration;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.Device;
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.Resource;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.fordiac.ide.model.libraryElement.SystemConfiguration;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+	private static final int SIZE = 2 * NameIndex.MIN_SIZE;
+	private static final int READERS = 4;
+	private static final int RENAMES = 10000;
+
+	private static InterfaceList createInterfaceList() {
+		final InterfaceList interfaceList = LibraryElementFactory.eINSTANCE.createInterfaceList();
+		for (int i = 0; i < SIZE; i++) {
+			final Event event = LibraryElementFactory.eINSTANCE.createEvent();
+			event.setName("EI" + i); //$NON-NLS-1$
+			interfaceList.getEventInputs().add(event);
+			final VarDeclaration variable = LibraryElementFactory.eINSTANCE.createVarDeclaration();
+			variable.setName("DO" + i); //$NON-NLS-1$
+			interfaceList.getOutputVars().add(variable);
+		}
+		return interfaceList;
+	}
+
+	private static FBNetwork createNetwork() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		for (int i = 0; i < SIZE; i++) {
+			final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+			fb.setName("FB" + i); //$NON-NLS-1$
+			network.getNetworkElements().add(fb);
+		}
+		return network;
+	}
+
+	@Test
+	void smallContainersAreNotIndexed() {
+		final FBNetwork network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		fb.setName("FB"); //$NON-NLS-1$
+		network.getNetworkElements().add(fb);
+		assertNull(NameIndex.of(network));
+		assertSame(fb, network.getElementNamed("FB")); //$NON-NLS-1$
+	}
+
+	@Test
+	void interfaceLookups() {
+		final InterfaceList interfaceList = createInterfaceList();
+		assertNotNull(NameIndex.of(interfaceList));
+		final Event event = interfaceList.getEventInputs().get(3);
+		final VarDeclaration variable = interfaceList.getOutputVars().get(5);
+
+		assertSame(event, interfaceList.getEvent("EI3")); //$NON-NLS-1$
+		assertSame(event, interfaceList.getInterfaceElement("EI3")); //$NON-NLS-1$
+		assertNull(interfaceList.getVariable("EI3")); //$NON-NLS-1$
+		assertSame(variable, interfaceList.getVariable("DO5")); //$NON-NLS-1$
+		assertSame(variable, interfaceList.getInterfaceElement("DO5")); //$NON-NLS-1$
+		assertNull(interfaceList.getEvent("DO5")); //$NON-NLS-1$
+		assertNull(interfaceList.getInterfaceElement("Missing")); //$NON-NLS-1$
+	}
+
+	@Test
+	void adaptersAreNoVariables() {
+		final InterfaceList interfaceList = createInterfaceList();
+		final AdapterDeclaration plug = LibraryElementFactory.eINSTANCE.createAdapterDeclaration();
+		plug.setName("Plug"); //$NON-NLS-1$
+		interfaceList.getPlugs().add(plug);
+		assertNotNull(NameIndex.of(interfaceList));
+
+		assertSame(plug, interfaceList.getAdapter("Plug")); //$NON-NLS-1$
+		assertSame(plug, interfaceList.getInterfaceElement("Plug")); //$NON-NLS-1$
+		assertNull(interfaceList.getVariable("Plug")); //$NON-NLS-1$
+	}
+
+	@Test
+	void indexFollowsAddsRemovesAndRenames() {
+		final InterfaceList interfaceList = createInterfaceList();
+		assertNotNull(NameIndex.of(interfaceList));
+
+		final Event added = LibraryElementFactory.eINSTANCE.createEvent();
+		added.setName("Added"); //$NON-NLS-1$
+		interfaceList.getEventOutputs().add(added);
+		assertSame(added, interfaceList.getEvent("Added")); //$NON-NLS-1$
+
+		added.setName("Renamed"); //$NON-NLS-1$
+		assertNull(interfaceList.getEvent("Added")); //$NON-NLS-1$
+		assertSame(added, interfaceList.getEvent("Renamed")); //$NON-NLS-1$
+
+		interfaceList.getEventOutputs().remove(added);
+		assertNull(interfaceList.getEvent("Renamed")); //$NON-NLS-1$
+		// removed elements are not followed any more
+		added.setName("EI7"); //$NON-NLS-1$
+		assertSame(interfaceList.getEventInputs().get(7), interfaceList.getEvent("EI7")); //$NON-NLS-1$
+
+		final List<VarDeclaration> variables = new ArrayList<>(interfaceList.getOutputVars());
+		interfaceList.getOutputVars().clear();
+		assertNull(interfaceList.getVariable("DO0")); //$NON-NLS-1$
+		interfaceList.getOutputVars().addAll(variables);
+		assertSame(variables.get(0), interfaceList.getVariable("DO0")); //$NON-NLS-1$
+
+		final VarDeclaration replacement = LibraryElementFactory.eINSTANCE.createVarDeclaration();
+		replacement.setName("Replacement"); //$NON-NLS-1$
+		interfaceList.getOutputVars().set(1, replacement);
+		assertNull(interfaceList.getVariable("DO1")); //$NON-NLS-1$
+		assertSame(replacement, interfaceList.getVariable("Replacement")); //$NON-NLS-1$
+	}
+
+	@Test
+	void duplicateNamesKeepTheSearchOrder() {
+		final InterfaceList interfaceList = createInterfaceList();
+		assertNotNull(NameIndex.of(interfaceList));
+		final Event event = interfaceList.getEventInputs().get(0);
+		final VarDeclaration variable = interfaceList.getOutputVars().get(0);
+
+		// the output variable comes after the events in the search order
+		variable.setName("EI0"); //$NON-NLS-1$
+		assertSame(event, interfaceList.getInterfaceElement("EI0")); //$NON-NLS-1$
+		assertSame(variable, interfaceList.getVariable("EI0")); //$NON-NLS-1$
+
+		event.setName("Event"); //$NON-NLS-1$
+		assertSame(variable, interfaceList.getInterfaceElement("EI0")); //$NON-NLS-1$
+
+		final Event second = interfaceList.getEventInputs().get(1);
+		second.setName("Event"); //$NON-NLS-1$
+		assertSame(event, interfaceList.getEvent("Event")); //$NON-NLS-1$
+		interfaceList.getEventInputs().move(0, second);
+		assertSame(second, interfaceList.getEvent("Event")); //$NON-NLS-1$
+		interfaceList.getEventInputs().remove(second);
+		assertSame(event, interfaceList.getEvent("Event")); //$NON-NLS-1$
+	}
+
+	@Test
+	void networkLookups() {
+		final FBNetwork network = createNetwork();
+		final SubApp subApp = LibraryElementFactory.eINSTANCE.createSubApp();
+		subApp.setName("SubApp"); //$NON-NLS-1$
+		network.getNetworkElements().add(subApp);
+		assertNotNull(NameIndex.of(network));
+
+		final FB fb = (FB) network.getNetworkElements().get(10);
+		assertSame(fb, network.getElementNamed("FB10")); //$NON-NLS-1$
+		assertSame(fb, network.getFBNamed("FB10")); //$NON-NLS-1$
+		assertNull(network.getSubAppNamed("FB10")); //$NON-NLS-1$
+		assertSame(subApp, network.getSubAppNamed("SubApp")); //$NON-NLS-1$
+		assertNull(network.getFBNamed("SubApp")); //$NON-NLS-1$
+
+		fb.setName("Renamed"); //$NON-NLS-1$
+		assertNull(network.getElementNamed("FB10")); //$NON-NLS-1$
+		assertSame(fb, network.getFBNamed("Renamed")); //$NON-NLS-1$
+	}
+
+	@Test
+	void typesIndexPinsAndInternalVariables() {
+		final BasicFBType type = LibraryElementFactory.eINSTANCE.createBasicFBType();
+		type.setInterfaceList(createInterfaceList());
+		final VarDeclaration internal = LibraryElementFactory.eINSTANCE.createVarDeclaration();
+		internal.setName("Internal"); //$NON-NLS-1$
+		type.getInternalVars().add(internal);
+		final NameIndex index = NameIndex.of(type);
+		assertNotNull(index);
+
+		assertSame(type.getInterfaceList().getEventInputs().get(2), index.find("EI2")); //$NON-NLS-1$
+		assertSame(internal, index.find("Internal")); //$NON-NLS-1$
+		// the pins come first in the search order
+		internal.setName("DO3"); //$NON-NLS-1$
+		assertSame(type.getInterfaceList().getOutputVars().get(3), index.find("DO3")); //$NON-NLS-1$
+		type.getInterfaceList().getOutputVars().remove(3);
+		assertSame(internal, index.find("DO3")); //$NON-NLS-1$
+
+		final Event added = LibraryElementFactory.eINSTANCE.createEvent();
+		added.setName("Added"); //$NON-NLS-1$
+		type.getInterfaceList().getEventOutputs().add(added);
+		assertSame(added, index.find("Added")); //$NON-NLS-1$
+
+		// a new interface list gets a new index
+		type.setInterfaceList(createInterfaceList());
+		final NameIndex newIndex = NameIndex.of(type);
+		assertNotSame(index, newIndex);
+		assertNull(newIndex.find("Added")); //$NON-NLS-1$
+		assertSame(type.getInterfaceList().getOutputVars().get(3), newIndex.find("DO3")); //$NON-NLS-1$
+		internal.setName("Internal"); //$NON-NLS-1$
+		assertSame(internal, newIndex.find("Internal")); //$NON-NLS-1$
+	}
+
+	@Test
+	void lookupsDuringRenamesOnAnotherThread() throws InterruptedException, ExecutionException {
+		final FBNetwork network = createNetwork();
+		final NameIndex index = NameIndex.of(network);
+		assertNotNull(index);
+		final FB renamed = (FB) network.getNetworkElements().get(0);
+		final AtomicBoolean renaming = new AtomicBoolean(true);
+		final ExecutorService executor = Executors.newFixedThreadPool(READERS);
+		try {
+			final List<Future<?>> readers = new ArrayList<>();
+			for (int i = 0; i < READERS; i++) {
+				readers.add(executor.submit(() -> {
+					while (renaming.get()) {
+						for (int j = 1; j < SIZE; j++) {
+							assertSame(network.getNetworkElements().get(j), index.find("FB" + j)); //$NON-NLS-1$
+						}
+					}
+				}));
+			}
+			for (int i = 0; i < RENAMES; i++) {
+				renamed.setName("Renamed" + i); //$NON-NLS-1$
+			}
+			renaming.set(false);
+			for (final Future<?> reader : readers) {
+				reader.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertSame(renamed, index.find("Renamed" + (RENAMES - 1))); //$NON-NLS-1$
+		assertNull(index.find("FB0")); //$NON-NLS-1$
+	}
+
+	@Test
+	void devicesAndResources() {
+		final SystemConfiguration systemConfiguration = LibraryElementFactory.eINSTANCE.createSystemConfiguration();
+		for (int i = 0; i < SIZE; i++) {
+			final Device device = LibraryElementFactory.eINSTANCE.createDevice();
+			device.setName("Dev" + i); //$NON-NLS-1$
+			systemConfiguration.getDevices().add(device);
+		}
+		final Device device = systemConfiguration.getDevices().get(4);
+		for (int i = 0; i < SIZE; i++) {
+			final Resource resource = LibraryElementFactory.eINSTANCE.createResource();
+			resource.setName("Res" + i); //$NON-NLS-1$
+			device.getResource().add(resource);
+		}
+		assertNotNull(NameIndex.of(systemConfiguration));
+		assertNotNull(NameIndex.of(device));
+
+		assertSame(device, systemConfiguration.getDeviceNamed("Dev4")); //$NON-NLS-1$
+		assertSame(device.getResource().get(9), device.getResourceNamed("Res9")); //$NON-NLS-1$
+		systemConfiguration.getDevices().remove(device);
+		assertNull(systemConfiguration.getDeviceNamed("Dev4")); //$NON-NLS-1$
+	}
+
+	@Test
+	void disabledIndex() {
+		final FBNetwork network = createNetwork();
+		NameIndex.setEnabled(false);
+		try {
+			assertNull(NameIndex.of(network));
+			assertSame(network.getNetworkElements().get(3), network.getElementNamed("FB3")); //$NON-NLS-1$
+		} finally {
+			NameIndex.setEnabled(true);
+		}
+	}
+
+}
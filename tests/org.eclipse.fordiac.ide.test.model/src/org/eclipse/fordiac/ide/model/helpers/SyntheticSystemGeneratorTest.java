@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.dataexport.SystemExporter;
+import org.eclipse.fordiac.ide.model.dataexport.SystemExporter.SaveResult;
+import org.eclipse.fordiac.ide.model.dataimport.SystemImporter;
+import org.eclipse.fordiac.ide.model.libraryElement.Application;
+import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
+import org.eclipse.fordiac.ide.model.libraryElement.Device;
+import org.eclipse.fordiac.ide.model.libraryElement.ErrorMarkerRef;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.Mapping;
+import org.eclipse.fordiac.ide.model.libraryElement.Resource;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SyntheticSystemGeneratorTest {
+
+	private static final String PROJECT_NAME = "SyntheticSystemGeneratorTest"; //$NON-NLS-1$
+	private static final String TYPE_NAME = "E_GENERATED"; //$NON-NLS-1$
+
+	private IProject project;
+	private SyntheticSystemGenerator generator;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		final String type = "<FBType Name=\"" + TYPE_NAME + "\"><InterfaceList>" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "<EventInputs><Event Name=\"REQ\"/></EventInputs><EventOutputs><Event Name=\"CNF\"/></EventOutputs>" //$NON-NLS-1$
+				+ "<InputVars><VarDeclaration Name=\"IN\" Type=\"INT\"/></InputVars>" //$NON-NLS-1$
+				+ "<OutputVars><VarDeclaration Name=\"OUT\" Type=\"INT\"/></OutputVars></InterfaceList>" //$NON-NLS-1$
+				+ "<BasicFB><ECC><ECState Name=\"START\"/></ECC></BasicFB></FBType>"; //$NON-NLS-1$
+		project.getFile(TYPE_NAME + ".fbt") //$NON-NLS-1$
+		.create(new ByteArrayInputStream(type.getBytes(StandardCharsets.UTF_8)), IResource.FORCE, null);
+		generator = new SyntheticSystemGenerator(
+				TypeLibrary.getTypeLibrary(project).getBlockTypeLib().getFBTypeEntry(TYPE_NAME));
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private static AutomationSystem importSystem(final IFile file) {
+		final SystemImporter importer = new SystemImporter(file, false);
+		importer.loadElement();
+		return importer.getElement();
+	}
+
+	/** @return the number of FBs in the network and its subapps, checks that all have a type */
+	private static int countFBs(final FBNetwork network) {
+		int fbs = 0;
+		for (final FBNetworkElement element : network.getNetworkElements()) {
+			assertFalse(element instanceof ErrorMarkerRef);
+			if (element instanceof SubApp) {
+				fbs += countFBs(((SubApp) element).getSubAppNetwork());
+			} else {
+				assertNotNull(element.getType());
+				fbs++;
+			}
+		}
+		return fbs;
+	}
+
+	@Test
+	void generatedSystemCanBeLoaded() {
+		generator.setApplications(2).setFBsPerNetwork(10).setSubApps(2, 2).setFanOut(3).setDevices(2, 2, null, null)
+		.setMappingRatio(0.5);
+		assertEquals(10 * (1 + 2 + 4), generator.getFBsPerApplication());
+
+		final IFile file = project.getFile("Generated.sys"); //$NON-NLS-1$
+		final AutomationSystem generated = generator.generate(file);
+		final AutomationSystem system = importSystem(file);
+
+		assertEquals(2, system.getApplication().size());
+		for (final Application application : system.getApplication()) {
+			assertEquals(generator.getFBsPerApplication(), countFBs(application.getFBNetwork()));
+		}
+		final FBNetwork network = system.getApplication().get(0).getFBNetwork();
+		// a chain of 10 FBs with a fan-out of 3 and the triggers of the two subapps
+		assertEquals((7 * 3 + 2 + 1) + 2, network.getEventConnections().size());
+		assertEquals(9, network.getDataConnections().size());
+		final SubApp subApp = (SubApp) network.getElementNamed("Sub0"); //$NON-NLS-1$
+		assertSame(subApp.getInterfaceElement("EI"), //$NON-NLS-1$
+				subApp.getSubAppNetwork().getEventConnections().get(0).getSource());
+
+		assertEquals(2, system.getSystemConfiguration().getDevices().size());
+		assertEquals(generator.getFBsPerApplication(), system.getMapping().size());
+		int mappedFBs = 0;
+		for (final Device device : system.getSystemConfiguration().getDevices()) {
+			assertEquals(2, device.getResource().size());
+			for (final Resource resource : device.getResource()) {
+				mappedFBs += resource.getFBNetwork().getNetworkElements().size();
+				assertFalse(resource.getFBNetwork().getEventConnections().isEmpty());
+			}
+		}
+		assertEquals(system.getMapping().size(), mappedFBs);
+		for (final Mapping mapping : system.getMapping()) {
+			assertEquals(mapping.getFrom().getName(), mapping.getTo().getName());
+		}
+
+		// the loaded system is written exactly as generated
+		assertEquals(SaveResult.UNCHANGED, new SystemExporter(system).saveSystem(file));
+		assertEquals(generated.getMapping().size(), system.getMapping().size());
+	}
+
+	@Test
+	void generateLargeSystem() {
+		generator.setApplications(8).setFBsPerNetwork(100).setSubApps(5, 2).setFanOut(2).setDevices(10, 2, null, null)
+		.setMappingRatio(0.3);
+		final IFile file = project.getFile("Large.sys"); //$NON-NLS-1$
+
+		generator.generate(file);
+		final AutomationSystem system = importSystem(file);
+
+		int fbs = 0;
+		for (final Application application : system.getApplication()) {
+			fbs += countFBs(application.getFBNetwork());
+		}
+		assertEquals(8 * generator.getFBsPerApplication(), fbs);
+		assertEquals((int) (fbs * 0.3), system.getMapping().size());
+	}
+
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.impl.PaletteEntryImpl;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class PaletteEntryInvalidationTest {
+
+	private static final String PROJECT_NAME = "PaletteEntryInvalidationTest"; //$NON-NLS-1$
+	private static final String TYPE_NAME = "T_INVALIDATION"; //$NON-NLS-1$
+	private static final int ITERATIONS = 1_000_000;
+
+	private static IProject project;
+	private static IFile typeFile;
+
+	@BeforeAll
+	static void createProject() throws CoreException {
+		PaletteEntryInvalidationService.install();
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		typeFile = project.getFile(TYPE_NAME + ".fbt"); //$NON-NLS-1$
+		typeFile.create(createTypeContent("first"), IResource.FORCE, new NullProgressMonitor()); //$NON-NLS-1$
+	}
+
+	@AfterAll
+	static void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private static ByteArrayInputStream createTypeContent(final String comment) {
+		return new ByteArrayInputStream(("<FBType Name=\"" + TYPE_NAME + "\" Comment=\"" + comment //$NON-NLS-1$ //$NON-NLS-2$
+				+ "\"><InterfaceList/></FBType>").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+	}
+
+	private static PaletteEntry getEntry() {
+		final PaletteEntry entry = TypeLibrary.getTypeLibrary(project).getPaletteEntry(typeFile);
+		assertNotNull(entry);
+		return entry;
+	}
+
+	@Test
+	void fileChangeInvalidatesType() throws CoreException {
+		final PaletteEntry entry = getEntry();
+		final LibraryElement first = entry.getType();
+		assertEquals("first", first.getComment()); //$NON-NLS-1$
+		assertFalse(((PaletteEntryImpl) entry).isTypeStale());
+
+		typeFile.setContents(createTypeContent("second"), IResource.FORCE, new NullProgressMonitor()); //$NON-NLS-1$
+		assertTrue(((PaletteEntryImpl) entry).isTypeStale());
+		assertEquals("second", entry.getType().getComment()); //$NON-NLS-1$
+		assertFalse(((PaletteEntryImpl) entry).isTypeStale());
+	}
+
+	@Test
+	void ownSaveDoesNotInvalidateType() throws CoreException {
+		final PaletteEntry entry = getEntry();
+		final LibraryElement type = entry.getType();
+		// emulates AbstractTypeExporter.saveType which updates the timestamp within the same workspace operation
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			typeFile.setContents(createTypeContent(type.getComment()), IResource.FORCE, monitor);
+			entry.setLastModificationTimestamp(typeFile.getModificationStamp());
+		}, new NullProgressMonitor());
+		assertFalse(((PaletteEntryImpl) entry).isTypeStale());
+		assertSame(type, entry.getType());
+
+		PaletteEntryInvalidationService.invalidate(entry);
+		assertFalse(((PaletteEntryImpl) entry).isTypeStale());
+	}
+
+	@Test
+	void repeatedGetTypeKeepsTheLoadedType() {
+		final PaletteEntry entry = getEntry();
+		final LibraryElement type = entry.getType();
+		for (int i = 0; i < ITERATIONS; i++) {
+			assertSame(type, entry.getType());
+		}
+	}
+
+}
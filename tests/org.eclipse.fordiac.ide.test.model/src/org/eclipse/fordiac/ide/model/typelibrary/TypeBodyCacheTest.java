@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.fordiac.ide.model.libraryElement.Algorithm;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.STAlgorithm;
+import org.eclipse.fordiac.ide.model.libraryElement.impl.FBTypeImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TypeBodyCacheTest {
+
+	private static final String PROJECT_NAME = "TypeBodyCacheTest"; //$NON-NLS-1$
+
+	private IProject project;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		createType("T_FIRST"); //$NON-NLS-1$
+		createType("T_SECOND"); //$NON-NLS-1$
+		TypeBodyCache.INSTANCE.reset();
+		TypeBodyCache.INSTANCE.setMinIdleTime(0);
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeBodyCache.INSTANCE.reset();
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private void createType(final String name) throws CoreException {
+		final String content = "<FBType Name=\"" + name + "\">\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "  <InterfaceList><EventInputs><Event Name=\"REQ\"/></EventInputs></InterfaceList>\n" //$NON-NLS-1$
+				+ "  <BasicFB>\n" //$NON-NLS-1$
+				+ "    <ECC><ECState Name=\"START\"/></ECC>\n" //$NON-NLS-1$
+				+ "    <Algorithm Name=\"REQ\"><ST Text=\"" + name + ";\"/></Algorithm>\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "  </BasicFB>\n" //$NON-NLS-1$
+				+ "</FBType>\n"; //$NON-NLS-1$
+		project.getFile(name + ".fbt").create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), //$NON-NLS-1$
+				IResource.FORCE, new NullProgressMonitor());
+	}
+
+	private BasicFBType loadType(final String name) {
+		final IFile file = project.getFile(name + ".fbt"); //$NON-NLS-1$
+		return (BasicFBType) TypeLibrary.getTypeLibrary(project).getPaletteEntry(file).getType();
+	}
+
+	private static String getAlgorithmText(final BasicFBType type) {
+		return ((STAlgorithm) type.getAlgorithm().get(0)).getText();
+	}
+
+	@Test
+	void bodiesExceedingTheBudgetAreUnloadedAndPutBack() {
+		final BasicFBType first = loadType("T_FIRST"); //$NON-NLS-1$
+		final BasicFBType second = loadType("T_SECOND"); //$NON-NLS-1$
+		assertEquals("T_FIRST;", getAlgorithmText(first)); //$NON-NLS-1$
+		assertTrue(((FBTypeImpl) first).isBodyLoaded());
+		final Algorithm algorithm = first.getAlgorithm().get(0);
+
+		TypeBodyCache.INSTANCE.setMemoryBudget(0);
+		assertEquals("T_SECOND;", getAlgorithmText(second)); //$NON-NLS-1$
+		assertFalse(((FBTypeImpl) first).isBodyLoaded());
+		assertEquals(1, TypeBodyCache.INSTANCE.getEvictions());
+		assertEquals(2, TypeBodyCache.INSTANCE.getMisses());
+
+		// the interface stays, the body is put back transparently
+		assertEquals("REQ", first.getInterfaceList().getEventInputs().get(0).getName()); //$NON-NLS-1$
+		assertEquals("T_FIRST;", getAlgorithmText(first)); //$NON-NLS-1$
+		assertEquals(1, first.getAlgorithm().size());
+		assertEquals(1, first.getECC().getECState().size());
+		assertNotNull(first.getService());
+		// the algorithm is still referenced here, so the body can not have been reclaimed
+		assertSame(algorithm, first.getAlgorithm().get(0));
+		assertSame(first, algorithm.eContainer());
+		assertEquals(1, TypeBodyCache.INSTANCE.getRestores());
+		assertEquals(2, TypeBodyCache.INSTANCE.getMisses());
+		assertTrue(0 < TypeBodyCache.INSTANCE.getHits());
+	}
+
+	@Test
+	void observedBodiesStayLoaded() {
+		final BasicFBType first = loadType("T_FIRST"); //$NON-NLS-1$
+		final BasicFBType second = loadType("T_SECOND"); //$NON-NLS-1$
+		first.getECC().eAdapters().add(new AdapterImpl());
+
+		TypeBodyCache.INSTANCE.setMemoryBudget(0);
+		getAlgorithmText(second);
+		assertTrue(((FBTypeImpl) first).isBodyLoaded());
+		assertEquals(0, TypeBodyCache.INSTANCE.getEvictions());
+	}
+
+}
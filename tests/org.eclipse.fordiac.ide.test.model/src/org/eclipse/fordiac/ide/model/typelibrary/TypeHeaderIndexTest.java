@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.fordiac.ide.model.dataimport.TypeHeaderImporter;
+import org.junit.jupiter.api.Test;
+
+class TypeHeaderIndexTest {
+
+	private static final String FB_TYPE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //$NON-NLS-1$
+			+ "<FBType Name=\"E_SWITCH\" Comment=\"Switching of event\">\n" //$NON-NLS-1$
+			+ "  <VersionInfo Author=\"4diac\" Version=\"1.1\" Date=\"2021-01-01\"/>\n" //$NON-NLS-1$
+			+ "  <InterfaceList>\n" //$NON-NLS-1$
+			+ "    <EventInputs><Event Name=\"EI\"><With Var=\"G\"/></Event></EventInputs>\n" //$NON-NLS-1$
+			+ "    <EventOutputs><Event Name=\"EO0\"/><Event Name=\"EO1\"/></EventOutputs>\n" //$NON-NLS-1$
+			+ "    <InputVars><VarDeclaration Name=\"G\" Type=\"BOOL\"/></InputVars>\n" //$NON-NLS-1$
+			+ "  </InterfaceList>\n" //$NON-NLS-1$
+			+ "  <BasicFB><InternalVars><VarDeclaration Name=\"X\" Type=\"INT\"/></InternalVars></BasicFB>\n" //$NON-NLS-1$
+			+ "</FBType>\n"; //$NON-NLS-1$
+
+	@Test
+	void readHeaderStopsAtInterfaceList() throws XMLStreamException {
+		final TypeHeader header = TypeHeaderImporter
+				.readHeader(new ByteArrayInputStream(FB_TYPE.getBytes(StandardCharsets.UTF_8)));
+		assertEquals("E_SWITCH", header.getName()); //$NON-NLS-1$
+		assertEquals("FBType", header.getKind()); //$NON-NLS-1$
+		assertEquals("1.1", header.getVersion()); //$NON-NLS-1$
+		assertEquals("Switching of event", header.getComment()); //$NON-NLS-1$
+	}
+
+	@Test
+	void escapeRoundTrip() throws IOException {
+		final String value = "a\tb\\c\nd\re"; //$NON-NLS-1$
+		assertEquals(value, TypeHeaderIndex.unescape(TypeHeaderIndex.escape(value)));
+	}
+
+	@Test
+	void corruptIndexIsDiscarded() throws IOException {
+		final Path location = Files.createTempFile("typeheaderindex", ".idx"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			Files.write(location, "4diac-type-header-index 2\nbroken\tentry\n".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			final TypeHeaderIndex index = new TypeHeaderIndex();
+			index.load(location);
+			assertEquals(0, index.size());
+		} finally {
+			Files.deleteIfExists(location);
+		}
+	}
+
+	@Test
+	void unknownFormatIsDiscarded() throws IOException {
+		final Path location = Files.createTempFile("typeheaderindex", ".idx"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			Files.write(location, "some other format\n".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			final TypeHeaderIndex index = new TypeHeaderIndex();
+			index.load(location);
+			assertEquals(0, index.size());
+		} finally {
+			Files.deleteIfExists(location);
+		}
+	}
+
+}
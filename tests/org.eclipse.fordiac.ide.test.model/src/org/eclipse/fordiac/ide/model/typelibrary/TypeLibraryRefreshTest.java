@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TypeLibraryRefreshTest {
+
+	private static final String PROJECT_NAME = "TypeLibraryRefreshTest"; //$NON-NLS-1$
+
+	private IProject project;
+	private TypeLibrary typeLib;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		createType(project.getFile("T_EXISTING.fbt")); //$NON-NLS-1$
+		typeLib = TypeLibrary.getTypeLibrary(project);
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		TypeLibrary.removeProject(project);
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	private static void createType(final IFile file) throws CoreException {
+		file.create(new ByteArrayInputStream(("<FBType Name=\"" + TypeLibrary.getTypeNameFromFile(file) //$NON-NLS-1$
+				+ "\"/>").getBytes(StandardCharsets.UTF_8)), IResource.FORCE, new NullProgressMonitor()); //$NON-NLS-1$
+	}
+
+	/** run the operation and return the resulting deltas */
+	private static List<IResourceDelta> run(final IWorkspaceRunnable operation) throws CoreException {
+		final List<IResourceDelta> deltas = new ArrayList<>();
+		final IResourceChangeListener collector = event -> deltas.add(event.getDelta());
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(collector, IResourceChangeEvent.POST_CHANGE);
+		try {
+			ResourcesPlugin.getWorkspace().run(operation, new NullProgressMonitor());
+		} finally {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(collector);
+		}
+		return deltas;
+	}
+
+	/** run the operation and apply the resulting deltas to the type library */
+	private void runAndRefresh(final IWorkspaceRunnable operation) throws CoreException {
+		run(operation).forEach(typeLib::refresh);
+	}
+
+	@Test
+	void addedTypesAreAdded() throws CoreException {
+		final IFile file = project.getFile("T_ADDED.fbt"); //$NON-NLS-1$
+		runAndRefresh(monitor -> createType(file));
+		final PaletteEntry entry = typeLib.getPaletteEntry(file);
+		assertNotNull(entry);
+		assertEquals(file, entry.getFile());
+	}
+
+	@Test
+	void deletedTypesAreRemoved() throws CoreException {
+		final IFile file = project.getFile("T_EXISTING.fbt"); //$NON-NLS-1$
+		assertNotNull(typeLib.getPaletteEntry(file));
+		runAndRefresh(monitor -> file.delete(true, monitor));
+		assertNull(typeLib.getPaletteEntry(file));
+	}
+
+	@Test
+	void deletedFoldersRemoveTheirTypes() throws CoreException {
+		final IFolder folder = project.getFolder("folder"); //$NON-NLS-1$
+		final IFile file = folder.getFile("T_IN_FOLDER.fbt"); //$NON-NLS-1$
+		runAndRefresh(monitor -> {
+			folder.create(true, true, monitor);
+			createType(file);
+		});
+		assertNotNull(typeLib.getPaletteEntry(file));
+
+		runAndRefresh(monitor -> folder.delete(true, monitor));
+		assertNull(typeLib.getPaletteEntry(file));
+	}
+
+	@Test
+	void movedTypesKeepTheirEntry() throws CoreException {
+		final IFile src = project.getFile("T_EXISTING.fbt"); //$NON-NLS-1$
+		final IFolder folder = project.getFolder("moved"); //$NON-NLS-1$
+		final IFile dst = folder.getFile(src.getName());
+		final PaletteEntry entry = typeLib.getPaletteEntry(src);
+
+		runAndRefresh(monitor -> {
+			folder.create(true, true, monitor);
+			src.move(dst.getFullPath(), true, monitor);
+		});
+		assertSame(entry, typeLib.getPaletteEntry(dst));
+		assertEquals(dst, entry.getFile());
+	}
+
+	@Test
+	void renamedTypesKeepTheirEntry() throws CoreException {
+		final IFile src = project.getFile("T_EXISTING.fbt"); //$NON-NLS-1$
+		final IFile dst = project.getFile("T_RENAMED.fbt"); //$NON-NLS-1$
+		final PaletteEntry entry = typeLib.getPaletteEntry(src);
+
+		runAndRefresh(monitor -> src.move(dst.getFullPath(), true, monitor));
+		assertNull(typeLib.getPaletteEntry(src));
+		assertSame(entry, typeLib.getPaletteEntry(dst));
+		assertEquals("T_RENAMED", entry.getLabel()); //$NON-NLS-1$
+		assertEquals(dst, entry.getFile());
+	}
+
+	@Test
+	void filesWrittenOutsideTheWorkspaceAreFound() throws CoreException, IOException {
+		final IFile added = project.getFile("T_EXTERNAL.fbt"); //$NON-NLS-1$
+		final IFile deleted = project.getFile("T_EXISTING.fbt"); //$NON-NLS-1$
+		Files.write(added.getLocation().toFile().toPath(),
+				"<FBType Name=\"T_EXTERNAL\"/>".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		Files.delete(deleted.getLocation().toFile().toPath());
+
+		TypeLibrary.refreshTypeLib(added);
+		assertNotNull(typeLib.getPaletteEntry(added));
+		// only the given file is refreshed
+		assertNotNull(typeLib.getPaletteEntry(deleted));
+
+		TypeLibrary.refreshTypeLib(deleted);
+		assertNull(typeLib.getPaletteEntry(deleted));
+	}
+
+	@Test
+	void renamedProjectsKeepTheirEntries() throws CoreException {
+		final PaletteEntry entry = typeLib.getPaletteEntry(project.getFile("T_EXISTING.fbt")); //$NON-NLS-1$
+		final IProject renamed = ResourcesPlugin.getWorkspace().getRoot()
+				.getProject(PROJECT_NAME + "Renamed"); //$NON-NLS-1$
+		final IProject src = project;
+		run(monitor -> src.move(renamed.getFullPath(), true, monitor)).forEach(TypeLibrary::refreshTypeLibs);
+		project = renamed;
+
+		assertSame(typeLib, TypeLibrary.getTypeLibrary(renamed));
+		final IFile file = renamed.getFile("T_EXISTING.fbt"); //$NON-NLS-1$
+		assertSame(entry, typeLib.getPaletteEntry(file));
+		assertEquals(file, entry.getFile());
+	}
+
+}
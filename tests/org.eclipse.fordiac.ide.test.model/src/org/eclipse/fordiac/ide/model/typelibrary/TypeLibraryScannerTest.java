@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TypeLibraryScannerTest {
+
+	private static final String PROJECT_NAME = "TypeLibraryScannerTest"; //$NON-NLS-1$
+	private static final int FOLDER_COUNT = 100;
+	private static final int TYPES_PER_FOLDER = 100;
+
+	private static IProject project;
+
+	@BeforeAll
+	static void createSyntheticLibrary() throws CoreException, IOException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+
+		final Path location = project.getLocation().toFile().toPath();
+		for (int folder = 0; folder < FOLDER_COUNT; folder++) {
+			final Path folderPath = Files.createDirectories(location.resolve("folder" + folder)); //$NON-NLS-1$
+			for (int type = 0; type < TYPES_PER_FOLDER; type++) {
+				final String typeName = "T_" + folder + "_" + type; //$NON-NLS-1$ //$NON-NLS-2$
+				Files.write(folderPath.resolve(typeName + ".fbt"), //$NON-NLS-1$
+						("<FBType Name=\"" + typeName + "\"/>").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+
+		// the shipped type library can be added with the same property the tool library uses
+		final String typeLibPath = System.getProperty("4diac.typelib.path"); //$NON-NLS-1$
+		if (null != typeLibPath && !typeLibPath.isEmpty()) {
+			final IFolder link = project.getFolder("typelibrary"); //$NON-NLS-1$
+			link.createLink(new org.eclipse.core.runtime.Path(typeLibPath), IResource.REPLACE,
+					new NullProgressMonitor());
+		}
+		project.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+	}
+
+	@AfterAll
+	static void deleteSyntheticLibrary() throws CoreException {
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	@Test
+	void parallelScanFindsSameEntriesAsSerialScan() {
+		final List<PaletteEntry> serial = new TypeLibraryScanner(getCreators(), 1).scan(project);
+		final List<PaletteEntry> parallel = new TypeLibraryScanner(getCreators()).scan(project);
+
+		// the entries are in the same order independent of the scheduling of the workers
+		assertEquals(getFiles(serial), getFiles(parallel));
+	}
+
+	@Test
+	void entriesAreInDepthFirstMemberOrder() throws CoreException, IOException {
+		final IFolder clash = project.getFolder("clash"); //$NON-NLS-1$
+		final Path location = Files.createDirectories(clash.getLocation().toFile().toPath());
+		// sorted by path the second file would come first, as '.' is less than '/'
+		for (final String folder : List.of("a/x", "a.b", "a-c")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			final Path folderPath = Files.createDirectories(location.resolve(folder));
+			Files.write(folderPath.resolve("T_CLASH.fbt"), //$NON-NLS-1$
+					"<FBType Name=\"T_CLASH\"/>".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		}
+		clash.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+		try {
+			final List<String> expected = new ArrayList<>();
+			collectFiles(clash, expected);
+			assertEquals(expected, getFiles(new TypeLibraryScanner(getCreators()).scan(clash)));
+			assertEquals(expected, getFiles(new TypeLibraryScanner(getCreators(), 1).scan(clash)));
+		} finally {
+			clash.delete(true, new NullProgressMonitor());
+		}
+	}
+
+	/** the order of the former serial walk of the type library */
+	private static void collectFiles(final IContainer container, final List<String> files) throws CoreException {
+		for (final IResource resource : container.members()) {
+			if (resource instanceof IContainer) {
+				collectFiles((IContainer) resource, files);
+			} else {
+				files.add(resource.getFullPath().toString());
+			}
+		}
+	}
+
+	@Test
+	void scanFindsAllSyntheticTypes() {
+		final List<PaletteEntry> entries = new TypeLibraryScanner(getCreators()).scan(project.getFolder("folder0")); //$NON-NLS-1$
+		assertEquals(TYPES_PER_FOLDER, entries.size());
+	}
+
+	private static IPaletteEntryCreator[] getCreators() {
+		return new IPaletteEntryCreator[] { new CreateFBTypePaletteEntry(), new CreateAdapterTypePaletteEntry(),
+				new CreateDeviceTypePaletteEntry(), new CreateResourceTypePaletteEntry(),
+				new CreateSegmentTypePaletteEntry(), new CreateSubapplicationTypePaletteEntry(),
+				new CreateDataTypePaletteEntry() };
+	}
+
+	private static List<String> getFiles(final List<PaletteEntry> entries) {
+		return entries.stream().map(entry -> entry.getFile().getFullPath().toString()).collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TypeSearchIndexTest {
+
+	private final Map<String, String> comments = new HashMap<>();
+	private TypeSearchIndex<String> index;
+
+	@BeforeEach
+	void createIndex() {
+		index = new TypeSearchIndex<>(name -> name, name -> Collections.singletonList(comments.get(name)));
+		comments.put("E_CYCLE", "Peripheral event cycle"); //$NON-NLS-1$ //$NON-NLS-2$
+		comments.put("E_SPLIT", "Split an event"); //$NON-NLS-1$ //$NON-NLS-2$
+		comments.put("F_ADD", "Addition"); //$NON-NLS-1$ //$NON-NLS-2$
+		comments.keySet().forEach(index::add);
+	}
+
+	@Test
+	void prefixQueriesIgnoreTheCase() {
+		assertEquals(Arrays.asList("E_CYCLE", "E_SPLIT"), index.findByPrefix("e_")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(Collections.singletonList("F_ADD"), index.findByPrefix("F")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(index.findByPrefix("X").isEmpty()); //$NON-NLS-1$
+	}
+
+	@Test
+	void candidatesContainAllLiterals() {
+		assertEquals(Collections.singletonList("E_CYCLE"), index.findCandidates("*cyc*")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Collections.singletonList("E_SPLIT"), index.findCandidates("*e_*lit ")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(3, index.findCandidates("*_*").size()); //$NON-NLS-1$
+	}
+
+	@Test
+	void fullTextSearchFindsComments() {
+		assertEquals(Arrays.asList("E_CYCLE", "E_SPLIT"), index.search("event")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(Collections.singletonList("E_SPLIT"), index.search("event split")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	void removedAndRenamedElementsAreNotFound() {
+		index.remove("F_ADD"); //$NON-NLS-1$
+		assertTrue(index.findByPrefix("F").isEmpty()); //$NON-NLS-1$
+		assertTrue(index.search("addition").isEmpty()); //$NON-NLS-1$
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	void addedElementsAreIndexedWithTheirCurrentDetails() {
+		index.search("event"); //$NON-NLS-1$
+		comments.put("E_CYCLE", "Cyclic trigger"); //$NON-NLS-1$ //$NON-NLS-2$
+		index.add("E_CYCLE"); //$NON-NLS-1$
+		assertEquals(Collections.singletonList("E_SPLIT"), index.search("event")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Collections.singletonList("E_CYCLE"), index.search("trigger")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(3, index.size());
+	}
+
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.model.Palette.impl.PaletteEntryImpl;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.STAlgorithm;
+import org.eclipse.fordiac.ide.model.libraryElement.impl.FBTypeImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TypeTemplateCacheTest {
+
+	private static final String PROJECT_NAME = "TypeTemplateCacheTest"; //$NON-NLS-1$
+	private static final int PROJECT_COUNT = 3;
+	private static final String TYPE_NAME = "E_TEMPLATE"; //$NON-NLS-1$
+	private static final String FB_TYPE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //$NON-NLS-1$
+			+ "<FBType Name=\"" + TYPE_NAME + "\" Comment=\"Template test\">\n" //$NON-NLS-1$ //$NON-NLS-2$
+			+ "  <InterfaceList>\n" //$NON-NLS-1$
+			+ "    <EventInputs><Event Name=\"REQ\"><With Var=\"IN\"/></Event></EventInputs>\n" //$NON-NLS-1$
+			+ "    <EventOutputs><Event Name=\"CNF\"><With Var=\"OUT\"/></Event></EventOutputs>\n" //$NON-NLS-1$
+			+ "    <InputVars><VarDeclaration Name=\"IN\" Type=\"INT\"/></InputVars>\n" //$NON-NLS-1$
+			+ "    <OutputVars><VarDeclaration Name=\"OUT\" Type=\"INT\"/></OutputVars>\n" //$NON-NLS-1$
+			+ "  </InterfaceList>\n" //$NON-NLS-1$
+			+ "  <BasicFB>\n" //$NON-NLS-1$
+			+ "    <ECC><ECState Name=\"START\"/></ECC>\n" //$NON-NLS-1$
+			+ "    <Algorithm Name=\"REQ\"><ST Text=\"OUT := IN + 1;\"/></Algorithm>\n" //$NON-NLS-1$
+			+ "  </BasicFB>\n" //$NON-NLS-1$
+			+ "</FBType>\n"; //$NON-NLS-1$
+
+	private static final List<IProject> projects = new ArrayList<>();
+
+	/** the type file is created in the first project and linked into the others like the tool library */
+	@BeforeAll
+	static void createProjects() throws CoreException {
+		for (int i = 0; i < PROJECT_COUNT; i++) {
+			final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME + i);
+			if (!project.exists()) {
+				project.create(new NullProgressMonitor());
+			}
+			project.open(new NullProgressMonitor());
+			final IFile file = project.getFile(TYPE_NAME + ".fbt"); //$NON-NLS-1$
+			if (projects.isEmpty()) {
+				file.create(new ByteArrayInputStream(FB_TYPE.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+						new NullProgressMonitor());
+			} else {
+				file.createLink(getFile(projects.get(0)).getLocation(), IResource.NONE, new NullProgressMonitor());
+			}
+			projects.add(project);
+		}
+	}
+
+	@AfterAll
+	static void deleteProjects() throws CoreException {
+		for (int i = projects.size() - 1; 0 <= i; i--) {
+			TypeLibrary.removeProject(projects.get(i));
+			projects.get(i).delete(true, true, new NullProgressMonitor());
+		}
+		TypeTemplateCache.INSTANCE.clear();
+	}
+
+	/** each test loads the types from scratch */
+	@BeforeEach
+	void resetTypeLibraries() {
+		projects.forEach(TypeLibrary::removeProject);
+		TypeTemplateCache.INSTANCE.clear();
+	}
+
+	private static IFile getFile(final IProject project) {
+		return project.getFile(TYPE_NAME + ".fbt"); //$NON-NLS-1$
+	}
+
+	private static BasicFBType loadType(final IProject project) {
+		return (BasicFBType) TypeLibrary.getTypeLibrary(project).getPaletteEntry(getFile(project)).getType();
+	}
+
+	@Test
+	void linkedFilesShareTheirInterfaceButNotTheirObjects() {
+		final List<BasicFBType> types = new ArrayList<>();
+		projects.forEach(project -> types.add(loadType(project)));
+
+		// the first two loads are parsed, the second one creates the template
+		assertEquals(2, TypeTemplateCache.INSTANCE.getMisses());
+		assertEquals(1, TypeTemplateCache.INSTANCE.getTemplateCount());
+		assertEquals(1, TypeTemplateCache.INSTANCE.getHits());
+
+		final BasicFBType parsed = types.get(1);
+		final BasicFBType copied = types.get(2);
+		assertNotSame(parsed, copied);
+		assertEquals(projects.get(2), copied.getPaletteEntry().getFile().getProject());
+		assertSame(parsed.getComment(), copied.getComment());
+		final Event copiedInput = copied.getInterfaceList().getEventInputs().get(0);
+		assertSame(parsed.getInterfaceList().getEventInputs().get(0).getName(), copiedInput.getName());
+		assertSame(copied.getInterfaceList().getInputVars().get(0), copiedInput.getWith().get(0).getVariables());
+
+		// the body of the copy is loaded from its own file and references the interface of the copy
+		assertFalse(((FBTypeImpl) copied).isBodyLoaded());
+		assertEquals("OUT := IN + 1;", ((STAlgorithm) copied.getAlgorithm().get(0)).getText()); //$NON-NLS-1$
+		assertEquals(1, copied.getECC().getECState().size());
+		assertNotNull(copied.getService());
+
+		// changes in one project stay in that project
+		copied.setComment("changed"); //$NON-NLS-1$
+		assertEquals("Template test", parsed.getComment()); //$NON-NLS-1$
+		assertEquals(TYPE_NAME, parsed.getName());
+	}
+
+	@Test
+	void copiedFilesShareTheTemplateOfTheirContent() throws CoreException {
+		final IProject copyProject = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME + "Copy"); //$NON-NLS-1$
+		if (!copyProject.exists()) {
+			copyProject.create(new NullProgressMonitor());
+		}
+		copyProject.open(new NullProgressMonitor());
+		try {
+			getFile(copyProject).create(new ByteArrayInputStream(FB_TYPE.getBytes(StandardCharsets.UTF_8)),
+					IResource.FORCE, new NullProgressMonitor());
+
+			// the copy is the second load of the content and creates the template used for the linked file
+			loadType(projects.get(0));
+			loadType(copyProject);
+			loadType(projects.get(1));
+			assertEquals(2, TypeTemplateCache.INSTANCE.getMisses());
+			assertEquals(1, TypeTemplateCache.INSTANCE.getHits());
+			assertEquals(1, TypeTemplateCache.INSTANCE.getTemplateCount());
+
+			// the template is kept as long as a file has its content
+			((PaletteEntryImpl) TypeLibrary.getTypeLibrary(copyProject).getPaletteEntry(getFile(copyProject)))
+			.invalidateType();
+			assertEquals(1, TypeTemplateCache.INSTANCE.getTemplateCount());
+		} finally {
+			TypeLibrary.removeProject(copyProject);
+			copyProject.delete(true, true, new NullProgressMonitor());
+		}
+	}
+
+	@Test
+	void invalidatedTypesDropTheirTemplate() {
+		projects.forEach(TypeTemplateCacheTest::loadType);
+		projects.forEach(TypeTemplateCacheTest::loadType);
+		assertEquals(1, TypeTemplateCache.INSTANCE.getTemplateCount());
+
+		((PaletteEntryImpl) TypeLibrary.getTypeLibrary(projects.get(0)).getPaletteEntry(getFile(projects.get(0))))
+		.invalidateType();
+		assertEquals(0, TypeTemplateCache.INSTANCE.getTemplateCount());
+	}
+
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.model.Palette.FBTypePaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.PaletteEntry;
+import org.eclipse.fordiac.ide.model.Palette.PaletteFactory;
+import org.eclipse.fordiac.ide.model.Palette.PalettePackage;
+import org.eclipse.fordiac.ide.model.libraryElement.CompositeFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetwork;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.SubApp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TypeUsageIndexTest {
+
+	private static final String PROJECT_NAME = "TypeUsageIndexTest"; //$NON-NLS-1$
+
+	private FBTypePaletteEntry cfbEntry;
+	private FBTypePaletteEntry usedEntry;
+	private FBTypePaletteEntry otherEntry;
+	private FBNetwork network;
+
+	@BeforeEach
+	void createComposite() {
+		usedEntry = PaletteFactory.eINSTANCE.createFBTypePaletteEntry();
+		otherEntry = PaletteFactory.eINSTANCE.createFBTypePaletteEntry();
+
+		final CompositeFBType cfb = LibraryElementFactory.eINSTANCE.createCompositeFBType();
+		network = LibraryElementFactory.eINSTANCE.createFBNetwork();
+		cfb.setFBNetwork(network);
+		cfbEntry = PaletteFactory.eINSTANCE.createFBTypePaletteEntry();
+		cfbEntry.setType(cfb);
+	}
+
+	@AfterEach
+	void removeComposite() throws CoreException {
+		TypeUsageIndex.INSTANCE.removeEntry(cfbEntry);
+		final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (project.exists()) {
+			TypeLibrary.removeProject(project);
+			project.delete(true, true, new NullProgressMonitor());
+		}
+	}
+
+	/** @return a type library with the type T_USED, the composite T_USING containing an instance of it and the
+	 *         composite T_OTHER without instances */
+	private static TypeLibrary createTypeLibrary() throws CoreException {
+		final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		createType(project.getFile("T_USED.fbt"), ""); //$NON-NLS-1$ //$NON-NLS-2$
+		createType(project.getFile("T_USING.fbt"), //$NON-NLS-1$
+				"<FBNetwork><FB Name=\"FB1\" Type=\"T_USED\" x=\"0\" y=\"0\"/></FBNetwork>"); //$NON-NLS-1$
+		createType(project.getFile("T_OTHER.fbt"), "<FBNetwork/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		return TypeLibrary.getTypeLibrary(project);
+	}
+
+	private static void createType(final IFile file, final String body) throws CoreException {
+		final String name = TypeLibrary.getTypeNameFromFile(file);
+		final String content = "<FBType Name=\"" + name + "\"><InterfaceList/>" + body + "</FBType>"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+				new NullProgressMonitor());
+	}
+
+	private static boolean isLoaded(final PaletteEntry entry) {
+		return entry.eIsSet(PalettePackage.Literals.PALETTE_ENTRY__TYPE);
+	}
+
+	private static FB createFB(final FBTypePaletteEntry entry) {
+		final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		fb.setPaletteEntry(entry);
+		return fb;
+	}
+
+	@Test
+	void addedAndRemovedElementsAreIndexed() {
+		final FB fb = createFB(usedEntry);
+		network.getNetworkElements().add(fb);
+		assertEquals(Collections.singleton(fb), TypeUsageIndex.INSTANCE.getUsages(usedEntry));
+
+		network.getNetworkElements().remove(fb);
+		assertTrue(TypeUsageIndex.INSTANCE.getUsages(usedEntry).isEmpty());
+	}
+
+	@Test
+	void retypedElementsAreIndexed() {
+		final FB fb = createFB(usedEntry);
+		network.getNetworkElements().add(fb);
+
+		fb.setPaletteEntry(otherEntry);
+		assertTrue(TypeUsageIndex.INSTANCE.getUsages(usedEntry).isEmpty());
+		assertEquals(Collections.singleton(fb), TypeUsageIndex.INSTANCE.getUsages(otherEntry));
+	}
+
+	@Test
+	void nestedSubAppNetworksAreIndexed() {
+		final SubApp subApp = LibraryElementFactory.eINSTANCE.createSubApp();
+		subApp.setSubAppNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		network.getNetworkElements().add(subApp);
+		final FB fb = createFB(usedEntry);
+		subApp.getSubAppNetwork().getNetworkElements().add(fb);
+
+		assertEquals(Collections.singleton(fb), TypeUsageIndex.INSTANCE.getUsages(usedEntry, FB.class));
+		assertTrue(TypeUsageIndex.INSTANCE.getUsages(usedEntry, SubApp.class).isEmpty());
+	}
+
+	@Test
+	void removedRootsAreNotIndexed() {
+		network.getNetworkElements().add(createFB(usedEntry));
+		TypeUsageIndex.INSTANCE.removeEntry(cfbEntry);
+		assertTrue(TypeUsageIndex.INSTANCE.getUsages(usedEntry).isEmpty());
+	}
+
+	@Test
+	void onlyReferencingTypesAreLoaded() throws CoreException {
+		final TypeLibrary typeLib = createTypeLibrary();
+		final PaletteEntry used = typeLib.getBlockTypeLib().getFBTypeEntry("T_USED"); //$NON-NLS-1$
+		final PaletteEntry using = typeLib.getBlockTypeLib().getFBTypeEntry("T_USING"); //$NON-NLS-1$
+		final PaletteEntry other = typeLib.getBlockTypeLib().getFBTypeEntry("T_OTHER"); //$NON-NLS-1$
+
+		TypeUsageIndex.INSTANCE.indexNetworkTypes(used);
+		assertTrue(isLoaded(using));
+		assertFalse(isLoaded(other));
+		final FB fb = TypeUsageIndex.INSTANCE.getUsages(used, FB.class).iterator().next();
+		assertSame(using.getType(), EcoreUtil.getRootContainer(fb));
+	}
+
+	@Test
+	void movedEntriesKeepTheirUsages() throws CoreException {
+		final TypeLibrary typeLib = createTypeLibrary();
+		final PaletteEntry used = typeLib.getBlockTypeLib().getFBTypeEntry("T_USED"); //$NON-NLS-1$
+		final PaletteEntry using = typeLib.getBlockTypeLib().getFBTypeEntry("T_USING"); //$NON-NLS-1$
+		TypeUsageIndex.INSTANCE.indexNetworkTypes(used);
+		final FB fb = TypeUsageIndex.INSTANCE.getUsages(used, FB.class).iterator().next();
+
+		typeLib.movePaletteEntry(using, using.getFile().getProject().getFile("T_RENAMED.fbt")); //$NON-NLS-1$
+		assertSame(using, typeLib.getBlockTypeLib().getFBTypeEntry("T_RENAMED")); //$NON-NLS-1$
+		assertEquals(Collections.singleton(fb), TypeUsageIndex.INSTANCE.getUsages(used, FB.class));
+
+		// the index still follows the network of the moved type
+		((CompositeFBType) using.getType()).getFBNetwork().getNetworkElements().remove(fb);
+		assertTrue(TypeUsageIndex.INSTANCE.getUsages(used).isEmpty());
+	}
+
+}